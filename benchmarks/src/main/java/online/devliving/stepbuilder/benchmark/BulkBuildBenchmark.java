@@ -0,0 +1,80 @@
+package online.devliving.stepbuilder.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Builds {@value #ROWS} instances of the README's {@code Server} from columns, through the step builder in a loop
+ * and through the bulk factories. The young generation is sized to hold the result, so that the measurement is
+ * the construction rather than the collections it triggers. {@code buildAllParallel} can only gain with more than
+ * one CPU.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-Xmn1g"})
+@State(Scope.Thread)
+public class BulkBuildBenchmark {
+    private static final int ROWS = 1000000;
+
+    private final String[] protocol = new String[ROWS];
+    private final String[] url = new String[ROWS];
+    private final int[] port = new int[ROWS];
+    private final String[] ipAddress = new String[ROWS];
+    private final String[] description = new String[ROWS];
+    private final long[] uptime = new long[ROWS];
+    private final double[] weight = new double[ROWS];
+    private final boolean[] secure = new boolean[ROWS];
+
+    @Setup
+    public void fillColumns() {
+        for (int i = 0; i < ROWS; i++) {
+            protocol[i] = i % 2 == 0 ? "http" : "https";
+            url[i] = "host" + i % 1000;
+            port[i] = 8000 + i % 1000;
+            ipAddress[i] = "10.0.0." + i % 256;
+            description[i] = i % 10 == 0 ? "server " + i : null;
+            uptime[i] = i;
+            weight[i] = i / (double) ROWS;
+            secure[i] = i % 2 != 0;
+        }
+    }
+
+    @Benchmark
+    public ServerBulk[] builderLoop() {
+        final ServerBulk[] result = new ServerBulk[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            result[i] = ServerBulk.builder(protocol[i])
+                    .withUrl(url[i])
+                    .withPort(port[i])
+                    .withIpAddress(ipAddress[i])
+                    .withDescription(description[i])
+                    .withUptime(uptime[i])
+                    .withWeight(weight[i])
+                    .withSecure(secure[i])
+                    .build();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public ServerBulk[] buildAll() {
+        return ServerBulk.buildAll(ROWS, protocol, url, port, ipAddress, description, uptime, weight, secure);
+    }
+
+    @Benchmark
+    public ServerBulk[] buildAllParallel() {
+        return ServerBulk.buildAllParallel(ROWS, protocol, url, port, ipAddress, description, uptime, weight, secure);
+    }
+}
@@ -0,0 +1,92 @@
+package online.devliving.stepbuilder.benchmark;
+
+/**
+ * The {@code Server} of the README with a classic builder: one builder class, setters in any order, and the
+ * mandatory fields checked when it builds.
+ */
+public final class ClassicServer {
+    private final String protocol;
+    private final String url;
+    private final int port;
+    private final String ipAddress;
+    private final String description;
+    private final long uptime;
+    private final double weight;
+    private final boolean secure;
+
+    private ClassicServer(final Builder builder) {
+        protocol = builder.protocol;
+        url = builder.url;
+        port = builder.port;
+        ipAddress = builder.ipAddress;
+        description = builder.description;
+        uptime = builder.uptime;
+        weight = builder.weight;
+        secure = builder.secure;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private String protocol;
+        private String url;
+        private int port;
+        private String ipAddress;
+        private String description;
+        private long uptime;
+        private double weight;
+        private boolean secure;
+
+        private Builder() {
+        }
+
+        public Builder protocol(final String protocol) {
+            this.protocol = protocol;
+            return this;
+        }
+
+        public Builder url(final String url) {
+            this.url = url;
+            return this;
+        }
+
+        public Builder port(final int port) {
+            this.port = port;
+            return this;
+        }
+
+        public Builder ipAddress(final String ipAddress) {
+            this.ipAddress = ipAddress;
+            return this;
+        }
+
+        public Builder description(final String description) {
+            this.description = description;
+            return this;
+        }
+
+        public Builder uptime(final long uptime) {
+            this.uptime = uptime;
+            return this;
+        }
+
+        public Builder weight(final double weight) {
+            this.weight = weight;
+            return this;
+        }
+
+        public Builder secure(final boolean secure) {
+            this.secure = secure;
+            return this;
+        }
+
+        public ClassicServer build() {
+            if (protocol == null || url == null) {
+                throw new IllegalStateException("protocol and url are mandatory");
+            }
+            return new ClassicServer(this);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package online.devliving.stepbuilder.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The first {@code build()} in a fresh JVM of a class of 32 mandatory fields, the most compact steps are generated
+ * for, with one step interface per field and with the compact steps, which declare all steps in one generic
+ * interface. This is mostly class loading, run it with {@code -prof cl} for the number of classes loaded, and with
+ * {@code -jvmArgsAppend -Xshare:off} to keep the JDK classes out of the comparison.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class ColdStartBenchmark {
+
+    @Benchmark
+    public Mandatory interfacePerStep() {
+        return Mandatory.builder()
+                .withField0(0)
+                .withField1(1)
+                .withField2(2)
+                .withField3(3)
+                .withField4(4)
+                .withField5(5)
+                .withField6(6)
+                .withField7(7)
+                .withField8(8)
+                .withField9(9)
+                .withField10(10)
+                .withField11(11)
+                .withField12(12)
+                .withField13(13)
+                .withField14(14)
+                .withField15(15)
+                .withField16(16)
+                .withField17(17)
+                .withField18(18)
+                .withField19(19)
+                .withField20(20)
+                .withField21(21)
+                .withField22(22)
+                .withField23(23)
+                .withField24(24)
+                .withField25(25)
+                .withField26(26)
+                .withField27(27)
+                .withField28(28)
+                .withField29(29)
+                .withField30(30)
+                .withField31(31)
+                .build();
+    }
+
+    @Benchmark
+    public MandatoryCompact compactSteps() {
+        return MandatoryCompact.builder()
+                .withField0(0)
+                .withField1(1)
+                .withField2(2)
+                .withField3(3)
+                .withField4(4)
+                .withField5(5)
+                .withField6(6)
+                .withField7(7)
+                .withField8(8)
+                .withField9(9)
+                .withField10(10)
+                .withField11(11)
+                .withField12(12)
+                .withField13(13)
+                .withField14(14)
+                .withField15(15)
+                .withField16(16)
+                .withField17(17)
+                .withField18(18)
+                .withField19(19)
+                .withField20(20)
+                .withField21(21)
+                .withField22(22)
+                .withField23(23)
+                .withField24(24)
+                .withField25(25)
+                .withField26(26)
+                .withField27(27)
+                .withField28(28)
+                .withField29(29)
+                .withField30(30)
+                .withField31(31)
+                .build();
+    }
+}
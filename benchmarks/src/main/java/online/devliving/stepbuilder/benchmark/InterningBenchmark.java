@@ -0,0 +1,59 @@
+package online.devliving.stepbuilder.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Builds the README's {@code Server} from {@value #DISTINCT_VALUES} distinct value sets, with and without
+ * interning. Interning pays a hash code, a lookup in the synchronized intern table and {@code equals()} per
+ * {@code build()}, against the instance it saves; {@link InterningFootprint} measures what it saves.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InterningBenchmark {
+    static final int DISTINCT_VALUES = 100;
+
+    private final String[] urls = urls();
+    private int next;
+
+    static String[] urls() {
+        final String[] urls = new String[DISTINCT_VALUES];
+        for (int i = 0; i < urls.length; i++) {
+            urls[i] = "host" + i;
+        }
+        return urls;
+    }
+
+    static Server build(final String url, final int i) {
+        return Server.builder("http").withUrl(url).withPort(8000 + i).withUptime(i).build();
+    }
+
+    static ServerInterning buildInterned(final String url, final int i) {
+        return ServerInterning.builder("http").withUrl(url).withPort(8000 + i).withUptime(i).build();
+    }
+
+    @Benchmark
+    public Server build() {
+        final int i = next++ % DISTINCT_VALUES;
+        return build(urls[i], i);
+    }
+
+    @Benchmark
+    public ServerInterning buildInterned() {
+        final int i = next++ % DISTINCT_VALUES;
+        return buildInterned(urls[i], i);
+    }
+}
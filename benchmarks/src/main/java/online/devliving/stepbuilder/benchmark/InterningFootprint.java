@@ -0,0 +1,51 @@
+package online.devliving.stepbuilder.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+
+/**
+ * Keeps {@value #INSTANCES} instances of the README's {@code Server} built from
+ * {@value InterningBenchmark#DISTINCT_VALUES} distinct value sets reachable, and prints the heap they retain with
+ * and without interning:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar online.devliving.stepbuilder.benchmark.InterningFootprint
+ * </pre>
+ */
+public final class InterningFootprint {
+    private static final int INSTANCES = 1000000;
+
+    private InterningFootprint() {
+    }
+
+    public static void main(final String[] args) {
+        final String[] urls = InterningBenchmark.urls();
+
+        long before = usedHeap();
+        Object[] instances = new Object[INSTANCES];
+        for (int n = 0; n < INSTANCES; n++) {
+            final int i = n % InterningBenchmark.DISTINCT_VALUES;
+            instances[n] = InterningBenchmark.build(urls[i], i);
+        }
+        System.out.printf("without interning: %,d bytes%n", usedHeap() - before);
+        Reference.reachabilityFence(instances);
+        instances = null;
+
+        before = usedHeap();
+        instances = new Object[INSTANCES];
+        for (int n = 0; n < INSTANCES; n++) {
+            final int i = n % InterningBenchmark.DISTINCT_VALUES;
+            instances[n] = InterningBenchmark.buildInterned(urls[i], i);
+        }
+        System.out.printf("with interning:    %,d bytes%n", usedHeap() - before);
+        Reference.reachabilityFence(instances);
+    }
+
+    private static long usedHeap() {
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            memory.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
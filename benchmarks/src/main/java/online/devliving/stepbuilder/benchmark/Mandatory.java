@@ -0,0 +1,442 @@
+// rendered by BenchmarkSourcesTest of the tests module, don't edit
+package online.devliving.stepbuilder.benchmark;
+
+public class Mandatory {
+    private int field0;
+    private int field1;
+    private int field2;
+    private int field3;
+    private int field4;
+    private int field5;
+    private int field6;
+    private int field7;
+    private int field8;
+    private int field9;
+    private int field10;
+    private int field11;
+    private int field12;
+    private int field13;
+    private int field14;
+    private int field15;
+    private int field16;
+    private int field17;
+    private int field18;
+    private int field19;
+    private int field20;
+    private int field21;
+    private int field22;
+    private int field23;
+    private int field24;
+    private int field25;
+    private int field26;
+    private int field27;
+    private int field28;
+    private int field29;
+    private int field30;
+    private int field31;
+
+    private Mandatory(Builder builder) {
+        field0 = builder.field0;
+        field1 = builder.field1;
+        field2 = builder.field2;
+        field3 = builder.field3;
+        field4 = builder.field4;
+        field5 = builder.field5;
+        field6 = builder.field6;
+        field7 = builder.field7;
+        field8 = builder.field8;
+        field9 = builder.field9;
+        field10 = builder.field10;
+        field11 = builder.field11;
+        field12 = builder.field12;
+        field13 = builder.field13;
+        field14 = builder.field14;
+        field15 = builder.field15;
+        field16 = builder.field16;
+        field17 = builder.field17;
+        field18 = builder.field18;
+        field19 = builder.field19;
+        field20 = builder.field20;
+        field21 = builder.field21;
+        field22 = builder.field22;
+        field23 = builder.field23;
+        field24 = builder.field24;
+        field25 = builder.field25;
+        field26 = builder.field26;
+        field27 = builder.field27;
+        field28 = builder.field28;
+        field29 = builder.field29;
+        field30 = builder.field30;
+        field31 = builder.field31;
+    }
+
+    public static IField0 builder() {
+        return new Builder();
+    }
+
+    interface IBuild {
+        Mandatory build();
+    }
+
+    interface IField31 {
+        IBuild withField31(int val);
+    }
+
+    interface IField30 {
+        IField31 withField30(int val);
+    }
+
+    interface IField29 {
+        IField30 withField29(int val);
+    }
+
+    interface IField28 {
+        IField29 withField28(int val);
+    }
+
+    interface IField27 {
+        IField28 withField27(int val);
+    }
+
+    interface IField26 {
+        IField27 withField26(int val);
+    }
+
+    interface IField25 {
+        IField26 withField25(int val);
+    }
+
+    interface IField24 {
+        IField25 withField24(int val);
+    }
+
+    interface IField23 {
+        IField24 withField23(int val);
+    }
+
+    interface IField22 {
+        IField23 withField22(int val);
+    }
+
+    interface IField21 {
+        IField22 withField21(int val);
+    }
+
+    interface IField20 {
+        IField21 withField20(int val);
+    }
+
+    interface IField19 {
+        IField20 withField19(int val);
+    }
+
+    interface IField18 {
+        IField19 withField18(int val);
+    }
+
+    interface IField17 {
+        IField18 withField17(int val);
+    }
+
+    interface IField16 {
+        IField17 withField16(int val);
+    }
+
+    interface IField15 {
+        IField16 withField15(int val);
+    }
+
+    interface IField14 {
+        IField15 withField14(int val);
+    }
+
+    interface IField13 {
+        IField14 withField13(int val);
+    }
+
+    interface IField12 {
+        IField13 withField12(int val);
+    }
+
+    interface IField11 {
+        IField12 withField11(int val);
+    }
+
+    interface IField10 {
+        IField11 withField10(int val);
+    }
+
+    interface IField9 {
+        IField10 withField9(int val);
+    }
+
+    interface IField8 {
+        IField9 withField8(int val);
+    }
+
+    interface IField7 {
+        IField8 withField7(int val);
+    }
+
+    interface IField6 {
+        IField7 withField6(int val);
+    }
+
+    interface IField5 {
+        IField6 withField5(int val);
+    }
+
+    interface IField4 {
+        IField5 withField4(int val);
+    }
+
+    interface IField3 {
+        IField4 withField3(int val);
+    }
+
+    interface IField2 {
+        IField3 withField2(int val);
+    }
+
+    interface IField1 {
+        IField2 withField1(int val);
+    }
+
+    interface IField0 {
+        IField1 withField0(int val);
+    }
+
+    public static final class Builder implements IField31, IField30, IField29, IField28, IField27, IField26, IField25, IField24, IField23, IField22, IField21, IField20, IField19, IField18, IField17, IField16, IField15, IField14, IField13, IField12, IField11, IField10, IField9, IField8, IField7, IField6, IField5, IField4, IField3, IField2, IField1, IField0, IBuild {
+        private int field31;
+        private int field30;
+        private int field29;
+        private int field28;
+        private int field27;
+        private int field26;
+        private int field25;
+        private int field24;
+        private int field23;
+        private int field22;
+        private int field21;
+        private int field20;
+        private int field19;
+        private int field18;
+        private int field17;
+        private int field16;
+        private int field15;
+        private int field14;
+        private int field13;
+        private int field12;
+        private int field11;
+        private int field10;
+        private int field9;
+        private int field8;
+        private int field7;
+        private int field6;
+        private int field5;
+        private int field4;
+        private int field3;
+        private int field2;
+        private int field1;
+        private int field0;
+
+        private Builder() {
+        }
+
+        @java.lang.Override
+        public IBuild withField31(int val) {
+            field31 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField31 withField30(int val) {
+            field30 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField30 withField29(int val) {
+            field29 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField29 withField28(int val) {
+            field28 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField28 withField27(int val) {
+            field27 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField27 withField26(int val) {
+            field26 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField26 withField25(int val) {
+            field25 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField25 withField24(int val) {
+            field24 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField24 withField23(int val) {
+            field23 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField23 withField22(int val) {
+            field22 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField22 withField21(int val) {
+            field21 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField21 withField20(int val) {
+            field20 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField20 withField19(int val) {
+            field19 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField19 withField18(int val) {
+            field18 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField18 withField17(int val) {
+            field17 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField17 withField16(int val) {
+            field16 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField16 withField15(int val) {
+            field15 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField15 withField14(int val) {
+            field14 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField14 withField13(int val) {
+            field13 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField13 withField12(int val) {
+            field12 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField12 withField11(int val) {
+            field11 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField11 withField10(int val) {
+            field10 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField10 withField9(int val) {
+            field9 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField9 withField8(int val) {
+            field8 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField8 withField7(int val) {
+            field7 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField7 withField6(int val) {
+            field6 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField6 withField5(int val) {
+            field5 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField5 withField4(int val) {
+            field4 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField4 withField3(int val) {
+            field3 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField3 withField2(int val) {
+            field2 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField2 withField1(int val) {
+            field1 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField1 withField0(int val) {
+            field0 = val;
+            return this;
+        }
+
+        public Mandatory build() {
+            return new Mandatory(this);
+        }
+    }
+}
@@ -0,0 +1,350 @@
+// rendered by BenchmarkSourcesTest of the tests module, don't edit
+package online.devliving.stepbuilder.benchmark;
+
+public class MandatoryCompact {
+    private int field0;
+    private int field1;
+    private int field2;
+    private int field3;
+    private int field4;
+    private int field5;
+    private int field6;
+    private int field7;
+    private int field8;
+    private int field9;
+    private int field10;
+    private int field11;
+    private int field12;
+    private int field13;
+    private int field14;
+    private int field15;
+    private int field16;
+    private int field17;
+    private int field18;
+    private int field19;
+    private int field20;
+    private int field21;
+    private int field22;
+    private int field23;
+    private int field24;
+    private int field25;
+    private int field26;
+    private int field27;
+    private int field28;
+    private int field29;
+    private int field30;
+    private int field31;
+
+    private MandatoryCompact(Builder builder) {
+        field0 = builder.field0;
+        field1 = builder.field1;
+        field2 = builder.field2;
+        field3 = builder.field3;
+        field4 = builder.field4;
+        field5 = builder.field5;
+        field6 = builder.field6;
+        field7 = builder.field7;
+        field8 = builder.field8;
+        field9 = builder.field9;
+        field10 = builder.field10;
+        field11 = builder.field11;
+        field12 = builder.field12;
+        field13 = builder.field13;
+        field14 = builder.field14;
+        field15 = builder.field15;
+        field16 = builder.field16;
+        field17 = builder.field17;
+        field18 = builder.field18;
+        field19 = builder.field19;
+        field20 = builder.field20;
+        field21 = builder.field21;
+        field22 = builder.field22;
+        field23 = builder.field23;
+        field24 = builder.field24;
+        field25 = builder.field25;
+        field26 = builder.field26;
+        field27 = builder.field27;
+        field28 = builder.field28;
+        field29 = builder.field29;
+        field30 = builder.field30;
+        field31 = builder.field31;
+    }
+
+    @java.lang.SuppressWarnings({"unchecked", "rawtypes"})
+    public static ISteps<ISteps<java.lang.Void, ISteps<java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, ISteps<java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, IBuild>, java.lang.Void>, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void>, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void, java.lang.Void> builder() {
+        return (ISteps) new Builder();
+    }
+
+    interface IBuild {
+        MandatoryCompact build();
+    }
+
+    interface ISteps<S1, S2, S3, S4, S5, S6, S7, S8, S9, S10, S11, S12, S13, S14, S15, S16, S17, S18, S19, S20, S21, S22, S23, S24, S25, S26, S27, S28, S29, S30, S31, S32> {
+        S1 withField0(int val);
+        S2 withField1(int val);
+        S3 withField2(int val);
+        S4 withField3(int val);
+        S5 withField4(int val);
+        S6 withField5(int val);
+        S7 withField6(int val);
+        S8 withField7(int val);
+        S9 withField8(int val);
+        S10 withField9(int val);
+        S11 withField10(int val);
+        S12 withField11(int val);
+        S13 withField12(int val);
+        S14 withField13(int val);
+        S15 withField14(int val);
+        S16 withField15(int val);
+        S17 withField16(int val);
+        S18 withField17(int val);
+        S19 withField18(int val);
+        S20 withField19(int val);
+        S21 withField20(int val);
+        S22 withField21(int val);
+        S23 withField22(int val);
+        S24 withField23(int val);
+        S25 withField24(int val);
+        S26 withField25(int val);
+        S27 withField26(int val);
+        S28 withField27(int val);
+        S29 withField28(int val);
+        S30 withField29(int val);
+        S31 withField30(int val);
+        S32 withField31(int val);
+    }
+
+    public static final class Builder implements ISteps<Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder, Builder>, IBuild {
+        private int field31;
+        private int field30;
+        private int field29;
+        private int field28;
+        private int field27;
+        private int field26;
+        private int field25;
+        private int field24;
+        private int field23;
+        private int field22;
+        private int field21;
+        private int field20;
+        private int field19;
+        private int field18;
+        private int field17;
+        private int field16;
+        private int field15;
+        private int field14;
+        private int field13;
+        private int field12;
+        private int field11;
+        private int field10;
+        private int field9;
+        private int field8;
+        private int field7;
+        private int field6;
+        private int field5;
+        private int field4;
+        private int field3;
+        private int field2;
+        private int field1;
+        private int field0;
+
+        private Builder() {
+        }
+
+        @java.lang.Override
+        public Builder withField31(int val) {
+            field31 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField30(int val) {
+            field30 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField29(int val) {
+            field29 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField28(int val) {
+            field28 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField27(int val) {
+            field27 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField26(int val) {
+            field26 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField25(int val) {
+            field25 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField24(int val) {
+            field24 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField23(int val) {
+            field23 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField22(int val) {
+            field22 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField21(int val) {
+            field21 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField20(int val) {
+            field20 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField19(int val) {
+            field19 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField18(int val) {
+            field18 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField17(int val) {
+            field17 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField16(int val) {
+            field16 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField15(int val) {
+            field15 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField14(int val) {
+            field14 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField13(int val) {
+            field13 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField12(int val) {
+            field12 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField11(int val) {
+            field11 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField10(int val) {
+            field10 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField9(int val) {
+            field9 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField8(int val) {
+            field8 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField7(int val) {
+            field7 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField6(int val) {
+            field6 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField5(int val) {
+            field5 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField4(int val) {
+            field4 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField3(int val) {
+            field3 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField2(int val) {
+            field2 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField1(int val) {
+            field1 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public Builder withField0(int val) {
+            field0 = val;
+            return this;
+        }
+
+        public MandatoryCompact build() {
+            return new MandatoryCompact(this);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+// rendered by BenchmarkSourcesTest of the tests module, don't edit
+package online.devliving.stepbuilder.benchmark;
+
+public class Server {
+    private final java.lang.String protocol;
+    private java.lang.String url;
+    private int port;
+    private java.lang.String ipAddress;
+    private java.lang.String description;
+    private long uptime;
+    private double weight;
+    private boolean secure;
+
+    private Server(Builder builder) {
+        protocol = builder.protocol;
+        url = builder.url;
+        port = builder.port;
+        ipAddress = builder.ipAddress;
+        description = builder.description;
+        uptime = builder.uptime;
+        weight = builder.weight;
+        secure = builder.secure;
+    }
+
+    public static IUrl builder(java.lang.String protocol) {
+        return new Builder(protocol);
+    }
+
+    interface IBuild {
+        IBuild withIpAddress(java.lang.String val);
+        IBuild withDescription(java.lang.String val);
+        IBuild withUptime(long val);
+        IBuild withWeight(double val);
+        IBuild withSecure(boolean val);
+        Server build();
+    }
+
+    interface IPort {
+        IBuild withPort(int val);
+    }
+
+    interface IUrl {
+        IPort withUrl(java.lang.String val);
+    }
+
+    public static final class Builder implements IPort, IUrl, IBuild {
+        private java.lang.String ipAddress;
+        private java.lang.String description;
+        private long uptime;
+        private double weight;
+        private boolean secure;
+        private int port;
+        private java.lang.String url;
+        private final java.lang.String protocol;
+
+        private Builder(java.lang.String protocol) {
+            this.protocol = protocol;
+        }
+
+        @java.lang.Override
+        public IBuild withPort(int val) {
+            port = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IPort withUrl(java.lang.String val) {
+            url = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withIpAddress(java.lang.String val) {
+            ipAddress = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withDescription(java.lang.String val) {
+            description = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withUptime(long val) {
+            uptime = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withWeight(double val) {
+            weight = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withSecure(boolean val) {
+            secure = val;
+            return this;
+        }
+
+        public Server build() {
+            return new Server(this);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+// rendered by BenchmarkSourcesTest of the tests module, don't edit
+package online.devliving.stepbuilder.benchmark;
+
+public class ServerAllArgs {
+    private final java.lang.String protocol;
+    private java.lang.String url;
+    private int port;
+    private java.lang.String ipAddress;
+    private java.lang.String description;
+    private long uptime;
+    private double weight;
+    private boolean secure;
+    public ServerAllArgs(java.lang.String protocol, java.lang.String url, int port, java.lang.String ipAddress, java.lang.String description, long uptime, double weight, boolean secure) {
+        this.protocol = protocol;
+        this.url = url;
+        this.port = port;
+        this.ipAddress = ipAddress;
+        this.description = description;
+        this.uptime = uptime;
+        this.weight = weight;
+        this.secure = secure;
+    }
+
+    public static IUrl builder(java.lang.String protocol) {
+        return new Builder(protocol);
+    }
+
+    interface IBuild {
+        IBuild withIpAddress(java.lang.String val);
+        IBuild withDescription(java.lang.String val);
+        IBuild withUptime(long val);
+        IBuild withWeight(double val);
+        IBuild withSecure(boolean val);
+        ServerAllArgs build();
+    }
+
+    interface IPort {
+        IBuild withPort(int val);
+    }
+
+    interface IUrl {
+        IPort withUrl(java.lang.String val);
+    }
+
+    public static final class Builder implements IPort, IUrl, IBuild {
+        private java.lang.String ipAddress;
+        private java.lang.String description;
+        private long uptime;
+        private double weight;
+        private boolean secure;
+        private int port;
+        private java.lang.String url;
+        private final java.lang.String protocol;
+
+        private Builder(java.lang.String protocol) {
+            this.protocol = protocol;
+        }
+
+        @java.lang.Override
+        public IBuild withPort(int val) {
+            port = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IPort withUrl(java.lang.String val) {
+            url = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withIpAddress(java.lang.String val) {
+            ipAddress = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withDescription(java.lang.String val) {
+            description = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withUptime(long val) {
+            uptime = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withWeight(double val) {
+            weight = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withSecure(boolean val) {
+            secure = val;
+            return this;
+        }
+
+        public ServerAllArgs build() {
+            return new ServerAllArgs(protocol, url, port, ipAddress, description, uptime, weight, secure);
+        }
+    }
+}
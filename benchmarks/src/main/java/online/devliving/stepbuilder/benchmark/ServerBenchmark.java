@@ -0,0 +1,155 @@
+package online.devliving.stepbuilder.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creates the {@code Server} of the README through the generated step builder, a classic builder, an all-args
+ * constructor and a record. Run it with {@code -prof gc}: when {@code gc.alloc.rate.norm} of a builder equals the
+ * one of the constructor, escape analysis removed the {@code Builder} allocation.
+ * <p>
+ * The {@code *WithoutEscapeAnalysis} variants show the cost of the {@code Builder} when it isn't removed, the
+ * {@code *NotInlined} ones the cost of the calls through the step interfaces when the setters aren't inlined, e.g.
+ * at a megamorphic call site or beyond the inlining budget of a large method.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ServerBenchmark {
+    private static final String NO_ESCAPE_ANALYSIS = "-XX:-DoEscapeAnalysis";
+    private static final String QUIET_COMPILE_COMMANDS = "-XX:CompileCommand=quiet";
+    private static final String STEP_BUILDER_NOT_INLINED =
+            "-XX:CompileCommand=dontinline,online.devliving.stepbuilder.benchmark.Server$Builder::*";
+    private static final String CLASSIC_BUILDER_NOT_INLINED =
+            "-XX:CompileCommand=dontinline,online.devliving.stepbuilder.benchmark.ClassicServer$Builder::*";
+
+    // read from fields, so that the values aren't constants the JIT folds into the result
+    private String protocol = "http";
+    private String url = "localhost";
+    private int port = 8080;
+    private String ipAddress = "127.0.0.1";
+    private String description = "the README's server";
+    private long uptime = 3600;
+    private double weight = 0.5;
+    private boolean secure = true;
+
+    @Benchmark
+    public Server stepBuilder() {
+        return Server.builder(protocol)
+                .withUrl(url)
+                .withPort(port)
+                .withIpAddress(ipAddress)
+                .withDescription(description)
+                .withUptime(uptime)
+                .withWeight(weight)
+                .withSecure(secure)
+                .build();
+    }
+
+    @Benchmark
+    public Server stepBuilderMandatoryOnly() {
+        return Server.builder(protocol).withUrl(url).withPort(port).build();
+    }
+
+    /**
+     * The checks are {@code Objects.requireNonNull} with a constant message, an intrinsic that allocates nothing.
+     */
+    @Benchmark
+    public ServerNullChecks stepBuilderNullChecks() {
+        return ServerNullChecks.builder(protocol)
+                .withUrl(url)
+                .withPort(port)
+                .withIpAddress(ipAddress)
+                .withDescription(description)
+                .withUptime(uptime)
+                .withWeight(weight)
+                .withSecure(secure)
+                .build();
+    }
+
+    @Benchmark
+    public ServerAllArgs stepBuilderAllArgs() {
+        return ServerAllArgs.builder(protocol)
+                .withUrl(url)
+                .withPort(port)
+                .withIpAddress(ipAddress)
+                .withDescription(description)
+                .withUptime(uptime)
+                .withWeight(weight)
+                .withSecure(secure)
+                .build();
+    }
+
+    @Benchmark
+    public ClassicServer classicBuilder() {
+        return ClassicServer.builder()
+                .protocol(protocol)
+                .url(url)
+                .port(port)
+                .ipAddress(ipAddress)
+                .description(description)
+                .uptime(uptime)
+                .weight(weight)
+                .secure(secure)
+                .build();
+    }
+
+    @Benchmark
+    public ServerAllArgs constructor() {
+        return new ServerAllArgs(protocol, url, port, ipAddress, description, uptime, weight, secure);
+    }
+
+    @Benchmark
+    public ServerRecord record() {
+        return new ServerRecord(protocol, url, port, ipAddress, description, uptime, weight, secure);
+    }
+
+    @Benchmark
+    public ServerRecord recordStepBuilder() {
+        return ServerRecord.builder(protocol)
+                .withUrl(url)
+                .withPort(port)
+                .withIpAddress(ipAddress)
+                .withDescription(description)
+                .withUptime(uptime)
+                .withWeight(weight)
+                .withSecure(secure)
+                .build();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = NO_ESCAPE_ANALYSIS)
+    public Server stepBuilderWithoutEscapeAnalysis() {
+        return stepBuilder();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = NO_ESCAPE_ANALYSIS)
+    public ClassicServer classicBuilderWithoutEscapeAnalysis() {
+        return classicBuilder();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {QUIET_COMPILE_COMMANDS, STEP_BUILDER_NOT_INLINED})
+    public Server stepBuilderNotInlined() {
+        return stepBuilder();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {QUIET_COMPILE_COMMANDS, CLASSIC_BUILDER_NOT_INLINED})
+    public ClassicServer classicBuilderNotInlined() {
+        return classicBuilder();
+    }
+}
@@ -0,0 +1,191 @@
+// rendered by BenchmarkSourcesTest of the tests module, don't edit
+package online.devliving.stepbuilder.benchmark;
+
+public class ServerBulk {
+    private final java.lang.String protocol;
+    private java.lang.String url;
+    private int port;
+    private java.lang.String ipAddress;
+    private java.lang.String description;
+    private long uptime;
+    private double weight;
+    private boolean secure;
+
+    private ServerBulk(Builder builder) {
+        protocol = builder.protocol;
+        url = builder.url;
+        port = builder.port;
+        ipAddress = builder.ipAddress;
+        description = builder.description;
+        uptime = builder.uptime;
+        weight = builder.weight;
+        secure = builder.secure;
+    }
+
+    private ServerBulk(java.lang.String protocol, java.lang.String url, int port, java.lang.String ipAddress, java.lang.String description, long uptime, double weight, boolean secure) {
+        this.protocol = protocol;
+        this.url = url;
+        this.port = port;
+        this.ipAddress = ipAddress;
+        this.description = description;
+        this.uptime = uptime;
+        this.weight = weight;
+        this.secure = secure;
+    }
+
+    public static IUrl builder(java.lang.String protocol) {
+        return new Builder(protocol);
+    }
+
+    /**
+     * Builds {@code n} instances from one column per field, the instance at index {@code i} from row
+     * {@code i} of every column. Every column has {@code n} rows.
+     */
+    public static ServerBulk[] buildAll(int n, java.lang.String[] protocol, java.lang.String[] url, int[] port, java.lang.String[] ipAddress, java.lang.String[] description, long[] uptime, double[] weight, boolean[] secure) {
+        if (protocol.length != n) {
+            throw new java.lang.IllegalArgumentException("protocol has " + protocol.length + " rows instead of " + n);
+        }
+        if (url.length != n) {
+            throw new java.lang.IllegalArgumentException("url has " + url.length + " rows instead of " + n);
+        }
+        if (port.length != n) {
+            throw new java.lang.IllegalArgumentException("port has " + port.length + " rows instead of " + n);
+        }
+        if (ipAddress.length != n) {
+            throw new java.lang.IllegalArgumentException("ipAddress has " + ipAddress.length + " rows instead of " + n);
+        }
+        if (description.length != n) {
+            throw new java.lang.IllegalArgumentException("description has " + description.length + " rows instead of " + n);
+        }
+        if (uptime.length != n) {
+            throw new java.lang.IllegalArgumentException("uptime has " + uptime.length + " rows instead of " + n);
+        }
+        if (weight.length != n) {
+            throw new java.lang.IllegalArgumentException("weight has " + weight.length + " rows instead of " + n);
+        }
+        if (secure.length != n) {
+            throw new java.lang.IllegalArgumentException("secure has " + secure.length + " rows instead of " + n);
+        }
+        final ServerBulk[] result = new ServerBulk[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = new ServerBulk(protocol[i], url[i], port[i], ipAddress[i], description[i], uptime[i], weight[i], secure[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Same as {@code buildAll}, but builds the instances in parallel in the common fork-join pool.
+     */
+    public static ServerBulk[] buildAllParallel(int n, final java.lang.String[] protocol, final java.lang.String[] url, final int[] port, final java.lang.String[] ipAddress, final java.lang.String[] description, final long[] uptime, final double[] weight, final boolean[] secure) {
+        if (protocol.length != n) {
+            throw new java.lang.IllegalArgumentException("protocol has " + protocol.length + " rows instead of " + n);
+        }
+        if (url.length != n) {
+            throw new java.lang.IllegalArgumentException("url has " + url.length + " rows instead of " + n);
+        }
+        if (port.length != n) {
+            throw new java.lang.IllegalArgumentException("port has " + port.length + " rows instead of " + n);
+        }
+        if (ipAddress.length != n) {
+            throw new java.lang.IllegalArgumentException("ipAddress has " + ipAddress.length + " rows instead of " + n);
+        }
+        if (description.length != n) {
+            throw new java.lang.IllegalArgumentException("description has " + description.length + " rows instead of " + n);
+        }
+        if (uptime.length != n) {
+            throw new java.lang.IllegalArgumentException("uptime has " + uptime.length + " rows instead of " + n);
+        }
+        if (weight.length != n) {
+            throw new java.lang.IllegalArgumentException("weight has " + weight.length + " rows instead of " + n);
+        }
+        if (secure.length != n) {
+            throw new java.lang.IllegalArgumentException("secure has " + secure.length + " rows instead of " + n);
+        }
+        final ServerBulk[] result = new ServerBulk[n];
+        java.util.Arrays.parallelSetAll(result, new java.util.function.IntFunction<ServerBulk>() {
+            @java.lang.Override
+            public ServerBulk apply(int i) {
+                return new ServerBulk(protocol[i], url[i], port[i], ipAddress[i], description[i], uptime[i], weight[i], secure[i]);
+            }
+        });
+        return result;
+    }
+
+    interface IBuild {
+        IBuild withIpAddress(java.lang.String val);
+        IBuild withDescription(java.lang.String val);
+        IBuild withUptime(long val);
+        IBuild withWeight(double val);
+        IBuild withSecure(boolean val);
+        ServerBulk build();
+    }
+
+    interface IPort {
+        IBuild withPort(int val);
+    }
+
+    interface IUrl {
+        IPort withUrl(java.lang.String val);
+    }
+
+    public static final class Builder implements IPort, IUrl, IBuild {
+        private java.lang.String ipAddress;
+        private java.lang.String description;
+        private long uptime;
+        private double weight;
+        private boolean secure;
+        private int port;
+        private java.lang.String url;
+        private final java.lang.String protocol;
+
+        private Builder(java.lang.String protocol) {
+            this.protocol = protocol;
+        }
+
+        @java.lang.Override
+        public IBuild withPort(int val) {
+            port = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IPort withUrl(java.lang.String val) {
+            url = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withIpAddress(java.lang.String val) {
+            ipAddress = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withDescription(java.lang.String val) {
+            description = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withUptime(long val) {
+            uptime = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withWeight(double val) {
+            weight = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withSecure(boolean val) {
+            secure = val;
+            return this;
+        }
+
+        public ServerBulk build() {
+            return new ServerBulk(this);
+        }
+    }
+}
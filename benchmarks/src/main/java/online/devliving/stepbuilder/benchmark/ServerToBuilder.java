@@ -0,0 +1,161 @@
+// rendered by BenchmarkSourcesTest of the tests module, don't edit
+package online.devliving.stepbuilder.benchmark;
+
+public class ServerToBuilder {
+    private final java.lang.String protocol;
+    private java.lang.String url;
+    private int port;
+    private java.lang.String ipAddress;
+    private java.lang.String description;
+    private long uptime;
+    private double weight;
+    private boolean secure;
+
+    private ServerToBuilder(Builder builder) {
+        protocol = builder.protocol;
+        url = builder.url;
+        port = builder.port;
+        ipAddress = builder.ipAddress;
+        description = builder.description;
+        uptime = builder.uptime;
+        weight = builder.weight;
+        secure = builder.secure;
+    }
+
+    private ServerToBuilder(java.lang.String protocol, java.lang.String url, int port, java.lang.String ipAddress, java.lang.String description, long uptime, double weight, boolean secure) {
+        this.protocol = protocol;
+        this.url = url;
+        this.port = port;
+        this.ipAddress = ipAddress;
+        this.description = description;
+        this.uptime = uptime;
+        this.weight = weight;
+        this.secure = secure;
+    }
+
+    public static IUrl builder(java.lang.String protocol) {
+        return new Builder(protocol);
+    }
+
+    public IBuild toBuilder() {
+        Builder builder = new Builder(this.protocol);
+        builder.ipAddress = this.ipAddress;
+        builder.description = this.description;
+        builder.uptime = this.uptime;
+        builder.weight = this.weight;
+        builder.secure = this.secure;
+        builder.port = this.port;
+        builder.url = this.url;
+        return builder;
+    }
+
+    public ServerToBuilder withProtocol(java.lang.String val) {
+        return new ServerToBuilder(val, this.url, this.port, this.ipAddress, this.description, this.uptime, this.weight, this.secure);
+    }
+
+    public ServerToBuilder withUrl(java.lang.String val) {
+        return new ServerToBuilder(this.protocol, val, this.port, this.ipAddress, this.description, this.uptime, this.weight, this.secure);
+    }
+
+    public ServerToBuilder withPort(int val) {
+        return new ServerToBuilder(this.protocol, this.url, val, this.ipAddress, this.description, this.uptime, this.weight, this.secure);
+    }
+
+    public ServerToBuilder withIpAddress(java.lang.String val) {
+        return new ServerToBuilder(this.protocol, this.url, this.port, val, this.description, this.uptime, this.weight, this.secure);
+    }
+
+    public ServerToBuilder withDescription(java.lang.String val) {
+        return new ServerToBuilder(this.protocol, this.url, this.port, this.ipAddress, val, this.uptime, this.weight, this.secure);
+    }
+
+    public ServerToBuilder withUptime(long val) {
+        return new ServerToBuilder(this.protocol, this.url, this.port, this.ipAddress, this.description, val, this.weight, this.secure);
+    }
+
+    public ServerToBuilder withWeight(double val) {
+        return new ServerToBuilder(this.protocol, this.url, this.port, this.ipAddress, this.description, this.uptime, val, this.secure);
+    }
+
+    public ServerToBuilder withSecure(boolean val) {
+        return new ServerToBuilder(this.protocol, this.url, this.port, this.ipAddress, this.description, this.uptime, this.weight, val);
+    }
+
+    interface IBuild {
+        IBuild withIpAddress(java.lang.String val);
+        IBuild withDescription(java.lang.String val);
+        IBuild withUptime(long val);
+        IBuild withWeight(double val);
+        IBuild withSecure(boolean val);
+        ServerToBuilder build();
+    }
+
+    interface IPort {
+        IBuild withPort(int val);
+    }
+
+    interface IUrl {
+        IPort withUrl(java.lang.String val);
+    }
+
+    public static final class Builder implements IPort, IUrl, IBuild {
+        private java.lang.String ipAddress;
+        private java.lang.String description;
+        private long uptime;
+        private double weight;
+        private boolean secure;
+        private int port;
+        private java.lang.String url;
+        private final java.lang.String protocol;
+
+        private Builder(java.lang.String protocol) {
+            this.protocol = protocol;
+        }
+
+        @java.lang.Override
+        public IBuild withPort(int val) {
+            port = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IPort withUrl(java.lang.String val) {
+            url = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withIpAddress(java.lang.String val) {
+            ipAddress = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withDescription(java.lang.String val) {
+            description = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withUptime(long val) {
+            uptime = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withWeight(double val) {
+            weight = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withSecure(boolean val) {
+            secure = val;
+            return this;
+        }
+
+        public ServerToBuilder build() {
+            return new ServerToBuilder(this);
+        }
+    }
+}
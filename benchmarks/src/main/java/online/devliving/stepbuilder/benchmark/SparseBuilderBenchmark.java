@@ -0,0 +1,55 @@
+package online.devliving.stepbuilder.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sets 5 of the 200 optional fields of a class, with a field per optional field in the builder and with the sparse
+ * builder. Run it with {@code -prof gc}: {@code gc.alloc.rate.norm} of {@code *Builder} is the size of the builder,
+ * which escapes there, the one of {@code *Build} what a whole chain allocates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SparseBuilderBenchmark {
+    private String string = "value";
+    private int number = 42;
+    private long count = 42L;
+    private boolean flag = true;
+
+    @Benchmark
+    public Object denseBuilder() {
+        return Wide.builder().withField0(string).withField1(number).withField2(count).withField3(flag)
+                .withField100(string);
+    }
+
+    @Benchmark
+    public Wide denseBuild() {
+        return Wide.builder().withField0(string).withField1(number).withField2(count).withField3(flag)
+                .withField100(string).build();
+    }
+
+    @Benchmark
+    public Object sparseBuilder() {
+        return WideSparse.builder().withField0(string).withField1(number).withField2(count).withField3(flag)
+                .withField100(string);
+    }
+
+    @Benchmark
+    public WideSparse sparseBuild() {
+        return WideSparse.builder().withField0(string).withField1(number).withField2(count).withField3(flag)
+                .withField100(string).build();
+    }
+}
@@ -0,0 +1,375 @@
+// rendered by BenchmarkSourcesTest of the tests module, don't edit
+package online.devliving.stepbuilder.benchmark;
+
+public class Synthetic {
+    private java.lang.String field0;
+    private int field1;
+    private long field2;
+    private java.lang.Double field3;
+    private boolean field4;
+    private java.util.List<java.lang.String> field5;
+    private java.lang.String field6;
+    private int field7;
+    private long field8;
+    private java.lang.Double field9;
+    private boolean field10;
+    private java.util.List<java.lang.String> field11;
+    private java.lang.String field12;
+    private int field13;
+    private long field14;
+    private java.lang.Double field15;
+    private boolean field16;
+    private java.util.List<java.lang.String> field17;
+    private java.lang.String field18;
+    private int field19;
+    private long field20;
+    private java.lang.Double field21;
+    private boolean field22;
+    private java.util.List<java.lang.String> field23;
+    private java.lang.String field24;
+    private int field25;
+    private long field26;
+    private java.lang.Double field27;
+    private boolean field28;
+    private java.util.List<java.lang.String> field29;
+    private java.lang.String field30;
+    private int field31;
+    public Synthetic(java.lang.String field0, int field1, long field2, java.lang.Double field3, boolean field4, java.util.List<java.lang.String> field5, java.lang.String field6, int field7, long field8, java.lang.Double field9, boolean field10, java.util.List<java.lang.String> field11, java.lang.String field12, int field13, long field14, java.lang.Double field15, boolean field16, java.util.List<java.lang.String> field17, java.lang.String field18, int field19, long field20, java.lang.Double field21, boolean field22, java.util.List<java.lang.String> field23, java.lang.String field24, int field25, long field26, java.lang.Double field27, boolean field28, java.util.List<java.lang.String> field29, java.lang.String field30, int field31) {
+        this.field0 = field0;
+        this.field1 = field1;
+        this.field2 = field2;
+        this.field3 = field3;
+        this.field4 = field4;
+        this.field5 = field5;
+        this.field6 = field6;
+        this.field7 = field7;
+        this.field8 = field8;
+        this.field9 = field9;
+        this.field10 = field10;
+        this.field11 = field11;
+        this.field12 = field12;
+        this.field13 = field13;
+        this.field14 = field14;
+        this.field15 = field15;
+        this.field16 = field16;
+        this.field17 = field17;
+        this.field18 = field18;
+        this.field19 = field19;
+        this.field20 = field20;
+        this.field21 = field21;
+        this.field22 = field22;
+        this.field23 = field23;
+        this.field24 = field24;
+        this.field25 = field25;
+        this.field26 = field26;
+        this.field27 = field27;
+        this.field28 = field28;
+        this.field29 = field29;
+        this.field30 = field30;
+        this.field31 = field31;
+    }
+
+    public static IField0 builder() {
+        return new Builder();
+    }
+
+    interface IBuild {
+        IBuild withField10(boolean val);
+        IBuild withField11(java.util.List<java.lang.String> val);
+        IBuild withField12(java.lang.String val);
+        IBuild withField13(int val);
+        IBuild withField14(long val);
+        IBuild withField15(java.lang.Double val);
+        IBuild withField16(boolean val);
+        IBuild withField17(java.util.List<java.lang.String> val);
+        IBuild withField18(java.lang.String val);
+        IBuild withField19(int val);
+        IBuild withField20(long val);
+        IBuild withField21(java.lang.Double val);
+        IBuild withField22(boolean val);
+        IBuild withField23(java.util.List<java.lang.String> val);
+        IBuild withField24(java.lang.String val);
+        IBuild withField25(int val);
+        IBuild withField26(long val);
+        IBuild withField27(java.lang.Double val);
+        IBuild withField28(boolean val);
+        IBuild withField29(java.util.List<java.lang.String> val);
+        IBuild withField30(java.lang.String val);
+        IBuild withField31(int val);
+        Synthetic build();
+    }
+
+    interface IField9 {
+        IBuild withField9(java.lang.Double val);
+    }
+
+    interface IField8 {
+        IField9 withField8(long val);
+    }
+
+    interface IField7 {
+        IField8 withField7(int val);
+    }
+
+    interface IField6 {
+        IField7 withField6(java.lang.String val);
+    }
+
+    interface IField5 {
+        IField6 withField5(java.util.List<java.lang.String> val);
+    }
+
+    interface IField4 {
+        IField5 withField4(boolean val);
+    }
+
+    interface IField3 {
+        IField4 withField3(java.lang.Double val);
+    }
+
+    interface IField2 {
+        IField3 withField2(long val);
+    }
+
+    interface IField1 {
+        IField2 withField1(int val);
+    }
+
+    interface IField0 {
+        IField1 withField0(java.lang.String val);
+    }
+
+    public static final class Builder implements IField9, IField8, IField7, IField6, IField5, IField4, IField3, IField2, IField1, IField0, IBuild {
+        private boolean field10;
+        private java.util.List<java.lang.String> field11;
+        private java.lang.String field12;
+        private int field13;
+        private long field14;
+        private java.lang.Double field15;
+        private boolean field16;
+        private java.util.List<java.lang.String> field17;
+        private java.lang.String field18;
+        private int field19;
+        private long field20;
+        private java.lang.Double field21;
+        private boolean field22;
+        private java.util.List<java.lang.String> field23;
+        private java.lang.String field24;
+        private int field25;
+        private long field26;
+        private java.lang.Double field27;
+        private boolean field28;
+        private java.util.List<java.lang.String> field29;
+        private java.lang.String field30;
+        private int field31;
+        private java.lang.Double field9;
+        private long field8;
+        private int field7;
+        private java.lang.String field6;
+        private java.util.List<java.lang.String> field5;
+        private boolean field4;
+        private java.lang.Double field3;
+        private long field2;
+        private int field1;
+        private java.lang.String field0;
+
+        private Builder() {
+        }
+
+        @java.lang.Override
+        public IBuild withField9(java.lang.Double val) {
+            field9 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField9 withField8(long val) {
+            field8 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField8 withField7(int val) {
+            field7 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField7 withField6(java.lang.String val) {
+            field6 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField6 withField5(java.util.List<java.lang.String> val) {
+            field5 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField5 withField4(boolean val) {
+            field4 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField4 withField3(java.lang.Double val) {
+            field3 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField3 withField2(long val) {
+            field2 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField2 withField1(int val) {
+            field1 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IField1 withField0(java.lang.String val) {
+            field0 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField10(boolean val) {
+            field10 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField11(java.util.List<java.lang.String> val) {
+            field11 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField12(java.lang.String val) {
+            field12 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField13(int val) {
+            field13 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField14(long val) {
+            field14 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField15(java.lang.Double val) {
+            field15 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField16(boolean val) {
+            field16 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField17(java.util.List<java.lang.String> val) {
+            field17 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField18(java.lang.String val) {
+            field18 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField19(int val) {
+            field19 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField20(long val) {
+            field20 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField21(java.lang.Double val) {
+            field21 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField22(boolean val) {
+            field22 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField23(java.util.List<java.lang.String> val) {
+            field23 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField24(java.lang.String val) {
+            field24 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField25(int val) {
+            field25 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField26(long val) {
+            field26 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField27(java.lang.Double val) {
+            field27 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField28(boolean val) {
+            field28 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField29(java.util.List<java.lang.String> val) {
+            field29 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField30(java.lang.String val) {
+            field30 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField31(int val) {
+            field31 = val;
+            return this;
+        }
+
+        public Synthetic build() {
+            return new Synthetic(field0, field1, field2, field3, field4, field5, field6, field7, field8, field9, field10, field11, field12, field13, field14, field15, field16, field17, field18, field19, field20, field21, field22, field23, field24, field25, field26, field27, field28, field29, field30, field31);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package online.devliving.stepbuilder.benchmark;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creates a class of 32 fields, 10 of them mandatory, through the generated step builder, its all-args constructor,
+ * and a record with and without its step builder. Once its 32 setters are inlined the method is a lot larger than
+ * the ones of {@link ServerBenchmark}, see with {@code -prof gc} whether escape analysis still removes the
+ * {@code Builder}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SyntheticBenchmark {
+    private String string = "value";
+    private int number = 42;
+    private long count = 42L;
+    private Double ratio = 0.5;
+    private boolean flag = true;
+    private List<String> items = Collections.singletonList("item");
+
+    @Benchmark
+    public Synthetic stepBuilder() {
+        return Synthetic.builder()
+                .withField0(string)
+                .withField1(number)
+                .withField2(count)
+                .withField3(ratio)
+                .withField4(flag)
+                .withField5(items)
+                .withField6(string)
+                .withField7(number)
+                .withField8(count)
+                .withField9(ratio)
+                .withField10(flag)
+                .withField11(items)
+                .withField12(string)
+                .withField13(number)
+                .withField14(count)
+                .withField15(ratio)
+                .withField16(flag)
+                .withField17(items)
+                .withField18(string)
+                .withField19(number)
+                .withField20(count)
+                .withField21(ratio)
+                .withField22(flag)
+                .withField23(items)
+                .withField24(string)
+                .withField25(number)
+                .withField26(count)
+                .withField27(ratio)
+                .withField28(flag)
+                .withField29(items)
+                .withField30(string)
+                .withField31(number)
+                .build();
+    }
+
+    @Benchmark
+    public Synthetic constructor() {
+        return new Synthetic(string, number, count, ratio, flag, items, string, number, count, ratio, flag, items, string,
+                number, count, ratio, flag, items, string, number, count, ratio, flag, items, string, number, count,
+                ratio, flag, items, string, number);
+    }
+
+    @Benchmark
+    public SyntheticRecord record() {
+        return new SyntheticRecord(string, number, count, ratio, flag, items, string, number, count, ratio, flag, items, string,
+                number, count, ratio, flag, items, string, number, count, ratio, flag, items, string, number, count,
+                ratio, flag, items, string, number);
+    }
+
+    @Benchmark
+    public SyntheticRecord recordStepBuilder() {
+        return SyntheticRecord.builder()
+                .withField0(string)
+                .withField1(number)
+                .withField2(count)
+                .withField3(ratio)
+                .withField4(flag)
+                .withField5(items)
+                .withField6(string)
+                .withField7(number)
+                .withField8(count)
+                .withField9(ratio)
+                .withField10(flag)
+                .withField11(items)
+                .withField12(string)
+                .withField13(number)
+                .withField14(count)
+                .withField15(ratio)
+                .withField16(flag)
+                .withField17(items)
+                .withField18(string)
+                .withField19(number)
+                .withField20(count)
+                .withField21(ratio)
+                .withField22(flag)
+                .withField23(items)
+                .withField24(string)
+                .withField25(number)
+                .withField26(count)
+                .withField27(ratio)
+                .withField28(flag)
+                .withField29(items)
+                .withField30(string)
+                .withField31(number)
+                .build();
+    }
+}
@@ -0,0 +1,2026 @@
+// rendered by BenchmarkSourcesTest of the tests module, don't edit
+package online.devliving.stepbuilder.benchmark;
+
+public class Wide {
+    private java.lang.String field0;
+    private int field1;
+    private long field2;
+    private boolean field3;
+    private java.lang.String field4;
+    private int field5;
+    private long field6;
+    private boolean field7;
+    private java.lang.String field8;
+    private int field9;
+    private long field10;
+    private boolean field11;
+    private java.lang.String field12;
+    private int field13;
+    private long field14;
+    private boolean field15;
+    private java.lang.String field16;
+    private int field17;
+    private long field18;
+    private boolean field19;
+    private java.lang.String field20;
+    private int field21;
+    private long field22;
+    private boolean field23;
+    private java.lang.String field24;
+    private int field25;
+    private long field26;
+    private boolean field27;
+    private java.lang.String field28;
+    private int field29;
+    private long field30;
+    private boolean field31;
+    private java.lang.String field32;
+    private int field33;
+    private long field34;
+    private boolean field35;
+    private java.lang.String field36;
+    private int field37;
+    private long field38;
+    private boolean field39;
+    private java.lang.String field40;
+    private int field41;
+    private long field42;
+    private boolean field43;
+    private java.lang.String field44;
+    private int field45;
+    private long field46;
+    private boolean field47;
+    private java.lang.String field48;
+    private int field49;
+    private long field50;
+    private boolean field51;
+    private java.lang.String field52;
+    private int field53;
+    private long field54;
+    private boolean field55;
+    private java.lang.String field56;
+    private int field57;
+    private long field58;
+    private boolean field59;
+    private java.lang.String field60;
+    private int field61;
+    private long field62;
+    private boolean field63;
+    private java.lang.String field64;
+    private int field65;
+    private long field66;
+    private boolean field67;
+    private java.lang.String field68;
+    private int field69;
+    private long field70;
+    private boolean field71;
+    private java.lang.String field72;
+    private int field73;
+    private long field74;
+    private boolean field75;
+    private java.lang.String field76;
+    private int field77;
+    private long field78;
+    private boolean field79;
+    private java.lang.String field80;
+    private int field81;
+    private long field82;
+    private boolean field83;
+    private java.lang.String field84;
+    private int field85;
+    private long field86;
+    private boolean field87;
+    private java.lang.String field88;
+    private int field89;
+    private long field90;
+    private boolean field91;
+    private java.lang.String field92;
+    private int field93;
+    private long field94;
+    private boolean field95;
+    private java.lang.String field96;
+    private int field97;
+    private long field98;
+    private boolean field99;
+    private java.lang.String field100;
+    private int field101;
+    private long field102;
+    private boolean field103;
+    private java.lang.String field104;
+    private int field105;
+    private long field106;
+    private boolean field107;
+    private java.lang.String field108;
+    private int field109;
+    private long field110;
+    private boolean field111;
+    private java.lang.String field112;
+    private int field113;
+    private long field114;
+    private boolean field115;
+    private java.lang.String field116;
+    private int field117;
+    private long field118;
+    private boolean field119;
+    private java.lang.String field120;
+    private int field121;
+    private long field122;
+    private boolean field123;
+    private java.lang.String field124;
+    private int field125;
+    private long field126;
+    private boolean field127;
+    private java.lang.String field128;
+    private int field129;
+    private long field130;
+    private boolean field131;
+    private java.lang.String field132;
+    private int field133;
+    private long field134;
+    private boolean field135;
+    private java.lang.String field136;
+    private int field137;
+    private long field138;
+    private boolean field139;
+    private java.lang.String field140;
+    private int field141;
+    private long field142;
+    private boolean field143;
+    private java.lang.String field144;
+    private int field145;
+    private long field146;
+    private boolean field147;
+    private java.lang.String field148;
+    private int field149;
+    private long field150;
+    private boolean field151;
+    private java.lang.String field152;
+    private int field153;
+    private long field154;
+    private boolean field155;
+    private java.lang.String field156;
+    private int field157;
+    private long field158;
+    private boolean field159;
+    private java.lang.String field160;
+    private int field161;
+    private long field162;
+    private boolean field163;
+    private java.lang.String field164;
+    private int field165;
+    private long field166;
+    private boolean field167;
+    private java.lang.String field168;
+    private int field169;
+    private long field170;
+    private boolean field171;
+    private java.lang.String field172;
+    private int field173;
+    private long field174;
+    private boolean field175;
+    private java.lang.String field176;
+    private int field177;
+    private long field178;
+    private boolean field179;
+    private java.lang.String field180;
+    private int field181;
+    private long field182;
+    private boolean field183;
+    private java.lang.String field184;
+    private int field185;
+    private long field186;
+    private boolean field187;
+    private java.lang.String field188;
+    private int field189;
+    private long field190;
+    private boolean field191;
+    private java.lang.String field192;
+    private int field193;
+    private long field194;
+    private boolean field195;
+    private java.lang.String field196;
+    private int field197;
+    private long field198;
+    private boolean field199;
+
+    private Wide(Builder builder) {
+        field0 = builder.field0;
+        field1 = builder.field1;
+        field2 = builder.field2;
+        field3 = builder.field3;
+        field4 = builder.field4;
+        field5 = builder.field5;
+        field6 = builder.field6;
+        field7 = builder.field7;
+        field8 = builder.field8;
+        field9 = builder.field9;
+        field10 = builder.field10;
+        field11 = builder.field11;
+        field12 = builder.field12;
+        field13 = builder.field13;
+        field14 = builder.field14;
+        field15 = builder.field15;
+        field16 = builder.field16;
+        field17 = builder.field17;
+        field18 = builder.field18;
+        field19 = builder.field19;
+        field20 = builder.field20;
+        field21 = builder.field21;
+        field22 = builder.field22;
+        field23 = builder.field23;
+        field24 = builder.field24;
+        field25 = builder.field25;
+        field26 = builder.field26;
+        field27 = builder.field27;
+        field28 = builder.field28;
+        field29 = builder.field29;
+        field30 = builder.field30;
+        field31 = builder.field31;
+        field32 = builder.field32;
+        field33 = builder.field33;
+        field34 = builder.field34;
+        field35 = builder.field35;
+        field36 = builder.field36;
+        field37 = builder.field37;
+        field38 = builder.field38;
+        field39 = builder.field39;
+        field40 = builder.field40;
+        field41 = builder.field41;
+        field42 = builder.field42;
+        field43 = builder.field43;
+        field44 = builder.field44;
+        field45 = builder.field45;
+        field46 = builder.field46;
+        field47 = builder.field47;
+        field48 = builder.field48;
+        field49 = builder.field49;
+        field50 = builder.field50;
+        field51 = builder.field51;
+        field52 = builder.field52;
+        field53 = builder.field53;
+        field54 = builder.field54;
+        field55 = builder.field55;
+        field56 = builder.field56;
+        field57 = builder.field57;
+        field58 = builder.field58;
+        field59 = builder.field59;
+        field60 = builder.field60;
+        field61 = builder.field61;
+        field62 = builder.field62;
+        field63 = builder.field63;
+        field64 = builder.field64;
+        field65 = builder.field65;
+        field66 = builder.field66;
+        field67 = builder.field67;
+        field68 = builder.field68;
+        field69 = builder.field69;
+        field70 = builder.field70;
+        field71 = builder.field71;
+        field72 = builder.field72;
+        field73 = builder.field73;
+        field74 = builder.field74;
+        field75 = builder.field75;
+        field76 = builder.field76;
+        field77 = builder.field77;
+        field78 = builder.field78;
+        field79 = builder.field79;
+        field80 = builder.field80;
+        field81 = builder.field81;
+        field82 = builder.field82;
+        field83 = builder.field83;
+        field84 = builder.field84;
+        field85 = builder.field85;
+        field86 = builder.field86;
+        field87 = builder.field87;
+        field88 = builder.field88;
+        field89 = builder.field89;
+        field90 = builder.field90;
+        field91 = builder.field91;
+        field92 = builder.field92;
+        field93 = builder.field93;
+        field94 = builder.field94;
+        field95 = builder.field95;
+        field96 = builder.field96;
+        field97 = builder.field97;
+        field98 = builder.field98;
+        field99 = builder.field99;
+        field100 = builder.field100;
+        field101 = builder.field101;
+        field102 = builder.field102;
+        field103 = builder.field103;
+        field104 = builder.field104;
+        field105 = builder.field105;
+        field106 = builder.field106;
+        field107 = builder.field107;
+        field108 = builder.field108;
+        field109 = builder.field109;
+        field110 = builder.field110;
+        field111 = builder.field111;
+        field112 = builder.field112;
+        field113 = builder.field113;
+        field114 = builder.field114;
+        field115 = builder.field115;
+        field116 = builder.field116;
+        field117 = builder.field117;
+        field118 = builder.field118;
+        field119 = builder.field119;
+        field120 = builder.field120;
+        field121 = builder.field121;
+        field122 = builder.field122;
+        field123 = builder.field123;
+        field124 = builder.field124;
+        field125 = builder.field125;
+        field126 = builder.field126;
+        field127 = builder.field127;
+        field128 = builder.field128;
+        field129 = builder.field129;
+        field130 = builder.field130;
+        field131 = builder.field131;
+        field132 = builder.field132;
+        field133 = builder.field133;
+        field134 = builder.field134;
+        field135 = builder.field135;
+        field136 = builder.field136;
+        field137 = builder.field137;
+        field138 = builder.field138;
+        field139 = builder.field139;
+        field140 = builder.field140;
+        field141 = builder.field141;
+        field142 = builder.field142;
+        field143 = builder.field143;
+        field144 = builder.field144;
+        field145 = builder.field145;
+        field146 = builder.field146;
+        field147 = builder.field147;
+        field148 = builder.field148;
+        field149 = builder.field149;
+        field150 = builder.field150;
+        field151 = builder.field151;
+        field152 = builder.field152;
+        field153 = builder.field153;
+        field154 = builder.field154;
+        field155 = builder.field155;
+        field156 = builder.field156;
+        field157 = builder.field157;
+        field158 = builder.field158;
+        field159 = builder.field159;
+        field160 = builder.field160;
+        field161 = builder.field161;
+        field162 = builder.field162;
+        field163 = builder.field163;
+        field164 = builder.field164;
+        field165 = builder.field165;
+        field166 = builder.field166;
+        field167 = builder.field167;
+        field168 = builder.field168;
+        field169 = builder.field169;
+        field170 = builder.field170;
+        field171 = builder.field171;
+        field172 = builder.field172;
+        field173 = builder.field173;
+        field174 = builder.field174;
+        field175 = builder.field175;
+        field176 = builder.field176;
+        field177 = builder.field177;
+        field178 = builder.field178;
+        field179 = builder.field179;
+        field180 = builder.field180;
+        field181 = builder.field181;
+        field182 = builder.field182;
+        field183 = builder.field183;
+        field184 = builder.field184;
+        field185 = builder.field185;
+        field186 = builder.field186;
+        field187 = builder.field187;
+        field188 = builder.field188;
+        field189 = builder.field189;
+        field190 = builder.field190;
+        field191 = builder.field191;
+        field192 = builder.field192;
+        field193 = builder.field193;
+        field194 = builder.field194;
+        field195 = builder.field195;
+        field196 = builder.field196;
+        field197 = builder.field197;
+        field198 = builder.field198;
+        field199 = builder.field199;
+    }
+
+    public static IBuild builder() {
+        return new Builder();
+    }
+
+    interface IBuild {
+        IBuild withField0(java.lang.String val);
+        IBuild withField1(int val);
+        IBuild withField2(long val);
+        IBuild withField3(boolean val);
+        IBuild withField4(java.lang.String val);
+        IBuild withField5(int val);
+        IBuild withField6(long val);
+        IBuild withField7(boolean val);
+        IBuild withField8(java.lang.String val);
+        IBuild withField9(int val);
+        IBuild withField10(long val);
+        IBuild withField11(boolean val);
+        IBuild withField12(java.lang.String val);
+        IBuild withField13(int val);
+        IBuild withField14(long val);
+        IBuild withField15(boolean val);
+        IBuild withField16(java.lang.String val);
+        IBuild withField17(int val);
+        IBuild withField18(long val);
+        IBuild withField19(boolean val);
+        IBuild withField20(java.lang.String val);
+        IBuild withField21(int val);
+        IBuild withField22(long val);
+        IBuild withField23(boolean val);
+        IBuild withField24(java.lang.String val);
+        IBuild withField25(int val);
+        IBuild withField26(long val);
+        IBuild withField27(boolean val);
+        IBuild withField28(java.lang.String val);
+        IBuild withField29(int val);
+        IBuild withField30(long val);
+        IBuild withField31(boolean val);
+        IBuild withField32(java.lang.String val);
+        IBuild withField33(int val);
+        IBuild withField34(long val);
+        IBuild withField35(boolean val);
+        IBuild withField36(java.lang.String val);
+        IBuild withField37(int val);
+        IBuild withField38(long val);
+        IBuild withField39(boolean val);
+        IBuild withField40(java.lang.String val);
+        IBuild withField41(int val);
+        IBuild withField42(long val);
+        IBuild withField43(boolean val);
+        IBuild withField44(java.lang.String val);
+        IBuild withField45(int val);
+        IBuild withField46(long val);
+        IBuild withField47(boolean val);
+        IBuild withField48(java.lang.String val);
+        IBuild withField49(int val);
+        IBuild withField50(long val);
+        IBuild withField51(boolean val);
+        IBuild withField52(java.lang.String val);
+        IBuild withField53(int val);
+        IBuild withField54(long val);
+        IBuild withField55(boolean val);
+        IBuild withField56(java.lang.String val);
+        IBuild withField57(int val);
+        IBuild withField58(long val);
+        IBuild withField59(boolean val);
+        IBuild withField60(java.lang.String val);
+        IBuild withField61(int val);
+        IBuild withField62(long val);
+        IBuild withField63(boolean val);
+        IBuild withField64(java.lang.String val);
+        IBuild withField65(int val);
+        IBuild withField66(long val);
+        IBuild withField67(boolean val);
+        IBuild withField68(java.lang.String val);
+        IBuild withField69(int val);
+        IBuild withField70(long val);
+        IBuild withField71(boolean val);
+        IBuild withField72(java.lang.String val);
+        IBuild withField73(int val);
+        IBuild withField74(long val);
+        IBuild withField75(boolean val);
+        IBuild withField76(java.lang.String val);
+        IBuild withField77(int val);
+        IBuild withField78(long val);
+        IBuild withField79(boolean val);
+        IBuild withField80(java.lang.String val);
+        IBuild withField81(int val);
+        IBuild withField82(long val);
+        IBuild withField83(boolean val);
+        IBuild withField84(java.lang.String val);
+        IBuild withField85(int val);
+        IBuild withField86(long val);
+        IBuild withField87(boolean val);
+        IBuild withField88(java.lang.String val);
+        IBuild withField89(int val);
+        IBuild withField90(long val);
+        IBuild withField91(boolean val);
+        IBuild withField92(java.lang.String val);
+        IBuild withField93(int val);
+        IBuild withField94(long val);
+        IBuild withField95(boolean val);
+        IBuild withField96(java.lang.String val);
+        IBuild withField97(int val);
+        IBuild withField98(long val);
+        IBuild withField99(boolean val);
+        IBuild withField100(java.lang.String val);
+        IBuild withField101(int val);
+        IBuild withField102(long val);
+        IBuild withField103(boolean val);
+        IBuild withField104(java.lang.String val);
+        IBuild withField105(int val);
+        IBuild withField106(long val);
+        IBuild withField107(boolean val);
+        IBuild withField108(java.lang.String val);
+        IBuild withField109(int val);
+        IBuild withField110(long val);
+        IBuild withField111(boolean val);
+        IBuild withField112(java.lang.String val);
+        IBuild withField113(int val);
+        IBuild withField114(long val);
+        IBuild withField115(boolean val);
+        IBuild withField116(java.lang.String val);
+        IBuild withField117(int val);
+        IBuild withField118(long val);
+        IBuild withField119(boolean val);
+        IBuild withField120(java.lang.String val);
+        IBuild withField121(int val);
+        IBuild withField122(long val);
+        IBuild withField123(boolean val);
+        IBuild withField124(java.lang.String val);
+        IBuild withField125(int val);
+        IBuild withField126(long val);
+        IBuild withField127(boolean val);
+        IBuild withField128(java.lang.String val);
+        IBuild withField129(int val);
+        IBuild withField130(long val);
+        IBuild withField131(boolean val);
+        IBuild withField132(java.lang.String val);
+        IBuild withField133(int val);
+        IBuild withField134(long val);
+        IBuild withField135(boolean val);
+        IBuild withField136(java.lang.String val);
+        IBuild withField137(int val);
+        IBuild withField138(long val);
+        IBuild withField139(boolean val);
+        IBuild withField140(java.lang.String val);
+        IBuild withField141(int val);
+        IBuild withField142(long val);
+        IBuild withField143(boolean val);
+        IBuild withField144(java.lang.String val);
+        IBuild withField145(int val);
+        IBuild withField146(long val);
+        IBuild withField147(boolean val);
+        IBuild withField148(java.lang.String val);
+        IBuild withField149(int val);
+        IBuild withField150(long val);
+        IBuild withField151(boolean val);
+        IBuild withField152(java.lang.String val);
+        IBuild withField153(int val);
+        IBuild withField154(long val);
+        IBuild withField155(boolean val);
+        IBuild withField156(java.lang.String val);
+        IBuild withField157(int val);
+        IBuild withField158(long val);
+        IBuild withField159(boolean val);
+        IBuild withField160(java.lang.String val);
+        IBuild withField161(int val);
+        IBuild withField162(long val);
+        IBuild withField163(boolean val);
+        IBuild withField164(java.lang.String val);
+        IBuild withField165(int val);
+        IBuild withField166(long val);
+        IBuild withField167(boolean val);
+        IBuild withField168(java.lang.String val);
+        IBuild withField169(int val);
+        IBuild withField170(long val);
+        IBuild withField171(boolean val);
+        IBuild withField172(java.lang.String val);
+        IBuild withField173(int val);
+        IBuild withField174(long val);
+        IBuild withField175(boolean val);
+        IBuild withField176(java.lang.String val);
+        IBuild withField177(int val);
+        IBuild withField178(long val);
+        IBuild withField179(boolean val);
+        IBuild withField180(java.lang.String val);
+        IBuild withField181(int val);
+        IBuild withField182(long val);
+        IBuild withField183(boolean val);
+        IBuild withField184(java.lang.String val);
+        IBuild withField185(int val);
+        IBuild withField186(long val);
+        IBuild withField187(boolean val);
+        IBuild withField188(java.lang.String val);
+        IBuild withField189(int val);
+        IBuild withField190(long val);
+        IBuild withField191(boolean val);
+        IBuild withField192(java.lang.String val);
+        IBuild withField193(int val);
+        IBuild withField194(long val);
+        IBuild withField195(boolean val);
+        IBuild withField196(java.lang.String val);
+        IBuild withField197(int val);
+        IBuild withField198(long val);
+        IBuild withField199(boolean val);
+        Wide build();
+    }
+
+    public static final class Builder implements IBuild {
+        private java.lang.String field0;
+        private int field1;
+        private long field2;
+        private boolean field3;
+        private java.lang.String field4;
+        private int field5;
+        private long field6;
+        private boolean field7;
+        private java.lang.String field8;
+        private int field9;
+        private long field10;
+        private boolean field11;
+        private java.lang.String field12;
+        private int field13;
+        private long field14;
+        private boolean field15;
+        private java.lang.String field16;
+        private int field17;
+        private long field18;
+        private boolean field19;
+        private java.lang.String field20;
+        private int field21;
+        private long field22;
+        private boolean field23;
+        private java.lang.String field24;
+        private int field25;
+        private long field26;
+        private boolean field27;
+        private java.lang.String field28;
+        private int field29;
+        private long field30;
+        private boolean field31;
+        private java.lang.String field32;
+        private int field33;
+        private long field34;
+        private boolean field35;
+        private java.lang.String field36;
+        private int field37;
+        private long field38;
+        private boolean field39;
+        private java.lang.String field40;
+        private int field41;
+        private long field42;
+        private boolean field43;
+        private java.lang.String field44;
+        private int field45;
+        private long field46;
+        private boolean field47;
+        private java.lang.String field48;
+        private int field49;
+        private long field50;
+        private boolean field51;
+        private java.lang.String field52;
+        private int field53;
+        private long field54;
+        private boolean field55;
+        private java.lang.String field56;
+        private int field57;
+        private long field58;
+        private boolean field59;
+        private java.lang.String field60;
+        private int field61;
+        private long field62;
+        private boolean field63;
+        private java.lang.String field64;
+        private int field65;
+        private long field66;
+        private boolean field67;
+        private java.lang.String field68;
+        private int field69;
+        private long field70;
+        private boolean field71;
+        private java.lang.String field72;
+        private int field73;
+        private long field74;
+        private boolean field75;
+        private java.lang.String field76;
+        private int field77;
+        private long field78;
+        private boolean field79;
+        private java.lang.String field80;
+        private int field81;
+        private long field82;
+        private boolean field83;
+        private java.lang.String field84;
+        private int field85;
+        private long field86;
+        private boolean field87;
+        private java.lang.String field88;
+        private int field89;
+        private long field90;
+        private boolean field91;
+        private java.lang.String field92;
+        private int field93;
+        private long field94;
+        private boolean field95;
+        private java.lang.String field96;
+        private int field97;
+        private long field98;
+        private boolean field99;
+        private java.lang.String field100;
+        private int field101;
+        private long field102;
+        private boolean field103;
+        private java.lang.String field104;
+        private int field105;
+        private long field106;
+        private boolean field107;
+        private java.lang.String field108;
+        private int field109;
+        private long field110;
+        private boolean field111;
+        private java.lang.String field112;
+        private int field113;
+        private long field114;
+        private boolean field115;
+        private java.lang.String field116;
+        private int field117;
+        private long field118;
+        private boolean field119;
+        private java.lang.String field120;
+        private int field121;
+        private long field122;
+        private boolean field123;
+        private java.lang.String field124;
+        private int field125;
+        private long field126;
+        private boolean field127;
+        private java.lang.String field128;
+        private int field129;
+        private long field130;
+        private boolean field131;
+        private java.lang.String field132;
+        private int field133;
+        private long field134;
+        private boolean field135;
+        private java.lang.String field136;
+        private int field137;
+        private long field138;
+        private boolean field139;
+        private java.lang.String field140;
+        private int field141;
+        private long field142;
+        private boolean field143;
+        private java.lang.String field144;
+        private int field145;
+        private long field146;
+        private boolean field147;
+        private java.lang.String field148;
+        private int field149;
+        private long field150;
+        private boolean field151;
+        private java.lang.String field152;
+        private int field153;
+        private long field154;
+        private boolean field155;
+        private java.lang.String field156;
+        private int field157;
+        private long field158;
+        private boolean field159;
+        private java.lang.String field160;
+        private int field161;
+        private long field162;
+        private boolean field163;
+        private java.lang.String field164;
+        private int field165;
+        private long field166;
+        private boolean field167;
+        private java.lang.String field168;
+        private int field169;
+        private long field170;
+        private boolean field171;
+        private java.lang.String field172;
+        private int field173;
+        private long field174;
+        private boolean field175;
+        private java.lang.String field176;
+        private int field177;
+        private long field178;
+        private boolean field179;
+        private java.lang.String field180;
+        private int field181;
+        private long field182;
+        private boolean field183;
+        private java.lang.String field184;
+        private int field185;
+        private long field186;
+        private boolean field187;
+        private java.lang.String field188;
+        private int field189;
+        private long field190;
+        private boolean field191;
+        private java.lang.String field192;
+        private int field193;
+        private long field194;
+        private boolean field195;
+        private java.lang.String field196;
+        private int field197;
+        private long field198;
+        private boolean field199;
+
+        private Builder() {
+        }
+
+        @java.lang.Override
+        public IBuild withField0(java.lang.String val) {
+            field0 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField1(int val) {
+            field1 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField2(long val) {
+            field2 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField3(boolean val) {
+            field3 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField4(java.lang.String val) {
+            field4 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField5(int val) {
+            field5 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField6(long val) {
+            field6 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField7(boolean val) {
+            field7 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField8(java.lang.String val) {
+            field8 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField9(int val) {
+            field9 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField10(long val) {
+            field10 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField11(boolean val) {
+            field11 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField12(java.lang.String val) {
+            field12 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField13(int val) {
+            field13 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField14(long val) {
+            field14 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField15(boolean val) {
+            field15 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField16(java.lang.String val) {
+            field16 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField17(int val) {
+            field17 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField18(long val) {
+            field18 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField19(boolean val) {
+            field19 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField20(java.lang.String val) {
+            field20 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField21(int val) {
+            field21 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField22(long val) {
+            field22 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField23(boolean val) {
+            field23 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField24(java.lang.String val) {
+            field24 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField25(int val) {
+            field25 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField26(long val) {
+            field26 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField27(boolean val) {
+            field27 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField28(java.lang.String val) {
+            field28 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField29(int val) {
+            field29 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField30(long val) {
+            field30 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField31(boolean val) {
+            field31 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField32(java.lang.String val) {
+            field32 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField33(int val) {
+            field33 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField34(long val) {
+            field34 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField35(boolean val) {
+            field35 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField36(java.lang.String val) {
+            field36 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField37(int val) {
+            field37 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField38(long val) {
+            field38 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField39(boolean val) {
+            field39 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField40(java.lang.String val) {
+            field40 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField41(int val) {
+            field41 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField42(long val) {
+            field42 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField43(boolean val) {
+            field43 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField44(java.lang.String val) {
+            field44 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField45(int val) {
+            field45 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField46(long val) {
+            field46 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField47(boolean val) {
+            field47 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField48(java.lang.String val) {
+            field48 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField49(int val) {
+            field49 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField50(long val) {
+            field50 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField51(boolean val) {
+            field51 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField52(java.lang.String val) {
+            field52 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField53(int val) {
+            field53 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField54(long val) {
+            field54 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField55(boolean val) {
+            field55 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField56(java.lang.String val) {
+            field56 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField57(int val) {
+            field57 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField58(long val) {
+            field58 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField59(boolean val) {
+            field59 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField60(java.lang.String val) {
+            field60 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField61(int val) {
+            field61 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField62(long val) {
+            field62 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField63(boolean val) {
+            field63 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField64(java.lang.String val) {
+            field64 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField65(int val) {
+            field65 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField66(long val) {
+            field66 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField67(boolean val) {
+            field67 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField68(java.lang.String val) {
+            field68 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField69(int val) {
+            field69 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField70(long val) {
+            field70 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField71(boolean val) {
+            field71 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField72(java.lang.String val) {
+            field72 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField73(int val) {
+            field73 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField74(long val) {
+            field74 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField75(boolean val) {
+            field75 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField76(java.lang.String val) {
+            field76 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField77(int val) {
+            field77 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField78(long val) {
+            field78 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField79(boolean val) {
+            field79 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField80(java.lang.String val) {
+            field80 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField81(int val) {
+            field81 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField82(long val) {
+            field82 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField83(boolean val) {
+            field83 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField84(java.lang.String val) {
+            field84 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField85(int val) {
+            field85 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField86(long val) {
+            field86 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField87(boolean val) {
+            field87 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField88(java.lang.String val) {
+            field88 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField89(int val) {
+            field89 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField90(long val) {
+            field90 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField91(boolean val) {
+            field91 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField92(java.lang.String val) {
+            field92 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField93(int val) {
+            field93 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField94(long val) {
+            field94 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField95(boolean val) {
+            field95 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField96(java.lang.String val) {
+            field96 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField97(int val) {
+            field97 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField98(long val) {
+            field98 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField99(boolean val) {
+            field99 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField100(java.lang.String val) {
+            field100 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField101(int val) {
+            field101 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField102(long val) {
+            field102 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField103(boolean val) {
+            field103 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField104(java.lang.String val) {
+            field104 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField105(int val) {
+            field105 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField106(long val) {
+            field106 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField107(boolean val) {
+            field107 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField108(java.lang.String val) {
+            field108 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField109(int val) {
+            field109 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField110(long val) {
+            field110 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField111(boolean val) {
+            field111 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField112(java.lang.String val) {
+            field112 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField113(int val) {
+            field113 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField114(long val) {
+            field114 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField115(boolean val) {
+            field115 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField116(java.lang.String val) {
+            field116 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField117(int val) {
+            field117 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField118(long val) {
+            field118 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField119(boolean val) {
+            field119 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField120(java.lang.String val) {
+            field120 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField121(int val) {
+            field121 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField122(long val) {
+            field122 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField123(boolean val) {
+            field123 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField124(java.lang.String val) {
+            field124 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField125(int val) {
+            field125 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField126(long val) {
+            field126 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField127(boolean val) {
+            field127 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField128(java.lang.String val) {
+            field128 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField129(int val) {
+            field129 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField130(long val) {
+            field130 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField131(boolean val) {
+            field131 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField132(java.lang.String val) {
+            field132 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField133(int val) {
+            field133 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField134(long val) {
+            field134 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField135(boolean val) {
+            field135 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField136(java.lang.String val) {
+            field136 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField137(int val) {
+            field137 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField138(long val) {
+            field138 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField139(boolean val) {
+            field139 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField140(java.lang.String val) {
+            field140 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField141(int val) {
+            field141 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField142(long val) {
+            field142 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField143(boolean val) {
+            field143 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField144(java.lang.String val) {
+            field144 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField145(int val) {
+            field145 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField146(long val) {
+            field146 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField147(boolean val) {
+            field147 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField148(java.lang.String val) {
+            field148 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField149(int val) {
+            field149 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField150(long val) {
+            field150 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField151(boolean val) {
+            field151 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField152(java.lang.String val) {
+            field152 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField153(int val) {
+            field153 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField154(long val) {
+            field154 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField155(boolean val) {
+            field155 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField156(java.lang.String val) {
+            field156 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField157(int val) {
+            field157 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField158(long val) {
+            field158 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField159(boolean val) {
+            field159 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField160(java.lang.String val) {
+            field160 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField161(int val) {
+            field161 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField162(long val) {
+            field162 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField163(boolean val) {
+            field163 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField164(java.lang.String val) {
+            field164 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField165(int val) {
+            field165 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField166(long val) {
+            field166 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField167(boolean val) {
+            field167 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField168(java.lang.String val) {
+            field168 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField169(int val) {
+            field169 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField170(long val) {
+            field170 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField171(boolean val) {
+            field171 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField172(java.lang.String val) {
+            field172 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField173(int val) {
+            field173 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField174(long val) {
+            field174 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField175(boolean val) {
+            field175 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField176(java.lang.String val) {
+            field176 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField177(int val) {
+            field177 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField178(long val) {
+            field178 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField179(boolean val) {
+            field179 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField180(java.lang.String val) {
+            field180 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField181(int val) {
+            field181 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField182(long val) {
+            field182 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField183(boolean val) {
+            field183 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField184(java.lang.String val) {
+            field184 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField185(int val) {
+            field185 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField186(long val) {
+            field186 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField187(boolean val) {
+            field187 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField188(java.lang.String val) {
+            field188 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField189(int val) {
+            field189 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField190(long val) {
+            field190 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField191(boolean val) {
+            field191 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField192(java.lang.String val) {
+            field192 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField193(int val) {
+            field193 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField194(long val) {
+            field194 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField195(boolean val) {
+            field195 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField196(java.lang.String val) {
+            field196 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField197(int val) {
+            field197 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField198(long val) {
+            field198 = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField199(boolean val) {
+            field199 = val;
+            return this;
+        }
+
+        public Wide build() {
+            return new Wide(this);
+        }
+    }
+}
@@ -0,0 +1,2294 @@
+// rendered by BenchmarkSourcesTest of the tests module, don't edit
+package online.devliving.stepbuilder.benchmark;
+
+public class WideSparse {
+    private java.lang.String field0;
+    private int field1;
+    private long field2;
+    private boolean field3;
+    private java.lang.String field4;
+    private int field5;
+    private long field6;
+    private boolean field7;
+    private java.lang.String field8;
+    private int field9;
+    private long field10;
+    private boolean field11;
+    private java.lang.String field12;
+    private int field13;
+    private long field14;
+    private boolean field15;
+    private java.lang.String field16;
+    private int field17;
+    private long field18;
+    private boolean field19;
+    private java.lang.String field20;
+    private int field21;
+    private long field22;
+    private boolean field23;
+    private java.lang.String field24;
+    private int field25;
+    private long field26;
+    private boolean field27;
+    private java.lang.String field28;
+    private int field29;
+    private long field30;
+    private boolean field31;
+    private java.lang.String field32;
+    private int field33;
+    private long field34;
+    private boolean field35;
+    private java.lang.String field36;
+    private int field37;
+    private long field38;
+    private boolean field39;
+    private java.lang.String field40;
+    private int field41;
+    private long field42;
+    private boolean field43;
+    private java.lang.String field44;
+    private int field45;
+    private long field46;
+    private boolean field47;
+    private java.lang.String field48;
+    private int field49;
+    private long field50;
+    private boolean field51;
+    private java.lang.String field52;
+    private int field53;
+    private long field54;
+    private boolean field55;
+    private java.lang.String field56;
+    private int field57;
+    private long field58;
+    private boolean field59;
+    private java.lang.String field60;
+    private int field61;
+    private long field62;
+    private boolean field63;
+    private java.lang.String field64;
+    private int field65;
+    private long field66;
+    private boolean field67;
+    private java.lang.String field68;
+    private int field69;
+    private long field70;
+    private boolean field71;
+    private java.lang.String field72;
+    private int field73;
+    private long field74;
+    private boolean field75;
+    private java.lang.String field76;
+    private int field77;
+    private long field78;
+    private boolean field79;
+    private java.lang.String field80;
+    private int field81;
+    private long field82;
+    private boolean field83;
+    private java.lang.String field84;
+    private int field85;
+    private long field86;
+    private boolean field87;
+    private java.lang.String field88;
+    private int field89;
+    private long field90;
+    private boolean field91;
+    private java.lang.String field92;
+    private int field93;
+    private long field94;
+    private boolean field95;
+    private java.lang.String field96;
+    private int field97;
+    private long field98;
+    private boolean field99;
+    private java.lang.String field100;
+    private int field101;
+    private long field102;
+    private boolean field103;
+    private java.lang.String field104;
+    private int field105;
+    private long field106;
+    private boolean field107;
+    private java.lang.String field108;
+    private int field109;
+    private long field110;
+    private boolean field111;
+    private java.lang.String field112;
+    private int field113;
+    private long field114;
+    private boolean field115;
+    private java.lang.String field116;
+    private int field117;
+    private long field118;
+    private boolean field119;
+    private java.lang.String field120;
+    private int field121;
+    private long field122;
+    private boolean field123;
+    private java.lang.String field124;
+    private int field125;
+    private long field126;
+    private boolean field127;
+    private java.lang.String field128;
+    private int field129;
+    private long field130;
+    private boolean field131;
+    private java.lang.String field132;
+    private int field133;
+    private long field134;
+    private boolean field135;
+    private java.lang.String field136;
+    private int field137;
+    private long field138;
+    private boolean field139;
+    private java.lang.String field140;
+    private int field141;
+    private long field142;
+    private boolean field143;
+    private java.lang.String field144;
+    private int field145;
+    private long field146;
+    private boolean field147;
+    private java.lang.String field148;
+    private int field149;
+    private long field150;
+    private boolean field151;
+    private java.lang.String field152;
+    private int field153;
+    private long field154;
+    private boolean field155;
+    private java.lang.String field156;
+    private int field157;
+    private long field158;
+    private boolean field159;
+    private java.lang.String field160;
+    private int field161;
+    private long field162;
+    private boolean field163;
+    private java.lang.String field164;
+    private int field165;
+    private long field166;
+    private boolean field167;
+    private java.lang.String field168;
+    private int field169;
+    private long field170;
+    private boolean field171;
+    private java.lang.String field172;
+    private int field173;
+    private long field174;
+    private boolean field175;
+    private java.lang.String field176;
+    private int field177;
+    private long field178;
+    private boolean field179;
+    private java.lang.String field180;
+    private int field181;
+    private long field182;
+    private boolean field183;
+    private java.lang.String field184;
+    private int field185;
+    private long field186;
+    private boolean field187;
+    private java.lang.String field188;
+    private int field189;
+    private long field190;
+    private boolean field191;
+    private java.lang.String field192;
+    private int field193;
+    private long field194;
+    private boolean field195;
+    private java.lang.String field196;
+    private int field197;
+    private long field198;
+    private boolean field199;
+
+    private WideSparse(Builder builder) {
+        {
+            int position = 0;
+            for (int word = 0; word < builder.sparseReferencesPresent.length; word++) {
+                for (long bits = builder.sparseReferencesPresent[word]; bits != 0; bits &= bits - 1) {
+                    final java.lang.Object value = builder.sparseReferences[position++];
+                    switch (word << 6 | java.lang.Long.numberOfTrailingZeros(bits)) {
+                        case 0:
+                        this.field0 = (java.lang.String) value;
+                        break;
+                        case 1:
+                        this.field4 = (java.lang.String) value;
+                        break;
+                        case 2:
+                        this.field8 = (java.lang.String) value;
+                        break;
+                        case 3:
+                        this.field12 = (java.lang.String) value;
+                        break;
+                        case 4:
+                        this.field16 = (java.lang.String) value;
+                        break;
+                        case 5:
+                        this.field20 = (java.lang.String) value;
+                        break;
+                        case 6:
+                        this.field24 = (java.lang.String) value;
+                        break;
+                        case 7:
+                        this.field28 = (java.lang.String) value;
+                        break;
+                        case 8:
+                        this.field32 = (java.lang.String) value;
+                        break;
+                        case 9:
+                        this.field36 = (java.lang.String) value;
+                        break;
+                        case 10:
+                        this.field40 = (java.lang.String) value;
+                        break;
+                        case 11:
+                        this.field44 = (java.lang.String) value;
+                        break;
+                        case 12:
+                        this.field48 = (java.lang.String) value;
+                        break;
+                        case 13:
+                        this.field52 = (java.lang.String) value;
+                        break;
+                        case 14:
+                        this.field56 = (java.lang.String) value;
+                        break;
+                        case 15:
+                        this.field60 = (java.lang.String) value;
+                        break;
+                        case 16:
+                        this.field64 = (java.lang.String) value;
+                        break;
+                        case 17:
+                        this.field68 = (java.lang.String) value;
+                        break;
+                        case 18:
+                        this.field72 = (java.lang.String) value;
+                        break;
+                        case 19:
+                        this.field76 = (java.lang.String) value;
+                        break;
+                        case 20:
+                        this.field80 = (java.lang.String) value;
+                        break;
+                        case 21:
+                        this.field84 = (java.lang.String) value;
+                        break;
+                        case 22:
+                        this.field88 = (java.lang.String) value;
+                        break;
+                        case 23:
+                        this.field92 = (java.lang.String) value;
+                        break;
+                        case 24:
+                        this.field96 = (java.lang.String) value;
+                        break;
+                        case 25:
+                        this.field100 = (java.lang.String) value;
+                        break;
+                        case 26:
+                        this.field104 = (java.lang.String) value;
+                        break;
+                        case 27:
+                        this.field108 = (java.lang.String) value;
+                        break;
+                        case 28:
+                        this.field112 = (java.lang.String) value;
+                        break;
+                        case 29:
+                        this.field116 = (java.lang.String) value;
+                        break;
+                        case 30:
+                        this.field120 = (java.lang.String) value;
+                        break;
+                        case 31:
+                        this.field124 = (java.lang.String) value;
+                        break;
+                        case 32:
+                        this.field128 = (java.lang.String) value;
+                        break;
+                        case 33:
+                        this.field132 = (java.lang.String) value;
+                        break;
+                        case 34:
+                        this.field136 = (java.lang.String) value;
+                        break;
+                        case 35:
+                        this.field140 = (java.lang.String) value;
+                        break;
+                        case 36:
+                        this.field144 = (java.lang.String) value;
+                        break;
+                        case 37:
+                        this.field148 = (java.lang.String) value;
+                        break;
+                        case 38:
+                        this.field152 = (java.lang.String) value;
+                        break;
+                        case 39:
+                        this.field156 = (java.lang.String) value;
+                        break;
+                        case 40:
+                        this.field160 = (java.lang.String) value;
+                        break;
+                        case 41:
+                        this.field164 = (java.lang.String) value;
+                        break;
+                        case 42:
+                        this.field168 = (java.lang.String) value;
+                        break;
+                        case 43:
+                        this.field172 = (java.lang.String) value;
+                        break;
+                        case 44:
+                        this.field176 = (java.lang.String) value;
+                        break;
+                        case 45:
+                        this.field180 = (java.lang.String) value;
+                        break;
+                        case 46:
+                        this.field184 = (java.lang.String) value;
+                        break;
+                        case 47:
+                        this.field188 = (java.lang.String) value;
+                        break;
+                        case 48:
+                        this.field192 = (java.lang.String) value;
+                        break;
+                        case 49:
+                        this.field196 = (java.lang.String) value;
+                        break;
+                    }
+                }
+            }
+        }
+        {
+            int position = 0;
+            for (int word = 0; word < builder.sparsePrimitivesPresent.length; word++) {
+                for (long bits = builder.sparsePrimitivesPresent[word]; bits != 0; bits &= bits - 1) {
+                    final long value = builder.sparsePrimitives[position++];
+                    switch (word << 6 | java.lang.Long.numberOfTrailingZeros(bits)) {
+                        case 0:
+                        this.field1 = (int) value;
+                        break;
+                        case 1:
+                        this.field2 = value;
+                        break;
+                        case 2:
+                        this.field3 = value != 0;
+                        break;
+                        case 3:
+                        this.field5 = (int) value;
+                        break;
+                        case 4:
+                        this.field6 = value;
+                        break;
+                        case 5:
+                        this.field7 = value != 0;
+                        break;
+                        case 6:
+                        this.field9 = (int) value;
+                        break;
+                        case 7:
+                        this.field10 = value;
+                        break;
+                        case 8:
+                        this.field11 = value != 0;
+                        break;
+                        case 9:
+                        this.field13 = (int) value;
+                        break;
+                        case 10:
+                        this.field14 = value;
+                        break;
+                        case 11:
+                        this.field15 = value != 0;
+                        break;
+                        case 12:
+                        this.field17 = (int) value;
+                        break;
+                        case 13:
+                        this.field18 = value;
+                        break;
+                        case 14:
+                        this.field19 = value != 0;
+                        break;
+                        case 15:
+                        this.field21 = (int) value;
+                        break;
+                        case 16:
+                        this.field22 = value;
+                        break;
+                        case 17:
+                        this.field23 = value != 0;
+                        break;
+                        case 18:
+                        this.field25 = (int) value;
+                        break;
+                        case 19:
+                        this.field26 = value;
+                        break;
+                        case 20:
+                        this.field27 = value != 0;
+                        break;
+                        case 21:
+                        this.field29 = (int) value;
+                        break;
+                        case 22:
+                        this.field30 = value;
+                        break;
+                        case 23:
+                        this.field31 = value != 0;
+                        break;
+                        case 24:
+                        this.field33 = (int) value;
+                        break;
+                        case 25:
+                        this.field34 = value;
+                        break;
+                        case 26:
+                        this.field35 = value != 0;
+                        break;
+                        case 27:
+                        this.field37 = (int) value;
+                        break;
+                        case 28:
+                        this.field38 = value;
+                        break;
+                        case 29:
+                        this.field39 = value != 0;
+                        break;
+                        case 30:
+                        this.field41 = (int) value;
+                        break;
+                        case 31:
+                        this.field42 = value;
+                        break;
+                        case 32:
+                        this.field43 = value != 0;
+                        break;
+                        case 33:
+                        this.field45 = (int) value;
+                        break;
+                        case 34:
+                        this.field46 = value;
+                        break;
+                        case 35:
+                        this.field47 = value != 0;
+                        break;
+                        case 36:
+                        this.field49 = (int) value;
+                        break;
+                        case 37:
+                        this.field50 = value;
+                        break;
+                        case 38:
+                        this.field51 = value != 0;
+                        break;
+                        case 39:
+                        this.field53 = (int) value;
+                        break;
+                        case 40:
+                        this.field54 = value;
+                        break;
+                        case 41:
+                        this.field55 = value != 0;
+                        break;
+                        case 42:
+                        this.field57 = (int) value;
+                        break;
+                        case 43:
+                        this.field58 = value;
+                        break;
+                        case 44:
+                        this.field59 = value != 0;
+                        break;
+                        case 45:
+                        this.field61 = (int) value;
+                        break;
+                        case 46:
+                        this.field62 = value;
+                        break;
+                        case 47:
+                        this.field63 = value != 0;
+                        break;
+                        case 48:
+                        this.field65 = (int) value;
+                        break;
+                        case 49:
+                        this.field66 = value;
+                        break;
+                        case 50:
+                        this.field67 = value != 0;
+                        break;
+                        case 51:
+                        this.field69 = (int) value;
+                        break;
+                        case 52:
+                        this.field70 = value;
+                        break;
+                        case 53:
+                        this.field71 = value != 0;
+                        break;
+                        case 54:
+                        this.field73 = (int) value;
+                        break;
+                        case 55:
+                        this.field74 = value;
+                        break;
+                        case 56:
+                        this.field75 = value != 0;
+                        break;
+                        case 57:
+                        this.field77 = (int) value;
+                        break;
+                        case 58:
+                        this.field78 = value;
+                        break;
+                        case 59:
+                        this.field79 = value != 0;
+                        break;
+                        case 60:
+                        this.field81 = (int) value;
+                        break;
+                        case 61:
+                        this.field82 = value;
+                        break;
+                        case 62:
+                        this.field83 = value != 0;
+                        break;
+                        case 63:
+                        this.field85 = (int) value;
+                        break;
+                        case 64:
+                        this.field86 = value;
+                        break;
+                        case 65:
+                        this.field87 = value != 0;
+                        break;
+                        case 66:
+                        this.field89 = (int) value;
+                        break;
+                        case 67:
+                        this.field90 = value;
+                        break;
+                        case 68:
+                        this.field91 = value != 0;
+                        break;
+                        case 69:
+                        this.field93 = (int) value;
+                        break;
+                        case 70:
+                        this.field94 = value;
+                        break;
+                        case 71:
+                        this.field95 = value != 0;
+                        break;
+                        case 72:
+                        this.field97 = (int) value;
+                        break;
+                        case 73:
+                        this.field98 = value;
+                        break;
+                        case 74:
+                        this.field99 = value != 0;
+                        break;
+                        case 75:
+                        this.field101 = (int) value;
+                        break;
+                        case 76:
+                        this.field102 = value;
+                        break;
+                        case 77:
+                        this.field103 = value != 0;
+                        break;
+                        case 78:
+                        this.field105 = (int) value;
+                        break;
+                        case 79:
+                        this.field106 = value;
+                        break;
+                        case 80:
+                        this.field107 = value != 0;
+                        break;
+                        case 81:
+                        this.field109 = (int) value;
+                        break;
+                        case 82:
+                        this.field110 = value;
+                        break;
+                        case 83:
+                        this.field111 = value != 0;
+                        break;
+                        case 84:
+                        this.field113 = (int) value;
+                        break;
+                        case 85:
+                        this.field114 = value;
+                        break;
+                        case 86:
+                        this.field115 = value != 0;
+                        break;
+                        case 87:
+                        this.field117 = (int) value;
+                        break;
+                        case 88:
+                        this.field118 = value;
+                        break;
+                        case 89:
+                        this.field119 = value != 0;
+                        break;
+                        case 90:
+                        this.field121 = (int) value;
+                        break;
+                        case 91:
+                        this.field122 = value;
+                        break;
+                        case 92:
+                        this.field123 = value != 0;
+                        break;
+                        case 93:
+                        this.field125 = (int) value;
+                        break;
+                        case 94:
+                        this.field126 = value;
+                        break;
+                        case 95:
+                        this.field127 = value != 0;
+                        break;
+                        case 96:
+                        this.field129 = (int) value;
+                        break;
+                        case 97:
+                        this.field130 = value;
+                        break;
+                        case 98:
+                        this.field131 = value != 0;
+                        break;
+                        case 99:
+                        this.field133 = (int) value;
+                        break;
+                        case 100:
+                        this.field134 = value;
+                        break;
+                        case 101:
+                        this.field135 = value != 0;
+                        break;
+                        case 102:
+                        this.field137 = (int) value;
+                        break;
+                        case 103:
+                        this.field138 = value;
+                        break;
+                        case 104:
+                        this.field139 = value != 0;
+                        break;
+                        case 105:
+                        this.field141 = (int) value;
+                        break;
+                        case 106:
+                        this.field142 = value;
+                        break;
+                        case 107:
+                        this.field143 = value != 0;
+                        break;
+                        case 108:
+                        this.field145 = (int) value;
+                        break;
+                        case 109:
+                        this.field146 = value;
+                        break;
+                        case 110:
+                        this.field147 = value != 0;
+                        break;
+                        case 111:
+                        this.field149 = (int) value;
+                        break;
+                        case 112:
+                        this.field150 = value;
+                        break;
+                        case 113:
+                        this.field151 = value != 0;
+                        break;
+                        case 114:
+                        this.field153 = (int) value;
+                        break;
+                        case 115:
+                        this.field154 = value;
+                        break;
+                        case 116:
+                        this.field155 = value != 0;
+                        break;
+                        case 117:
+                        this.field157 = (int) value;
+                        break;
+                        case 118:
+                        this.field158 = value;
+                        break;
+                        case 119:
+                        this.field159 = value != 0;
+                        break;
+                        case 120:
+                        this.field161 = (int) value;
+                        break;
+                        case 121:
+                        this.field162 = value;
+                        break;
+                        case 122:
+                        this.field163 = value != 0;
+                        break;
+                        case 123:
+                        this.field165 = (int) value;
+                        break;
+                        case 124:
+                        this.field166 = value;
+                        break;
+                        case 125:
+                        this.field167 = value != 0;
+                        break;
+                        case 126:
+                        this.field169 = (int) value;
+                        break;
+                        case 127:
+                        this.field170 = value;
+                        break;
+                        case 128:
+                        this.field171 = value != 0;
+                        break;
+                        case 129:
+                        this.field173 = (int) value;
+                        break;
+                        case 130:
+                        this.field174 = value;
+                        break;
+                        case 131:
+                        this.field175 = value != 0;
+                        break;
+                        case 132:
+                        this.field177 = (int) value;
+                        break;
+                        case 133:
+                        this.field178 = value;
+                        break;
+                        case 134:
+                        this.field179 = value != 0;
+                        break;
+                        case 135:
+                        this.field181 = (int) value;
+                        break;
+                        case 136:
+                        this.field182 = value;
+                        break;
+                        case 137:
+                        this.field183 = value != 0;
+                        break;
+                        case 138:
+                        this.field185 = (int) value;
+                        break;
+                        case 139:
+                        this.field186 = value;
+                        break;
+                        case 140:
+                        this.field187 = value != 0;
+                        break;
+                        case 141:
+                        this.field189 = (int) value;
+                        break;
+                        case 142:
+                        this.field190 = value;
+                        break;
+                        case 143:
+                        this.field191 = value != 0;
+                        break;
+                        case 144:
+                        this.field193 = (int) value;
+                        break;
+                        case 145:
+                        this.field194 = value;
+                        break;
+                        case 146:
+                        this.field195 = value != 0;
+                        break;
+                        case 147:
+                        this.field197 = (int) value;
+                        break;
+                        case 148:
+                        this.field198 = value;
+                        break;
+                        case 149:
+                        this.field199 = value != 0;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    public static IBuild builder() {
+        return new Builder();
+    }
+
+    interface IBuild {
+        IBuild withField0(java.lang.String val);
+        IBuild withField1(int val);
+        IBuild withField2(long val);
+        IBuild withField3(boolean val);
+        IBuild withField4(java.lang.String val);
+        IBuild withField5(int val);
+        IBuild withField6(long val);
+        IBuild withField7(boolean val);
+        IBuild withField8(java.lang.String val);
+        IBuild withField9(int val);
+        IBuild withField10(long val);
+        IBuild withField11(boolean val);
+        IBuild withField12(java.lang.String val);
+        IBuild withField13(int val);
+        IBuild withField14(long val);
+        IBuild withField15(boolean val);
+        IBuild withField16(java.lang.String val);
+        IBuild withField17(int val);
+        IBuild withField18(long val);
+        IBuild withField19(boolean val);
+        IBuild withField20(java.lang.String val);
+        IBuild withField21(int val);
+        IBuild withField22(long val);
+        IBuild withField23(boolean val);
+        IBuild withField24(java.lang.String val);
+        IBuild withField25(int val);
+        IBuild withField26(long val);
+        IBuild withField27(boolean val);
+        IBuild withField28(java.lang.String val);
+        IBuild withField29(int val);
+        IBuild withField30(long val);
+        IBuild withField31(boolean val);
+        IBuild withField32(java.lang.String val);
+        IBuild withField33(int val);
+        IBuild withField34(long val);
+        IBuild withField35(boolean val);
+        IBuild withField36(java.lang.String val);
+        IBuild withField37(int val);
+        IBuild withField38(long val);
+        IBuild withField39(boolean val);
+        IBuild withField40(java.lang.String val);
+        IBuild withField41(int val);
+        IBuild withField42(long val);
+        IBuild withField43(boolean val);
+        IBuild withField44(java.lang.String val);
+        IBuild withField45(int val);
+        IBuild withField46(long val);
+        IBuild withField47(boolean val);
+        IBuild withField48(java.lang.String val);
+        IBuild withField49(int val);
+        IBuild withField50(long val);
+        IBuild withField51(boolean val);
+        IBuild withField52(java.lang.String val);
+        IBuild withField53(int val);
+        IBuild withField54(long val);
+        IBuild withField55(boolean val);
+        IBuild withField56(java.lang.String val);
+        IBuild withField57(int val);
+        IBuild withField58(long val);
+        IBuild withField59(boolean val);
+        IBuild withField60(java.lang.String val);
+        IBuild withField61(int val);
+        IBuild withField62(long val);
+        IBuild withField63(boolean val);
+        IBuild withField64(java.lang.String val);
+        IBuild withField65(int val);
+        IBuild withField66(long val);
+        IBuild withField67(boolean val);
+        IBuild withField68(java.lang.String val);
+        IBuild withField69(int val);
+        IBuild withField70(long val);
+        IBuild withField71(boolean val);
+        IBuild withField72(java.lang.String val);
+        IBuild withField73(int val);
+        IBuild withField74(long val);
+        IBuild withField75(boolean val);
+        IBuild withField76(java.lang.String val);
+        IBuild withField77(int val);
+        IBuild withField78(long val);
+        IBuild withField79(boolean val);
+        IBuild withField80(java.lang.String val);
+        IBuild withField81(int val);
+        IBuild withField82(long val);
+        IBuild withField83(boolean val);
+        IBuild withField84(java.lang.String val);
+        IBuild withField85(int val);
+        IBuild withField86(long val);
+        IBuild withField87(boolean val);
+        IBuild withField88(java.lang.String val);
+        IBuild withField89(int val);
+        IBuild withField90(long val);
+        IBuild withField91(boolean val);
+        IBuild withField92(java.lang.String val);
+        IBuild withField93(int val);
+        IBuild withField94(long val);
+        IBuild withField95(boolean val);
+        IBuild withField96(java.lang.String val);
+        IBuild withField97(int val);
+        IBuild withField98(long val);
+        IBuild withField99(boolean val);
+        IBuild withField100(java.lang.String val);
+        IBuild withField101(int val);
+        IBuild withField102(long val);
+        IBuild withField103(boolean val);
+        IBuild withField104(java.lang.String val);
+        IBuild withField105(int val);
+        IBuild withField106(long val);
+        IBuild withField107(boolean val);
+        IBuild withField108(java.lang.String val);
+        IBuild withField109(int val);
+        IBuild withField110(long val);
+        IBuild withField111(boolean val);
+        IBuild withField112(java.lang.String val);
+        IBuild withField113(int val);
+        IBuild withField114(long val);
+        IBuild withField115(boolean val);
+        IBuild withField116(java.lang.String val);
+        IBuild withField117(int val);
+        IBuild withField118(long val);
+        IBuild withField119(boolean val);
+        IBuild withField120(java.lang.String val);
+        IBuild withField121(int val);
+        IBuild withField122(long val);
+        IBuild withField123(boolean val);
+        IBuild withField124(java.lang.String val);
+        IBuild withField125(int val);
+        IBuild withField126(long val);
+        IBuild withField127(boolean val);
+        IBuild withField128(java.lang.String val);
+        IBuild withField129(int val);
+        IBuild withField130(long val);
+        IBuild withField131(boolean val);
+        IBuild withField132(java.lang.String val);
+        IBuild withField133(int val);
+        IBuild withField134(long val);
+        IBuild withField135(boolean val);
+        IBuild withField136(java.lang.String val);
+        IBuild withField137(int val);
+        IBuild withField138(long val);
+        IBuild withField139(boolean val);
+        IBuild withField140(java.lang.String val);
+        IBuild withField141(int val);
+        IBuild withField142(long val);
+        IBuild withField143(boolean val);
+        IBuild withField144(java.lang.String val);
+        IBuild withField145(int val);
+        IBuild withField146(long val);
+        IBuild withField147(boolean val);
+        IBuild withField148(java.lang.String val);
+        IBuild withField149(int val);
+        IBuild withField150(long val);
+        IBuild withField151(boolean val);
+        IBuild withField152(java.lang.String val);
+        IBuild withField153(int val);
+        IBuild withField154(long val);
+        IBuild withField155(boolean val);
+        IBuild withField156(java.lang.String val);
+        IBuild withField157(int val);
+        IBuild withField158(long val);
+        IBuild withField159(boolean val);
+        IBuild withField160(java.lang.String val);
+        IBuild withField161(int val);
+        IBuild withField162(long val);
+        IBuild withField163(boolean val);
+        IBuild withField164(java.lang.String val);
+        IBuild withField165(int val);
+        IBuild withField166(long val);
+        IBuild withField167(boolean val);
+        IBuild withField168(java.lang.String val);
+        IBuild withField169(int val);
+        IBuild withField170(long val);
+        IBuild withField171(boolean val);
+        IBuild withField172(java.lang.String val);
+        IBuild withField173(int val);
+        IBuild withField174(long val);
+        IBuild withField175(boolean val);
+        IBuild withField176(java.lang.String val);
+        IBuild withField177(int val);
+        IBuild withField178(long val);
+        IBuild withField179(boolean val);
+        IBuild withField180(java.lang.String val);
+        IBuild withField181(int val);
+        IBuild withField182(long val);
+        IBuild withField183(boolean val);
+        IBuild withField184(java.lang.String val);
+        IBuild withField185(int val);
+        IBuild withField186(long val);
+        IBuild withField187(boolean val);
+        IBuild withField188(java.lang.String val);
+        IBuild withField189(int val);
+        IBuild withField190(long val);
+        IBuild withField191(boolean val);
+        IBuild withField192(java.lang.String val);
+        IBuild withField193(int val);
+        IBuild withField194(long val);
+        IBuild withField195(boolean val);
+        IBuild withField196(java.lang.String val);
+        IBuild withField197(int val);
+        IBuild withField198(long val);
+        IBuild withField199(boolean val);
+        WideSparse build();
+    }
+
+    public static final class Builder implements IBuild {
+        private final long[] sparseReferencesPresent = new long[1];
+        private java.lang.Object[] sparseReferences;
+        private int sparseReferenceCount;
+        private final long[] sparsePrimitivesPresent = new long[3];
+        private long[] sparsePrimitives;
+        private int sparsePrimitiveCount;
+
+        private Builder() {
+        }
+
+        @java.lang.Override
+        public IBuild withField0(java.lang.String val) {
+            putReference(0, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField1(int val) {
+            putPrimitive(0, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField2(long val) {
+            putPrimitive(1, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField3(boolean val) {
+            putPrimitive(2, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField4(java.lang.String val) {
+            putReference(1, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField5(int val) {
+            putPrimitive(3, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField6(long val) {
+            putPrimitive(4, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField7(boolean val) {
+            putPrimitive(5, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField8(java.lang.String val) {
+            putReference(2, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField9(int val) {
+            putPrimitive(6, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField10(long val) {
+            putPrimitive(7, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField11(boolean val) {
+            putPrimitive(8, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField12(java.lang.String val) {
+            putReference(3, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField13(int val) {
+            putPrimitive(9, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField14(long val) {
+            putPrimitive(10, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField15(boolean val) {
+            putPrimitive(11, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField16(java.lang.String val) {
+            putReference(4, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField17(int val) {
+            putPrimitive(12, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField18(long val) {
+            putPrimitive(13, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField19(boolean val) {
+            putPrimitive(14, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField20(java.lang.String val) {
+            putReference(5, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField21(int val) {
+            putPrimitive(15, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField22(long val) {
+            putPrimitive(16, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField23(boolean val) {
+            putPrimitive(17, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField24(java.lang.String val) {
+            putReference(6, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField25(int val) {
+            putPrimitive(18, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField26(long val) {
+            putPrimitive(19, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField27(boolean val) {
+            putPrimitive(20, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField28(java.lang.String val) {
+            putReference(7, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField29(int val) {
+            putPrimitive(21, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField30(long val) {
+            putPrimitive(22, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField31(boolean val) {
+            putPrimitive(23, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField32(java.lang.String val) {
+            putReference(8, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField33(int val) {
+            putPrimitive(24, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField34(long val) {
+            putPrimitive(25, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField35(boolean val) {
+            putPrimitive(26, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField36(java.lang.String val) {
+            putReference(9, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField37(int val) {
+            putPrimitive(27, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField38(long val) {
+            putPrimitive(28, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField39(boolean val) {
+            putPrimitive(29, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField40(java.lang.String val) {
+            putReference(10, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField41(int val) {
+            putPrimitive(30, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField42(long val) {
+            putPrimitive(31, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField43(boolean val) {
+            putPrimitive(32, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField44(java.lang.String val) {
+            putReference(11, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField45(int val) {
+            putPrimitive(33, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField46(long val) {
+            putPrimitive(34, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField47(boolean val) {
+            putPrimitive(35, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField48(java.lang.String val) {
+            putReference(12, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField49(int val) {
+            putPrimitive(36, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField50(long val) {
+            putPrimitive(37, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField51(boolean val) {
+            putPrimitive(38, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField52(java.lang.String val) {
+            putReference(13, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField53(int val) {
+            putPrimitive(39, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField54(long val) {
+            putPrimitive(40, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField55(boolean val) {
+            putPrimitive(41, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField56(java.lang.String val) {
+            putReference(14, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField57(int val) {
+            putPrimitive(42, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField58(long val) {
+            putPrimitive(43, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField59(boolean val) {
+            putPrimitive(44, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField60(java.lang.String val) {
+            putReference(15, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField61(int val) {
+            putPrimitive(45, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField62(long val) {
+            putPrimitive(46, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField63(boolean val) {
+            putPrimitive(47, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField64(java.lang.String val) {
+            putReference(16, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField65(int val) {
+            putPrimitive(48, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField66(long val) {
+            putPrimitive(49, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField67(boolean val) {
+            putPrimitive(50, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField68(java.lang.String val) {
+            putReference(17, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField69(int val) {
+            putPrimitive(51, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField70(long val) {
+            putPrimitive(52, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField71(boolean val) {
+            putPrimitive(53, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField72(java.lang.String val) {
+            putReference(18, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField73(int val) {
+            putPrimitive(54, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField74(long val) {
+            putPrimitive(55, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField75(boolean val) {
+            putPrimitive(56, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField76(java.lang.String val) {
+            putReference(19, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField77(int val) {
+            putPrimitive(57, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField78(long val) {
+            putPrimitive(58, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField79(boolean val) {
+            putPrimitive(59, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField80(java.lang.String val) {
+            putReference(20, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField81(int val) {
+            putPrimitive(60, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField82(long val) {
+            putPrimitive(61, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField83(boolean val) {
+            putPrimitive(62, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField84(java.lang.String val) {
+            putReference(21, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField85(int val) {
+            putPrimitive(63, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField86(long val) {
+            putPrimitive(64, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField87(boolean val) {
+            putPrimitive(65, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField88(java.lang.String val) {
+            putReference(22, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField89(int val) {
+            putPrimitive(66, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField90(long val) {
+            putPrimitive(67, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField91(boolean val) {
+            putPrimitive(68, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField92(java.lang.String val) {
+            putReference(23, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField93(int val) {
+            putPrimitive(69, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField94(long val) {
+            putPrimitive(70, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField95(boolean val) {
+            putPrimitive(71, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField96(java.lang.String val) {
+            putReference(24, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField97(int val) {
+            putPrimitive(72, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField98(long val) {
+            putPrimitive(73, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField99(boolean val) {
+            putPrimitive(74, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField100(java.lang.String val) {
+            putReference(25, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField101(int val) {
+            putPrimitive(75, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField102(long val) {
+            putPrimitive(76, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField103(boolean val) {
+            putPrimitive(77, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField104(java.lang.String val) {
+            putReference(26, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField105(int val) {
+            putPrimitive(78, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField106(long val) {
+            putPrimitive(79, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField107(boolean val) {
+            putPrimitive(80, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField108(java.lang.String val) {
+            putReference(27, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField109(int val) {
+            putPrimitive(81, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField110(long val) {
+            putPrimitive(82, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField111(boolean val) {
+            putPrimitive(83, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField112(java.lang.String val) {
+            putReference(28, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField113(int val) {
+            putPrimitive(84, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField114(long val) {
+            putPrimitive(85, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField115(boolean val) {
+            putPrimitive(86, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField116(java.lang.String val) {
+            putReference(29, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField117(int val) {
+            putPrimitive(87, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField118(long val) {
+            putPrimitive(88, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField119(boolean val) {
+            putPrimitive(89, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField120(java.lang.String val) {
+            putReference(30, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField121(int val) {
+            putPrimitive(90, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField122(long val) {
+            putPrimitive(91, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField123(boolean val) {
+            putPrimitive(92, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField124(java.lang.String val) {
+            putReference(31, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField125(int val) {
+            putPrimitive(93, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField126(long val) {
+            putPrimitive(94, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField127(boolean val) {
+            putPrimitive(95, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField128(java.lang.String val) {
+            putReference(32, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField129(int val) {
+            putPrimitive(96, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField130(long val) {
+            putPrimitive(97, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField131(boolean val) {
+            putPrimitive(98, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField132(java.lang.String val) {
+            putReference(33, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField133(int val) {
+            putPrimitive(99, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField134(long val) {
+            putPrimitive(100, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField135(boolean val) {
+            putPrimitive(101, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField136(java.lang.String val) {
+            putReference(34, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField137(int val) {
+            putPrimitive(102, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField138(long val) {
+            putPrimitive(103, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField139(boolean val) {
+            putPrimitive(104, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField140(java.lang.String val) {
+            putReference(35, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField141(int val) {
+            putPrimitive(105, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField142(long val) {
+            putPrimitive(106, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField143(boolean val) {
+            putPrimitive(107, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField144(java.lang.String val) {
+            putReference(36, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField145(int val) {
+            putPrimitive(108, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField146(long val) {
+            putPrimitive(109, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField147(boolean val) {
+            putPrimitive(110, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField148(java.lang.String val) {
+            putReference(37, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField149(int val) {
+            putPrimitive(111, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField150(long val) {
+            putPrimitive(112, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField151(boolean val) {
+            putPrimitive(113, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField152(java.lang.String val) {
+            putReference(38, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField153(int val) {
+            putPrimitive(114, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField154(long val) {
+            putPrimitive(115, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField155(boolean val) {
+            putPrimitive(116, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField156(java.lang.String val) {
+            putReference(39, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField157(int val) {
+            putPrimitive(117, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField158(long val) {
+            putPrimitive(118, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField159(boolean val) {
+            putPrimitive(119, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField160(java.lang.String val) {
+            putReference(40, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField161(int val) {
+            putPrimitive(120, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField162(long val) {
+            putPrimitive(121, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField163(boolean val) {
+            putPrimitive(122, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField164(java.lang.String val) {
+            putReference(41, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField165(int val) {
+            putPrimitive(123, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField166(long val) {
+            putPrimitive(124, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField167(boolean val) {
+            putPrimitive(125, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField168(java.lang.String val) {
+            putReference(42, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField169(int val) {
+            putPrimitive(126, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField170(long val) {
+            putPrimitive(127, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField171(boolean val) {
+            putPrimitive(128, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField172(java.lang.String val) {
+            putReference(43, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField173(int val) {
+            putPrimitive(129, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField174(long val) {
+            putPrimitive(130, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField175(boolean val) {
+            putPrimitive(131, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField176(java.lang.String val) {
+            putReference(44, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField177(int val) {
+            putPrimitive(132, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField178(long val) {
+            putPrimitive(133, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField179(boolean val) {
+            putPrimitive(134, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField180(java.lang.String val) {
+            putReference(45, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField181(int val) {
+            putPrimitive(135, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField182(long val) {
+            putPrimitive(136, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField183(boolean val) {
+            putPrimitive(137, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField184(java.lang.String val) {
+            putReference(46, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField185(int val) {
+            putPrimitive(138, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField186(long val) {
+            putPrimitive(139, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField187(boolean val) {
+            putPrimitive(140, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField188(java.lang.String val) {
+            putReference(47, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField189(int val) {
+            putPrimitive(141, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField190(long val) {
+            putPrimitive(142, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField191(boolean val) {
+            putPrimitive(143, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField192(java.lang.String val) {
+            putReference(48, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField193(int val) {
+            putPrimitive(144, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField194(long val) {
+            putPrimitive(145, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField195(boolean val) {
+            putPrimitive(146, val ? 1L : 0L);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField196(java.lang.String val) {
+            putReference(49, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField197(int val) {
+            putPrimitive(147, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField198(long val) {
+            putPrimitive(148, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withField199(boolean val) {
+            putPrimitive(149, val ? 1L : 0L);
+            return this;
+        }
+
+        public WideSparse build() {
+            return new WideSparse(this);
+        }
+
+        private void putReference(int index, java.lang.Object value) {
+            final int position = rank(sparseReferencesPresent, index);
+            if ((sparseReferencesPresent[index >>> 6] & (1L << index)) != 0) {
+                sparseReferences[position] = value;
+                return;
+            }
+            sparseReferencesPresent[index >>> 6] |= 1L << index;
+            if (sparseReferences == null) {
+                sparseReferences = new java.lang.Object[4];
+            } else if (sparseReferenceCount == sparseReferences.length) {
+                sparseReferences = java.util.Arrays.copyOf(sparseReferences, sparseReferenceCount * 2);
+            }
+            java.lang.System.arraycopy(sparseReferences, position, sparseReferences, position + 1, sparseReferenceCount - position);
+            sparseReferences[position] = value;
+            sparseReferenceCount++;
+        }
+
+        private void putPrimitive(int index, long value) {
+            final int position = rank(sparsePrimitivesPresent, index);
+            if ((sparsePrimitivesPresent[index >>> 6] & (1L << index)) != 0) {
+                sparsePrimitives[position] = value;
+                return;
+            }
+            sparsePrimitivesPresent[index >>> 6] |= 1L << index;
+            if (sparsePrimitives == null) {
+                sparsePrimitives = new long[4];
+            } else if (sparsePrimitiveCount == sparsePrimitives.length) {
+                sparsePrimitives = java.util.Arrays.copyOf(sparsePrimitives, sparsePrimitiveCount * 2);
+            }
+            java.lang.System.arraycopy(sparsePrimitives, position, sparsePrimitives, position + 1, sparsePrimitiveCount - position);
+            sparsePrimitives[position] = value;
+            sparsePrimitiveCount++;
+        }
+
+        private static int rank(long[] present, int index) {
+            int rank = java.lang.Long.bitCount(present[index >>> 6] & ((1L << index) - 1));
+            for (int word = 0; word < index >>> 6; word++) {
+                rank += java.lang.Long.bitCount(present[word]);
+            }
+            return rank;
+        }
+    }
+}
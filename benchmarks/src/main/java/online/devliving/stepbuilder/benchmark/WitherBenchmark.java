@@ -0,0 +1,61 @@
+package online.devliving.stepbuilder.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Changes one field of the README's {@code Server}, through {@code toBuilder()} and through the wither. Run it with
+ * {@code -prof gc}: with escape analysis both allocate only the copy, without it {@code toBuilder()} allocates its
+ * {@code Builder} as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WitherBenchmark {
+    private static final String NO_ESCAPE_ANALYSIS = "-XX:-DoEscapeAnalysis";
+
+    private final ServerToBuilder server = ServerToBuilder.builder("http")
+            .withUrl("localhost")
+            .withPort(8080)
+            .withIpAddress("127.0.0.1")
+            .withDescription("the README's server")
+            .withUptime(3600)
+            .withWeight(0.5)
+            .withSecure(true)
+            .build();
+    private long uptime = 7200;
+
+    @Benchmark
+    public ServerToBuilder toBuilder() {
+        return server.toBuilder().withUptime(uptime).build();
+    }
+
+    @Benchmark
+    public ServerToBuilder wither() {
+        return server.withUptime(uptime);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = NO_ESCAPE_ANALYSIS)
+    public ServerToBuilder toBuilderWithoutEscapeAnalysis() {
+        return toBuilder();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = NO_ESCAPE_ANALYSIS)
+    public ServerToBuilder witherWithoutEscapeAnalysis() {
+        return wither();
+    }
+}
@@ -0,0 +1,33 @@
+package online.devliving.stepbuilder.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import online.devliving.stepbuilder.model.StepBuilderOption;
+
+/**
+ * Generates a {@code <Class>StepBuilder} class next to the annotated class at compile time, holding the same
+ * step interfaces and {@code Builder} the IDE action generates, e.g. {@code ServerStepBuilder.builder()}.
+ * <p>
+ * The builder calls a non-private constructor whose parameters are named like all the instance fields of the
+ * annotated class, except final ones initialized in their declaration, and have their types, in any order. Without
+ * one, it calls a non-private no-arg constructor and assigns each non-private, non-final field directly and each
+ * private one through its setter. Records are built through their canonical constructor.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface StepBuilder {
+
+    /**
+     * @return the names of the mandatory fields, they become steps in declaration order
+     */
+    String[] mandatory();
+
+    StepBuilderOption[] options() default {};
+
+    String setterPrefix() default "with";
+
+    String interfacePrefix() default "I";
+}
@@ -0,0 +1,350 @@
+package online.devliving.stepbuilder.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.SimpleTypeVisitor8;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.Trees;
+
+import online.devliving.stepbuilder.annotation.StepBuilder;
+import online.devliving.stepbuilder.model.StepBuilderModel;
+import online.devliving.stepbuilder.model.StepBuilderOption;
+import online.devliving.stepbuilder.model.StepBuilderRenderer;
+import online.devliving.stepbuilder.model.StepField;
+
+/**
+ * Generates the step builders of classes annotated with {@link StepBuilder} during compilation, using the same
+ * {@link StepBuilderRenderer} as the IDE action. Each generated file only depends on its annotated class, so the
+ * processor is registered as isolating for incremental Gradle builds.
+ */
+@SupportedAnnotationTypes("online.devliving.stepbuilder.annotation.StepBuilder")
+public class StepBuilderProcessor extends AbstractProcessor {
+    private static final String GENERATED_CLASS_SUFFIX = "StepBuilder";
+
+    /**
+     * Renders a type like {@code TypeMirror.toString()} but without its type annotations: javac prints
+     * {@code @p.NotNull java.lang.String} for a field annotated with a {@code TYPE_USE} annotation, which isn't a
+     * valid type in the generated code.
+     */
+    private static final SimpleTypeVisitor8<StringBuilder, StringBuilder> TYPE_RENDERER =
+            new SimpleTypeVisitor8<StringBuilder, StringBuilder>() {
+                @Override
+                protected StringBuilder defaultAction(final TypeMirror type, final StringBuilder out) {
+                    return out.append(type);
+                }
+
+                @Override
+                public StringBuilder visitPrimitive(final PrimitiveType type, final StringBuilder out) {
+                    return out.append(type.getKind().name().toLowerCase(Locale.ROOT));
+                }
+
+                @Override
+                public StringBuilder visitArray(final ArrayType type, final StringBuilder out) {
+                    return type.getComponentType().accept(this, out).append("[]");
+                }
+
+                @Override
+                public StringBuilder visitDeclared(final DeclaredType type, final StringBuilder out) {
+                    out.append(((TypeElement) type.asElement()).getQualifiedName());
+                    if (!type.getTypeArguments().isEmpty()) {
+                        out.append('<');
+                        for (int i = 0; i < type.getTypeArguments().size(); i++) {
+                            if (i > 0) {
+                                out.append(", ");
+                            }
+                            type.getTypeArguments().get(i).accept(this, out);
+                        }
+                        out.append('>');
+                    }
+                    return out;
+                }
+
+                @Override
+                public StringBuilder visitWildcard(final WildcardType type, final StringBuilder out) {
+                    out.append('?');
+                    if (type.getExtendsBound() != null) {
+                        type.getExtendsBound().accept(this, out.append(" extends "));
+                    } else if (type.getSuperBound() != null) {
+                        type.getSuperBound().accept(this, out.append(" super "));
+                    }
+                    return out;
+                }
+            };
+
+    private Trees trees;
+
+    @Override
+    public synchronized void init(final ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        try {
+            trees = Trees.instance(processingEnv);
+        } catch (IllegalArgumentException e) {
+            // not javac, only constant initializers can be detected then
+            trees = null;
+        }
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final Element element : roundEnv.getElementsAnnotatedWith(StepBuilder.class)) {
+            if (element.getKind() != ElementKind.CLASS && !isRecord(element)) {
+                error(element, "@StepBuilder can only be used on classes and records");
+                continue;
+            }
+
+            final TypeElement type = (TypeElement) element;
+            if (!type.getTypeParameters().isEmpty()) {
+                error(element, "@StepBuilder doesn't support generic classes");
+                continue;
+            }
+
+            final StepBuilderModel model = createModel(type);
+            if (model != null) {
+                write(type, model);
+            }
+        }
+        return true;
+    }
+
+    private StepBuilderModel createModel(final TypeElement type) {
+        final StepBuilder annotation = type.getAnnotation(StepBuilder.class);
+        final List<VariableElement> fields = collectFields(type);
+        final boolean record = isRecord(type);
+
+        final Set<String> mandatoryNames = new HashSet<String>(Arrays.asList(annotation.mandatory()));
+        final List<StepField> allFields = new ArrayList<StepField>(fields.size());
+        final List<StepField> mandatoryFields = new ArrayList<StepField>();
+        final List<StepField> optionalFields = new ArrayList<StepField>();
+        for (final VariableElement field : fields) {
+            final String name = field.getSimpleName().toString();
+            final StepField stepField = StepField.newBuilder()
+                    .withName(name)
+                    .withType(TYPE_RENDERER.visit(field.asType(), new StringBuilder()).toString())
+                    .withFinal(!record && field.getModifiers().contains(Modifier.FINAL))
+                    .withSetterName(findSetter(type, field))
+                    .build();
+            allFields.add(stepField);
+            if (mandatoryNames.remove(name)) {
+                mandatoryFields.add(stepField);
+            } else {
+                optionalFields.add(stepField);
+            }
+        }
+
+        if (!mandatoryNames.isEmpty()) {
+            error(type, "Unknown mandatory fields " + mandatoryNames);
+            return null;
+        }
+
+        final List<StepField> constructorParameters = new ArrayList<StepField>(allFields);
+        final StepBuilderModel.Construction construction = findConstruction(type, fields, constructorParameters);
+        if (construction == null) {
+            return null;
+        }
+
+        final EnumSet<StepBuilderOption> options = EnumSet.noneOf(StepBuilderOption.class);
+        options.addAll(Arrays.asList(annotation.options()));
+
+        return StepBuilderModel.newBuilder()
+                .withTargetName(type.getQualifiedName().toString())
+                .withMandatoryFields(mandatoryFields)
+                .withOptionalFields(optionalFields)
+                .withOptions(options)
+                .withSetterPrefix(annotation.setterPrefix())
+                .withInterfacePrefix(annotation.interfacePrefix())
+                .withConstruction(construction, constructorParameters)
+                .withEmbedded(false)
+                .withRecord(isRecord(type))
+                .build();
+    }
+
+    private static boolean isRecord(final Element element) {
+        // compared by name, ElementKind.RECORD doesn't exist before Java 16
+        return "RECORD".equals(element.getKind().name());
+    }
+
+    private List<VariableElement> collectFields(final TypeElement type) {
+        final List<VariableElement> fields = new ArrayList<VariableElement>();
+        for (final VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            if (field.getModifiers().contains(Modifier.FINAL) && hasInitializer(field)) {
+                continue; // skip final fields that are assigned in the declaration
+            }
+            fields.add(field);
+        }
+        return fields;
+    }
+
+    private boolean hasInitializer(final VariableElement field) {
+        if (field.getConstantValue() != null) {
+            return true;
+        }
+        final Tree tree = trees != null ? trees.getTree(field) : null;
+        return tree instanceof VariableTree && ((VariableTree) tree).getInitializer() != null;
+    }
+
+    /**
+     * Prefers a constructor taking all the fields, then a no-arg constructor followed by assignments to the fields or
+     * their setters.
+     *
+     * @param constructorParameters the fields in declaration order, reordered like the parameters of the constructor
+     *                              taking all of them when there is one
+     */
+    private StepBuilderModel.Construction findConstruction(final TypeElement type, final List<VariableElement> fields,
+                                                           final List<StepField> constructorParameters) {
+        ExecutableElement noArgConstructor = null;
+        for (final ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                continue;
+            }
+            if (constructor.getParameters().isEmpty()) {
+                noArgConstructor = constructor;
+            }
+            if (takesAllFields(constructor, fields)) {
+                final Map<String, StepField> fieldsByName = new HashMap<String, StepField>();
+                for (final StepField field : constructorParameters) {
+                    fieldsByName.put(field.getName(), field);
+                }
+                constructorParameters.clear();
+                for (final VariableElement parameter : constructor.getParameters()) {
+                    constructorParameters.add(fieldsByName.get(parameter.getSimpleName().toString()));
+                }
+                return StepBuilderModel.Construction.ALL_ARGS_CONSTRUCTOR;
+            }
+        }
+
+        if (noArgConstructor == null) {
+            error(type, "@StepBuilder needs a non-private constructor whose parameters are named like all the fields "
+                    + "or a non-private no-arg constructor");
+            return null;
+        }
+
+        boolean assignable = true;
+        for (final VariableElement field : fields) {
+            final boolean accessible = !field.getModifiers().contains(Modifier.PRIVATE)
+                    && !field.getModifiers().contains(Modifier.FINAL);
+            if (!accessible && findSetter(type, field) == null) {
+                error(field, "@StepBuilder can't assign this field, it needs to be non-private and non-final or have a setter");
+                assignable = false;
+            }
+        }
+        return assignable ? StepBuilderModel.Construction.FIELD_ASSIGNMENT : null;
+    }
+
+    /**
+     * @return whether every parameter is named like a field and has its type, in any order: a constructor that only
+     * has the same types might assign its parameters to other fields
+     */
+    private boolean takesAllFields(final ExecutableElement constructor, final List<VariableElement> fields) {
+        final List<? extends VariableElement> parameters = constructor.getParameters();
+        if (parameters.size() != fields.size()) {
+            return false;
+        }
+        final Map<String, VariableElement> fieldsByName = new HashMap<String, VariableElement>();
+        for (final VariableElement field : fields) {
+            fieldsByName.put(field.getSimpleName().toString(), field);
+        }
+        for (final VariableElement parameter : parameters) {
+            final VariableElement field = fieldsByName.get(parameter.getSimpleName().toString());
+            if (field == null || !processingEnv.getTypeUtils().isSameType(parameter.asType(), field.asType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String findSetter(final TypeElement type, final VariableElement field) {
+        if (field.getModifiers().contains(Modifier.FINAL)) {
+            return null;
+        }
+        final String name = field.getSimpleName().toString();
+        final String setterName = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (final ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals(setterName) && method.getParameters().size() == 1
+                    && !method.getModifiers().contains(Modifier.PRIVATE)
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && processingEnv.getTypeUtils().isSameType(method.getParameters().get(0).asType(), field.asType())) {
+                return setterName;
+            }
+        }
+        return null;
+    }
+
+    private void write(final TypeElement type, final StepBuilderModel model) {
+        final String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        final String className = generatedClassName(type);
+        final String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        final StepBuilderRenderer renderer = new StepBuilderRenderer(model);
+        for (final String warning : renderer.getWarnings()) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, warning, type);
+        }
+        final String source = renderer.renderSourceFile(packageName, className);
+        try {
+            // the annotated class is the only originating element, which keeps the processor isolating
+            final JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+            final Writer writer = file.openWriter();
+            try {
+                writer.write(source);
+            } finally {
+                writer.close();
+            }
+        } catch (IOException e) {
+            error(type, "Could not write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return e.g. {@code ServerStepBuilder}, or {@code Outer_InnerStepBuilder} for nested classes
+     */
+    private static String generatedClassName(final TypeElement type) {
+        final StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element enclosing = type.getEnclosingElement();
+        while (enclosing instanceof TypeElement) {
+            name.insert(0, '_').insert(0, enclosing.getSimpleName());
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.append(GENERATED_CLASS_SUFFIX).toString();
+    }
+
+    private void error(final Element element, final String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
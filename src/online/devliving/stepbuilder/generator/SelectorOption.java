@@ -1,5 +1,7 @@
 package online.devliving.stepbuilder.generator;
 
+import online.devliving.stepbuilder.model.StepBuilderOption;
+
 public class SelectorOption {
     private final StepBuilderOption option;
     private final String caption;
@@ -0,0 +1,246 @@
+package online.devliving.stepbuilder.generator;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Properties;
+
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.intellij.ide.impl.ProjectUtil;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ApplicationStarter;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.application.ex.ApplicationEx;
+import com.intellij.openapi.application.ex.ApplicationManagerEx;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.ThrowableComputable;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.search.GlobalSearchScope;
+
+import online.devliving.stepbuilder.model.StepBuilderOption;
+
+/**
+ * Headless entry point generating step builders in bulk, e.g. from a nightly job:
+ * <pre>
+ * idea.sh stepbuilder &lt;project path&gt; &lt;config file&gt; &lt;class name or source path&gt;...
+ * </pre>
+ * The config file is a properties file replacing the generator dialog, see {@link #loadConfig(File)}.
+ * Timings are reported per class on the standard output.
+ */
+public class StepBuilderApplicationStarter implements ApplicationStarter {
+    @NonNls
+    private static final String COMMAND_NAME = "stepbuilder";
+
+    @Override
+    public String getCommandName() {
+        return COMMAND_NAME;
+    }
+
+    @Override
+    public boolean isHeadless() {
+        return true;
+    }
+
+    @Override
+    public void main(@NotNull final String[] args) {
+        ApplicationManagerEx.getApplicationEx().exit(ApplicationEx.FORCE_EXIT | ApplicationEx.EXIT_CONFIRMED,
+                runCommand(args));
+    }
+
+    /**
+     * @return the exit code: 0 when every class was generated or skipped, 1 when one failed, 2 for bad arguments
+     */
+    private static int runCommand(@NotNull final String[] args) {
+        // args[0] is the command name
+        if (args.length < 4) {
+            return usage(null);
+        }
+        if (!new File(args[1]).isDirectory()) {
+            return usage("No project directory at " + args[1]);
+        }
+
+        final StepBuilderConfig config;
+        try {
+            config = loadConfig(new File(args[2]));
+        } catch (IOException e) {
+            return usage("Could not read " + args[2] + ": " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return usage(args[2] + ": " + e.getMessage());
+        }
+
+        try {
+            return run(args[1], config, args);
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            return 1;
+        }
+    }
+
+    private static int usage(@Nullable final String error) {
+        if (error != null) {
+            System.err.println(error);
+        }
+        System.err.println("Usage: " + COMMAND_NAME + " <project path> <config file> <class name or source path>...");
+        System.err.println("Options: " + StringUtil.join(Arrays.asList(StepBuilderOption.values()), ","));
+        System.err.println("Mandatory rules: " + StringUtil.join(Arrays.asList(StepBuilderMandatoryRule.values()), ","));
+        return 2;
+    }
+
+    private static int run(final String projectPath, final StepBuilderConfig config, final String[] args) {
+        final Project project = ProjectUtil.openOrImport(projectPath, null, false);
+        if (project == null) {
+            System.err.println("Could not open the project at " + projectPath);
+            return 2;
+        }
+
+        final List<String> targets = new ArrayList<String>();
+        for (int i = 3; i < args.length; i++) {
+            targets.add(args[i]);
+        }
+
+        final StepBuilderBatchGenerator batchGenerator = new StepBuilderBatchGenerator(project, config);
+        final StepBuilderBatchGenerator.Summary[] summary = new StepBuilderBatchGenerator.Summary[1];
+        final Runnable generation = new Runnable() {
+            @Override
+            public void run() {
+                final ProgressIndicator indicator = ProgressManager.getInstance().getProgressIndicator() != null
+                        ? ProgressManager.getInstance().getProgressIndicator() : new EmptyProgressIndicator();
+                DumbService.getInstance(project).waitForSmartMode();
+
+                final List<PsiClass> classes = ReadAction.compute(new ThrowableComputable<List<PsiClass>, RuntimeException>() {
+                    @Override
+                    public List<PsiClass> compute() {
+                        return findClasses(project, batchGenerator, targets, indicator);
+                    }
+                });
+                summary[0] = batchGenerator.applyAll(batchGenerator.computeAll(classes, indicator), indicator);
+            }
+        };
+
+        if (ApplicationManager.getApplication().isDispatchThread()) {
+            // runs in a pooled thread while the event queue keeps being pumped for the batched write commands
+            ProgressManager.getInstance().runProcessWithProgressSynchronously(generation,
+                    StepBuilderGenerator.COMMAND_NAME, false, project);
+        } else {
+            ProgressManager.getInstance().runProcess(generation, new EmptyProgressIndicator());
+        }
+
+        ApplicationManager.getApplication().invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                FileDocumentManager.getInstance().saveAllDocuments();
+            }
+        });
+        report(summary[0]);
+        return summary[0].hasFailures() ? 1 : 0;
+    }
+
+    private static List<PsiClass> findClasses(final Project project, final StepBuilderBatchGenerator batchGenerator,
+                                              final List<String> targets, final ProgressIndicator indicator) {
+        final List<PsiClass> classes = new ArrayList<PsiClass>();
+        final List<VirtualFile> roots = new ArrayList<VirtualFile>();
+        final JavaPsiFacade psiFacade = JavaPsiFacade.getInstance(project);
+        for (final String target : targets) {
+            final File targetFile = new File(target).isAbsolute() ? new File(target) : new File(project.getBasePath(), target);
+            final VirtualFile root = targetFile.exists()
+                    ? LocalFileSystem.getInstance().refreshAndFindFileByIoFile(targetFile) : null;
+            if (root != null) {
+                roots.add(root);
+                continue;
+            }
+
+            final PsiClass psiClass = psiFacade.findClass(target, GlobalSearchScope.projectScope(project));
+            if (psiClass != null) {
+                classes.add(psiClass);
+            } else {
+                System.err.println("Skipping " + target + ": neither a class of the project nor an existing path");
+            }
+        }
+
+        classes.addAll(batchGenerator.findTargetClasses(roots, indicator));
+        return classes;
+    }
+
+    private static void report(final StepBuilderBatchGenerator.Summary summary) {
+        for (final StepBuilderBatchGenerator.Target target : summary.getTargets()) {
+            final String status = target.getFailure() != null ? "failed: " + target.getFailure()
+                    : target.isGenerated() ? "generated" : "skipped";
+            System.out.println(String.format("%s\tcompute %d ms %d KB\tapply %d ms %d KB\t%s", target.getClassName(),
+                    target.getComputeNanos() / 1000000L, target.getComputeBytes() / 1024L,
+                    target.getApplyNanos() / 1000000L, target.getApplyBytes() / 1024L, status));
+        }
+        System.out.println(summary.describe(Integer.MAX_VALUE));
+    }
+
+    /**
+     * Reads the generator settings from a properties file, e.g.
+     * <pre>
+     * options=FINAL_SETTERS,WITH_JAVADOC
+     * setterPrefix=with
+     * interfacePrefix=I
+     * mandatoryRules=FINAL_FIELDS,NOT_NULL_ANNOTATED
+     * </pre>
+     * Option and rule names are those of {@link StepBuilderOption} and {@link StepBuilderMandatoryRule}.
+     *
+     * @throws IllegalArgumentException if an option or rule name is unknown
+     */
+    @NotNull
+    static StepBuilderConfig loadConfig(@NotNull final File configFile) throws IOException {
+        final Properties properties = new Properties();
+        final InputStream in = new FileInputStream(configFile);
+        try {
+            properties.load(in);
+        } finally {
+            in.close();
+        }
+
+        final EnumSet<StepBuilderOption> options = parseNames(StepBuilderOption.class,
+                properties.getProperty("options", ""), "option");
+        final EnumSet<StepBuilderMandatoryRule> rules = parseNames(StepBuilderMandatoryRule.class,
+                properties.getProperty("mandatoryRules", "FINAL_FIELDS"), "mandatory rule");
+
+        return StepBuilderConfig.newBuilder()
+                .withOptions(options)
+                .withSetterPrefix(properties.getProperty("setterPrefix", "with"))
+                .withInterfacePrefix(properties.getProperty("interfacePrefix", "I"))
+                .withMandatoryRules(rules)
+                .build();
+    }
+
+    @NotNull
+    private static <E extends Enum<E>> EnumSet<E> parseNames(@NotNull final Class<E> type, @NotNull final String names,
+                                                             @NotNull final String kind) {
+        final EnumSet<E> values = EnumSet.noneOf(type);
+        for (final String name : StringUtil.split(names, ",")) {
+            boolean found = false;
+            for (final E value : type.getEnumConstants()) {
+                if (value.name().equals(name.trim())) {
+                    values.add(value);
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                throw new IllegalArgumentException("unknown " + kind + " '" + name.trim() + "'");
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,93 @@
+package online.devliving.stepbuilder.generator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.notification.Notification;
+import com.intellij.notification.NotificationType;
+import com.intellij.notification.Notifications;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.actionSystem.LangDataKeys;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.util.ThrowableComputable;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+
+/**
+ * The Project view action, generates step builders for all classes in the selected files, packages or modules.
+ */
+public class StepBuilderBatchAction extends AnAction {
+    /** The classes named in the notification, the rest are only counted to keep the balloon readable. */
+    private static final int MAX_LISTED_CLASSES = 10;
+
+    @Override
+    public void update(@NotNull final AnActionEvent e) {
+        e.getPresentation().setEnabledAndVisible(e.getProject() != null && !getSelectedRoots(e).isEmpty());
+    }
+
+    @Override
+    public void actionPerformed(@NotNull final AnActionEvent e) {
+        final Project project = e.getProject();
+        final List<VirtualFile> roots = getSelectedRoots(e);
+        if (project == null || roots.isEmpty()) {
+            return;
+        }
+
+        final StepBuilderBatchGenerator batchGenerator = new StepBuilderBatchGenerator(project,
+                StepBuilderConfig.load(project));
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, "Generating step builders", true) {
+            private StepBuilderBatchGenerator.Summary summary;
+
+            @Override
+            public void run(@NotNull final ProgressIndicator indicator) {
+                indicator.setText("Looking for classes");
+                final List<PsiClass> classes = ReadAction.compute(new ThrowableComputable<List<PsiClass>, RuntimeException>() {
+                    @Override
+                    public List<PsiClass> compute() {
+                        return batchGenerator.findTargetClasses(roots, indicator);
+                    }
+                });
+                summary = batchGenerator.applyAll(batchGenerator.computeAll(classes, indicator), indicator);
+            }
+
+            @Override
+            public void onSuccess() {
+                final String content = StringUtil.escapeXmlEntities(summary.describe(MAX_LISTED_CLASSES))
+                        .replace("\n", "<br>");
+                Notifications.Bus.notify(new Notification(StepBuilderGenerator.NOTIFICATION_GROUP, "Step Builder",
+                        content, summary.hasFailures() || summary.hasWarnings() ? NotificationType.WARNING
+                        : NotificationType.INFORMATION), project);
+            }
+        });
+    }
+
+    @NotNull
+    private static List<VirtualFile> getSelectedRoots(@NotNull final AnActionEvent e) {
+        final List<VirtualFile> roots = new ArrayList<VirtualFile>();
+        final Module[] modules = e.getData(LangDataKeys.MODULE_CONTEXT_ARRAY);
+        if (modules != null) {
+            for (final Module module : modules) {
+                roots.addAll(Arrays.asList(ModuleRootManager.getInstance(module).getSourceRoots()));
+            }
+        }
+
+        final VirtualFile[] files = e.getData(CommonDataKeys.VIRTUAL_FILE_ARRAY);
+        if (files != null) {
+            roots.addAll(Arrays.asList(files));
+        }
+
+        return roots;
+    }
+}
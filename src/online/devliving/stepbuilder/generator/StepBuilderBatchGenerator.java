@@ -0,0 +1,358 @@
+package online.devliving.stepbuilder.generator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.intellij.codeInsight.generation.PsiFieldMember;
+import com.intellij.concurrency.JobLauncher;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileVisitor;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.util.Processor;
+import com.intellij.util.ThrowableRunnable;
+
+/**
+ * Generates step builders for many classes without a dialog: fields are collected and the changes computed in
+ * parallel read actions, mandatory fields are chosen by the {@link StepBuilderMandatoryRule}s of the config and
+ * the results are written in batches, each batch being one undoable command.
+ */
+final class StepBuilderBatchGenerator {
+    private static final Logger LOG = Logger.getInstance("#online.devliving.stepbuilder.generator.StepBuilderBatchGenerator");
+
+    private static final int CLASSES_PER_COMMAND = 20;
+    @NonNls
+    private static final String JAVA_EXTENSION = "java";
+
+    private final Project project;
+    private final StepBuilderConfig config;
+
+    StepBuilderBatchGenerator(@NotNull final Project project, @NotNull final StepBuilderConfig config) {
+        this.project = project;
+        this.config = config;
+    }
+
+    /**
+     * @return the top level classes of the Java source files in or under the given files and directories
+     */
+    @NotNull
+    List<PsiClass> findTargetClasses(@NotNull final Collection<VirtualFile> roots, @NotNull final ProgressIndicator indicator) {
+        final List<VirtualFile> javaFiles = new ArrayList<VirtualFile>();
+        final ProjectFileIndex fileIndex = ProjectRootManager.getInstance(project).getFileIndex();
+        for (final VirtualFile root : roots) {
+            VfsUtilCore.visitChildrenRecursively(root, new VirtualFileVisitor() {
+                @Override
+                public boolean visitFile(@NotNull final VirtualFile file) {
+                    indicator.checkCanceled();
+                    if (!file.isDirectory() && JAVA_EXTENSION.equals(file.getExtension())
+                            && fileIndex.isInSourceContent(file)) {
+                        javaFiles.add(file);
+                    }
+                    return true;
+                }
+            });
+        }
+
+        final PsiManager psiManager = PsiManager.getInstance(project);
+        final List<PsiClass> classes = new ArrayList<PsiClass>(javaFiles.size());
+        for (final VirtualFile javaFile : javaFiles) {
+            final PsiFile psiFile = psiManager.findFile(javaFile);
+            if (psiFile instanceof PsiJavaFile) {
+                for (final PsiClass psiClass : ((PsiJavaFile) psiFile).getClasses()) {
+                    if (!psiClass.isInterface() && !psiClass.isEnum() && !psiClass.isAnnotationType()) {
+                        classes.add(psiClass);
+                    }
+                }
+            }
+        }
+
+        return classes;
+    }
+
+    /**
+     * Collects the fields and computes the changes of every class, concurrently, each class in its own cancellable
+     * non-blocking read action.
+     */
+    @NotNull
+    List<Target> computeAll(@NotNull final List<PsiClass> classes, @NotNull final ProgressIndicator indicator) {
+        final List<Target> targets = new ArrayList<Target>(classes.size());
+        for (final PsiClass psiClass : classes) {
+            targets.add(new Target(psiClass));
+        }
+
+        indicator.setText("Computing step builders");
+        JobLauncher.getInstance().invokeConcurrentlyUnderProgress(targets, indicator, new Processor<Target>() {
+            @Override
+            public boolean process(final Target target) {
+                // restarted when a write action comes in, like the field collection of StepBuilderHandler
+                ReadAction.nonBlocking(new Runnable() {
+                    @Override
+                    public void run() {
+                        target.compute();
+                    }
+                }).expireWith(project).wrapProgress(indicator).executeSynchronously();
+                return true;
+            }
+        });
+
+        return targets;
+    }
+
+    /**
+     * Applies the computed changes on the event dispatch thread, {@link #CLASSES_PER_COMMAND} classes per command.
+     */
+    @NotNull
+    Summary applyAll(@NotNull final List<Target> targets, @NotNull final ProgressIndicator indicator) {
+        final List<Target> applicable = new ArrayList<Target>();
+        for (final Target target : targets) {
+            if (target.changes != null) {
+                applicable.add(target);
+            }
+        }
+
+        indicator.setText("Writing step builders");
+        indicator.setIndeterminate(false);
+        for (int from = 0; from < applicable.size(); from += CLASSES_PER_COMMAND) {
+            indicator.checkCanceled();
+            indicator.setFraction((double) from / applicable.size());
+
+            final List<Target> batch = applicable.subList(from, Math.min(from + CLASSES_PER_COMMAND, applicable.size()));
+            ApplicationManager.getApplication().invokeAndWait(new Runnable() {
+                @Override
+                public void run() {
+                    WriteCommandAction.writeCommandAction(project).withName(StepBuilderGenerator.COMMAND_NAME)
+                            .run(new ThrowableRunnable<RuntimeException>() {
+                                @Override
+                                public void run() {
+                                    for (final Target target : batch) {
+                                        target.apply();
+                                    }
+                                }
+                            });
+                }
+            }, ModalityState.defaultModalityState());
+        }
+
+        return new Summary(targets);
+    }
+
+    /**
+     * One class of the batch and what happened to it.
+     */
+    final class Target {
+        private final PsiClass psiClass;
+        private String className;
+        private StepBuilderGenerator generator;
+        private StepBuilderGenerator.ChangeSet changes;
+        // of the file when the changes were computed, they are stale once it differs
+        private long modificationStamp;
+        private String failure;
+        private long computeNanos;
+        private long applyNanos;
+        private long computeBytes;
+        private long applyBytes;
+
+        private Target(final PsiClass psiClass) {
+            this.psiClass = psiClass;
+        }
+
+        private void compute() {
+            final StepBuilderPhaseMeter meter = StepBuilderPhaseMeter.start();
+            // a restarted read action computes again from scratch
+            generator = null;
+            changes = null;
+            failure = null;
+            className = psiClass.getQualifiedName();
+            modificationStamp = psiClass.isValid() ? psiClass.getContainingFile().getModificationStamp() : -1L;
+            try {
+                final List<PsiFieldMember> fields = psiClass.isValid() ? StepBuilderCollector.collectFields(psiClass) : null;
+                if (fields == null || fields.isEmpty()) {
+                    return;
+                }
+
+                final List<PsiFieldMember> mandatoryFields = new ArrayList<PsiFieldMember>();
+                final List<PsiFieldMember> optionalFields = new ArrayList<PsiFieldMember>();
+                for (final PsiFieldMember member : fields) {
+                    if (config.isMandatory(member.getElement())) {
+                        mandatoryFields.add(member);
+                    } else {
+                        optionalFields.add(member);
+                    }
+                }
+
+                generator = new StepBuilderGenerator(project, psiClass, config, mandatoryFields, optionalFields,
+                        Collections.<PsiField>emptySet());
+                changes = generator.computeChanges();
+            } catch (ProcessCanceledException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                LOG.warn("Could not compute the step builder of " + className, e);
+                failure = e.getMessage();
+            } finally {
+                computeNanos = meter.elapsedNanos();
+                computeBytes = meter.allocatedBytes();
+            }
+        }
+
+        /**
+         * Writes the changes, after computing them again if the file was edited since, by the user or by an
+         * earlier batch writing another class of the same file.
+         */
+        private void apply() {
+            if (psiClass.isValid() && psiClass.getContainingFile().getModificationStamp() != modificationStamp) {
+                compute();
+                if (changes == null || failure != null) {
+                    return;
+                }
+            }
+            final StepBuilderPhaseMeter meter = StepBuilderPhaseMeter.start();
+            try {
+                if (psiClass.isValid()) {
+                    generator.apply(changes);
+                } else {
+                    failure = "class was removed";
+                }
+            } catch (RuntimeException e) {
+                LOG.warn("Could not write the step builder of " + className, e);
+                failure = e.getMessage();
+            } finally {
+                applyNanos = meter.elapsedNanos();
+                applyBytes = meter.allocatedBytes();
+            }
+        }
+
+        String getClassName() {
+            return className;
+        }
+
+        boolean isGenerated() {
+            return changes != null && failure == null;
+        }
+
+        @Nullable
+        String getFailure() {
+            return failure;
+        }
+
+        long getComputeNanos() {
+            return computeNanos;
+        }
+
+        long getApplyNanos() {
+            return applyNanos;
+        }
+
+        /**
+         * @return the bytes allocated while computing the builder, -1 if the JVM can't tell
+         */
+        long getComputeBytes() {
+            return computeBytes;
+        }
+
+        /**
+         * @return the bytes allocated while writing the builder, -1 if the JVM can't tell
+         */
+        long getApplyBytes() {
+            return applyBytes;
+        }
+    }
+
+    static final class Summary {
+        private final List<Target> targets;
+        private int generated;
+        private int skipped;
+        private int failed;
+        private int warned;
+
+        private Summary(final List<Target> targets) {
+            this.targets = targets;
+            for (final Target target : targets) {
+                if (target.failure != null) {
+                    failed++;
+                } else if (target.changes != null) {
+                    generated++;
+                    if (!target.changes.getWarnings().isEmpty()) {
+                        warned++;
+                    }
+                } else {
+                    skipped++;
+                }
+            }
+        }
+
+        List<Target> getTargets() {
+            return targets;
+        }
+
+        /**
+         * @param maxListed how many of the failed and of the skipped classes are named, the others are counted
+         * @return the counts, followed by a line naming the failed classes with their failures, a line naming the
+         * generated classes that left out enabled options with the reasons, and a line naming the skipped classes
+         */
+        @NotNull
+        String describe(final int maxListed) {
+            final StringBuilder description = new StringBuilder(String.format(
+                    "Step builders generated for %d classes, %d skipped without fields, %d failed",
+                    generated, skipped, failed));
+            final List<String> failures = new ArrayList<String>();
+            final List<String> warnings = new ArrayList<String>();
+            final List<String> skips = new ArrayList<String>();
+            for (final Target target : targets) {
+                if (target.failure != null) {
+                    failures.add(target.className + " (" + target.failure + ")");
+                } else if (target.changes == null) {
+                    skips.add(target.className);
+                } else if (!target.changes.getWarnings().isEmpty()) {
+                    warnings.add(target.className + " (" + StringUtil.join(target.changes.getWarnings(), "; ") + ")");
+                }
+            }
+            appendList(description, "Failed: ", failures, maxListed);
+            appendList(description, "Generated with warnings: ", warnings, maxListed);
+            appendList(description, "Skipped: ", skips, maxListed);
+            return description.toString();
+        }
+
+        private static void appendList(final StringBuilder description, final String title, final List<String> items,
+                                       final int maxListed) {
+            if (items.isEmpty()) {
+                return;
+            }
+            description.append('\n').append(title);
+            for (int i = 0; i < items.size() && i < maxListed; i++) {
+                description.append(i > 0 ? ", " : "").append(items.get(i));
+            }
+            if (items.size() > maxListed) {
+                description.append(" and ").append(items.size() - maxListed).append(" more");
+            }
+        }
+
+        boolean hasFailures() {
+            return failed > 0;
+        }
+
+        boolean hasWarnings() {
+            return warned > 0;
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package online.devliving.stepbuilder.generator;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import com.intellij.codeInsight.generation.PsiFieldMember;
@@ -15,8 +17,13 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiRecordComponent;
 import com.intellij.psi.PsiResolveHelper;
 import com.intellij.psi.PsiSubstitutor;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.JavaPsiRecordUtil;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.util.TypeConversionUtil;
 
@@ -27,7 +34,14 @@ public final class StepBuilderCollector {
 
     @Nullable
     public static List<PsiFieldMember> collectFields(final PsiFile file, final Editor editor) {
-        final int offset = editor.getCaretModel().getOffset();
+        return collectFields(file, editor.getCaretModel().getOffset());
+    }
+
+    /**
+     * Same as {@link #collectFields(PsiFile, Editor)} for a known caret offset, usable off the event dispatch thread.
+     */
+    @Nullable
+    public static List<PsiFieldMember> collectFields(final PsiFile file, final int offset) {
         final PsiElement element = file.findElementAt(offset);
         if (element == null) {
             return null;
@@ -38,6 +52,51 @@ public final class StepBuilderCollector {
             return null;
         }
 
+        final List<PsiFieldMember> cachedFields = getCachedFields(clazz);
+        final List<PsiFieldMember> allFields = new ArrayList<PsiFieldMember>(cachedFields.size());
+        for (final PsiFieldMember member : cachedFields) {
+            // the field the caret is in can't be offered, this is the only editor dependent part
+            if (!PsiTreeUtil.isAncestor(member.getElement(), element, false)) {
+                allFields.add(member);
+            }
+        }
+
+        return allFields;
+    }
+
+    /**
+     * Collects the candidate fields of the given class without an editor, e.g. for batch generation.
+     */
+    @Nullable
+    public static List<PsiFieldMember> collectFields(@NotNull final PsiClass clazz) {
+        if (clazz.hasModifierProperty(PsiModifier.ABSTRACT)) {
+            return null;
+        }
+
+        return getCachedFields(clazz);
+    }
+
+    /**
+     * Returns the candidate fields of the class, computed once and cached on the class until the
+     * PSI outside of code blocks changes. Both the Generate menu check and the generation itself share this.
+     */
+    @NotNull
+    private static List<PsiFieldMember> getCachedFields(@NotNull final PsiClass clazz) {
+        return CachedValuesManager.getCachedValue(clazz, new CachedValueProvider<List<PsiFieldMember>>() {
+            @Nullable
+            @Override
+            public Result<List<PsiFieldMember>> compute() {
+                return Result.create(Collections.unmodifiableList(collectFieldsInHierarchy(clazz)),
+                        PsiModificationTracker.OUT_OF_CODE_BLOCK_MODIFICATION_COUNT);
+            }
+        });
+    }
+
+    private static List<PsiFieldMember> collectFieldsInHierarchy(final PsiClass clazz) {
+        if (clazz.isRecord()) {
+            return collectRecordComponents(clazz);
+        }
+
         final List<PsiFieldMember> allFields = new ArrayList<PsiFieldMember>();
 
         PsiClass classToExtractFieldsFrom = clazz;
@@ -46,8 +105,7 @@ public final class StepBuilderCollector {
                 break;
             }
 
-            final List<PsiFieldMember> classFieldMembers = collectFieldsInClass(element, clazz,
-                    classToExtractFieldsFrom);
+            final List<PsiFieldMember> classFieldMembers = collectFieldsInClass(clazz, classToExtractFieldsFrom);
             allFields.addAll(0, classFieldMembers);
 
             classToExtractFieldsFrom = classToExtractFieldsFrom.getSuperClass();
@@ -56,16 +114,30 @@ public final class StepBuilderCollector {
         return allFields;
     }
 
-    private static List<PsiFieldMember> collectFieldsInClass(final PsiElement element, final PsiClass accessObjectClass,
-            final PsiClass clazz) {
+    /**
+     * The fields of a record are the implicit fields of its components, in component order, which is also the
+     * order of the canonical constructor.
+     */
+    private static List<PsiFieldMember> collectRecordComponents(final PsiClass record) {
+        final PsiRecordComponent[] components = record.getRecordComponents();
+        final List<PsiFieldMember> componentFields = new ArrayList<PsiFieldMember>(components.length);
+        for (final PsiRecordComponent component : components) {
+            final PsiField field = JavaPsiRecordUtil.getFieldForComponent(component);
+            if (field != null) {
+                componentFields.add(new PsiFieldMember(field));
+            }
+        }
+        return componentFields;
+    }
+
+    private static List<PsiFieldMember> collectFieldsInClass(final PsiClass accessObjectClass, final PsiClass clazz) {
         final List<PsiFieldMember> classFieldMembers = new ArrayList<PsiFieldMember>();
         final PsiResolveHelper helper = JavaPsiFacade.getInstance(clazz.getProject()).getResolveHelper();
 
         for (final PsiField field : clazz.getFields()) {
 
             // check access to the field from the builder container class (eg. private superclass fields)
-            if (helper.isAccessible(field, accessObjectClass, clazz)
-                    && !PsiTreeUtil.isAncestor(field, element, false)) {
+            if (helper.isAccessible(field, accessObjectClass, clazz)) {
 
                 // skip static fields
                 if (field.hasModifierProperty(PsiModifier.STATIC)) {
@@ -0,0 +1,208 @@
+package online.devliving.stepbuilder.generator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.ide.util.PropertiesComponent;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiField;
+
+import online.devliving.stepbuilder.model.StepBuilderOption;
+
+/**
+ * Immutable snapshot of the generator settings, read once per generation and passed to everything that
+ * needs it, so generating a builder never goes back to the settings store.
+ */
+public final class StepBuilderConfig {
+    @NonNls
+    private static final String LAST_USED_PROPERTY = "GenerateStepBuilder.lastUsed.";
+    @NonNls
+    private static final String LAST_DEFAULTS_PROPERTY = "GenerateStepBuilder.lastDefaults.";
+
+    private final Set<StepBuilderOption> options;
+    private final String setterPrefix;
+    private final String interfacePrefix;
+    private final Set<StepBuilderMandatoryRule> mandatoryRules; // only used without the member chooser
+
+    private StepBuilderConfig(final Builder builder) {
+        options = Collections.unmodifiableSet(builder.options);
+        setterPrefix = builder.setterPrefix;
+        interfacePrefix = builder.interfacePrefix;
+        mandatoryRules = Collections.unmodifiableSet(builder.mandatoryRules);
+    }
+
+    public static IOptions newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Reads the active settings profile of the project, as used when generating without the dialog.
+     */
+    @NotNull
+    public static StepBuilderConfig load(@NotNull final Project project) {
+        final StepBuilderSettings.Profile profile = StepBuilderSettings.getInstance(project).getActiveProfile();
+        return create(profile, getDefaultOptions(profile));
+    }
+
+    /**
+     * Reads the active settings profile of the project with the options last chosen in the generator dialog for
+     * it. Once the defaults of the profile are edited, they apply again until the next choice in the dialog.
+     */
+    @NotNull
+    public static StepBuilderConfig loadLastUsed(@NotNull final Project project) {
+        final StepBuilderSettings.Profile profile = StepBuilderSettings.getInstance(project).getActiveProfile();
+        final PropertiesComponent propertiesComponent = PropertiesComponent.getInstance();
+        final Set<StepBuilderOption> defaultOptions = getDefaultOptions(profile);
+        final String lastUsed = propertiesComponent.getValue(LAST_USED_PROPERTY + profile.name);
+        if (lastUsed == null || !toNames(defaultOptions).equals(
+                propertiesComponent.getValue(LAST_DEFAULTS_PROPERTY + profile.name))) {
+            return create(profile, defaultOptions);
+        }
+
+        final EnumSet<StepBuilderOption> options = EnumSet.noneOf(StepBuilderOption.class);
+        final Set<String> names = new HashSet<String>(StringUtil.split(lastUsed, ","));
+        for (final StepBuilderOption option : StepBuilderOption.values()) {
+            if (names.contains(option.name())) {
+                options.add(option);
+            }
+        }
+        return create(profile, options);
+    }
+
+    /**
+     * Remembers the options chosen in the generator dialog for the active settings profile of the project.
+     */
+    public static void saveLastUsed(@NotNull final Project project, @NotNull final Set<StepBuilderOption> options) {
+        final StepBuilderSettings.Profile profile = StepBuilderSettings.getInstance(project).getActiveProfile();
+        final PropertiesComponent propertiesComponent = PropertiesComponent.getInstance();
+        propertiesComponent.setValue(LAST_USED_PROPERTY + profile.name, toNames(options));
+        propertiesComponent.setValue(LAST_DEFAULTS_PROPERTY + profile.name, toNames(getDefaultOptions(profile)));
+    }
+
+    @NotNull
+    private static StepBuilderConfig create(@NotNull final StepBuilderSettings.Profile profile,
+                                            @NotNull final Set<StepBuilderOption> options) {
+        return newBuilder()
+                .withOptions(options)
+                .withSetterPrefix(profile.setterPrefix)
+                .withInterfacePrefix(profile.interfacePrefix)
+                .withMandatoryRules(profile.getMandatoryRules())
+                .build();
+    }
+
+    @NotNull
+    private static Set<StepBuilderOption> getDefaultOptions(@NotNull final StepBuilderSettings.Profile profile) {
+        final EnumSet<StepBuilderOption> options = EnumSet.noneOf(StepBuilderOption.class);
+        for (final StepBuilderOption option : StepBuilderOption.values()) {
+            if (profile.isDefaultOption(option)) {
+                options.add(option);
+            }
+        }
+        return options;
+    }
+
+    /**
+     * @return the names of the options in declaration order, so equal sets give equal strings
+     */
+    @NotNull
+    private static String toNames(@NotNull final Set<StepBuilderOption> options) {
+        final List<String> names = new ArrayList<String>(options.size());
+        for (final StepBuilderOption option : StepBuilderOption.values()) {
+            if (options.contains(option)) {
+                names.add(option.name());
+            }
+        }
+        return StringUtil.join(names, ",");
+    }
+
+    public Set<StepBuilderOption> getOptions() {
+        return options;
+    }
+
+    public boolean hasOption(final StepBuilderOption option) {
+        return options.contains(option);
+    }
+
+    public String getSetterPrefix() {
+        return setterPrefix;
+    }
+
+    public String getInterfacePrefix() {
+        return interfacePrefix;
+    }
+
+    public Set<StepBuilderMandatoryRule> getMandatoryRules() {
+        return mandatoryRules;
+    }
+
+    /**
+     * @return whether the field is a mandatory step according to the configured rules
+     */
+    public boolean isMandatory(final PsiField field) {
+        for (final StepBuilderMandatoryRule rule : mandatoryRules) {
+            if (rule.isMandatory(field)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    interface IOptions {
+        ISetterPrefix withOptions(Set<StepBuilderOption> options);
+    }
+
+    interface ISetterPrefix {
+        IInterfacePrefix withSetterPrefix(String setterPrefix);
+    }
+
+    interface IInterfacePrefix {
+        IBuild withInterfacePrefix(String interfacePrefix);
+    }
+
+    interface IBuild {
+        IBuild withMandatoryRules(Set<StepBuilderMandatoryRule> mandatoryRules);
+        StepBuilderConfig build();
+    }
+
+    public static final class Builder implements IOptions, ISetterPrefix, IInterfacePrefix, IBuild {
+        private EnumSet<StepBuilderOption> options;
+        private String setterPrefix;
+        private String interfacePrefix;
+        private EnumSet<StepBuilderMandatoryRule> mandatoryRules = EnumSet.noneOf(StepBuilderMandatoryRule.class);
+
+        private Builder() { }
+
+        public ISetterPrefix withOptions(final Set<StepBuilderOption> options) {
+            this.options = options.isEmpty() ? EnumSet.noneOf(StepBuilderOption.class) : EnumSet.copyOf(options);
+            return this;
+        }
+
+        public IInterfacePrefix withSetterPrefix(final String setterPrefix) {
+            this.setterPrefix = setterPrefix;
+            return this;
+        }
+
+        public IBuild withInterfacePrefix(final String interfacePrefix) {
+            this.interfacePrefix = interfacePrefix;
+            return this;
+        }
+
+        public IBuild withMandatoryRules(final Set<StepBuilderMandatoryRule> mandatoryRules) {
+            this.mandatoryRules = mandatoryRules.isEmpty() ? EnumSet.noneOf(StepBuilderMandatoryRule.class)
+                    : EnumSet.copyOf(mandatoryRules);
+            return this;
+        }
+
+        public StepBuilderConfig build() {
+            return new StepBuilderConfig(this);
+        }
+    }
+}
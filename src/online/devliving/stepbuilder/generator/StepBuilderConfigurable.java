@@ -0,0 +1,328 @@
+package online.devliving.stepbuilder.generator;
+
+import java.awt.BorderLayout;
+import java.awt.FlowLayout;
+import java.awt.GridLayout;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JComboBox;
+import javax.swing.JComponent;
+import javax.swing.JPanel;
+import javax.swing.JTextField;
+
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.intellij.openapi.options.Configurable;
+import com.intellij.openapi.options.ConfigurationException;
+import com.intellij.openapi.project.Project;
+import com.intellij.ui.IdeBorderFactory;
+import com.intellij.util.ui.FormBuilder;
+
+import online.devliving.stepbuilder.model.StepBuilderOption;
+
+/**
+ * Settings page under Tools to create, edit and activate the settings profiles of {@link StepBuilderSettings}.
+ * The profiles are edited on copies, which only replace the stored ones on {@link #apply()}.
+ */
+public class StepBuilderConfigurable implements Configurable {
+    private final Project project;
+    private final List<StepBuilderSettings.Profile> profiles = new ArrayList<StepBuilderSettings.Profile>();
+    private StepBuilderSettings.Profile selectedProfile;
+
+    private JPanel panel;
+    private JComboBox<String> profileComboBox;
+    private JTextField nameField;
+    private JTextField setterPrefixField;
+    private JTextField interfacePrefixField;
+    private final List<JCheckBox> optionCheckBoxes = new ArrayList<JCheckBox>();
+    private final List<JCheckBox> ruleCheckBoxes = new ArrayList<JCheckBox>();
+    private boolean updating;
+
+    public StepBuilderConfigurable(@NotNull final Project project) {
+        this.project = project;
+    }
+
+    @Nls
+    @Override
+    public String getDisplayName() {
+        return "Step Builder";
+    }
+
+    @Nullable
+    @Override
+    public JComponent createComponent() {
+        profileComboBox = new JComboBox<String>();
+        profileComboBox.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(final ActionEvent event) {
+                if (!updating) {
+                    saveSelectedProfile();
+                    showProfile(profileComboBox.getSelectedIndex());
+                }
+            }
+        });
+        final JButton addButton = new JButton("Add");
+        addButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(final ActionEvent event) {
+                saveSelectedProfile();
+                final StepBuilderSettings.Profile profile = new StepBuilderSettings.Profile();
+                profile.name = uniqueName("Profile");
+                profiles.add(profile);
+                showProfiles(profiles.size() - 1);
+            }
+        });
+        final JButton removeButton = new JButton("Remove");
+        removeButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(final ActionEvent event) {
+                final int index = profileComboBox.getSelectedIndex();
+                // one profile is always left to be the active one
+                if (index >= 0 && profiles.size() > 1) {
+                    profiles.remove(index);
+                    selectedProfile = null;
+                    showProfiles(Math.min(index, profiles.size() - 1));
+                }
+            }
+        });
+        final JPanel profilePanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        profilePanel.add(profileComboBox);
+        profilePanel.add(addButton);
+        profilePanel.add(removeButton);
+
+        nameField = new JTextField();
+        setterPrefixField = new JTextField();
+        interfacePrefixField = new JTextField();
+
+        final JPanel optionsPanel = new JPanel(new GridLayout(0, 1));
+        optionsPanel.setBorder(IdeBorderFactory.createTitledBorder("Options enabled by default"));
+        for (final SelectorOption option : StepBuilderOptionSelector.getOptions()) {
+            final JCheckBox checkBox = new JCheckBox(option.getCaption());
+            checkBox.setToolTipText(option.getToolTip());
+            optionCheckBoxes.add(checkBox);
+            optionsPanel.add(checkBox);
+        }
+        final JPanel rulesPanel = new JPanel(new GridLayout(0, 1));
+        rulesPanel.setBorder(IdeBorderFactory.createTitledBorder("Mandatory fields when generating without the dialog"));
+        for (final StepBuilderMandatoryRule rule : StepBuilderMandatoryRule.values()) {
+            final JCheckBox checkBox = new JCheckBox(rule.getCaption());
+            ruleCheckBoxes.add(checkBox);
+            rulesPanel.add(checkBox);
+        }
+
+        final JPanel form = FormBuilder.createFormBuilder()
+                .addLabeledComponent("Active profile:", profilePanel)
+                .addLabeledComponent("Profile name:", nameField)
+                .addLabeledComponent("Setter prefix:", setterPrefixField)
+                .addLabeledComponent("Interface prefix:", interfacePrefixField)
+                .addComponent(optionsPanel)
+                .addComponent(rulesPanel)
+                .getPanel();
+        panel = new JPanel(new BorderLayout());
+        panel.add(form, BorderLayout.NORTH);
+        reset();
+        return panel;
+    }
+
+    /**
+     * Polled by the settings dialog, so the page is compared with the stored profiles on a snapshot of the profile
+     * shown, without touching the profiles being edited or the combo box.
+     */
+    @Override
+    public boolean isModified() {
+        final StepBuilderSettings settings = StepBuilderSettings.getInstance(project);
+        final List<StepBuilderSettings.Profile> stored = storedProfiles(settings);
+        if (stored.size() != profiles.size() || selectedProfile == null) {
+            return true;
+        }
+        final StepBuilderSettings.Profile shown = selectedProfile.copy();
+        readProfile(shown);
+        if (!shown.name.equals(settings.getActiveProfile().name)) {
+            return true;
+        }
+        for (int i = 0; i < profiles.size(); i++) {
+            final StepBuilderSettings.Profile profile = profiles.get(i) == selectedProfile ? shown : profiles.get(i);
+            if (!profile.isSameAs(stored.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void apply() throws ConfigurationException {
+        saveSelectedProfile();
+        final List<String> names = new ArrayList<String>(profiles.size());
+        for (final StepBuilderSettings.Profile profile : profiles) {
+            if (profile.name.isEmpty()) {
+                throw new ConfigurationException("A profile has no name");
+            }
+            if (names.contains(profile.name)) {
+                throw new ConfigurationException("There are two profiles named " + profile.name);
+            }
+            if (!isIdentifierPrefix(profile.setterPrefix)) {
+                throw new ConfigurationException("The setter prefix '" + profile.setterPrefix + "' of " + profile.name
+                        + " can't start a Java method name");
+            }
+            if (!isIdentifierPrefix(profile.interfacePrefix)) {
+                throw new ConfigurationException("The interface prefix '" + profile.interfacePrefix + "' of "
+                        + profile.name + " can't start a Java interface name");
+            }
+            names.add(profile.name);
+        }
+
+        final StepBuilderSettings.SettingsState state = new StepBuilderSettings.SettingsState();
+        for (final StepBuilderSettings.Profile profile : profiles) {
+            state.profiles.add(profile.copy());
+        }
+        state.activeProfile = selectedProfile.name;
+        StepBuilderSettings.getInstance(project).loadState(state);
+    }
+
+    @Override
+    public void reset() {
+        final StepBuilderSettings settings = StepBuilderSettings.getInstance(project);
+        profiles.clear();
+        profiles.addAll(storedProfiles(settings));
+        final String activeName = settings.getActiveProfile().name;
+        int active = 0;
+        for (int i = 0; i < profiles.size(); i++) {
+            if (profiles.get(i).name.equals(activeName)) {
+                active = i;
+            }
+        }
+        selectedProfile = null;
+        showProfiles(active);
+    }
+
+    @Override
+    public void disposeUIResources() {
+        panel = null;
+        optionCheckBoxes.clear();
+        ruleCheckBoxes.clear();
+    }
+
+    /**
+     * @return copies of the stored profiles, or the default profile the generator uses when none is stored
+     */
+    private static List<StepBuilderSettings.Profile> storedProfiles(final StepBuilderSettings settings) {
+        final List<StepBuilderSettings.Profile> stored = new ArrayList<StepBuilderSettings.Profile>();
+        final StepBuilderSettings.SettingsState state = settings.getState();
+        if (state != null) {
+            for (final StepBuilderSettings.Profile profile : state.profiles) {
+                stored.add(profile.copy());
+            }
+        }
+        if (stored.isEmpty()) {
+            stored.add(new StepBuilderSettings.Profile());
+        }
+        return stored;
+    }
+
+    /**
+     * @return whether the prefix followed by a capitalized field name is a Java identifier, an empty one is
+     */
+    static boolean isIdentifierPrefix(final String prefix) {
+        for (int i = 0; i < prefix.length(); i++) {
+            final char c = prefix.charAt(i);
+            if (i == 0 ? !Character.isJavaIdentifierStart(c) : !Character.isJavaIdentifierPart(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String uniqueName(final String prefix) {
+        for (int i = profiles.size() + 1; ; i++) {
+            boolean taken = false;
+            for (final StepBuilderSettings.Profile profile : profiles) {
+                taken |= (prefix + " " + i).equals(profile.name);
+            }
+            if (!taken) {
+                return prefix + " " + i;
+            }
+        }
+    }
+
+    private void showProfiles(final int selected) {
+        updating = true;
+        try {
+            profileComboBox.removeAllItems();
+            for (final StepBuilderSettings.Profile profile : profiles) {
+                profileComboBox.addItem(profile.name);
+            }
+            profileComboBox.setSelectedIndex(selected);
+        } finally {
+            updating = false;
+        }
+        showProfile(selected);
+    }
+
+    private void showProfile(final int index) {
+        selectedProfile = profiles.get(index);
+        nameField.setText(selectedProfile.name);
+        setterPrefixField.setText(selectedProfile.setterPrefix);
+        interfacePrefixField.setText(selectedProfile.interfacePrefix);
+        final List<SelectorOption> options = StepBuilderOptionSelector.getOptions();
+        for (int i = 0; i < options.size(); i++) {
+            optionCheckBoxes.get(i).setSelected(selectedProfile.isDefaultOption(options.get(i).getOption()));
+        }
+        final StepBuilderMandatoryRule[] rules = StepBuilderMandatoryRule.values();
+        for (int i = 0; i < rules.length; i++) {
+            ruleCheckBoxes.get(i).setSelected(selectedProfile.getMandatoryRules().contains(rules[i]));
+        }
+    }
+
+    /**
+     * Copies the fields of the page into the profile shown, before another one is shown or the profiles are saved.
+     */
+    private void saveSelectedProfile() {
+        if (selectedProfile == null || nameField == null) {
+            return;
+        }
+        readProfile(selectedProfile);
+
+        // a renamed profile is renamed in the combo box too, without changing what it selects
+        final int index = profiles.indexOf(selectedProfile);
+        if (index >= 0 && index < profileComboBox.getItemCount()
+                && !selectedProfile.name.equals(profileComboBox.getItemAt(index))) {
+            final int shown = profileComboBox.getSelectedIndex();
+            updating = true;
+            try {
+                profileComboBox.removeItemAt(index);
+                profileComboBox.insertItemAt(selectedProfile.name, index);
+                profileComboBox.setSelectedIndex(shown);
+            } finally {
+                updating = false;
+            }
+        }
+    }
+
+    private void readProfile(final StepBuilderSettings.Profile profile) {
+        profile.name = nameField.getText().trim();
+        profile.setterPrefix = setterPrefixField.getText().trim();
+        profile.interfacePrefix = interfacePrefixField.getText().trim();
+        profile.defaultOptions = new ArrayList<String>();
+        final List<SelectorOption> options = StepBuilderOptionSelector.getOptions();
+        for (int i = 0; i < options.size(); i++) {
+            if (optionCheckBoxes.get(i).isSelected()) {
+                final StepBuilderOption option = options.get(i).getOption();
+                profile.defaultOptions.add(option.name());
+            }
+        }
+        profile.mandatoryRules = new ArrayList<String>();
+        final StepBuilderMandatoryRule[] rules = StepBuilderMandatoryRule.values();
+        for (int i = 0; i < rules.length; i++) {
+            if (ruleCheckBoxes.get(i).isSelected()) {
+                profile.mandatoryRules.add(rules[i].name());
+            }
+        }
+    }
+}
@@ -1,611 +1,590 @@
 package online.devliving.stepbuilder.generator;
 
 import com.intellij.codeInsight.generation.PsiFieldMember;
-import com.intellij.ide.util.PropertiesComponent;
+import com.intellij.notification.Notification;
+import com.intellij.notification.NotificationType;
+import com.intellij.notification.Notifications;
 import com.intellij.openapi.application.ApplicationManager;
-import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.*;
 import com.intellij.psi.codeStyle.CodeStyleManager;
 import com.intellij.psi.codeStyle.JavaCodeStyleManager;
-import com.intellij.psi.javadoc.PsiDocComment;
-import com.intellij.psi.util.PropertyUtil;
-import com.intellij.psi.util.PsiUtil;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.ThrowableRunnable;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.*;
+import online.devliving.stepbuilder.model.StepBuilderModel;
+import online.devliving.stepbuilder.model.StepBuilderOption;
+import online.devliving.stepbuilder.model.StepBuilderRenderer;
+import online.devliving.stepbuilder.model.StepField;
 
-public class StepBuilderGenerator implements Runnable {
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+/**
+ * Generates the step builder in two phases: {@link #computeChanges()} renders and formats the generated members
+ * into a non-physical fragment under a read action, {@link #apply(ChangeSet)} then only swaps them into the class,
+ * keeping the write lock short even for classes with hundreds of fields. The generated members are kept between
+ * region markers, so that generating again replaces them without touching the members of the user.
+ */
+public class StepBuilderGenerator {
+    private static final Logger LOG = Logger.getInstance("#online.devliving.stepbuilder.generator.StepBuilderGenerator");
 
     @NonNls
-    private static final String BUILDER_CLASS_NAME = "Builder";
-    @NonNls
-    private static final String BUILD_STEP_INTERFACE_NAME = "Build";
-    @NonNls
-    private static final String INTERFACE_NAME_PREFIX = "I";
-    @NonNls
-    private static final String BUILDER_SETTER_DEFAULT_PARAMETER_NAME = "val";
+    static final String COMMAND_NAME = "Generate Step Builder";
     @NonNls
-    private static final String BUILDER_SETTER_ALTERNATIVE_PARAMETER_NAME = "value";
-    @NonNls
-    private static final String OVERRIDE_ANNOTATION = "java.lang.Override";
+    static final String NOTIFICATION_GROUP = "Step Builder";
+    private static final int MAX_LISTED_MEMBERS = 10;
 
     private final Project project;
-    private final PsiFile file;
-    private final Editor editor;
+    private final PsiClass topLevelClass;
+    private final StepBuilderConfig config;
     private final List<PsiFieldMember> mandatoryFields;
     private final List<PsiFieldMember> optionalFields;
-    private final PsiElementFactory psiElementFactory;
+    private final Set<PsiField> lazyFields;
 
-    private StepBuilderGenerator(final Project project, final PsiFile file, final Editor editor,
-                                 final List<PsiFieldMember> mandatoryFields, final List<PsiFieldMember> optionalFields) {
+    StepBuilderGenerator(final Project project, final PsiClass topLevelClass, final StepBuilderConfig config,
+                         final List<PsiFieldMember> mandatoryFields, final List<PsiFieldMember> optionalFields,
+                         final Set<PsiField> lazyFields) {
         this.project = project;
-        this.file = file;
-        this.editor = editor;
+        this.topLevelClass = topLevelClass;
+        this.config = config;
         this.mandatoryFields = mandatoryFields;
         this.optionalFields = optionalFields;
-        psiElementFactory = JavaPsiFacade.getInstance(project).getElementFactory();
-    }
-
-    public static void generate(final Project project, final Editor editor, final PsiFile file,
-                                final List<PsiFieldMember> selectedFields, final List<PsiFieldMember> optionalFields) {
-        final Runnable builderGenerator = new StepBuilderGenerator(project, file, editor, selectedFields, optionalFields);
-        ApplicationManager.getApplication().runWriteAction(builderGenerator);
-    }
-
-    private static EnumSet<StepBuilderOption> currentOptions() {
-        final EnumSet<StepBuilderOption> options = EnumSet.noneOf(StepBuilderOption.class);
-        final PropertiesComponent propertiesComponent = PropertiesComponent.getInstance();
-        for (final StepBuilderOption option : StepBuilderOption.values()) {
-            final boolean currentSetting = propertiesComponent.getBoolean(option.getProperty(), false);
-            if (currentSetting) {
-                options.add(option);
-            }
-        }
-        return options;
+        this.lazyFields = lazyFields;
     }
 
-    @Override
-    public void run() {
-        final PsiClass topLevelClass = StepBuilderUtils.getTopLevelClass(project, file, editor);
-        if (topLevelClass == null) {
+    public static void generate(final Project project, final PsiClass topLevelClass, final StepBuilderConfig config,
+                                final List<PsiFieldMember> selectedFields, final List<PsiFieldMember> optionalFields,
+                                final Set<PsiField> lazyFields) {
+        final StepBuilderGenerator generator = new StepBuilderGenerator(project, topLevelClass, config,
+                selectedFields, optionalFields, lazyFields);
+        if (ApplicationManager.getApplication().isUnitTestMode()) {
+            generator.applyAsCommand(generator.computeChanges());
             return;
         }
 
-        final Set<StepBuilderOption> options = currentOptions();
-
-        final List<PsiFieldMember> finalFields = new ArrayList<PsiFieldMember>(); //should't have setters
-        final List<PsiFieldMember> nonFinalFields = new ArrayList<PsiFieldMember>(); //should have setters
-        final List<PsiFieldMember> optionalNonfinalFields = new ArrayList<PsiFieldMember>();
-        final List<PsiFieldMember> mandatoryNonfinalFields = new ArrayList<PsiFieldMember>();
-
-        //generate the interfaces
-        //generate optional interface
-        final PsiClass optionalInterface = createBuildStepInterface(options.contains(StepBuilderOption.PUBLIC_INTERFACES));
-        final PsiClassType optionalInterfaceType = psiElementFactory.createType(optionalInterface);
-
-        if(optionalFields != null && !optionalFields.isEmpty()) {
-            for (PsiFieldMember fieldMember : optionalFields) {
-                if (!fieldMember.getElement().hasModifierProperty(PsiModifier.FINAL)
-                        || options.contains(StepBuilderOption.FINAL_SETTERS)) {
-
-                    nonFinalFields.add(fieldMember);
-                    optionalNonfinalFields.add(fieldMember);
-
-                    String fieldName = fieldMember.getElement().getName();
-                    String methodName = String.format("with%s", StepBuilderUtils.capitalize(fieldName));
-                    String paramName = BUILDER_SETTER_DEFAULT_PARAMETER_NAME.equals(fieldName) ?
-                            BUILDER_SETTER_ALTERNATIVE_PARAMETER_NAME : BUILDER_SETTER_DEFAULT_PARAMETER_NAME;
-
-                    PsiMethod methodStatement = psiElementFactory.createMethodFromText(String.format("%s %s(%s %s);",
-                            optionalInterfaceType.getPresentableText(), methodName, fieldMember.getElement().getType().getPresentableText(),
-                            paramName), optionalInterface);
-
-                    optionalInterface.add(methodStatement);
-                } else {
-                    finalFields.add(fieldMember);
-                }
+        ReadAction.nonBlocking(new Callable<ChangeSet>() {
+            @Override
+            public ChangeSet call() {
+                return generator.computeChanges();
             }
-        }
-        //add build method
-        PsiMethod methodStatement = psiElementFactory.createMethodFromText(String.format("%s %s();",
-                psiElementFactory.createType(topLevelClass).getPresentableText(), "build"), optionalInterface);
-
-        optionalInterface.add(methodStatement);
-
-        topLevelClass.add(optionalInterface);
-
-        //generate mandatory interfaces
-        final List<PsiClassType> mandatoryInterfaceTypes = new ArrayList<PsiClassType>();
-        if(mandatoryFields != null && !mandatoryFields.isEmpty()){
-            PsiClassType returnType = optionalInterfaceType;
-
-            for(int i = mandatoryFields.size() - 1; i >= 0; i--) {
-                PsiFieldMember fieldMember = mandatoryFields.get(i);
-                if (!fieldMember.getElement().hasModifierProperty(PsiModifier.FINAL)
-                        || options.contains(StepBuilderOption.FINAL_SETTERS)) {
-
-                    nonFinalFields.add(fieldMember);
-                    mandatoryNonfinalFields.add(fieldMember);
-
-                    PsiClass mInterface = generateMandatoryInterface(fieldMember, returnType, options.contains(StepBuilderOption.PUBLIC_INTERFACES));
-                    topLevelClass.add(mInterface);
-
-                    returnType = psiElementFactory.createType(mInterface);
-                    mandatoryInterfaceTypes.add(returnType);
-                }
-                else{
-                    finalFields.add(fieldMember);
-                }
+        }).withDocumentsCommitted(project).expireWith(project)
+                .finishOnUiThread(ModalityState.defaultModalityState(), new Consumer<ChangeSet>() {
+            @Override
+            public void accept(final ChangeSet changes) {
+                generator.applyAsCommand(changes);
             }
-        }
-
-        //create builder class
-        final PsiClass builderClass = findOrCreateBuilderClass(topLevelClass, mandatoryInterfaceTypes, optionalInterfaceType);
-        final PsiType builderType = psiElementFactory.createTypeFromText(BUILDER_CLASS_NAME, null);
-        //topLevelClass.addAfter(psiElementFactory.createCommentFromText("//regionend", null), builderClass);
-        //add a constructor to the class
-        final PsiMethod constructor = generateConstructor(topLevelClass, builderType);
-        addMethod(topLevelClass, null, constructor, true);
-        //topLevelClass.addBefore(psiElementFactory.createCommentFromText("//region Builder", null), constructor);
-        //add the fields in Builder
-        PsiElement lastAddedField = null;
-        for (final PsiFieldMember fieldMember : nonFinalFields) {
-            lastAddedField = findOrCreateField(builderClass, fieldMember, lastAddedField);
-        }
-
-        for (final PsiFieldMember fieldMember : finalFields) {
-            lastAddedField = findOrCreateField(builderClass, fieldMember, lastAddedField);
-            PsiUtil.setModifierProperty((PsiField) lastAddedField, PsiModifier.FINAL, true);
-        }
-
-        // builder constructor, accepting the final fields
-        final PsiMethod builderConstructorMethod = generateBuilderConstructor(builderClass, finalFields, options);
-        addMethod(builderClass, null, builderConstructorMethod, false);
+        }).submit(AppExecutorUtil.getAppExecutorService());
+    }
 
-        // builder copy constructor or static copy method
-        if (options.contains(StepBuilderOption.COPY_CONSTRUCTOR)) {
-            final PsiMethod copyBuilderMethod = generateCopyBuilderMethod(topLevelClass, builderType,
-                    finalFields,nonFinalFields, options);
-            addMethod(topLevelClass, null, copyBuilderMethod, true);
+    /**
+     * First phase, needs a read action only: renders all generated members as one fragment, parses it once into
+     * a non-physical class and formats it. Only the members inside the region of a previous generation are
+     * replaced; a generated member clashing with one of the user is left out, and a generated class that already
+     * exists is merged into it.
+     */
+    @Nullable
+    ChangeSet computeChanges() {
+        if (!topLevelClass.isValid()) {
+            return null;
+        }
+
+        final StepBuilderPhaseMeter meter = StepBuilderPhaseMeter.start();
+        final StepBuilderMemberIndex memberIndex = new StepBuilderMemberIndex(topLevelClass);
+        final List<String> warnings = new ArrayList<String>();
+        final StepBuilderRenderer renderer = new StepBuilderRenderer(createModel(memberIndex, warnings));
+        final String body = StepBuilderMemberIndex.REGION_START + "\n\n" + renderer.renderMembers() + "\n"
+                + StepBuilderMemberIndex.REGION_END + "\n";
+        final PsiElementFactory elementFactory = JavaPsiFacade.getElementFactory(project);
+        final PsiClass fragment = elementFactory.createClassFromText(body, topLevelClass);
+        for (final PsiClass innerClass : fragment.getInnerClasses()) {
+            if (!innerClass.isInterface()) {
+                markRegion(innerClass, elementFactory);
+            }
         }
+        CodeStyleManager.getInstance(project).reformat(fragment);
 
-        // builder methods
-        final PsiClassType lastInterfaceType;
-
-        PsiElement lastAddedElement = null;
-        if(!mandatoryNonfinalFields.isEmpty()) {
-            PsiClassType returnType = optionalInterfaceType;
-
-            for (int i = 0; i < mandatoryNonfinalFields.size(); i++) {
-                final PsiFieldMember member = mandatoryNonfinalFields.get(i);
-                final PsiMethod setterMethod = generateBuilderSetter(returnType, member, options);
-                lastAddedElement = addMethod(builderClass, lastAddedElement, setterMethod, false);
-                returnType = mandatoryInterfaceTypes.get(i);
+        final Set<PsiMember> replacedMembers = new LinkedHashSet<PsiMember>(memberIndex.getGeneratedMembers());
+        final List<MergedClass> mergedClasses = new ArrayList<MergedClass>();
+        final List<String> keptMembers = new ArrayList<String>();
+        final Set<String> staleStepNames = findStepNames(memberIndex.getGeneratedMembers());
+        for (final PsiClass innerClass : fragment.getInnerClasses()) {
+            final PsiClass existing = memberIndex.findInnerClass(innerClass.getName());
+            if (existing == null || memberIndex.isGenerated(existing) && existing.isInterface()) {
+                continue;
+            }
+            final boolean generated = memberIndex.isGenerated(existing);
+            replacedMembers.remove(existing);
+            mergedClasses.add(merge(existing, (PsiClass) innerClass.copy(), generated, generated ? staleStepNames
+                    : Collections.<String>emptySet(), memberIndex, replacedMembers));
+            innerClass.delete();
+        }
+        for (final PsiMethod method : fragment.getMethods()) {
+            final PsiMethod existing = memberIndex.findMethod(method);
+            if (existing != null && !memberIndex.isGenerated(existing)) {
+                keptMembers.add(existing.getName() + "()");
+                method.delete();
             }
-
-            lastInterfaceType = returnType;
         }
-        else{
-            lastInterfaceType = optionalInterfaceType;
+        for (final PsiField field : fragment.getFields()) {
+            final PsiField existing = memberIndex.findField(field.getName());
+            if (existing != null && !memberIndex.isGenerated(existing)) {
+                keptMembers.add(existing.getName());
+                field.delete();
+            }
         }
 
-        if(!optionalNonfinalFields.isEmpty()) {
-            for (int i = 0; i < optionalNonfinalFields.size(); i++) {
-                final PsiFieldMember member = optionalNonfinalFields.get(i);
-                final PsiMethod setterMethod = generateBuilderSetter(optionalInterfaceType, member, options);
-                lastAddedElement = addMethod(builderClass, lastAddedElement, setterMethod, false);
+        warnings.addAll(renderer.getWarnings());
+        if (!keptMembers.isEmpty()) {
+            String listed = StringUtil.join(keptMembers.subList(0, Math.min(keptMembers.size(), MAX_LISTED_MEMBERS)),
+                    ", ");
+            if (keptMembers.size() > MAX_LISTED_MEMBERS) {
+                listed += " and " + (keptMembers.size() - MAX_LISTED_MEMBERS) + " more";
             }
+            warnings.add("Kept the existing " + listed + " instead of generating them, delete them to have them"
+                    + " generated");
         }
-
-        //generate the static builder method
-        final PsiMethod newBuilderMethod = generateNewBuilderMethod(builderType, finalFields, options, lastInterfaceType);
-        addMethod(topLevelClass, null, newBuilderMethod, false);
-
-        // builder.build() method
-        final PsiMethod buildMethod = generateBuildMethod(topLevelClass, options);
-        addMethod(builderClass, lastAddedElement, buildMethod, false);
-
-        JavaCodeStyleManager.getInstance(project).shortenClassReferences(file);
-        CodeStyleManager.getInstance(project).reformat(builderClass);
+        return new ChangeSet(fragment, memberIndex.getRegionEnd(), replacedMembers, mergedClasses, warnings,
+                meter.elapsedNanos(), meter.allocatedBytes());
     }
 
-    private PsiClass createBuildStepInterface(boolean isPublic){
-        PsiClass buildStep =  psiElementFactory.createInterface(INTERFACE_NAME_PREFIX + BUILD_STEP_INTERFACE_NAME);
-        if(buildStep.getModifierList() != null){
-            buildStep.getModifierList().setModifierProperty(PsiModifier.PUBLIC, isPublic);
+    /**
+     * Surrounds the body of a generated class with the region markers too, so that generating again can tell what
+     * the user added to it from what the generator did, whichever options generated it.
+     */
+    private void markRegion(@NotNull final PsiClass clazz, @NotNull final PsiElementFactory elementFactory) {
+        final PsiElement lBrace = clazz.getLBrace();
+        final PsiElement rBrace = clazz.getRBrace();
+        if (lBrace == null || rBrace == null) {
+            return;
         }
-
-        return buildStep;
+        final PsiParserFacade parserFacade = PsiParserFacade.getInstance(project);
+        clazz.addAfter(elementFactory.createCommentFromText(StepBuilderMemberIndex.REGION_START, null), lBrace);
+        clazz.addAfter(parserFacade.createWhiteSpaceFromText("\n"), lBrace);
+        clazz.addBefore(elementFactory.createCommentFromText(StepBuilderMemberIndex.REGION_END, null), rBrace);
+        clazz.addBefore(parserFacade.createWhiteSpaceFromText("\n"), rBrace);
     }
 
     /**
-     *
-     * @param forMember
-     * @param returnType - should be an interface type
-     * @return
+     * @return the names of the methods of the previously generated step interfaces, their implementations in a
+     * generated Builder are stale when the step is gone
      */
-    private PsiClass generateMandatoryInterface(PsiFieldMember forMember, PsiType returnType, boolean isPublic){
-        String capitalizedFieldName = StepBuilderUtils.capitalize(forMember.getElement().getName());
-        String methodName = String.format("with%s", capitalizedFieldName);
-        String paramName = BUILDER_SETTER_DEFAULT_PARAMETER_NAME.equals(forMember.getElement().getName())?
-                BUILDER_SETTER_ALTERNATIVE_PARAMETER_NAME:BUILDER_SETTER_DEFAULT_PARAMETER_NAME;
-
-        PsiClass mInterface = psiElementFactory.createInterface(INTERFACE_NAME_PREFIX + capitalizedFieldName);
-        if(mInterface.getModifierList() != null){
-            mInterface.getModifierList().setModifierProperty(PsiModifier.PUBLIC, isPublic);
+    @NotNull
+    private static Set<String> findStepNames(@NotNull final List<PsiMember> generatedMembers) {
+        final Set<String> names = new HashSet<String>();
+        for (final PsiMember member : generatedMembers) {
+            if (member instanceof PsiClass && ((PsiClass) member).isInterface()) {
+                for (final PsiMethod method : ((PsiClass) member).getMethods()) {
+                    names.add(method.getName());
+                }
+            }
         }
-
-        PsiMethod fieldMethod = psiElementFactory.createMethodFromText(String.format("%s %s(%s %s);", returnType.getPresentableText(),
-                methodName, forMember.getElement().getType().getPresentableText(), paramName), mInterface);
-
-        mInterface.add(fieldMethod);
-        return mInterface;
+        return names;
     }
 
-    private PsiMethod generateCopyBuilderMethod(final PsiClass topLevelClass, final PsiType builderType,
-                                                final Collection<PsiFieldMember> finalFields,
-                                                final Collection<PsiFieldMember> nonFinalfields,
-                                                final Set<StepBuilderOption> options) {
-        //create the method
-        final PsiMethod copyBuilderMethod = psiElementFactory.createMethod("newBuilder", builderType);
-        PsiUtil.setModifierProperty(copyBuilderMethod, PsiModifier.STATIC, true);
-        PsiUtil.setModifierProperty(copyBuilderMethod, PsiModifier.PUBLIC, true);
-
-        //add method parameter
-        final PsiType topLevelClassType = psiElementFactory.createType(topLevelClass);
-        final PsiParameter parameter = psiElementFactory.createParameter("copy", topLevelClassType);
-        final PsiModifierList parameterModifierList = parameter.getModifierList();
-
-        copyBuilderMethod.getParameterList().add(parameter);
-
-        //add body to method
-        final PsiCodeBlock copyBuilderBody = copyBuilderMethod.getBody();
-        if (copyBuilderBody != null) {
-            final StringBuilder copyBuilderParameters = new StringBuilder();
-            for (final PsiFieldMember fieldMember : finalFields) {
-                if (copyBuilderParameters.length() > 0) {
-                    copyBuilderParameters.append(", ");
+    /**
+     * Merges a generated class into the existing one, keeping what the user added to it. In a class the generator
+     * created before, everything between its region markers is replaced, and a member of the user outside of them
+     * is kept instead of the generated one. A class generated before it had markers only has the private
+     * constructors, the fields mirroring the fields of the built class and the implementations of the steps
+     * replaced. In a class of the user only what is missing is added, and a field is replaced only when its type
+     * changed.
+     */
+    @NotNull
+    private static MergedClass merge(@NotNull final PsiClass existing, @NotNull final PsiClass generated,
+                                     final boolean replaceGenerated, @NotNull final Set<String> staleStepNames,
+                                     @NotNull final StepBuilderMemberIndex memberIndex,
+                                     @NotNull final Set<PsiMember> replacedMembers) {
+        final List<PsiMember> addedMembers = new ArrayList<PsiMember>();
+        final StepBuilderMemberIndex existingIndex = replaceGenerated ? new StepBuilderMemberIndex(existing) : null;
+        final PsiComment regionEnd = existingIndex != null ? existingIndex.getRegionEnd() : null;
+        if (regionEnd != null) {
+            replacedMembers.addAll(existingIndex.getGeneratedMembers());
+        } else if (replaceGenerated) {
+            for (final PsiMethod method : existing.getMethods()) {
+                if (method.isConstructor() ? method.hasModifierProperty(PsiModifier.PRIVATE)
+                        : staleStepNames.contains(method.getName())) {
+                    replacedMembers.add(method);
+                }
+            }
+            for (final PsiField field : existing.getFields()) {
+                if (memberIndex.findField(field.getName()) != null) {
+                    replacedMembers.add(field);
                 }
-
-                copyBuilderParameters.append(String.format("copy.%s", fieldMember.getElement().getName()));
             }
-
-            final PsiStatement newBuilderStatement = psiElementFactory.createStatementFromText(String.format(
-                    "%s builder = new %s(%s);", builderType.getPresentableText(),
-                    builderType.getPresentableText(), copyBuilderParameters.toString()),
-                    copyBuilderMethod);
-            copyBuilderBody.add(newBuilderStatement);
-
-            addCopyBody(nonFinalfields, copyBuilderMethod, "builder.");
-            copyBuilderBody.add(psiElementFactory.createStatementFromText("return builder;", copyBuilderMethod));
         }
-        return copyBuilderMethod;
-    }
-
-    private PsiMethod generateCopyConstructor(final PsiClass topLevelClass, final PsiType builderType,
-                                              final Collection<PsiFieldMember> nonFinalFields,
-                                              final Set<StepBuilderOption> options) {
-
-        final PsiMethod copyConstructor = psiElementFactory.createConstructor(builderType.getPresentableText());
-        PsiUtil.setModifierProperty(copyConstructor, PsiModifier.PUBLIC, true);
-
-        final PsiType topLevelClassType = psiElementFactory.createType(topLevelClass);
-        final PsiParameter constructorParameter = psiElementFactory.createParameter("copy", topLevelClassType);
-        final PsiModifierList parameterModifierList = constructorParameter.getModifierList();
-
-        copyConstructor.getParameterList().add(constructorParameter);
-        addCopyBody(nonFinalFields, copyConstructor, "this.");
-        return copyConstructor;
-    }
-
-    private void addCopyBody(final Collection<PsiFieldMember> fields, final PsiMethod method, final String qName) {
-        final PsiCodeBlock methodBody = method.getBody();
-        if (methodBody == null) {
-            return;
+        for (final PsiField field : generated.getFields()) {
+            final PsiField existingField = existing.findFieldByName(field.getName(), false);
+            if (existingField == null || replacedMembers.contains(existingField)) {
+                addedMembers.add(field);
+            } else if (regionEnd == null
+                    && !StepBuilderUtils.areTypesPresentableEqual(existingField.getType(), field.getType())) {
+                replacedMembers.add(existingField);
+                addedMembers.add(field);
+            }
         }
-        for (final PsiFieldMember member : fields) {
-            final PsiField field = member.getElement();
-            final PsiStatement assignStatement = psiElementFactory.createStatementFromText(String.format(
-                    "%s%2$s = copy.%2$s;", qName, field.getName()), method);
-            methodBody.add(assignStatement);
+        for (final PsiMethod method : generated.getMethods()) {
+            final PsiMethod existingMethod = findMethod(existing, method);
+            if (existingMethod == null || replacedMembers.contains(existingMethod)) {
+                addedMembers.add(method);
+            } else if (replaceGenerated && regionEnd == null) {
+                replacedMembers.add(existingMethod);
+                addedMembers.add(method);
+            }
         }
-    }
-
-    private PsiMethod generateBuilderConstructor(final PsiClass builderClass,
-                                                 final Collection<PsiFieldMember> finalFields,
-                                                 final Set<StepBuilderOption> options) {
-
-        final PsiMethod builderConstructor = psiElementFactory.createConstructor(builderClass.getName());
-        PsiUtil.setModifierProperty(builderConstructor, PsiModifier.PRIVATE, true);
-
-        final PsiCodeBlock builderConstructorBody = builderConstructor.getBody();
-        if (builderConstructorBody != null) {
-            for (final PsiFieldMember member : finalFields) {
-                final PsiField field = member.getElement();
-                final PsiType fieldType = field.getType();
-                final String fieldName = field.getName();
-
-                final PsiParameter parameter = psiElementFactory.createParameter(fieldName, fieldType);
-                final PsiModifierList parameterModifierList = parameter.getModifierList();
-
-                builderConstructor.getParameterList().add(parameter);
-                final PsiStatement assignStatement = psiElementFactory.createStatementFromText(String.format(
-                        "this.%1$s = %1$s;", fieldName), builderConstructor);
-                builderConstructorBody.add(assignStatement);
+        for (final PsiClass innerClass : generated.getInnerClasses()) {
+            final PsiClass existingClass = existing.findInnerClassByName(innerClass.getName(), false);
+            if (existingClass == null || replacedMembers.contains(existingClass)) {
+                addedMembers.add(innerClass);
             }
         }
 
-        return builderConstructor;
-    }
-
-    private PsiMethod generateNewBuilderMethod(final PsiType builderType, final Collection<PsiFieldMember> finalFields,
-                                               final Set<StepBuilderOption> options, final PsiType returnType) {
-        final PsiMethod newBuilderMethod = psiElementFactory.createMethod("builder", returnType);
-        PsiUtil.setModifierProperty(newBuilderMethod, PsiModifier.STATIC, true);
-        PsiUtil.setModifierProperty(newBuilderMethod, PsiModifier.PUBLIC, true);
-
-        final StringBuilder fieldList = new StringBuilder();
-        if (!finalFields.isEmpty()) {
-            for (final PsiFieldMember member : finalFields) {
-                final PsiField field = member.getElement();
-                final PsiType fieldType = field.getType();
-                final String fieldName = field.getName();
-
-                final PsiParameter parameter = psiElementFactory.createParameter(fieldName, fieldType);
-                final PsiModifierList parameterModifierList = parameter.getModifierList();
-
-                newBuilderMethod.getParameterList().add(parameter);
-                if (fieldList.length() > 0) {
-                    fieldList.append(", ");
+        final List<PsiJavaCodeReferenceElement> addedReferences = new ArrayList<PsiJavaCodeReferenceElement>();
+        final PsiReferenceList implementsList = generated.getImplementsList();
+        final PsiReferenceList existingImplementsList = existing.getImplementsList();
+        if (implementsList != null && existingImplementsList != null) {
+            final Set<String> implemented = new HashSet<String>();
+            if (!replaceGenerated) {
+                for (final PsiJavaCodeReferenceElement reference : existingImplementsList.getReferenceElements()) {
+                    implemented.add(reference.getReferenceName());
+                }
+            }
+            for (final PsiJavaCodeReferenceElement reference : implementsList.getReferenceElements()) {
+                if (implemented.add(reference.getReferenceName())) {
+                    addedReferences.add(reference);
                 }
-                fieldList.append(fieldName);
             }
         }
-        final PsiCodeBlock newBuilderMethodBody = newBuilderMethod.getBody();
-        if (newBuilderMethodBody != null) {
-            final PsiStatement newStatement = psiElementFactory.createStatementFromText(String.format(
-                            "return new %s(%s);", builderType.getPresentableText(), fieldList.toString()),
-                    newBuilderMethod);
-            newBuilderMethodBody.add(newStatement);
-        }
-        return newBuilderMethod;
+        return new MergedClass(existing, replaceGenerated, regionEnd, addedMembers, addedReferences);
     }
 
-    private PsiMethod generateBuilderSetter(final PsiType returnType, final PsiFieldMember member,
-                                            final Set<StepBuilderOption> options) {
-
-        final PsiField field = member.getElement();
-        final PsiType fieldType = field.getType();
-        final String fieldName = field.getName();
-
-        final String methodName = String.format("with%s", StepBuilderUtils.capitalize(fieldName));
-
-        final String parameterName = !BUILDER_SETTER_DEFAULT_PARAMETER_NAME.equals(fieldName) ?
-                BUILDER_SETTER_DEFAULT_PARAMETER_NAME :
-                BUILDER_SETTER_ALTERNATIVE_PARAMETER_NAME;
-        final PsiMethod setterMethod = psiElementFactory.createMethod(methodName, returnType);
-
-        setterMethod.getModifierList().addAnnotation(OVERRIDE_ANNOTATION);
-
-        setterMethod.getModifierList().setModifierProperty(PsiModifier.PUBLIC, true);
-        final PsiParameter setterParameter = psiElementFactory.createParameter(parameterName, fieldType);
-
-        if (!(fieldType instanceof PsiPrimitiveType)) {
-            final PsiModifierList setterParameterModifierList = setterParameter.getModifierList();
-        }
-        setterMethod.getParameterList().add(setterParameter);
-        final PsiCodeBlock setterMethodBody = setterMethod.getBody();
-        if (setterMethodBody != null) {
-            final PsiStatement assignStatement = psiElementFactory.createStatementFromText(String.format(
-                    "%s = %s;", fieldName, parameterName), setterMethod);
-            setterMethodBody.add(assignStatement);
-            setterMethodBody.add(StepBuilderUtils.createReturnThis(psiElementFactory, setterMethod));
+    @Nullable
+    private static PsiMethod findMethod(@NotNull final PsiClass clazz, @NotNull final PsiMethod newMethod) {
+        final PsiMethod[] candidates = newMethod.isConstructor() || newMethod.getReturnTypeElement() == null
+                ? clazz.getConstructors() : clazz.findMethodsByName(newMethod.getName(), false);
+        for (final PsiMethod candidate : candidates) {
+            if (StepBuilderUtils.areParameterListsEqual(candidate.getParameterList(), newMethod.getParameterList())) {
+                return candidate;
+            }
         }
-        setSetterComment(setterMethod, fieldName, parameterName, returnType);
-        return setterMethod;
+        return null;
     }
 
-    private PsiMethod generateConstructor(final PsiClass topLevelClass, final PsiType builderType) {
-        final PsiMethod constructor = psiElementFactory.createConstructor(topLevelClass.getName());
-        constructor.getModifierList().setModifierProperty(PsiModifier.PRIVATE, true);
-
-        final PsiParameter builderParameter = psiElementFactory.createParameter("builder", builderType);
-        constructor.getParameterList().add(builderParameter);
-
-        final PsiCodeBlock constructorBody = constructor.getBody();
-        if (constructorBody != null) {
-            for (final PsiFieldMember member : mandatoryFields) {
-                final PsiField field = member.getElement();
-
-                final PsiMethod setterPrototype = PropertyUtil.generateSetterPrototype(field);
-                final PsiMethod setter = topLevelClass.findMethodBySignature(setterPrototype, true);
-
-                final String fieldName = field.getName();
-                boolean isFinal = false;
-                final PsiModifierList modifierList = field.getModifierList();
-                if (modifierList != null) {
-                    isFinal = modifierList.hasModifierProperty(PsiModifier.FINAL);
-                }
-
-                final String assignText;
-                if (setter == null || isFinal) {
-                    assignText = String.format("%1$s = builder.%1$s;", fieldName);
-                } else {
-                    assignText = String.format("%s(builder.%s);", setter.getName(), fieldName);
-                }
-
-                final PsiStatement assignStatement = psiElementFactory.createStatementFromText(assignText, null);
-                constructorBody.add(assignStatement);
+    /**
+     * Translates the selected PSI fields into the IDE independent model the renderer works on.
+     */
+    @NotNull
+    private StepBuilderModel createModel(@NotNull final StepBuilderMemberIndex memberIndex,
+                                         @NotNull final List<String> warnings) {
+        final boolean record = topLevelClass.isRecord();
+        final List<PsiField> allFields = new ArrayList<PsiField>(mandatoryFields.size() + optionalFields.size());
+        for (final PsiFieldMember member : mandatoryFields) {
+            allFields.add(member.getElement());
+        }
+        for (final PsiFieldMember member : optionalFields) {
+            allFields.add(member.getElement());
+        }
+        final List<StepField> mandatoryStepFields = toStepFields(mandatoryFields, memberIndex, record, lazyFields);
+        final List<StepField> optionalStepFields = toStepFields(optionalFields, memberIndex, record, lazyFields);
+        final StepBuilderModel.IBuild model = StepBuilderModel.newBuilder()
+                .withTargetName(topLevelClass.getName())
+                .withMandatoryFields(mandatoryStepFields)
+                .withOptionalFields(optionalStepFields)
+                .withOptions(record ? config.getOptions() : createOptions(memberIndex, allFields, warnings))
+                .withSetterPrefix(config.getSetterPrefix())
+                .withInterfacePrefix(config.getInterfacePrefix())
+                .withRecord(record);
+
+        if (record) {
+            // build() calls the canonical constructor, with the arguments in component order
+            final Map<String, StepField> stepFieldsByName = new HashMap<String, StepField>();
+            for (final StepField stepField : mandatoryStepFields) {
+                stepFieldsByName.put(stepField.getName(), stepField);
             }
-
-            for (final PsiFieldMember member : optionalFields) {
-                final PsiField field = member.getElement();
-
-                final PsiMethod setterPrototype = PropertyUtil.generateSetterPrototype(field);
-                final PsiMethod setter = topLevelClass.findMethodBySignature(setterPrototype, true);
-
-                final String fieldName = field.getName();
-                boolean isFinal = false;
-                final PsiModifierList modifierList = field.getModifierList();
-                if (modifierList != null) {
-                    isFinal = modifierList.hasModifierProperty(PsiModifier.FINAL);
+            for (final StepField stepField : optionalStepFields) {
+                stepFieldsByName.put(stepField.getName(), stepField);
+            }
+            final List<StepField> componentStepFields = new ArrayList<StepField>(stepFieldsByName.size());
+            for (final PsiRecordComponent component : topLevelClass.getRecordComponents()) {
+                final StepField stepField = stepFieldsByName.get(component.getName());
+                if (stepField != null) {
+                    componentStepFields.add(stepField);
                 }
-
-                final String assignText;
-                if (setter == null || isFinal) {
-                    assignText = String.format("%1$s = builder.%1$s;", fieldName);
-                } else {
-                    assignText = String.format("%s(builder.%s);", setter.getName(), fieldName);
+            }
+            model.withConstruction(StepBuilderModel.Construction.ALL_ARGS_CONSTRUCTOR, componentStepFields);
+        } else if (needsAllArgsConstructor(config.getOptions())) {
+            final Map<String, StepField> stepFieldsByName = new HashMap<String, StepField>();
+            for (final StepField stepField : mandatoryStepFields) {
+                stepFieldsByName.put(stepField.getName(), stepField);
+            }
+            for (final StepField stepField : optionalStepFields) {
+                stepFieldsByName.put(stepField.getName(), stepField);
+            }
+            // a constructor the class already has is called instead of generating a second one with the same
+            // signature, with the arguments in its parameter order
+            final PsiMethod constructor = memberIndex.findConstructor(allFields);
+            if (constructor != null) {
+                final List<StepField> parameterStepFields = new ArrayList<StepField>(allFields.size());
+                for (final PsiParameter parameter : constructor.getParameterList().getParameters()) {
+                    parameterStepFields.add(stepFieldsByName.get(parameter.getName()));
                 }
-
-                final PsiStatement assignStatement = psiElementFactory.createStatementFromText(assignText, null);
-                constructorBody.add(assignStatement);
+                model.withConstruction(StepBuilderModel.Construction.ALL_ARGS_CONSTRUCTOR, parameterStepFields);
             }
         }
-
-        return constructor;
+        return model.build();
     }
 
-    private PsiMethod generateBuildMethod(final PsiClass topLevelClass, final Set<StepBuilderOption> options) {
-        final PsiType topLevelClassType = psiElementFactory.createType(topLevelClass);
-        final PsiMethod buildMethod = psiElementFactory.createMethod("build", topLevelClassType);
-
-        buildMethod.getModifierList().setModifierProperty(PsiModifier.PUBLIC, true);
+    private static boolean needsAllArgsConstructor(@NotNull final Set<StepBuilderOption> options) {
+        return options.contains(StepBuilderOption.ALL_ARGS_CONSTRUCTOR) || options.contains(StepBuilderOption.TO_BUILDER)
+                || options.contains(StepBuilderOption.BULK_BUILD);
+    }
 
-        final PsiCodeBlock buildMethodBody = buildMethod.getBody();
-        if (buildMethodBody != null) {
-            final PsiStatement returnStatement = psiElementFactory.createStatementFromText(String.format(
-                    "return new %s(this);", topLevelClass.getName()), buildMethod);
-            buildMethodBody.add(returnStatement);
-        }
-        setBuildMethodComment(buildMethod, topLevelClass);
-        return buildMethod;
+    /**
+     * A constructor of the user taking the types of the fields in their order, but not named like them, has the
+     * signature of the generated all-args constructor. It is never replaced, and calling it could pass the
+     * arguments to the wrong fields, so the options needing that constructor are left out.
+     */
+    @NotNull
+    private Set<StepBuilderOption> createOptions(@NotNull final StepBuilderMemberIndex memberIndex,
+                                                 @NotNull final List<PsiField> allFields,
+                                                 @NotNull final List<String> warnings) {
+        final Set<StepBuilderOption> options = config.getOptions();
+        if (!needsAllArgsConstructor(options) || memberIndex.findConstructor(allFields) != null) {
+            return options;
+        }
+        final PsiMethod clash = memberIndex.findConstructorWithTypes(allFields);
+        if (clash == null) {
+            return options;
+        }
+        final Set<StepBuilderOption> remaining = EnumSet.noneOf(StepBuilderOption.class);
+        remaining.addAll(options);
+        remaining.remove(StepBuilderOption.ALL_ARGS_CONSTRUCTOR);
+        remaining.remove(StepBuilderOption.TO_BUILDER);
+        remaining.remove(StepBuilderOption.BULK_BUILD);
+        warnings.add("Left out the all-args constructor, toBuilder() and the bulk build: the existing constructor "
+                + clash.getName() + clash.getParameterList().getText()
+                + " takes the same types but its parameters are not named like the fields");
+        return remaining;
     }
 
     @NotNull
-    private PsiClass findOrCreateBuilderClass(final PsiClass topLevelClass, Collection<PsiClassType> interfaces, PsiClassType optionalInterface) {
-        final PsiClass builderClass = topLevelClass.findInnerClassByName(BUILDER_CLASS_NAME, false);
-        if (builderClass == null) {
-            List<PsiClassType> types = new ArrayList<PsiClassType>(interfaces);
-            types.add(optionalInterface);
+    private static List<StepField> toStepFields(@NotNull final List<PsiFieldMember> members,
+                                                @NotNull final StepBuilderMemberIndex memberIndex,
+                                                final boolean record,
+                                                @NotNull final Set<PsiField> lazyFields) {
+        final List<StepField> fields = new ArrayList<StepField>(members.size());
+        for (final PsiFieldMember member : members) {
+            final PsiField field = member.getElement();
+            // record fields are final too, but are set through steps and only passed to the canonical constructor
+            final boolean isFinal = !record && field.hasModifierProperty(PsiModifier.FINAL);
+            final PsiMethod setter = isFinal ? null : memberIndex.findSetter(field);
+
+            fields.add(StepField.newBuilder()
+                    .withName(field.getName())
+                    .withType(field.getType().getCanonicalText())
+                    .withFinal(isFinal)
+                    .withSetterName(setter != null ? setter.getName() : null)
+                    .withLazy(lazyFields.contains(field) && memberIndex.canBeLazy(field))
+                    .build());
+        }
+        return fields;
+    }
 
-            return createBuilderClass(topLevelClass, types);
+    private void applyAsCommand(@Nullable final ChangeSet changes) {
+        if (changes == null || !topLevelClass.isValid()) {
+            return;
         }
 
-        return builderClass;
+        WriteCommandAction.writeCommandAction(project, topLevelClass.getContainingFile()).withName(COMMAND_NAME)
+                .run(new ThrowableRunnable<RuntimeException>() {
+                    @Override
+                    public void run() {
+                        apply(changes);
+                    }
+                });
+        if (!changes.warnings.isEmpty()) {
+            final String content = topLevelClass.getName() + ": " + StringUtil.join(changes.warnings, "\n");
+            Notifications.Bus.notify(new Notification(NOTIFICATION_GROUP, "Step Builder",
+                    StringUtil.escapeXmlEntities(content).replace("\n", "<br>"), NotificationType.WARNING), project);
+        }
     }
 
-    @NotNull
-    private PsiClass createBuilderClass(final PsiClass topLevelClass, List<PsiClassType> implementedTypes) {
-        final PsiClass builderClass = (PsiClass) topLevelClass.add(psiElementFactory.createClass(BUILDER_CLASS_NAME));
-        PsiUtil.setModifierProperty(builderClass, PsiModifier.STATIC, true);
-        PsiUtil.setModifierProperty(builderClass, PsiModifier.FINAL, true);
-
-        if(builderClass.getImplementsList() != null) {
-            for (PsiClassType type : implementedTypes) {
-                builderClass.getImplementsList().add(psiElementFactory.createReferenceElementByType(type));
+    /**
+     * Second phase, must run in a write action: deletes the members the generator replaces, merges the generated
+     * classes that already exist, inserts the rest of the fragment into the region in a single insertion and
+     * shortens the references of what was inserted.
+     */
+    void apply(@NotNull final ChangeSet changes) {
+        final StepBuilderPhaseMeter meter = StepBuilderPhaseMeter.start();
+        // a marker parsed as the comment of a replaced member would be deleted with it
+        final PsiElement regionEnd = changes.regionEnd != null && changes.regionEnd.isValid()
+                ? detachMarker(changes.regionEnd) : null;
+        for (final PsiMember member : changes.replacedMembers) {
+            if (member.isValid()) {
+                detachMarkers(member);
+                member.delete();
             }
         }
 
-        setBuilderComment(builderClass, topLevelClass);
-        return builderClass;
-    }
+        final JavaCodeStyleManager javaCodeStyleManager = JavaCodeStyleManager.getInstance(project);
+        for (final MergedClass mergedClass : changes.mergedClasses) {
+            mergedClass.apply(javaCodeStyleManager);
+        }
 
-    private PsiElement findOrCreateField(final PsiClass builderClass, final PsiFieldMember member,
-                                         @Nullable final PsiElement last) {
-        final PsiField field = member.getElement();
-        final String fieldName = field.getName();
-        final PsiType fieldType = field.getType();
-        final PsiField existingField = builderClass.findFieldByName(fieldName, false);
-        if (existingField == null || !StepBuilderUtils.areTypesPresentableEqual(existingField.getType(), fieldType)) {
-            if (existingField != null) {
-                existingField.delete();
-            }
-            final PsiField newField = psiElementFactory.createField(fieldName, fieldType);
-            if (last != null) {
-                return builderClass.addAfter(newField, last);
-            } else {
-                return builderClass.add(newField);
-            }
+        final PsiElement lBrace = changes.fragment.getLBrace();
+        final PsiElement rBrace = changes.fragment.getRBrace();
+        if (lBrace == null || rBrace == null) {
+            return;
         }
-        return existingField;
-    }
 
-    private PsiElement addMethod(@NotNull final PsiClass target, @Nullable final PsiElement after,
-                                 @NotNull final PsiMethod newMethod, final boolean replace) {
-        PsiMethod existingMethod = target.findMethodBySignature(newMethod, false);
-        if (existingMethod == null && newMethod.isConstructor()) {
-            for (final PsiMethod constructor : target.getConstructors()) {
-                if (StepBuilderUtils.areParameterListsEqual(constructor.getParameterList(),
-                        newMethod.getParameterList())) {
-                    existingMethod = constructor;
-                    break;
-                }
-            }
+        PsiElement first = PsiTreeUtil.skipSiblingsForward(lBrace, PsiWhiteSpace.class);
+        PsiElement last = PsiTreeUtil.skipSiblingsBackward(rBrace, PsiWhiteSpace.class);
+        final PsiElement anchor = regionEnd != null ? regionEnd : topLevelClass.getRBrace();
+        if (regionEnd != null) {
+            // the markers of the previous generation stay, only what is between them is inserted
+            first = PsiTreeUtil.skipSiblingsForward(first, PsiWhiteSpace.class);
+            last = PsiTreeUtil.skipSiblingsBackward(last, PsiWhiteSpace.class);
         }
-        if (existingMethod == null) {
-            if (after != null) {
-                return target.addAfter(newMethod, after);
-            } else {
-                return target.add(newMethod);
+        if (first == null || last == null || first == rBrace || first.getTextOffset() > last.getTextOffset()) {
+            return;
+        }
+        final PsiElement firstAdded = anchor != null ? topLevelClass.addRangeBefore(first, last, anchor)
+                : topLevelClass.addRange(first, last);
+
+        // only what was generated is shortened, so the cost depends on the size of the builder and not of the file
+        final List<PsiElement> generatedElements = new ArrayList<PsiElement>();
+        for (PsiElement element = firstAdded; element != null && element != anchor; element = element.getNextSibling()) {
+            if (element instanceof PsiMember) {
+                generatedElements.add(element);
             }
-        } else if (replace) {
-            existingMethod.replace(newMethod);
         }
-        return existingMethod;
-    }
+        for (final PsiElement element : generatedElements) {
+            javaCodeStyleManager.shortenClassReferences(element);
+        }
 
-    private void setBuilderComment(final PsiClass clazz, final PsiClass topLevelClass) {
-        if (currentOptions().contains(StepBuilderOption.WITH_JAVADOC)) {
-            StringBuilder str = new StringBuilder("/**\n").append("* {@code ");
-            str.append(topLevelClass.getName()).append("} builder static inner class.\n");
-            str.append("*/");
-            setStringComment(clazz, str.toString());
+        // enable debug logging for this category to see how time and allocation are split between the two phases
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Generation of %d fields in %s: computed in %d ms (%d KB allocated), "
+                            + "applied in %d ms (%d KB allocated)",
+                    mandatoryFields.size() + optionalFields.size(), topLevelClass.getName(),
+                    changes.computeNanos / 1000000L, changes.computeBytes / 1024L,
+                    meter.elapsedNanos() / 1000000L, meter.allocatedBytes() / 1024L));
         }
     }
 
-    private void setSetterComment(final PsiMethod method, final String fieldName, final String parameterName, final PsiType returnType) {
-        if (currentOptions().contains(StepBuilderOption.WITH_JAVADOC)) {
-            StringBuilder str = new StringBuilder("/**\n").append("* Sets the {@code ").append(fieldName);
-            str.append("} and returns a reference to {@code ").append(returnType.getPresentableText());
-            str.append("}\n* @param ").append(parameterName).append(" the {@code ");
-            str.append(fieldName).append("} to set\n");
-            str.append("* @return a reference to this Builder\n*/");
-            setStringComment(method, str.toString());
+    private static void detachMarkers(@NotNull final PsiMember member) {
+        for (PsiElement child = member.getFirstChild(); child instanceof PsiComment || child instanceof PsiWhiteSpace; ) {
+            final PsiElement next = child.getNextSibling();
+            if (child instanceof PsiComment && StepBuilderMemberIndex.isMarker((PsiComment) child)) {
+                detachMarker((PsiComment) child);
+            }
+            child = next;
         }
     }
 
-    private void setBuildMethodComment(final PsiMethod method, final PsiClass topLevelClass) {
-        if (currentOptions().contains(StepBuilderOption.WITH_JAVADOC)) {
-            StringBuilder str = new StringBuilder("/**\n");
-            str.append("* Returns a {@code ").append(topLevelClass.getName()).append("} built ");
-            str.append("from the parameters previously set.\n*\n");
-            str.append("* @return a {@code ").append(topLevelClass.getName()).append("} ");
-            str.append("built with parameters of this {@code ").append(topLevelClass.getName()).append(".Builder}\n*/");
-            setStringComment(method, str.toString());
-        }
+    /**
+     * @return the marker as a comment of the class itself, moved in front of the member it was parsed into
+     */
+    @NotNull
+    private static PsiElement detachMarker(@NotNull final PsiComment marker) {
+        final PsiElement parent = marker.getParent();
+        // only the comments in front of a member are parsed into it, the ones in the body of a class are its own
+        if (!(parent instanceof PsiMember)
+                || PsiTreeUtil.skipSiblingsBackward(marker, PsiComment.class, PsiWhiteSpace.class) != null) {
+            return marker;
+        }
+        final PsiElement detached = parent.getParent().addBefore(marker, parent);
+        marker.delete();
+        return detached;
     }
 
-    private void setStringComment(final PsiMethod method, final String strComment) {
-        PsiComment comment = psiElementFactory.createCommentFromText(strComment, null);
-        PsiDocComment doc = method.getDocComment();
-        if (doc != null) {
-            doc.replace(comment);
-        } else {
-            method.addBefore(comment, method.getFirstChild());
+    /**
+     * The result of the first phase: the formatted, non-physical members to insert, the end of the region they go
+     * into, the members they replace, the existing classes they are merged into and why enabled options or
+     * members were left out.
+     */
+    static final class ChangeSet {
+        private final PsiClass fragment;
+        private final PsiComment regionEnd;
+        private final Collection<PsiMember> replacedMembers;
+        private final List<MergedClass> mergedClasses;
+        private final List<String> warnings;
+        private final long computeNanos;
+        private final long computeBytes;
+
+        private ChangeSet(final PsiClass fragment, final PsiComment regionEnd,
+                          final Collection<PsiMember> replacedMembers, final List<MergedClass> mergedClasses,
+                          final List<String> warnings, final long computeNanos, final long computeBytes) {
+            this.fragment = fragment;
+            this.regionEnd = regionEnd;
+            this.replacedMembers = replacedMembers;
+            this.mergedClasses = mergedClasses;
+            this.warnings = warnings;
+            this.computeNanos = computeNanos;
+            this.computeBytes = computeBytes;
+        }
+
+        @NotNull
+        List<String> getWarnings() {
+            return warnings;
         }
     }
 
-    private void setStringComment(final PsiClass clazz, final String strComment) {
-        PsiComment comment = psiElementFactory.createCommentFromText(strComment, null);
-        PsiDocComment doc = clazz.getDocComment();
-        if (doc != null) {
-            doc.replace(comment);
-        } else {
-            clazz.addBefore(comment, clazz.getFirstChild());
+    /**
+     * The generated members and implemented interfaces to add to an existing class, after the members they replace
+     * are deleted. In a class the generator created they go into its region, which is added if it had none.
+     */
+    private static final class MergedClass {
+        private final PsiClass existing;
+        private final boolean generated;
+        private final PsiComment regionEnd;
+        private final List<PsiMember> addedMembers;
+        private final List<PsiJavaCodeReferenceElement> addedReferences;
+
+        private MergedClass(final PsiClass existing, final boolean generated, final PsiComment regionEnd,
+                            final List<PsiMember> addedMembers, final List<PsiJavaCodeReferenceElement> addedReferences) {
+            this.existing = existing;
+            this.generated = generated;
+            this.regionEnd = regionEnd;
+            this.addedMembers = addedMembers;
+            this.addedReferences = addedReferences;
+        }
+
+        private void apply(@NotNull final JavaCodeStyleManager javaCodeStyleManager) {
+            if (!existing.isValid()) {
+                return;
+            }
+            final PsiReferenceList implementsList = existing.getImplementsList();
+            if (implementsList != null) {
+                if (generated) {
+                    for (final PsiJavaCodeReferenceElement reference : implementsList.getReferenceElements()) {
+                        reference.delete();
+                    }
+                }
+                for (final PsiJavaCodeReferenceElement reference : addedReferences) {
+                    javaCodeStyleManager.shortenClassReferences(implementsList.add(reference));
+                }
+            }
+            PsiElement anchor = regionEnd != null && regionEnd.isValid() ? detachMarker(regionEnd) : null;
+            if (anchor == null && generated && !addedMembers.isEmpty()) {
+                final PsiElementFactory elementFactory = JavaPsiFacade.getElementFactory(existing.getProject());
+                existing.add(elementFactory.createCommentFromText(StepBuilderMemberIndex.REGION_START, existing));
+                anchor = existing.add(elementFactory.createCommentFromText(StepBuilderMemberIndex.REGION_END, existing));
+            }
+            for (final PsiMember member : addedMembers) {
+                javaCodeStyleManager.shortenClassReferences(anchor != null ? existing.addBefore(member, anchor)
+                        : existing.add(member));
+            }
         }
     }
 }
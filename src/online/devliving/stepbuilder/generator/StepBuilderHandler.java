@@ -1,7 +1,12 @@
 package online.devliving.stepbuilder.generator;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.BooleanSupplier;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -10,17 +15,28 @@ import com.intellij.codeInsight.generation.PsiFieldMember;
 
 import com.intellij.lang.LanguageCodeInsightActionHandler;
 
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.editor.RangeMarker;
 import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
 import com.intellij.openapi.project.Project;
 
+import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiJavaFile;
 
+import online.devliving.stepbuilder.model.StepBuilderModel;
+
 import static online.devliving.stepbuilder.generator.StepBuilderCollector.collectFields;
 import static online.devliving.stepbuilder.generator.StepBuilderOptionSelector.selectFieldsAndOptions;
+import static online.devliving.stepbuilder.generator.StepBuilderOptionSelector.selectLazyFields;
 
 public class StepBuilderHandler implements LanguageCodeInsightActionHandler {
 
@@ -66,20 +82,112 @@ public class StepBuilderHandler implements LanguageCodeInsightActionHandler {
             return;
         }
 
-        final List<PsiFieldMember> existingFields = collectFields(file, editor);
-        if (existingFields != null) {
+        if (ApplicationManager.getApplication().isUnitTestMode()) {
+            selectAndGenerate(project, StepBuilderUtils.getTopLevelClass(project, file, editor),
+                    collectFields(file, editor));
+            return;
+        }
+
+        collectFieldsInBackground(project, editor, file);
+    }
+
+    /**
+     * Collects the fields in a cancellable non-blocking read action, which is restarted whenever the document
+     * changes (e.g. the user keeps typing), and only opens the dialog once they are ready. The class is resolved
+     * there as well, from where the caret was when the action was invoked and not from where it is now.
+     */
+    private static void collectFieldsInBackground(final Project project, final Editor editor, final PsiFile file) {
+        // tracks the caret position through edits made while collecting
+        final RangeMarker caretMarker = editor.getDocument().createRangeMarker(editor.getCaretModel().getOffset(),
+                editor.getCaretModel().getOffset());
+
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, "Collecting fields for the step builder", true) {
+            private PsiClass topLevelClass;
+            private List<PsiFieldMember> existingFields;
+
+            @Override
+            public void run(@NotNull final ProgressIndicator indicator) {
+                existingFields = ReadAction.nonBlocking(new Callable<List<PsiFieldMember>>() {
+                    @Override
+                    public List<PsiFieldMember> call() {
+                        if (!file.isValid() || !caretMarker.isValid()) {
+                            return null;
+                        }
+                        topLevelClass = StepBuilderUtils.getTopLevelClass(file, caretMarker.getStartOffset());
+                        return collectFields(file, caretMarker.getStartOffset());
+                    }
+                }).withDocumentsCommitted(project).expireWhen(new BooleanSupplier() {
+                    @Override
+                    public boolean getAsBoolean() {
+                        return editor.isDisposed();
+                    }
+                }).wrapProgress(indicator).executeSynchronously();
+            }
+
+            @Override
+            public void onSuccess() {
+                if (!editor.isDisposed() && file.isValid() && topLevelClass != null && topLevelClass.isValid()
+                        && areValid(existingFields)) {
+                    selectAndGenerate(project, topLevelClass, existingFields);
+                }
+            }
+
+            @Override
+            public void onFinished() {
+                caretMarker.dispose();
+            }
+        });
+    }
+
+    private static void selectAndGenerate(final Project project, final PsiClass topLevelClass,
+                                          final List<PsiFieldMember> existingFields) {
+        if (topLevelClass != null && existingFields != null) {
             final List<PsiFieldMember> selectedFields = selectFieldsAndOptions(existingFields, project);
 
             if (selectedFields == null) {
                 return;
             }
             else{
-                final List<PsiFieldMember> optionalFields = new ArrayList<PsiFieldMember>(existingFields);
-                optionalFields.removeAll(selectedFields);
+                // identity set, removeAll on the lists would be quadratic for classes with many fields
+                final Set<PsiField> mandatory = Collections.newSetFromMap(new IdentityHashMap<PsiField, Boolean>());
+                for (final PsiFieldMember member : selectedFields) {
+                    mandatory.add(member.getElement());
+                }
+                final List<PsiFieldMember> optionalFields = new ArrayList<PsiFieldMember>(existingFields.size());
+                for (final PsiFieldMember member : existingFields) {
+                    if (!mandatory.contains(member.getElement())) {
+                        optionalFields.add(member);
+                    }
+                }
+
+                final StepBuilderConfig config = StepBuilderConfig.loadLastUsed(project);
+                final Set<PsiField> lazyFields = Collections.newSetFromMap(new IdentityHashMap<PsiField, Boolean>());
+                if (StepBuilderModel.supportsLazyFields(config.getOptions(), topLevelClass.isRecord())) {
+                    final List<PsiFieldMember> lazyMembers = selectLazyFields(existingFields, topLevelClass, project);
+                    if (lazyMembers == null) {
+                        return;
+                    }
+                    for (final PsiFieldMember member : lazyMembers) {
+                        lazyFields.add(member.getElement());
+                    }
+                }
+
+                StepBuilderGenerator.generate(project, topLevelClass, config, selectedFields, optionalFields,
+                        lazyFields);
+            }
+        }
+    }
 
-                StepBuilderGenerator.generate(project, editor, file, selectedFields, optionalFields);
+    private static boolean areValid(final List<PsiFieldMember> members) {
+        if (members == null) {
+            return false;
+        }
+        for (final PsiFieldMember member : members) {
+            if (!member.getElement().isValid()) {
+                return false;
             }
         }
+        return true;
     }
 
 }
@@ -0,0 +1,46 @@
+package online.devliving.stepbuilder.generator;
+
+import com.intellij.codeInsight.NullableNotNullManager;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiModifier;
+
+/**
+ * Decides which fields become mandatory steps when builders are generated without the member chooser dialog.
+ */
+public enum StepBuilderMandatoryRule {
+
+    FINAL_FIELDS("Final fields") {
+        @Override
+        public boolean isMandatory(final PsiField field) {
+            return field.hasModifierProperty(PsiModifier.FINAL);
+        }
+    },
+    NOT_NULL_ANNOTATED("Fields annotated as not null") {
+        @Override
+        public boolean isMandatory(final PsiField field) {
+            // any of the not-null annotations configured in the project, e.g. @Nonnull or @NotNull
+            return NullableNotNullManager.getInstance(field.getProject()).isNotNull(field, false);
+        }
+    },
+    ALL_FIELDS("All fields") {
+        @Override
+        public boolean isMandatory(final PsiField field) {
+            return true;
+        }
+    };
+
+    private final String caption;
+
+    StepBuilderMandatoryRule(final String caption) {
+        this.caption = caption;
+    }
+
+    /**
+     * @return the name of the rule on the settings page
+     */
+    public String getCaption() {
+        return caption;
+    }
+
+    public abstract boolean isMandatory(PsiField field);
+}
@@ -0,0 +1,290 @@
+package online.devliving.stepbuilder.generator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiComment;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiMember;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiWhiteSpace;
+import com.intellij.psi.util.PropertyUtil;
+
+/**
+ * Name indexes of the members of the built class, created once per generation so that looking up existing
+ * members stays linear in the number of generated members, even for classes with thousands of fields.
+ * <p>
+ * The generator surrounds what it inserts with {@link #REGION_START} and {@link #REGION_END} comments, which the
+ * IDE folds like any other custom region. The members between them are the ones the generator created, everything
+ * else in the class belongs to the user. The body of a generated class such as the {@code Builder} has its own
+ * markers, indexed the same way.
+ */
+final class StepBuilderMemberIndex {
+    @NonNls
+    static final String REGION_START = "//region Step Builder";
+    @NonNls
+    static final String REGION_END = "//endregion";
+    private static final String LAZY_SUPPLIER_SUFFIX = "Supplier";
+
+    private final Map<String, List<PsiMethod>> methodsByName = new HashMap<String, List<PsiMethod>>();
+    private final Map<String, List<PsiMethod>> allMethodsByName = new HashMap<String, List<PsiMethod>>();
+    private final List<PsiMethod> constructors = new ArrayList<PsiMethod>();
+    private final Map<String, PsiClass> innerClassesByName = new HashMap<String, PsiClass>();
+    private final Map<String, PsiField> fieldsByName = new HashMap<String, PsiField>();
+    private final List<PsiMember> generatedMembers = new ArrayList<PsiMember>();
+    private final Set<PsiMember> generatedMemberSet = new HashSet<PsiMember>();
+    private PsiComment regionStart;
+    private PsiComment regionEnd;
+
+    StepBuilderMemberIndex(@NotNull final PsiClass clazz) {
+        findRegion(clazz);
+        for (final PsiMethod method : clazz.getMethods()) {
+            if (method.isConstructor()) {
+                constructors.add(method);
+            } else {
+                put(methodsByName, method);
+            }
+        }
+        // including inherited ones, setters of superclass fields may be declared there
+        for (final PsiMethod method : clazz.getAllMethods()) {
+            if (!method.isConstructor()) {
+                put(allMethodsByName, method);
+            }
+        }
+        for (final PsiClass innerClass : clazz.getInnerClasses()) {
+            innerClassesByName.put(innerClass.getName(), innerClass);
+        }
+        for (final PsiField field : clazz.getFields()) {
+            fieldsByName.put(field.getName(), field);
+        }
+    }
+
+    /**
+     * A comment directly in front of a member without a blank line in between is parsed as part of the member, so
+     * the markers are looked for there too.
+     */
+    private void findRegion(@NotNull final PsiClass clazz) {
+        final PsiElement lBrace = clazz.getLBrace();
+        for (PsiElement child = lBrace != null ? lBrace.getNextSibling() : null; child != null;
+             child = child.getNextSibling()) {
+            if (regionStart == null) {
+                regionStart = findMarker(child, REGION_START);
+                if (regionStart != null && child instanceof PsiMember) {
+                    generatedMembers.add((PsiMember) child);
+                }
+                continue;
+            }
+            regionEnd = findMarker(child, REGION_END);
+            if (regionEnd != null) {
+                break;
+            }
+            if (child instanceof PsiMember) {
+                generatedMembers.add((PsiMember) child);
+            }
+        }
+        if (regionEnd == null) {
+            // without its end nothing is known to be generated
+            regionStart = null;
+            generatedMembers.clear();
+        }
+        generatedMemberSet.addAll(generatedMembers);
+    }
+
+    @Nullable
+    private static PsiComment findMarker(@NotNull final PsiElement element, @NotNull final String marker) {
+        if (element instanceof PsiComment) {
+            return isMarker((PsiComment) element, marker) ? (PsiComment) element : null;
+        }
+        if (element instanceof PsiMember) {
+            for (PsiElement child = element.getFirstChild(); child instanceof PsiComment || child instanceof PsiWhiteSpace;
+                 child = child.getNextSibling()) {
+                if (child instanceof PsiComment && isMarker((PsiComment) child, marker)) {
+                    return (PsiComment) child;
+                }
+            }
+        }
+        return null;
+    }
+
+    static boolean isMarker(@NotNull final PsiComment comment) {
+        return isMarker(comment, REGION_START) || isMarker(comment, REGION_END);
+    }
+
+    /**
+     * @return whether the comment is the marker, ignoring the spaces the formatter may add after {@code //}
+     */
+    private static boolean isMarker(@NotNull final PsiComment comment, @NotNull final String marker) {
+        final String text = comment.getText();
+        return text.startsWith("//") && text.substring(2).trim().equals(marker.substring(2));
+    }
+
+    private static void put(final Map<String, List<PsiMethod>> index, final PsiMethod method) {
+        List<PsiMethod> methods = index.get(method.getName());
+        if (methods == null) {
+            methods = new ArrayList<PsiMethod>(1);
+            index.put(method.getName(), methods);
+        }
+        methods.add(method);
+    }
+
+    private static List<PsiMethod> get(final Map<String, List<PsiMethod>> index, final String name) {
+        final List<PsiMethod> methods = index.get(name);
+        return methods != null ? methods : Collections.<PsiMethod>emptyList();
+    }
+
+    /**
+     * @return the method or constructor declared in the class with the same name and parameter types, which is the
+     * signature a generated member can't share with an existing one whatever their parameters are named
+     */
+    @Nullable
+    PsiMethod findMethod(@NotNull final PsiMethod newMethod) {
+        // constructors parsed outside of their class have no return type but aren't recognized as constructors
+        final boolean isConstructor = newMethod.isConstructor() || newMethod.getReturnTypeElement() == null;
+        final List<PsiMethod> candidates = isConstructor ? constructors : get(methodsByName, newMethod.getName());
+        for (final PsiMethod candidate : candidates) {
+            if (StepBuilderUtils.areParameterListsEqual(candidate.getParameterList(), newMethod.getParameterList())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the members between the region markers, in declaration order, empty if the class has no region
+     */
+    @NotNull
+    List<PsiMember> getGeneratedMembers() {
+        return generatedMembers;
+    }
+
+    boolean isGenerated(@NotNull final PsiMember member) {
+        return generatedMemberSet.contains(member);
+    }
+
+    /**
+     * @return the comment starting the region of generated members, null if there is none
+     */
+    @Nullable
+    PsiComment getRegionStart() {
+        return regionStart;
+    }
+
+    @Nullable
+    PsiComment getRegionEnd() {
+        return regionEnd;
+    }
+
+    /**
+     * @return the constructor of the user whose parameters are named like the fields and have their types, in any
+     * order: a constructor that only has the same types might assign its parameters to other fields. A generated
+     * one is replaced, so it isn't called.
+     */
+    @Nullable
+    PsiMethod findConstructor(@NotNull final List<PsiField> fields) {
+        final Map<String, PsiField> fieldsByParameterName = new HashMap<String, PsiField>();
+        for (final PsiField field : fields) {
+            fieldsByParameterName.put(field.getName(), field);
+        }
+        for (final PsiMethod candidate : constructors) {
+            if (isGenerated(candidate)) {
+                continue;
+            }
+            final PsiParameter[] parameters = candidate.getParameterList().getParameters();
+            if (parameters.length != fields.size()) {
+                continue;
+            }
+            boolean matches = true;
+            for (int i = 0; i < parameters.length && matches; i++) {
+                final PsiField field = fieldsByParameterName.get(parameters[i].getName());
+                matches = field != null && StepBuilderUtils.areTypesPresentableEqual(parameters[i].getType(), field.getType());
+            }
+            if (matches) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the constructor of the user taking the types of the fields in their order, whatever its parameters
+     * are named
+     */
+    @Nullable
+    PsiMethod findConstructorWithTypes(@NotNull final List<PsiField> fields) {
+        for (final PsiMethod candidate : constructors) {
+            if (isGenerated(candidate)) {
+                continue;
+            }
+            final PsiParameter[] parameters = candidate.getParameterList().getParameters();
+            if (parameters.length != fields.size()) {
+                continue;
+            }
+            boolean matches = true;
+            for (int i = 0; i < parameters.length && matches; i++) {
+                matches = StepBuilderUtils.areTypesPresentableEqual(parameters[i].getType(), fields.get(i).getType());
+            }
+            if (matches) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    PsiField findField(@NotNull final String name) {
+        return fieldsByName.get(name);
+    }
+
+    @Nullable
+    PsiClass findInnerClass(@NotNull final String name) {
+        return innerClassesByName.get(name);
+    }
+
+    /**
+     * @return the setter of the field, declared in the class or inherited
+     */
+    @Nullable
+    PsiMethod findSetter(@NotNull final PsiField field) {
+        for (final PsiMethod candidate : get(allMethodsByName, PropertyUtil.suggestSetterName(field))) {
+            final PsiParameter[] parameters = candidate.getParameterList().getParameters();
+            if (parameters.length == 1 && !candidate.hasModifierProperty(PsiModifier.STATIC)
+                    && StepBuilderUtils.areTypesPresentableEqual(parameters[0].getType(), field.getType())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A lazy field is read through a generated {@code getX()}, which would replace a getter of the user, and is
+     * assigned once supplied, so it can't be final and a setter would leave the supplier to overwrite what it set.
+     * A getter next to a {@code xSupplier} field was generated for the field before.
+     *
+     * @return whether the field may be supplied lazily
+     */
+    boolean canBeLazy(@NotNull final PsiField field) {
+        if (field.hasModifierProperty(PsiModifier.FINAL) || findSetter(field) != null) {
+            return false;
+        }
+        for (final PsiMethod candidate : get(allMethodsByName, PropertyUtil.suggestGetterName(field))) {
+            if (candidate.getParameterList().getParametersCount() == 0
+                    && !candidate.hasModifierProperty(PsiModifier.STATIC)) {
+                return fieldsByName.containsKey(field.getName() + LAZY_SUPPLIER_SUFFIX);
+            }
+        }
+        return true;
+    }
+}
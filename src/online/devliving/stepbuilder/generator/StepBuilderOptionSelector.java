@@ -2,9 +2,10 @@ package online.devliving.stepbuilder.generator;
 
 import com.intellij.codeInsight.generation.PsiFieldMember;
 import com.intellij.ide.util.MemberChooser;
-import com.intellij.ide.util.PropertiesComponent;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
 import com.intellij.ui.NonFocusableCheckBox;
 import org.jetbrains.annotations.Nullable;
 
@@ -12,7 +13,11 @@ import javax.swing.*;
 import java.awt.event.ItemEvent;
 import java.awt.event.ItemListener;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+
+import online.devliving.stepbuilder.model.StepBuilderOption;
 
 public final class StepBuilderOptionSelector {
     private static final List<SelectorOption> OPTIONS = createGeneratorOptions();
@@ -20,8 +25,15 @@ public final class StepBuilderOptionSelector {
     private StepBuilderOptionSelector() {
     }
 
+    /**
+     * @return the options of the generator dialog, in the order they are shown
+     */
+    static List<SelectorOption> getOptions() {
+        return OPTIONS;
+    }
+
     private static List<SelectorOption> createGeneratorOptions() {
-        final List<SelectorOption> options = new ArrayList<SelectorOption>(8);
+        final List<SelectorOption> options = new ArrayList<SelectorOption>(StepBuilderOption.values().length);
 
         options.add(
                 SelectorOption.newBuilder()
@@ -52,6 +64,104 @@ public final class StepBuilderOptionSelector {
                         .withMnemonic('p')
                         .withTooltip("Make generated interfaces public")
                         .build());
+
+        options.add(
+                SelectorOption.newBuilder()
+                        .withOption(StepBuilderOption.ALL_ARGS_CONSTRUCTOR)
+                        .withCaption("Build through an all-args constructor")
+                        .withMnemonic('a')
+                        .withTooltip("Pass the builder fields to a private constructor instead of the builder itself")
+                        .build());
+
+        options.add(
+                SelectorOption.newBuilder()
+                        .withOption(StepBuilderOption.COMPACT_STEPS)
+                        .withCaption("Compact steps")
+                        .withMnemonic('s')
+                        .withTooltip("Declare all mandatory steps in one generic interface instead of one interface per field, "
+                                + "up to 32 mandatory fields")
+                        .build());
+
+        options.add(
+                SelectorOption.newBuilder()
+                        .withOption(StepBuilderOption.REUSABLE_BUILDER)
+                        .withCaption("Generate reusable builder")
+                        .withMnemonic('r')
+                        .withTooltip("Add reusableBuilder() that reuses one builder per thread")
+                        .build());
+
+        options.add(
+                SelectorOption.newBuilder()
+                        .withOption(StepBuilderOption.SPARSE_BUILDER)
+                        .withCaption("Sparse builder")
+                        .withMnemonic('b')
+                        .withTooltip("Store only the optional fields that were set, for classes with many optional fields. "
+                                + "The fields that weren't set keep their initializers")
+                        .build());
+
+        options.add(
+                SelectorOption.newBuilder()
+                        .withOption(StepBuilderOption.NULL_CHECKS)
+                        .withCaption("Reject null mandatory fields")
+                        .withMnemonic('n')
+                        .withTooltip("Check mandatory reference fields with Objects.requireNonNull in their steps and in builder()")
+                        .build());
+
+        options.add(
+                SelectorOption.newBuilder()
+                        .withOption(StepBuilderOption.COLLECTION_STEPS)
+                        .withCaption("Collection steps")
+                        .withMnemonic('l')
+                        .withTooltip("Add add/addAll/put steps for optional List, Set and Map fields, frozen once in build()")
+                        .build());
+
+        options.add(
+                SelectorOption.newBuilder()
+                        .withOption(StepBuilderOption.TO_BUILDER)
+                        .withCaption("Generate toBuilder() and withers")
+                        .withMnemonic('w')
+                        .withTooltip("Add toBuilder() and a with<Field> method returning a copy with one field changed")
+                        .build());
+
+        options.add(
+                SelectorOption.newBuilder()
+                        .withOption(StepBuilderOption.BINARY_CODEC)
+                        .withCaption("Generate binary codec")
+                        .withMnemonic('d')
+                        .withTooltip("Add writeTo(DataOutput) and readFrom(DataInput) when all fields are primitives, wrappers or strings")
+                        .build());
+
+        options.add(
+                SelectorOption.newBuilder()
+                        .withOption(StepBuilderOption.INTERNING)
+                        .withCaption("Intern built instances")
+                        .withMnemonic('i')
+                        .withTooltip("Return a canonical instance from build() for equal field values, adds equals and hashCode. Not for classes with setters")
+                        .build());
+
+        options.add(
+                SelectorOption.newBuilder()
+                        .withOption(StepBuilderOption.EQUALS_HASHCODE)
+                        .withCaption("Generate equals(), hashCode() and toString()")
+                        .withMnemonic('e')
+                        .withTooltip("Cover exactly the chosen fields, the hash code is computed once and cached")
+                        .build());
+
+        options.add(
+                SelectorOption.newBuilder()
+                        .withOption(StepBuilderOption.LAZY_FIELDS)
+                        .withCaption("Choose lazily supplied fields")
+                        .withMnemonic('z')
+                        .withTooltip("Ask for fields without a getter or setter, set through a Supplier and read through a memoizing getter (Java 8+)")
+                        .build());
+
+        options.add(
+                SelectorOption.newBuilder()
+                        .withOption(StepBuilderOption.BULK_BUILD)
+                        .withCaption("Generate bulk buildAll() factories")
+                        .withMnemonic('k')
+                        .withTooltip("Add buildAll(n, columns...) and buildAllParallel(n, columns...) building many instances from one array per field (Java 8+)")
+                        .build());
         return options;
     }
 
@@ -66,7 +176,7 @@ public final class StepBuilderOptionSelector {
             return members;
         }
 
-        final JCheckBox[] optionCheckBoxes = buildOptionCheckBoxes();
+        final JCheckBox[] optionCheckBoxes = buildOptionCheckBoxes(project, StepBuilderConfig.loadLastUsed(project));
 
         final PsiFieldMember[] memberArray = members.toArray(new PsiFieldMember[members.size()]);
 
@@ -84,34 +194,75 @@ public final class StepBuilderOptionSelector {
         return null;
     }
 
-    private static JCheckBox[] buildOptionCheckBoxes() {
-        final PropertiesComponent propertiesComponent = PropertiesComponent.getInstance();
-        //propertiesComponent.setValue(StepBuilderOption.NEW_BUILDER_METHOD.getProperty(), Boolean.toString(true));
+    /**
+     * Asks which of the fields that {@link StepBuilderMemberIndex#canBeLazy(PsiField) can be lazy} are, none are
+     * preselected.
+     *
+     * @return the chosen fields, or null if the dialog was cancelled
+     */
+    @Nullable
+    public static List<PsiFieldMember> selectLazyFields(final List<PsiFieldMember> members, final PsiClass clazz,
+                                                        final Project project) {
+        final StepBuilderMemberIndex memberIndex = new StepBuilderMemberIndex(clazz);
+        final List<PsiFieldMember> candidates = new ArrayList<PsiFieldMember>(members.size());
+        for (final PsiFieldMember member : members) {
+            if (memberIndex.canBeLazy(member.getElement())) {
+                candidates.add(member);
+            }
+        }
+        if (candidates.isEmpty() || ApplicationManager.getApplication().isUnitTestMode()) {
+            return new ArrayList<PsiFieldMember>();
+        }
+
+        final MemberChooser<PsiFieldMember> chooser = new MemberChooser<PsiFieldMember>(
+                candidates.toArray(new PsiFieldMember[candidates.size()]),
+                true, // allowEmptySelection
+                true, // allowMultiSelection
+                project);
+        chooser.setTitle("Select Lazily Supplied Fields");
+        chooser.selectElements(new PsiFieldMember[0]);
+        if (chooser.showAndGet()) {
+            final List<PsiFieldMember> selectedElements = chooser.getSelectedElements();
+            return selectedElements != null ? selectedElements : new ArrayList<PsiFieldMember>();
+        }
+
+        return null;
+    }
+
+    /**
+     * Every toggle is remembered as the last choice for the active settings profile, see
+     * {@link StepBuilderConfig#loadLastUsed(Project)}.
+     */
+    private static JCheckBox[] buildOptionCheckBoxes(final Project project, final StepBuilderConfig config) {
         final int optionCount = OPTIONS.size();
         final JCheckBox[] checkBoxesArray = new JCheckBox[optionCount];
+        final ItemListener listener = new ItemListener() {
+            @Override
+            public void itemStateChanged(final ItemEvent event) {
+                final Set<StepBuilderOption> options = EnumSet.noneOf(StepBuilderOption.class);
+                for (int i = 0; i < optionCount; i++) {
+                    if (checkBoxesArray[i].isSelected()) {
+                        options.add(OPTIONS.get(i).getOption());
+                    }
+                }
+                StepBuilderConfig.saveLastUsed(project, options);
+            }
+        };
         for (int i = 0; i < optionCount; i++) {
-            checkBoxesArray[i] = buildOptionCheckBox(propertiesComponent, OPTIONS.get(i));
+            checkBoxesArray[i] = buildOptionCheckBox(config, OPTIONS.get(i));
+            checkBoxesArray[i].addItemListener(listener);
         }
 
         return checkBoxesArray;
     }
 
-    private static JCheckBox buildOptionCheckBox(final PropertiesComponent propertiesComponent,
-                                                 final SelectorOption selectorOption) {
+    private static JCheckBox buildOptionCheckBox(final StepBuilderConfig config, final SelectorOption selectorOption) {
         final StepBuilderOption option = selectorOption.getOption();
 
         final JCheckBox optionCheckBox = new NonFocusableCheckBox(selectorOption.getCaption());
         optionCheckBox.setMnemonic(selectorOption.getMnemonic());
         optionCheckBox.setToolTipText(selectorOption.getToolTip());
-
-        final String optionProperty = option.getProperty();
-        optionCheckBox.setSelected(propertiesComponent.isTrueValue(optionProperty));
-        optionCheckBox.addItemListener(new ItemListener() {
-            @Override
-            public void itemStateChanged(final ItemEvent event) {
-                propertiesComponent.setValue(optionProperty, Boolean.toString(optionCheckBox.isSelected()));
-            }
-        });
+        optionCheckBox.setSelected(config.hasOption(option));
         return optionCheckBox;
     }
 }
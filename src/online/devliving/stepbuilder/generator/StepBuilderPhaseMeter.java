@@ -0,0 +1,46 @@
+package online.devliving.stepbuilder.generator;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures the wall time and the bytes allocated by the current thread during one phase of the generation.
+ * The allocation is only available on JVMs that support thread allocation counting, -1 is reported otherwise.
+ */
+final class StepBuilderPhaseMeter {
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final long startNanos;
+    private final long startBytes;
+
+    private StepBuilderPhaseMeter() {
+        startBytes = currentThreadAllocatedBytes();
+        startNanos = System.nanoTime();
+    }
+
+    static StepBuilderPhaseMeter start() {
+        return new StepBuilderPhaseMeter();
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    long allocatedBytes() {
+        if (startBytes < 0) {
+            return -1;
+        }
+        final long bytes = currentThreadAllocatedBytes();
+        return bytes < 0 ? -1 : bytes - startBytes;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+            if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+}
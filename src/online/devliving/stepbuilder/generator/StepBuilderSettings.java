@@ -0,0 +1,111 @@
+package online.devliving.stepbuilder.generator;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.intellij.openapi.components.PersistentStateComponent;
+import com.intellij.openapi.components.State;
+import com.intellij.openapi.components.Storage;
+import com.intellij.openapi.project.Project;
+import com.intellij.util.xmlb.XmlSerializerUtil;
+
+import online.devliving.stepbuilder.model.StepBuilderOption;
+
+/**
+ * Project level settings profiles of the generator, stored in {@code .idea/stepBuilder.xml} so they can be
+ * shared with the team and edited in {@link StepBuilderConfigurable}. Only read through
+ * {@link StepBuilderConfig#load(Project)}.
+ */
+@State(name = "StepBuilderSettings", storages = @Storage("stepBuilder.xml"))
+public class StepBuilderSettings implements PersistentStateComponent<StepBuilderSettings.SettingsState> {
+    @NonNls
+    static final String DEFAULT_PROFILE_NAME = "Default";
+
+    private SettingsState state = new SettingsState();
+
+    public static StepBuilderSettings getInstance(@NotNull final Project project) {
+        return project.getService(StepBuilderSettings.class);
+    }
+
+    @Nullable
+    @Override
+    public SettingsState getState() {
+        return state;
+    }
+
+    @Override
+    public void loadState(final SettingsState state) {
+        XmlSerializerUtil.copyBean(state, this.state);
+    }
+
+    @NotNull
+    public Profile getActiveProfile() {
+        for (final Profile profile : state.profiles) {
+            if (profile.name != null && profile.name.equals(state.activeProfile)) {
+                return profile;
+            }
+        }
+
+        return new Profile();
+    }
+
+    public static class SettingsState {
+        public String activeProfile = DEFAULT_PROFILE_NAME;
+        public List<Profile> profiles = new ArrayList<Profile>();
+    }
+
+    public static class Profile {
+        public String name = DEFAULT_PROFILE_NAME;
+        public String setterPrefix = "with";
+        public String interfacePrefix = "I";
+        // names of the StepBuilderOption constants enabled until the user changes them in the dialog
+        public List<String> defaultOptions = new ArrayList<String>();
+        // names of the StepBuilderMandatoryRule constants used when generating without the dialog
+        public List<String> mandatoryRules = new ArrayList<String>();
+
+        Profile copy() {
+            final Profile copy = new Profile();
+            copy.name = name;
+            copy.setterPrefix = setterPrefix;
+            copy.interfacePrefix = interfacePrefix;
+            copy.defaultOptions = new ArrayList<String>(defaultOptions);
+            copy.mandatoryRules = new ArrayList<String>(mandatoryRules);
+            return copy;
+        }
+
+        boolean isSameAs(final Profile other) {
+            return equal(name, other.name) && equal(setterPrefix, other.setterPrefix)
+                    && equal(interfacePrefix, other.interfacePrefix)
+                    && new HashSet<String>(defaultOptions).equals(new HashSet<String>(other.defaultOptions))
+                    && getMandatoryRules().equals(other.getMandatoryRules());
+        }
+
+        private static boolean equal(final String a, final String b) {
+            return a == null ? b == null : a.equals(b);
+        }
+
+        boolean isDefaultOption(final StepBuilderOption option) {
+            return defaultOptions.contains(option.name());
+        }
+
+        Set<StepBuilderMandatoryRule> getMandatoryRules() {
+            final EnumSet<StepBuilderMandatoryRule> rules = EnumSet.noneOf(StepBuilderMandatoryRule.class);
+            for (final StepBuilderMandatoryRule rule : StepBuilderMandatoryRule.values()) {
+                if (mandatoryRules.contains(rule.name())) {
+                    rules.add(rule);
+                }
+            }
+            if (rules.isEmpty()) {
+                rules.add(StepBuilderMandatoryRule.FINAL_FIELDS);
+            }
+            return rules;
+        }
+    }
+}
@@ -1,23 +1,18 @@
 package online.devliving.stepbuilder.generator;
 
 import org.jetbrains.annotations.NonNls;
-import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import com.intellij.codeInsight.generation.PsiFieldMember;
-
 import com.intellij.openapi.editor.Editor;
 import com.intellij.openapi.project.Project;
 
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiElementFactory;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiParameter;
 import com.intellij.psi.PsiParameterList;
 import com.intellij.psi.PsiPrimitiveType;
-import com.intellij.psi.PsiStatement;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.util.PsiUtil;
 
@@ -82,7 +77,15 @@ public final class StepBuilderUtils {
 
     @Nullable
     public static PsiClass getTopLevelClass(Project project, PsiFile file, Editor editor) {
-        final int offset = editor.getCaretModel().getOffset();
+        return getTopLevelClass(file, editor.getCaretModel().getOffset());
+    }
+
+    /**
+     * Same as {@link #getTopLevelClass(Project, PsiFile, Editor)} for a known caret offset, usable off the event
+     * dispatch thread.
+     */
+    @Nullable
+    public static PsiClass getTopLevelClass(PsiFile file, int offset) {
         final PsiElement element = file.findElementAt(offset);
         if (element == null) {
             return null;
@@ -94,8 +97,4 @@ public final class StepBuilderUtils {
     public static boolean isPrimitive(PsiField psiField) {
         return (psiField.getType() instanceof PsiPrimitiveType);
     }
-
-    static PsiStatement createReturnThis(@NotNull PsiElementFactory psiElementFactory, @Nullable PsiElement context) {
-        return psiElementFactory.createStatementFromText("return this;", context);
-    }
 }
@@ -0,0 +1,220 @@
+package online.devliving.stepbuilder.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Everything the {@link StepBuilderRenderer} needs to generate a step builder: the built class, its mandatory
+ * fields in step order, its optional fields and the generator options. It doesn't depend on the IDE, so it
+ * backs both the IDE action and the annotation processor.
+ */
+public final class StepBuilderModel {
+
+    /**
+     * How {@code Builder.build()} creates the instance.
+     */
+    public enum Construction {
+        /** a private {@code X(Builder)} constructor is generated into the built class */
+        BUILDER_CONSTRUCTOR,
+        /** an existing constructor taking all fields, in {@link #getConstructorParameters()} order, is called */
+        ALL_ARGS_CONSTRUCTOR,
+        /** an existing no-arg constructor is called, then the fields are assigned directly or through setters */
+        FIELD_ASSIGNMENT
+    }
+
+    private final String targetName;
+    private final List<StepField> mandatoryFields;
+    private final List<StepField> optionalFields;
+    private final Set<StepBuilderOption> options;
+    private final String setterPrefix;
+    private final String interfacePrefix;
+    private final Construction construction;
+    private final List<StepField> constructorParameters;
+    private final boolean embedded;
+    private final boolean record;
+
+    private StepBuilderModel(final Builder builder) {
+        targetName = builder.targetName;
+        mandatoryFields = Collections.unmodifiableList(builder.mandatoryFields);
+        optionalFields = Collections.unmodifiableList(builder.optionalFields);
+        options = Collections.unmodifiableSet(builder.options);
+        setterPrefix = builder.setterPrefix;
+        interfacePrefix = builder.interfacePrefix;
+        construction = builder.construction;
+        constructorParameters = Collections.unmodifiableList(builder.constructorParameters);
+        embedded = builder.embedded;
+        record = builder.record;
+    }
+
+    public static ITargetName newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Lazy fields keep their suppliers until first read, which the withers, interning and an all-args constructor
+     * would call right away, and the fields of records are final.
+     *
+     * @return whether fields may be supplied lazily with the options, for asking which ones before there is a model
+     */
+    public static boolean supportsLazyFields(final Set<StepBuilderOption> options, final boolean record) {
+        return options.contains(StepBuilderOption.LAZY_FIELDS) && !record
+                && !options.contains(StepBuilderOption.TO_BUILDER) && !options.contains(StepBuilderOption.INTERNING)
+                && !options.contains(StepBuilderOption.ALL_ARGS_CONSTRUCTOR);
+    }
+
+    /**
+     * @return the name of the built class as used in the generated code
+     */
+    public String getTargetName() {
+        return targetName;
+    }
+
+    public List<StepField> getMandatoryFields() {
+        return mandatoryFields;
+    }
+
+    public List<StepField> getOptionalFields() {
+        return optionalFields;
+    }
+
+    public boolean hasOption(final StepBuilderOption option) {
+        return options.contains(option);
+    }
+
+    /**
+     * @return whether the fields marked lazy may be supplied lazily, see {@link #supportsLazyFields(Set, boolean)}
+     */
+    public boolean supportsLazyFields() {
+        return supportsLazyFields(options, record);
+    }
+
+    public String getSetterPrefix() {
+        return setterPrefix;
+    }
+
+    public String getInterfacePrefix() {
+        return interfacePrefix;
+    }
+
+    public Construction getConstruction() {
+        return construction;
+    }
+
+    public List<StepField> getConstructorParameters() {
+        return constructorParameters;
+    }
+
+    /**
+     * @return whether the builder is generated into the built class itself, and may access its private members
+     */
+    public boolean isEmbedded() {
+        return embedded;
+    }
+
+    /**
+     * @return whether the built class is a record, which can't declare instance fields of its own
+     */
+    public boolean isRecord() {
+        return record;
+    }
+
+    public interface ITargetName {
+        IMandatoryFields withTargetName(String targetName);
+    }
+
+    public interface IMandatoryFields {
+        IOptionalFields withMandatoryFields(List<StepField> mandatoryFields);
+    }
+
+    public interface IOptionalFields {
+        IOptions withOptionalFields(List<StepField> optionalFields);
+    }
+
+    public interface IOptions {
+        ISetterPrefix withOptions(Set<StepBuilderOption> options);
+    }
+
+    public interface ISetterPrefix {
+        IInterfacePrefix withSetterPrefix(String setterPrefix);
+    }
+
+    public interface IInterfacePrefix {
+        IBuild withInterfacePrefix(String interfacePrefix);
+    }
+
+    public interface IBuild {
+        IBuild withConstruction(Construction construction, List<StepField> constructorParameters);
+        IBuild withEmbedded(boolean embedded);
+        IBuild withRecord(boolean record);
+        StepBuilderModel build();
+    }
+
+    public static final class Builder implements ITargetName, IMandatoryFields, IOptionalFields, IOptions,
+            ISetterPrefix, IInterfacePrefix, IBuild {
+        private String targetName;
+        private List<StepField> mandatoryFields;
+        private List<StepField> optionalFields;
+        private EnumSet<StepBuilderOption> options;
+        private String setterPrefix;
+        private String interfacePrefix;
+        private Construction construction = Construction.BUILDER_CONSTRUCTOR;
+        private List<StepField> constructorParameters = new ArrayList<StepField>();
+        private boolean embedded = true;
+        private boolean record;
+
+        private Builder() { }
+
+        public IMandatoryFields withTargetName(final String targetName) {
+            this.targetName = targetName;
+            return this;
+        }
+
+        public IOptionalFields withMandatoryFields(final List<StepField> mandatoryFields) {
+            this.mandatoryFields = new ArrayList<StepField>(mandatoryFields);
+            return this;
+        }
+
+        public IOptions withOptionalFields(final List<StepField> optionalFields) {
+            this.optionalFields = new ArrayList<StepField>(optionalFields);
+            return this;
+        }
+
+        public ISetterPrefix withOptions(final Set<StepBuilderOption> options) {
+            this.options = options.isEmpty() ? EnumSet.noneOf(StepBuilderOption.class) : EnumSet.copyOf(options);
+            return this;
+        }
+
+        public IInterfacePrefix withSetterPrefix(final String setterPrefix) {
+            this.setterPrefix = setterPrefix;
+            return this;
+        }
+
+        public IBuild withInterfacePrefix(final String interfacePrefix) {
+            this.interfacePrefix = interfacePrefix;
+            return this;
+        }
+
+        public IBuild withConstruction(final Construction construction, final List<StepField> constructorParameters) {
+            this.construction = construction;
+            this.constructorParameters = new ArrayList<StepField>(constructorParameters);
+            return this;
+        }
+
+        public IBuild withEmbedded(final boolean embedded) {
+            this.embedded = embedded;
+            return this;
+        }
+
+        public IBuild withRecord(final boolean record) {
+            this.record = record;
+            return this;
+        }
+
+        public StepBuilderModel build() {
+            return new StepBuilderModel(this);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package online.devliving.stepbuilder.model;
+
+public enum StepBuilderOption {
+
+    FINAL_SETTERS("finalSetters"),
+    COPY_CONSTRUCTOR("copyConstructor"),
+    WITH_JAVADOC("withJavadoc"),
+    PUBLIC_INTERFACES("publicInterface"),
+    ALL_ARGS_CONSTRUCTOR("allArgsConstructor"),
+    COMPACT_STEPS("compactSteps"),
+    REUSABLE_BUILDER("reusableBuilder"),
+    SPARSE_BUILDER("sparseBuilder"),
+    NULL_CHECKS("nullChecks"),
+    COLLECTION_STEPS("collectionSteps"),
+    TO_BUILDER("toBuilder"),
+    BINARY_CODEC("binaryCodec"),
+    INTERNING("interning"),
+    EQUALS_HASHCODE("equalsHashCode"),
+    LAZY_FIELDS("lazyFields"),
+    BULK_BUILD("bulkBuild");
+
+    private final String property;
+
+    private StepBuilderOption(final String property) {
+        this.property = String.format("GenerateStepBuilder.%s", property);
+    }
+
+    public String getProperty() {
+        return property;
+    }
+}
@@ -0,0 +1,1930 @@
+package online.devliving.stepbuilder.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Renders the complete step builder (constructor, factory methods, step interfaces and the Builder class)
+ * of a {@link StepBuilderModel} as source code, so that it can be parsed once and inserted in one operation
+ * or written as a source file. Types are rendered fully qualified.
+ */
+public final class StepBuilderRenderer {
+    static final String BUILDER_CLASS_NAME = "Builder";
+    static final String BUILD_STEP_INTERFACE_NAME = "Build";
+    static final String COMPACT_STEPS_INTERFACE_NAME = "Steps";
+    /**
+     * The type of each compact step nests the types of all following steps, so the code grows with the square of
+     * the mandatory fields: above this many the steps get an interface each.
+     */
+    static final int MAX_COMPACT_STEPS = 32;
+    /**
+     * A method takes at most 255 slots of parameters, a {@code long} or {@code double} taking two, and a constructor
+     * needs one of them for {@code this}.
+     */
+    static final int MAX_CONSTRUCTOR_SLOTS = 254;
+    private static final String LOCKED_STEP_TYPE = "java.lang.Void";
+    static final String REUSABLE_BUILDER_FIELD_NAME = "REUSABLE_BUILDER";
+    static final String REUSABLE_BUILDER_METHOD_NAME = "reusableBuilder";
+    private static final String IN_USE_FIELD_NAME = "inUse";
+    private static final String SPARSE_REFERENCE = "Reference";
+    private static final String SPARSE_PRIMITIVE = "Primitive";
+    private static final int SPARSE_INITIAL_CAPACITY = 4;
+    static final String CACHED_HASH_CODE_FIELD_NAME = "cachedHashCode";
+    static final String INTERN_TABLE_FIELD_NAME = "INTERN_TABLE";
+    private static final int INTERN_TABLE_LIMIT = 10000;
+    private static final int TO_STRING_VALUE_LENGTH = 8;
+    private static final String LAZY_SUPPLIER_SUFFIX = "Supplier";
+    private static final String SHARED_COLLECTION_SUFFIX = "Shared";
+    private static final String WITHER_PREFIX = "with";
+    private static final String BUILDER_SETTER_DEFAULT_PARAMETER_NAME = "val";
+    private static final String BUILDER_SETTER_ALTERNATIVE_PARAMETER_NAME = "value";
+
+    private final StepBuilderModel model;
+    private final boolean constructorFits; // whether a constructor can take the fields it is called with
+
+    private final List<StepField> finalFields = new ArrayList<StepField>();
+    private final List<StepField> nonFinalFields = new ArrayList<StepField>();
+    private final List<StepField> optionalNonFinalFields = new ArrayList<StepField>();
+    private final List<StepField> mandatoryNonFinalFields = new ArrayList<StepField>(); // in step order
+    private final List<StepField> mandatoryFinalFields = new ArrayList<StepField>();
+    private final List<StepField> sparseFields = new ArrayList<StepField>();
+    private final List<StepField> sparseReferenceFields = new ArrayList<StepField>();
+    private final List<StepField> sparsePrimitiveFields = new ArrayList<StepField>();
+    private final Map<StepField, Integer> sparseIndexes = new HashMap<StepField, Integer>(); // in the list of its kind
+    private final List<StepField> denseOptionalFields = new ArrayList<StepField>();
+    private final Map<StepField, CollectionField> collectionFields = new HashMap<StepField, CollectionField>();
+    private final Set<StepField> lazyFields = new LinkedHashSet<StepField>();
+    private final Set<String> builderSetterNames = new HashSet<String>();
+    private final Set<StepField> nullCheckedFields = new HashSet<StepField>(); // the mandatory reference fields
+
+    private final StringBuilder out = new StringBuilder(4096);
+
+    public StepBuilderRenderer(final StepBuilderModel model) {
+        this.model = model;
+        constructorFits = parameterSlots(constructorFields()) <= MAX_CONSTRUCTOR_SLOTS;
+        partitionFields();
+    }
+
+    private void partitionFields() {
+        final boolean finalSetters = model.hasOption(StepBuilderOption.FINAL_SETTERS);
+        for (final StepField field : model.getOptionalFields()) {
+            if (!field.isFinal() || finalSetters) {
+                nonFinalFields.add(field);
+                optionalNonFinalFields.add(field);
+            } else {
+                finalFields.add(field);
+            }
+        }
+
+        final List<StepField> mandatoryFields = model.getMandatoryFields();
+        for (int i = mandatoryFields.size() - 1; i >= 0; i--) {
+            final StepField field = mandatoryFields.get(i);
+            if (!field.isFinal() || finalSetters) {
+                nonFinalFields.add(field);
+                mandatoryNonFinalFields.add(field);
+            } else {
+                finalFields.add(field);
+                mandatoryFinalFields.add(field);
+            }
+        }
+        // collected backwards, like the interfaces are declared
+        Collections.reverse(mandatoryNonFinalFields);
+        Collections.reverse(mandatoryFinalFields);
+
+        if (isLazySupported()) {
+            for (final StepField field : nonFinalFields) {
+                // the value is stored in the field once supplied, so it can't be final, and a setter would leave
+                // the supplier in place to overwrite what it set
+                if (field.isLazy() && !field.isFinal() && field.getSetterName() == null) {
+                    lazyFields.add(field);
+                }
+            }
+        }
+
+        // only where the built instance is created before its fields are assigned can unset ones be left alone
+        final boolean sparse = model.hasOption(StepBuilderOption.SPARSE_BUILDER)
+                && (model.getConstruction() == StepBuilderModel.Construction.FIELD_ASSIGNMENT
+                || model.getConstruction() == StepBuilderModel.Construction.BUILDER_CONSTRUCTOR
+                && !hasAllArgsConstructor());
+        if (model.hasOption(StepBuilderOption.COLLECTION_STEPS)) {
+            for (final StepField field : optionalNonFinalFields) {
+                final CollectionField collectionField = CollectionField.of(field);
+                if (collectionField != null && !lazyFields.contains(field)) {
+                    collectionFields.put(field, collectionField);
+                }
+            }
+        }
+        for (final StepField field : model.getOptionalFields()) {
+            // final fields have to be assigned exactly once, whether set or not
+            if (sparse && !field.isFinal() && !collectionFields.containsKey(field) && !lazyFields.contains(field)) {
+                final List<StepField> kindFields = isPrimitive(field.getType())
+                        ? sparsePrimitiveFields : sparseReferenceFields;
+                sparseIndexes.put(field, kindFields.size());
+                kindFields.add(field);
+                sparseFields.add(field);
+            } else {
+                denseOptionalFields.add(field);
+            }
+        }
+        for (final StepField field : nonFinalFields) {
+            builderSetterNames.add(model.getSetterPrefix() + capitalize(field.getName()));
+        }
+        if (model.hasOption(StepBuilderOption.NULL_CHECKS)) {
+            for (final StepField field : model.getMandatoryFields()) {
+                if (!isPrimitive(field.getType())) {
+                    nullCheckedFields.add(field);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the body of a class (without braces) holding all the generated members, to be added to the built class
+     */
+    public String renderMembers() {
+        if (model.getConstruction() == StepBuilderModel.Construction.BUILDER_CONSTRUCTOR) {
+            if (!hasAllArgsConstructor()) {
+                renderConstructor();
+            }
+            // the withers and the bulk factories need it as well
+            if (hasAllArgsConstructor() || hasWithers() || hasBulkBuild()) {
+                renderAllArgsConstructor();
+            }
+        }
+        for (final StepField field : lazyFields) {
+            renderLazyAccessor(field);
+        }
+        renderNewBuilderMethod();
+        if (isReusable()) {
+            renderReusableBuilderMethod();
+        }
+        if (model.hasOption(StepBuilderOption.COPY_CONSTRUCTOR) && model.isEmbedded()) {
+            renderCopyBuilderMethod();
+        }
+        if (hasToBuilder()) {
+            renderToBuilderMethod();
+        }
+        if (hasWithers()) {
+            final Set<String> setterNames = setterNames();
+            for (final StepField field : allFields()) {
+                if (!setterNames.contains(witherName(field))) {
+                    renderWither(field);
+                }
+            }
+        }
+        if (hasBulkBuild()) {
+            renderBuildAllMethod();
+            renderBuildAllParallelMethod();
+        }
+        if (hasCodec()) {
+            renderWriteToMethod();
+            renderReadFromMethod();
+        }
+        if (hasEqualsAndHashCode()) {
+            renderEqualsAndHashCode();
+        }
+        if (hasToString()) {
+            renderToString();
+        }
+        if (isInterning()) {
+            renderInternMethod();
+        }
+        renderBuildStepInterface();
+        if (isCompact()) {
+            renderCompactStepsInterface();
+        } else {
+            for (int i = mandatoryNonFinalFields.size() - 1; i >= 0; i--) {
+                renderMandatoryInterface(i);
+            }
+        }
+        renderBuilderClass();
+        return out.toString();
+    }
+
+    /**
+     * @return why options that are enabled are left out of the generated code, one message per option, for the
+     * caller to show: the renderer generates what it can rather than fail
+     */
+    public List<String> getWarnings() {
+        final List<String> warnings = new ArrayList<String>(1);
+        if (model.hasOption(StepBuilderOption.ALL_ARGS_CONSTRUCTOR)
+                && model.getConstruction() == StepBuilderModel.Construction.BUILDER_CONSTRUCTOR && !constructorFits) {
+            warnings.add("No all-args constructor generated: " + tooManyParameters() + ", build() passes the builder"
+                    + " to the constructor instead");
+        }
+        if (hasToBuilder() && !constructorFits) {
+            warnings.add("No withers generated: " + tooManyParameters() + ", toBuilder() copies through the builder");
+        }
+        if (canBulkBuild() && !constructorFits) {
+            warnings.add("No bulk factories generated: " + tooManyParameters() + ", they take a column per field");
+        }
+        if (!model.isEmbedded()) {
+            addEmbeddedOnlyWarning(warnings, StepBuilderOption.EQUALS_HASHCODE, "equals(), hashCode() and toString()");
+            addEmbeddedOnlyWarning(warnings, StepBuilderOption.INTERNING, "interning");
+            addEmbeddedOnlyWarning(warnings, StepBuilderOption.TO_BUILDER, "toBuilder() or withers");
+            addEmbeddedOnlyWarning(warnings, StepBuilderOption.COPY_CONSTRUCTOR, "copy constructor");
+            addEmbeddedOnlyWarning(warnings, StepBuilderOption.LAZY_FIELDS, "lazy fields");
+        }
+        if (model.hasOption(StepBuilderOption.BINARY_CODEC)) {
+            final String codecRejection = codecRejection();
+            if (codecRejection != null) {
+                warnings.add("No binary codec generated: " + codecRejection);
+            }
+        }
+        return warnings;
+    }
+
+    /**
+     * The members of these options are added to the built class itself, a standalone builder can't add them.
+     */
+    private void addEmbeddedOnlyWarning(final List<String> warnings, final StepBuilderOption option,
+                                        final String members) {
+        if (model.hasOption(option)) {
+            warnings.add("No " + members + " generated: " + option.name()
+                    + " can only be generated into the built class");
+        }
+    }
+
+    /**
+     * @return a compilation unit declaring a standalone class that holds the step builder of the model
+     */
+    public String renderSourceFile(final String packageName, final String className) {
+        if (packageName != null && packageName.length() > 0) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("public final class ").append(className).append(" {\n\nprivate ").append(className)
+                .append("() {\n}\n\n");
+        renderMembers();
+        out.append("}\n");
+        return indent(out.toString());
+    }
+
+    /**
+     * Indents rendered code by its brace depth, for sources that aren't formatted by the IDE afterwards.
+     */
+    private static String indent(final String code) {
+        final StringBuilder indented = new StringBuilder(code.length() * 5 / 4);
+        int depth = 0;
+        for (final String line : code.split("\n", -1)) {
+            if (line.startsWith("}")) {
+                depth--;
+            }
+            if (line.length() > 0) {
+                for (int i = 0; i < depth; i++) {
+                    indented.append("    ");
+                }
+            }
+            indented.append(line).append('\n');
+            if (line.endsWith("{")) {
+                depth++;
+            }
+        }
+        return indented.substring(0, indented.length() - 1);
+    }
+
+    private void renderConstructor() {
+        out.append(sparseAssignmentsAnnotation()).append("private ").append(simpleName(model.getTargetName()))
+                .append('(').append(BUILDER_CLASS_NAME).append(" builder) {\n");
+        renderAssignments(model.getMandatoryFields(), "", "builder.");
+        renderAssignments(denseOptionalFields, "", "builder.");
+        renderSparseAssignments("this.", "builder.");
+        renderHashCodeAssignment();
+        out.append("}\n\n");
+    }
+
+    /**
+     * Assigns only the optional fields that were set on a sparse builder, the others keep their initializers. The
+     * values are stored in the order of the fields, so they are read while walking the set bits of the presence bitset.
+     */
+    private void renderSparseAssignments(final String target, final String source) {
+        renderSparseAssignments(target, source, SPARSE_REFERENCE, sparseReferenceFields);
+        renderSparseAssignments(target, source, SPARSE_PRIMITIVE, sparsePrimitiveFields);
+    }
+
+    private void renderSparseAssignments(final String target, final String source, final String kind,
+                                         final List<StepField> fields) {
+        if (fields.isEmpty()) {
+            return;
+        }
+        final boolean primitive = SPARSE_PRIMITIVE.equals(kind);
+        final String present = source + sparsePresentName(kind);
+        out.append("{\nint position = 0;\nfor (int word = 0; word < ").append(present).append(".length; word++) {\n")
+                .append("for (long bits = ").append(present).append("[word]; bits != 0; bits &= bits - 1) {\n")
+                .append("final ").append(primitive ? "long" : "java.lang.Object").append(" value = ").append(source)
+                .append(sparseValuesName(kind)).append("[position++];\n")
+                .append("switch (word << 6 | java.lang.Long.numberOfTrailingZeros(bits)) {\n");
+        for (int i = 0; i < fields.size(); i++) {
+            final StepField field = fields.get(i);
+            final String value = primitive ? decodePrimitive(field.getType(), "value")
+                    : "(" + field.getType() + ") value";
+            out.append("case ").append(i).append(":\n");
+            if (field.getSetterName() == null) {
+                out.append(target).append(field.getName()).append(" = ").append(value).append(";\n");
+            } else {
+                out.append(target).append(field.getSetterName()).append('(').append(value).append(");\n");
+            }
+            out.append("break;\n");
+        }
+        out.append("}\n}\n}\n}\n");
+    }
+
+    private String sparseAssignmentsAnnotation() {
+        for (final StepField field : sparseFields) {
+            if (field.getType().indexOf('<') >= 0) {
+                return "@java.lang.SuppressWarnings(\"unchecked\")\n";
+            }
+        }
+        return "";
+    }
+
+    /**
+     * The builder doesn't escape into the constructor and no setters run during construction, so once
+     * {@code build()} is inlined the JIT can scalar replace the builder.
+     */
+    private void renderAllArgsConstructor() {
+        final List<StepField> fields = allFields();
+        out.append("private ").append(simpleName(model.getTargetName())).append('(');
+        renderParameters(fields);
+        out.append(") {\n");
+        for (final StepField field : fields) {
+            final String fieldName = field.getName();
+            out.append("this.").append(fieldName).append(" = ").append(fieldName).append(";\n");
+        }
+        renderHashCodeAssignment();
+        out.append("}\n\n");
+    }
+
+    private void renderHashCodeAssignment() {
+        // computing the hash code here would call the suppliers of the lazy fields
+        if (isHashCodeCached() && lazyFields.isEmpty()) {
+            out.append(CACHED_HASH_CODE_FIELD_NAME).append(" = computeHashCode();\n");
+        }
+    }
+
+    private void renderAssignments(final List<StepField> fields, final String target, final String source) {
+        for (final StepField field : fields) {
+            final String fieldName = field.getName();
+            if (lazyFields.contains(field)) {
+                out.append(target).append(fieldName).append(" = ").append(source).append(fieldName).append(";\n")
+                        .append(target).append(fieldName).append(LAZY_SUPPLIER_SUFFIX).append(" = ").append(source)
+                        .append(fieldName).append(LAZY_SUPPLIER_SUFFIX).append(";\n");
+            } else if (field.getSetterName() == null || field.isFinal()) {
+                out.append(target).append(fieldName).append(" = ").append(builtValue(field, source)).append(";\n");
+            } else {
+                out.append(target).append(field.getSetterName()).append('(').append(builtValue(field, source))
+                        .append(");\n");
+            }
+        }
+    }
+
+    /**
+     * @return the expression the built instance gets for the field, collections are frozen by the builder
+     */
+    private String builtValue(final StepField field, final String source) {
+        final CollectionField collectionField = collectionFields.get(field);
+        return collectionField == null ? source + field.getName()
+                : source + "freeze" + capitalize(field.getName()) + "()";
+    }
+
+    private void renderBuiltValues(final List<StepField> fields, final String source) {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            out.append(builtValue(fields.get(i), source));
+        }
+    }
+
+    private void renderNewBuilderMethod() {
+        renderFirstStepMethodHeader("builder");
+        out.append("return ").append(firstStepCast()).append("new ").append(BUILDER_CLASS_NAME).append('(');
+        renderArguments(finalFields, "");
+        out.append(");\n}\n\n");
+    }
+
+    private void renderFirstStepMethodHeader(final String methodName) {
+        if (isCompact()) {
+            // the Builder implements every setter of the steps interface, the step types only hide them
+            out.append("@java.lang.SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        }
+        out.append("public static ").append(firstStepName()).append(' ').append(methodName).append('(');
+        renderParameters(finalFields);
+        out.append(") {\n");
+        if (model.hasOption(StepBuilderOption.NULL_CHECKS)) {
+            // the mandatory final fields have no step, they are checked before a builder is taken
+            for (final StepField field : mandatoryFinalFields) {
+                if (!isPrimitive(field.getType())) {
+                    out.append("java.util.Objects.requireNonNull(").append(field.getName()).append(", \"")
+                            .append(field.getName()).append("\");\n");
+                }
+            }
+        }
+    }
+
+    private String firstStepCast() {
+        return isCompact() ? "(" + compactStepsName() + ") " : "";
+    }
+
+    /**
+     * One builder per thread is kept and handed out again once {@code build()} cleared it. A chain started while
+     * the builder of the thread is still in use, e.g. from code called by a step or after a chain was abandoned, gets
+     * a new builder, which is kept instead: the one in use is never handed out again, and an abandoned one doesn't
+     * turn every later call into an allocation.
+     */
+    private void renderReusableBuilderMethod() {
+        out.append("private static final java.lang.ThreadLocal<").append(BUILDER_CLASS_NAME).append("> ")
+                .append(REUSABLE_BUILDER_FIELD_NAME).append(" = new java.lang.ThreadLocal<").append(BUILDER_CLASS_NAME)
+                .append(">();\n\n");
+
+        out.append("/**\n * Same as {@code builder()}, but reuses a builder of the current thread instead of allocating one.\n")
+                .append(" * <p>\n * Reuse is safe as long as the chain is completed with {@code build()} on the thread that started it\n")
+                .append(" * and none of its steps is kept after that: {@code build()} clears the builder for the next chain.\n")
+                .append(" * A chain started while another one is in progress on the same thread, or after one was abandoned,\n")
+                .append(" * gets a new builder, which is reused from then on.\n */\n");
+        renderFirstStepMethodHeader(REUSABLE_BUILDER_METHOD_NAME);
+        out.append(BUILDER_CLASS_NAME).append(" builder = ").append(REUSABLE_BUILDER_FIELD_NAME).append(".get();\n")
+                .append("if (builder == null || builder.").append(IN_USE_FIELD_NAME).append(") {\nbuilder = new ")
+                .append(BUILDER_CLASS_NAME).append('(');
+        renderArguments(finalFields, "");
+        out.append(");\n").append(REUSABLE_BUILDER_FIELD_NAME).append(".set(builder);\n}");
+        if (!finalFields.isEmpty()) {
+            out.append(" else {\n");
+            for (final StepField field : finalFields) {
+                final String fieldName = field.getName();
+                out.append("builder.").append(fieldName).append(" = ").append(fieldName).append(";\n");
+            }
+            out.append('}');
+        }
+        out.append("\nbuilder.").append(IN_USE_FIELD_NAME).append(" = true;\nreturn ").append(firstStepCast())
+                .append("builder;\n}\n\n");
+    }
+
+    /**
+     * All mandatory fields are taken from the copy, so the builder starts at the last step.
+     */
+    private void renderCopyBuilderMethod() {
+        out.append("public static ").append(buildStepName()).append(" newBuilder(")
+                .append(model.getTargetName()).append(" copy) {\n");
+        renderCopyBuilderBody("copy.");
+    }
+
+    private void renderToBuilderMethod() {
+        if (model.hasOption(StepBuilderOption.WITH_JAVADOC)) {
+            out.append("/**\n * Returns a builder initialized with the fields of this instance, to change several of them.\n */\n");
+        }
+        out.append("public ").append(buildStepName()).append(" toBuilder() {\n");
+        renderCopyBuilderBody("this.");
+    }
+
+    private void renderCopyBuilderBody(final String copy) {
+        out.append(BUILDER_CLASS_NAME).append(" builder = new ").append(BUILDER_CLASS_NAME).append('(');
+        renderArguments(finalFields, copy);
+        out.append(");\n");
+        for (final StepField field : nonFinalFields) {
+            final String fieldName = field.getName();
+            final int sparseIndex = sparseIndex(field);
+            final CollectionField collectionField = collectionFields.get(field);
+            if (lazyFields.contains(field)) {
+                // the supplier is read first: once it is null, the value it supplied is visible
+                out.append("builder.").append(fieldName).append(LAZY_SUPPLIER_SUFFIX).append(" = ").append(copy)
+                        .append(fieldName).append(LAZY_SUPPLIER_SUFFIX).append(";\nbuilder.").append(fieldName)
+                        .append(" = ").append(copy).append(fieldName).append(";\n");
+            } else if (collectionField != null) {
+                out.append("if (").append(copy).append(fieldName).append(" != null) {\nbuilder.").append(fieldName)
+                        .append(" = ").append(collectionField.newCollection(copy + fieldName)).append(";\n}\n");
+            } else if (sparseIndex < 0) {
+                out.append("builder.").append(fieldName).append(" = ").append(copy).append(fieldName).append(";\n");
+            } else {
+                // a null is copied too, else the copy would get the initializer of the field
+                out.append("builder.").append(sparsePut(field, copy + fieldName)).append(";\n");
+            }
+        }
+        out.append("return builder;\n}\n\n");
+    }
+
+    /**
+     * Withers always start with {@code with}, the setter prefix of the builder could name a setter of the class.
+     */
+    private static String witherName(final StepField field) {
+        return WITHER_PREFIX + capitalize(field.getName());
+    }
+
+    /**
+     * @return the names of the setters of the class, a wither of the same name would replace one of them
+     */
+    private Set<String> setterNames() {
+        final Set<String> setterNames = new HashSet<String>();
+        for (final StepField field : allFields()) {
+            if (field.getSetterName() != null) {
+                setterNames.add(field.getSetterName());
+            }
+        }
+        return setterNames;
+    }
+
+    /**
+     * A wither creates the changed copy directly through the all-args or canonical constructor, without a
+     * builder: the other fields are passed on as they are, so their values are shared with this instance. A
+     * collection with collection steps is frozen like the builder does, instead of keeping the caller's.
+     */
+    private void renderWither(final StepField field) {
+        final String fieldName = field.getName();
+        final String parameterName = parameterName(fieldName);
+        final String targetName = model.getTargetName();
+        if (model.hasOption(StepBuilderOption.WITH_JAVADOC)) {
+            out.append("/**\n * Returns a copy of this {@code ").append(simpleName(targetName))
+                    .append("} with the given {@code ").append(fieldName).append("}.\n */\n");
+        }
+        out.append("public ").append(targetName).append(' ').append(witherName(field))
+                .append('(').append(field.getType()).append(' ').append(parameterName).append(") {\n");
+        // the withers of the mandatory fields reject a null like the steps of the builder do
+        if (nullCheckedFields.contains(field)) {
+            out.append("java.util.Objects.requireNonNull(").append(parameterName).append(", \"").append(fieldName)
+                    .append("\");\n");
+        }
+        out.append("return ").append(isInterning() ? "intern(" : "").append("new ").append(targetName).append('(');
+        final CollectionField collectionField = collectionFields.get(field);
+        final String value = collectionField == null ? parameterName : parameterName + " == null ? "
+                + collectionField.emptyCollection() + " : "
+                + collectionField.unmodifiable(collectionField.newCollection(parameterName));
+        final List<StepField> parameters = constructorFields();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            final String name = parameters.get(i).getName();
+            out.append(name.equals(fieldName) ? value : "this." + name);
+        }
+        out.append(isInterning() ? "));\n}\n\n" : ");\n}\n\n");
+    }
+
+    /**
+     * Row {@code i} of the columns is passed straight to the constructor, no builder is involved and primitive
+     * columns aren't boxed. The rows are checked like {@code build()} checks the builder: nulls of mandatory fields
+     * are rejected and collections are copied and frozen, each row gets its own copy.
+     */
+    private void renderBuildAllMethod() {
+        final String targetName = model.getTargetName();
+        out.append("/**\n * Builds {@code n} instances from one column per field, the instance at index {@code i} from row\n")
+                .append(" * {@code i} of every column. Every column has {@code n} rows.\n */\n")
+                .append("public static ").append(targetName).append("[] buildAll(int n");
+        renderColumnParameters("");
+        out.append(") {\n");
+        renderColumnLengthChecks();
+        out.append("final ").append(targetName).append("[] result = new ").append(targetName).append("[n];\n")
+                .append("for (int i = 0; i < n; i++) {\nresult[i] = ").append(bulkCreation()).append(";\n}\n")
+                .append("return result;\n}\n\n");
+    }
+
+    /**
+     * {@code Arrays.parallelSetAll} splits the rows across the common fork-join pool; worth it for large
+     * {@code n} only.
+     */
+    private void renderBuildAllParallelMethod() {
+        final String targetName = model.getTargetName();
+        out.append("/**\n * Same as {@code buildAll}, but builds the instances in parallel in the common fork-join pool.\n */\n")
+                .append("public static ").append(targetName).append("[] buildAllParallel(int n");
+        renderColumnParameters("final ");
+        out.append(") {\n");
+        renderColumnLengthChecks();
+        out.append("final ").append(targetName).append("[] result = new ").append(targetName).append("[n];\n")
+                .append("java.util.Arrays.parallelSetAll(result, new java.util.function.IntFunction<").append(targetName)
+                .append(">() {\n@java.lang.Override\npublic ").append(targetName).append(" apply(int i) {\nreturn ")
+                .append(bulkCreation()).append(";\n}\n});\nreturn result;\n}\n\n");
+    }
+
+    private void renderColumnParameters(final String modifiers) {
+        for (final StepField field : constructorFields()) {
+            out.append(", ").append(modifiers).append(field.getType()).append("[] ").append(columnName(field));
+        }
+    }
+
+    /**
+     * A column of another length than {@code n} is a mistake of the caller, found before any instance is built.
+     */
+    private void renderColumnLengthChecks() {
+        for (final StepField field : constructorFields()) {
+            final String column = columnName(field);
+            out.append("if (").append(column).append(".length != n) {\nthrow new java.lang.IllegalArgumentException(\"")
+                    .append(column).append(" has \" + ").append(column).append(".length + \" rows instead of \" + n);\n}\n");
+        }
+    }
+
+    private String bulkCreation() {
+        final StringBuilder creation = new StringBuilder(isInterning() ? "intern(new " : "new ")
+                .append(model.getTargetName()).append('(');
+        final List<StepField> fields = constructorFields();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                creation.append(", ");
+            }
+            final StepField field = fields.get(i);
+            final String value = columnName(field) + "[i]";
+            final CollectionField collectionField = collectionFields.get(field);
+            if (nullCheckedFields.contains(field)) {
+                creation.append("java.util.Objects.requireNonNull(").append(value).append(", \"")
+                        .append(field.getName()).append("\")");
+            } else if (collectionField != null) {
+                creation.append(value).append(" == null ? ").append(collectionField.emptyCollection()).append(" : ")
+                        .append(collectionField.unmodifiable(collectionField.newCollection(value)));
+            } else {
+                creation.append(value);
+            }
+        }
+        return creation.append(isInterning() ? "))" : ")").toString();
+    }
+
+    /**
+     * @return the fields in the order the constructor called by the withers and the bulk factories takes them
+     */
+    private List<StepField> constructorFields() {
+        return model.getConstruction() == StepBuilderModel.Construction.ALL_ARGS_CONSTRUCTOR
+                ? model.getConstructorParameters() : allFields();
+    }
+
+    /**
+     * Columns are named after their fields, clashes with the other names of the bulk factories get a suffix.
+     */
+    private static String columnName(final StepField field) {
+        final String name = field.getName();
+        return "n".equals(name) || "i".equals(name) || "result".equals(name) ? name + "Column" : name;
+    }
+
+    private void renderBuildStepInterface() {
+        renderInterfaceHeader(buildStepName());
+        for (final StepField field : optionalNonFinalFields) {
+            renderSetterSignature(buildStepName(), field);
+            out.append(";\n");
+            final CollectionField collectionField = collectionFields.get(field);
+            if (collectionField != null) {
+                renderCollectionStepSignatures(collectionField);
+            }
+        }
+        out.append(model.getTargetName()).append(" build();\n}\n\n");
+    }
+
+    private void renderMandatoryInterface(final int step) {
+        renderInterfaceHeader(stepName(step));
+        renderSetterSignature(nextStepName(step), mandatoryNonFinalFields.get(step));
+        out.append(";\n}\n\n");
+    }
+
+    /**
+     * One generic interface declares the setters of all mandatory fields, each returning its own type parameter.
+     * A step is the interface parameterized so that only the setter of its field returns the next step, the
+     * others return {@code Void}. This keeps the order weaker than one interface per field: a setter called out of
+     * order still compiles, it returns the {@code Builder} typed as {@code Void}, which fails with a
+     * {@code ClassCastException} once assigned to a {@code Void}. What it guarantees is that {@code build()} can
+     * only be reached after every mandatory setter has been called in order.
+     */
+    private void renderCompactStepsInterface() {
+        if (model.hasOption(StepBuilderOption.WITH_JAVADOC)) {
+            out.append("/**\n * The mandatory steps of the builder, only the setter of the current step returns the next one.\n */\n");
+        }
+        final StringBuilder name = new StringBuilder(compactStepsName()).append('<');
+        for (int i = 0; i < mandatoryNonFinalFields.size(); i++) {
+            if (i > 0) {
+                name.append(", ");
+            }
+            name.append(compactTypeParameter(i));
+        }
+        renderInterfaceHeader(name.append('>').toString());
+        for (int i = 0; i < mandatoryNonFinalFields.size(); i++) {
+            renderSetterSignature(compactTypeParameter(i), mandatoryNonFinalFields.get(i));
+            out.append(";\n");
+        }
+        out.append("}\n\n");
+    }
+
+    /**
+     * The fields in the order of the wire format: the parameters of {@code builder()}, the mandatory steps,
+     * then the optional steps.
+     */
+    private List<StepField> codecFields() {
+        final List<StepField> fields = requiredCodecFields();
+        fields.addAll(optionalNonFinalFields);
+        return fields;
+    }
+
+    /**
+     * @return the fields passed to {@code builder()} and the mandatory steps, which readFrom() needs in locals
+     */
+    private List<StepField> requiredCodecFields() {
+        final List<StepField> fields = new ArrayList<StepField>(finalFields.size() + nonFinalFields.size());
+        fields.addAll(finalFields);
+        fields.addAll(mandatoryNonFinalFields);
+        return fields;
+    }
+
+    /**
+     * @return the presence bits of the fields that get one: references, which may be null, and optional primitives,
+     * which are only written when they aren't the default value. Not those of a sparse builder: an unset one keeps
+     * the initializer of its field, so a default value read back has to be set.
+     */
+    private Map<StepField, Integer> presenceIndexes() {
+        final Map<StepField, Integer> indexes = new LinkedHashMap<StepField, Integer>();
+        // in the order of codecFields()
+        for (final StepField field : requiredCodecFields()) {
+            if (!isPrimitive(field.getType())) {
+                indexes.put(field, indexes.size());
+            }
+        }
+        for (final StepField field : optionalNonFinalFields) {
+            if (sparseIndex(field) < 0 || !isPrimitive(field.getType())) {
+                indexes.put(field, indexes.size());
+            }
+        }
+        return indexes;
+    }
+
+    private void renderWriteToMethod() {
+        final Map<StepField, Integer> presenceIndexes = presenceIndexes();
+        final List<StepField> presenceFields = new ArrayList<StepField>(presenceIndexes.keySet());
+        out.append("/**\n * Writes this {@code ").append(simpleName(model.getTargetName()))
+                .append("} in a compact binary format, read back by {@code readFrom}: a presence bitmap for the\n")
+                .append(" * nullable and optional fields, then the values of the present ones. Strings are written with\n")
+                .append(" * {@code writeUTF} and can't be longer than 65535 bytes encoded.\n */\n")
+                .append("public void writeTo(java.io.DataOutput out) throws java.io.IOException {\n");
+        for (int group = 0; group < presenceFields.size(); group += 8) {
+            out.append("out.writeByte(");
+            for (int bit = 0; bit < 8 && group + bit < presenceFields.size(); bit++) {
+                if (bit > 0) {
+                    out.append("\n| ");
+                }
+                out.append('(').append(presenceCondition(presenceFields.get(group + bit), "this."))
+                        .append(" ? ").append(1 << bit).append(" : 0)");
+            }
+            out.append(");\n");
+        }
+        for (final StepField field : codecFields()) {
+            final String value = "this." + field.getName();
+            final String write = "out.write" + codecType(field.getType()) + "(" + value + ");\n";
+            if (presenceIndexes.containsKey(field)) {
+                out.append("if (").append(presenceCondition(field, "this.")).append(") {\n").append(write).append("}\n");
+            } else {
+                out.append(write);
+            }
+        }
+        out.append("}\n\n");
+    }
+
+    /**
+     * Decodes straight into the step chain, so the built instance goes through the same steps as in code.
+     */
+    private void renderReadFromMethod() {
+        final Map<StepField, Integer> presenceIndexes = presenceIndexes();
+        final String targetName = model.getTargetName();
+        out.append("/**\n * Reads a {@code ").append(simpleName(targetName))
+                .append("} written by {@code writeTo}.\n */\n")
+                .append("public static ").append(targetName)
+                .append(" readFrom(java.io.DataInput in) throws java.io.IOException {\n");
+        for (int group = 0; group < presenceIndexes.size(); group += 8) {
+            out.append("final int presence").append(group / 8).append(" = in.readUnsignedByte();\n");
+        }
+
+        for (final StepField field : requiredCodecFields()) {
+            out.append("final ").append(field.getType()).append(' ').append(codecLocalName(field)).append(" = ");
+            final Integer presenceIndex = presenceIndexes.get(field);
+            if (presenceIndex == null) {
+                out.append(readExpression(field)).append(";\n");
+            } else {
+                out.append(presenceTest(presenceIndex)).append(" ? ").append(readExpression(field))
+                        .append(" : null;\n");
+            }
+        }
+
+        out.append("final ").append(buildStepName()).append(" builder = builder(");
+        for (int i = 0; i < finalFields.size(); i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            out.append(codecLocalName(finalFields.get(i)));
+        }
+        out.append(')');
+        for (final StepField field : mandatoryNonFinalFields) {
+            out.append("\n.").append(model.getSetterPrefix()).append(capitalize(field.getName())).append('(')
+                    .append(codecLocalName(field)).append(')');
+        }
+        out.append(";\n");
+        for (final StepField field : optionalNonFinalFields) {
+            final Integer presenceIndex = presenceIndexes.get(field);
+            final String setter = model.getSetterPrefix() + capitalize(field.getName());
+            if (presenceIndex == null) {
+                out.append("builder.").append(setter).append('(').append(readExpression(field)).append(");\n");
+            } else if (sparseIndex(field) >= 0) {
+                // a null has to be set as well, else the field keeps its initializer
+                out.append("builder.").append(setter).append('(').append(presenceTest(presenceIndex)).append(" ? ")
+                        .append(readExpression(field)).append(" : null);\n");
+            } else {
+                out.append("if (").append(presenceTest(presenceIndex)).append(") {\nbuilder.").append(setter)
+                        .append('(').append(readExpression(field)).append(");\n}\n");
+            }
+        }
+        out.append("return builder.build();\n}\n\n");
+    }
+
+    private static String presenceTest(final int presenceIndex) {
+        return "(presence" + presenceIndex / 8 + " & " + (1 << presenceIndex % 8) + ") != 0";
+    }
+
+    private static String presenceCondition(final StepField field, final String qualifier) {
+        final String type = field.getType();
+        final String value = qualifier + field.getName();
+        if (!isPrimitive(type)) {
+            return value + " != null";
+        }
+        if ("boolean".equals(type)) {
+            return value;
+        }
+        // compared bitwise, so -0.0 and NaN are written
+        if ("float".equals(type)) {
+            return "java.lang.Float.floatToRawIntBits(" + value + ") != 0";
+        }
+        if ("double".equals(type)) {
+            return "java.lang.Double.doubleToRawLongBits(" + value + ") != 0L";
+        }
+        return value + " != 0";
+    }
+
+    private static String readExpression(final StepField field) {
+        return "in.read" + codecType(field.getType()) + "()";
+    }
+
+    /**
+     * Locals of readFrom are named after the fields, clashes with its own names get a suffix.
+     */
+    private static String codecLocalName(final StepField field) {
+        final String name = field.getName();
+        return "in".equals(name) || "builder".equals(name) || name.startsWith("presence") ? name + "Value" : name;
+    }
+
+    /**
+     * @return the suffix of the {@code DataOutput.write*} and {@code DataInput.read*} methods for the type,
+     * or null if the codec doesn't support it
+     */
+    private static String codecType(final String type) {
+        if ("java.lang.String".equals(type)) {
+            return "UTF";
+        }
+        final String primitive = "java.lang.Integer".equals(type) ? "int"
+                : "java.lang.Character".equals(type) ? "char"
+                : type.startsWith("java.lang.") ? type.substring("java.lang.".length()).toLowerCase() : type;
+        return isPrimitive(primitive) ? capitalize(primitive) : null;
+    }
+
+    /**
+     * equals and hashCode over exactly the fields of the builder. A cached hash code is set by the generated
+     * constructors and computed on first use otherwise, like {@code String.hashCode()}.
+     * <p>
+     * The cache is a mutable {@code transient int} rather than a final field set in the constructor: the built class
+     * may have constructors of its own, which the renderer doesn't see and which would not compile without assigning
+     * a final field, and with lazy fields the hash code can't be computed before their suppliers are called. Racing
+     * threads at worst compute the same value twice.
+     */
+    private void renderEqualsAndHashCode() {
+        final String targetName = model.getTargetName();
+        final boolean cached = isHashCodeCached();
+        if (cached) {
+            out.append("private transient int ").append(CACHED_HASH_CODE_FIELD_NAME).append(";\n\n");
+        }
+
+        out.append("@java.lang.Override\npublic boolean equals(java.lang.Object o) {\nif (this == o) {\nreturn true;\n}\n")
+                .append("if (o == null || getClass() != o.getClass()) {\nreturn false;\n}\n")
+                .append("final ").append(targetName).append(" that = (").append(targetName).append(") o;\n");
+        if (cached) {
+            out.append("if (hashCode() != that.hashCode()) {\nreturn false;\n}\n");
+        }
+        final List<StepField> fields = allFields();
+        out.append("return ");
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                out.append("\n&& ");
+            }
+            final StepField field = fields.get(i);
+            out.append(equalsExpression(field.getType(), fieldValue(field, "this."), fieldValue(field, "that.")));
+        }
+        if (fields.isEmpty()) {
+            out.append("true");
+        }
+        out.append(";\n}\n\n");
+
+        out.append("@java.lang.Override\npublic int hashCode() {\n");
+        if (cached) {
+            out.append("int h = ").append(CACHED_HASH_CODE_FIELD_NAME).append(";\nif (h == 0) {\nh = computeHashCode();\n")
+                    .append(CACHED_HASH_CODE_FIELD_NAME).append(" = h;\n}\nreturn h;\n}\n\n")
+                    .append("private int computeHashCode() {\n");
+        }
+        out.append("int result = 1;\n");
+        for (final StepField field : fields) {
+            out.append("result = 31 * result + ").append(hashCodeExpression(field.getType(), fieldValue(field, "this.")))
+                    .append(";\n");
+        }
+        out.append("return result;\n}\n\n");
+    }
+
+    /**
+     * A single, presized StringBuilder; primitives are appended without boxing.
+     */
+    private void renderToString() {
+        final List<StepField> fields = allFields();
+        final String prefix = simpleName(model.getTargetName()) + "{";
+        int capacity = prefix.length() + 1;
+        for (final StepField field : fields) {
+            capacity += field.getName().length() + 2 + TO_STRING_VALUE_LENGTH;
+        }
+
+        out.append("@java.lang.Override\npublic java.lang.String toString() {\n")
+                .append("return new java.lang.StringBuilder(").append(capacity).append(")\n")
+                .append(".append(\"").append(prefix);
+        for (int i = 0; i < fields.size(); i++) {
+            final StepField field = fields.get(i);
+            if (i > 0) {
+                out.append(".append(\", ");
+            }
+            out.append(field.getName()).append("=\")");
+            if (field.getType().endsWith("[]")) {
+                out.append(".append(java.util.Arrays.toString(").append(fieldValue(field, "")).append("))\n");
+            } else {
+                out.append(".append(").append(fieldValue(field, "")).append(")\n");
+            }
+        }
+        out.append(fields.isEmpty() ? "\")\n" : "").append(".append('}')\n.toString();\n}\n\n");
+    }
+
+    private static String equalsExpression(final String type, final String value, final String other) {
+        if ("float".equals(type)) {
+            return "java.lang.Float.compare(" + value + ", " + other + ") == 0";
+        }
+        if ("double".equals(type)) {
+            return "java.lang.Double.compare(" + value + ", " + other + ") == 0";
+        }
+        if (isPrimitive(type)) {
+            return value + " == " + other;
+        }
+        if (type.endsWith("[]")) {
+            return "java.util.Arrays.equals(" + value + ", " + other + ")";
+        }
+        return "(" + value + " == null ? " + other + " == null : " + value + ".equals(" + other + "))";
+    }
+
+    private static String hashCodeExpression(final String type, final String name) {
+        if ("boolean".equals(type)) {
+            return "(" + name + " ? 1231 : 1237)";
+        }
+        if ("long".equals(type)) {
+            return "(int) (" + name + " ^ (" + name + " >>> 32))";
+        }
+        if ("float".equals(type)) {
+            return "java.lang.Float.floatToIntBits(" + name + ")";
+        }
+        if ("double".equals(type)) {
+            return "(int) (java.lang.Double.doubleToLongBits(" + name + ") ^ (java.lang.Double.doubleToLongBits("
+                    + name + ") >>> 32))";
+        }
+        if (isPrimitive(type)) {
+            return name;
+        }
+        if (type.endsWith("[]")) {
+            return "java.util.Arrays.hashCode(" + name + ")";
+        }
+        return "(" + name + " != null ? " + name + ".hashCode() : 0)";
+    }
+
+    /**
+     * The intern table holds its keys and values weakly, so canonical instances nobody uses anymore are still
+     * collected. It is bounded: once full, new instances are returned without being added.
+     */
+    private void renderInternMethod() {
+        final String targetName = model.getTargetName();
+        final String tableType = "java.util.Map<" + targetName + ", java.lang.ref.WeakReference<" + targetName + ">>";
+        out.append("private static final int INTERN_TABLE_LIMIT = ").append(INTERN_TABLE_LIMIT).append(";\n")
+                .append("private static final ").append(tableType).append(' ').append(INTERN_TABLE_FIELD_NAME)
+                .append(" = new java.util.WeakHashMap<").append(targetName).append(", java.lang.ref.WeakReference<")
+                .append(targetName).append(">>();\n\n");
+
+        out.append("/**\n * Returns the canonical instance equal to the given one, which becomes canonical if there is none.\n */\n")
+                .append("private static ").append(targetName).append(" intern(").append(targetName)
+                .append(" instance) {\nsynchronized (").append(INTERN_TABLE_FIELD_NAME).append(") {\n")
+                .append("final java.lang.ref.WeakReference<").append(targetName).append("> reference = ")
+                .append(INTERN_TABLE_FIELD_NAME).append(".get(instance);\n")
+                .append("final ").append(targetName).append(" canonical = reference != null ? reference.get() : null;\n")
+                .append("if (canonical != null) {\nreturn canonical;\n}\n")
+                .append("if (").append(INTERN_TABLE_FIELD_NAME).append(".size() < INTERN_TABLE_LIMIT) {\n")
+                .append(INTERN_TABLE_FIELD_NAME).append(".put(instance, new java.lang.ref.WeakReference<")
+                .append(targetName).append(">(instance));\n}\nreturn instance;\n}\n}\n\n");
+    }
+
+    /**
+     * The supplier is called at most once, under the lock of the instance, and dropped afterwards. Once it is null
+     * the field holds the value: the field is written before the volatile write of the supplier, so a thread
+     * that reads null from the supplier also sees the value.
+     */
+    private void renderLazyAccessor(final StepField field) {
+        final String fieldName = field.getName();
+        final String supplierName = fieldName + LAZY_SUPPLIER_SUFFIX;
+        out.append("private volatile ").append(supplierType(field)).append(' ').append(supplierName).append(";\n\n");
+        if (model.hasOption(StepBuilderOption.WITH_JAVADOC)) {
+            out.append("/**\n * Returns the {@code ").append(fieldName)
+                    .append("}, supplied on the first call.\n */\n");
+        }
+        out.append("public ").append(field.getType()).append(' ').append(accessorName(field)).append("() {\n")
+                .append("if (").append(supplierName).append(" != null) {\nsynchronized (this) {\n")
+                .append("final ").append(supplierType(field)).append(" supplier = ").append(supplierName).append(";\n")
+                .append("if (supplier != null) {\nthis.").append(fieldName).append(" = supplier.get();\nthis.")
+                .append(supplierName).append(" = null;\n}\n}\n}\nreturn this.").append(fieldName).append(";\n}\n\n");
+    }
+
+    private void renderInterfaceHeader(final String name) {
+        if (model.hasOption(StepBuilderOption.PUBLIC_INTERFACES) || !model.isEmbedded()) {
+            out.append("public ");
+        }
+        out.append("interface ").append(name).append(" {\n");
+    }
+
+    private void renderBuilderClass() {
+        if (model.hasOption(StepBuilderOption.WITH_JAVADOC)) {
+            out.append("/**\n * {@code ").append(simpleName(model.getTargetName()))
+                    .append("} builder static inner class.\n */\n");
+        }
+        out.append("public static final class ").append(BUILDER_CLASS_NAME).append(" implements ");
+        if (isCompact()) {
+            out.append(compactStepsName()).append('<');
+            for (int i = 0; i < mandatoryNonFinalFields.size(); i++) {
+                if (i > 0) {
+                    out.append(", ");
+                }
+                out.append(BUILDER_CLASS_NAME);
+            }
+            out.append(">, ");
+        } else {
+            for (int i = mandatoryNonFinalFields.size() - 1; i >= 0; i--) {
+                out.append(stepName(i)).append(", ");
+            }
+        }
+        out.append(buildStepName()).append(" {\n");
+
+        for (final StepField field : nonFinalFields) {
+            final CollectionField collectionField = collectionFields.get(field);
+            if (collectionField != null) {
+                out.append("private ").append(collectionField.implementationType()).append(' ')
+                        .append(field.getName()).append(";\nprivate boolean ").append(field.getName())
+                        .append(SHARED_COLLECTION_SUFFIX).append(";\n");
+            } else if (!sparseIndexes.containsKey(field)) {
+                renderBuilderField(field, false);
+            }
+            if (lazyFields.contains(field)) {
+                out.append("private ").append(supplierType(field)).append(' ').append(field.getName())
+                        .append(LAZY_SUPPLIER_SUFFIX).append(";\n");
+            }
+        }
+        if (!sparseFields.isEmpty()) {
+            renderSparseStorage();
+        }
+        for (final StepField field : finalFields) {
+            // a reusable builder gets the final fields again for every chain
+            renderBuilderField(field, !isReusable());
+        }
+        if (isReusable()) {
+            out.append("private boolean ").append(IN_USE_FIELD_NAME).append(";\n");
+        }
+
+        out.append("\nprivate ").append(BUILDER_CLASS_NAME).append('(');
+        renderParameters(finalFields);
+        out.append(") {\n");
+        for (final StepField field : finalFields) {
+            final String fieldName = field.getName();
+            out.append("this.").append(fieldName).append(" = ").append(fieldName).append(";\n");
+        }
+        out.append("}\n\n");
+
+        for (int i = mandatoryNonFinalFields.size() - 1; i >= 0; i--) {
+            renderBuilderSetter(isCompact() ? BUILDER_CLASS_NAME : nextStepName(i), mandatoryNonFinalFields.get(i),
+                    model.hasOption(StepBuilderOption.NULL_CHECKS));
+        }
+        for (final StepField field : optionalNonFinalFields) {
+            final CollectionField collectionField = collectionFields.get(field);
+            if (collectionField != null) {
+                renderCollectionSteps(collectionField);
+            } else {
+                renderBuilderSetter(buildStepName(), field, false);
+            }
+        }
+        renderBuildMethod();
+        if (!sparseFields.isEmpty()) {
+            renderSparsePutMethods();
+        }
+        if (isReusable()) {
+            renderResetMethod();
+        }
+        out.append("}\n");
+    }
+
+    private void renderCollectionStepSignatures(final CollectionField collectionField) {
+        final String parameterName = parameterName(collectionField.field.getName());
+        if (collectionField.isMap()) {
+            out.append(buildStepName()).append(' ').append(collectionField.putName()).append('(')
+                    .append(collectionField.typeArguments.get(0)).append(" key, ")
+                    .append(collectionField.typeArguments.get(1)).append(" value);\n");
+        } else {
+            out.append(buildStepName()).append(' ').append(collectionField.addName()).append('(')
+                    .append(collectionField.typeArguments.get(0)).append(' ').append(parameterName).append(");\n");
+        }
+        out.append(buildStepName()).append(' ').append(collectionField.addAllName()).append('(')
+                .append(collectionField.addAllParameterType()).append(' ').append(parameterName).append(");\n");
+        final String capacityStepName = capacityStepName(collectionField);
+        if (capacityStepName != null) {
+            out.append(buildStepName()).append(' ').append(capacityStepName).append("(int expectedSize);\n");
+        }
+    }
+
+    /**
+     * @return the name of the step presizing the collection, or null when a setter of another field has the name,
+     * e.g. the one of an {@code itemsCapacity} field next to {@code items}
+     */
+    private String capacityStepName(final CollectionField collectionField) {
+        final String name = model.getSetterPrefix() + capitalize(collectionField.field.getName()) + "Capacity";
+        return builderSetterNames.contains(name) ? null : name;
+    }
+
+    /**
+     * The builder owns its collection: the setter and the copy builder copy what they get, and add and put only
+     * append. The built instance gets an unmodifiable view of it without a copy, the collection is then shared and
+     * copied by the next step changing it, if any.
+     */
+    private void renderCollectionSteps(final CollectionField collectionField) {
+        final StepField field = collectionField.field;
+        final String fieldName = field.getName();
+        final String parameterName = parameterName(fieldName);
+        final String shared = fieldName + SHARED_COLLECTION_SUFFIX;
+
+        out.append("@java.lang.Override\npublic ");
+        renderSetterSignature(buildStepName(), field);
+        out.append(" {\n").append(fieldName).append(" = ").append(parameterName).append(" == null ? null : ")
+                .append(collectionField.newCollection(parameterName)).append(";\n").append(shared)
+                .append(" = false;\nreturn this;\n}\n\n");
+
+        out.append("@java.lang.Override\npublic ").append(buildStepName()).append(' ');
+        if (collectionField.isMap()) {
+            out.append(collectionField.putName()).append('(').append(collectionField.typeArguments.get(0))
+                    .append(" key, ").append(collectionField.typeArguments.get(1)).append(" value) {\n");
+            renderCreateCollection(collectionField, null);
+            out.append(fieldName).append(".put(key, value);\nreturn this;\n}\n\n");
+        } else {
+            out.append(collectionField.addName()).append('(').append(collectionField.typeArguments.get(0))
+                    .append(' ').append(parameterName).append(") {\n");
+            renderCreateCollection(collectionField, null);
+            out.append(fieldName).append(".add(").append(parameterName).append(");\nreturn this;\n}\n\n");
+        }
+
+        out.append("@java.lang.Override\npublic ").append(buildStepName()).append(' ')
+                .append(collectionField.addAllName()).append('(').append(collectionField.addAllParameterType())
+                .append(' ').append(parameterName).append(") {\n");
+        renderCreateCollection(collectionField, parameterName + ".size()");
+        out.append(fieldName).append(collectionField.isMap() ? ".putAll(" : ".addAll(").append(parameterName)
+                .append(");\nreturn this;\n}\n\n");
+
+        final String capacityStepName = capacityStepName(collectionField);
+        if (capacityStepName != null) {
+            out.append("@java.lang.Override\npublic ").append(buildStepName()).append(' ').append(capacityStepName)
+                    .append("(int expectedSize) {\n");
+            renderCreateCollection(collectionField, "expectedSize");
+            // hash based collections can only be sized before the first element
+            if (collectionField.isList()) {
+                out.append(fieldName).append(".ensureCapacity(expectedSize);\n");
+            }
+            out.append("return this;\n}\n\n");
+        }
+
+        out.append("private ").append(field.getType()).append(" freeze").append(capitalize(fieldName))
+                .append("() {\nif (").append(fieldName).append(" == null) {\nreturn ")
+                .append(collectionField.emptyCollection()).append(";\n}\n").append(shared).append(" = true;\nreturn ")
+                .append(collectionField.unmodifiable(fieldName)).append(";\n}\n\n");
+    }
+
+    /**
+     * Creates the collection on the first element, or copies it when a built instance shares it.
+     */
+    private void renderCreateCollection(final CollectionField collectionField, final String expectedSize) {
+        final String fieldName = collectionField.field.getName();
+        final String shared = fieldName + SHARED_COLLECTION_SUFFIX;
+        out.append("if (").append(fieldName).append(" == null) {\n").append(fieldName).append(" = ")
+                .append(collectionField.newEmptyCollection(expectedSize)).append(";\n} else if (").append(shared)
+                .append(") {\n").append(fieldName).append(" = ").append(collectionField.newCollection(fieldName))
+                .append(";\n").append(shared).append(" = false;\n}\n");
+    }
+
+    /**
+     * The optional fields of a sparse builder are kept as presence bitsets and arrays of the values that were set,
+     * in the order of the fields, so a builder holds only what was actually set. References and primitives have
+     * their own bitset and array, the primitives are stored in a {@code long[]} without being boxed.
+     */
+    private void renderSparseStorage() {
+        renderSparseStorage(SPARSE_REFERENCE, sparseReferenceFields, "java.lang.Object");
+        renderSparseStorage(SPARSE_PRIMITIVE, sparsePrimitiveFields, "long");
+    }
+
+    private void renderSparseStorage(final String kind, final List<StepField> fields, final String valueType) {
+        if (fields.isEmpty()) {
+            return;
+        }
+        out.append("private final long[] ").append(sparsePresentName(kind)).append(" = new long[")
+                .append((fields.size() + 63) / 64).append("];\n")
+                .append("private ").append(valueType).append("[] ").append(sparseValuesName(kind)).append(";\n")
+                .append("private int ").append(sparseCountName(kind)).append(";\n");
+    }
+
+    /**
+     * @return the index of the field in the sparse storage of its kind, or -1 if it is stored in a field of its own
+     */
+    private int sparseIndex(final StepField field) {
+        final Integer index = sparseIndexes.get(field);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * @return the call storing the value of a sparse field, encoded into a {@code long} for a primitive
+     */
+    private String sparsePut(final StepField field, final String value) {
+        final String type = field.getType();
+        if (!isPrimitive(type)) {
+            return "put" + SPARSE_REFERENCE + "(" + sparseIndex(field) + ", " + value + ")";
+        }
+        final String encoded;
+        if ("boolean".equals(type)) {
+            encoded = value + " ? 1L : 0L";
+        } else if ("float".equals(type)) {
+            encoded = "java.lang.Float.floatToRawIntBits(" + value + ")";
+        } else if ("double".equals(type)) {
+            encoded = "java.lang.Double.doubleToRawLongBits(" + value + ")";
+        } else {
+            encoded = value;
+        }
+        return "put" + SPARSE_PRIMITIVE + "(" + sparseIndex(field) + ", " + encoded + ")";
+    }
+
+    /**
+     * @return the value of the primitive type decoded from the {@code long} that {@link #sparsePut} stored
+     */
+    private static String decodePrimitive(final String type, final String value) {
+        if ("long".equals(type)) {
+            return value;
+        }
+        if ("boolean".equals(type)) {
+            return value + " != 0";
+        }
+        if ("float".equals(type)) {
+            return "java.lang.Float.intBitsToFloat((int) " + value + ")";
+        }
+        if ("double".equals(type)) {
+            return "java.lang.Double.longBitsToDouble(" + value + ")";
+        }
+        return "(" + type + ") " + value;
+    }
+
+    private static String sparsePresentName(final String kind) {
+        return "sparse" + kind + "sPresent";
+    }
+
+    private static String sparseValuesName(final String kind) {
+        return "sparse" + kind + "s";
+    }
+
+    private static String sparseCountName(final String kind) {
+        return "sparse" + kind + "Count";
+    }
+
+    private void renderSparsePutMethods() {
+        renderSparsePutMethod(SPARSE_REFERENCE, sparseReferenceFields, "java.lang.Object");
+        renderSparsePutMethod(SPARSE_PRIMITIVE, sparsePrimitiveFields, "long");
+        out.append("\nprivate static int rank(long[] present, int index) {\n")
+                .append("int rank = java.lang.Long.bitCount(present[index >>> 6] & ((1L << index) - 1));\n")
+                .append("for (int word = 0; word < index >>> 6; word++) {\n")
+                .append("rank += java.lang.Long.bitCount(present[word]);\n}\nreturn rank;\n}\n");
+    }
+
+    /**
+     * The position of a value is the number of fields set before it, counted in the bitset, so a value set again
+     * is replaced without searching, and a new one is inserted at its position.
+     */
+    private void renderSparsePutMethod(final String kind, final List<StepField> fields, final String valueType) {
+        if (fields.isEmpty()) {
+            return;
+        }
+        final String present = sparsePresentName(kind);
+        final String values = sparseValuesName(kind);
+        final String count = sparseCountName(kind);
+        out.append("\nprivate void put").append(kind).append("(int index, ").append(valueType).append(" value) {\n")
+                .append("final int position = rank(").append(present).append(", index);\n")
+                .append("if ((").append(present).append("[index >>> 6] & (1L << index)) != 0) {\n")
+                .append(values).append("[position] = value;\nreturn;\n}\n")
+                .append(present).append("[index >>> 6] |= 1L << index;\n")
+                .append("if (").append(values).append(" == null) {\n")
+                .append(values).append(" = new ").append(valueType).append('[').append(SPARSE_INITIAL_CAPACITY)
+                .append("];\n} else if (").append(count).append(" == ").append(values).append(".length) {\n")
+                .append(values).append(" = java.util.Arrays.copyOf(").append(values).append(", ").append(count)
+                .append(" * 2);\n}\n")
+                .append("java.lang.System.arraycopy(").append(values).append(", position, ").append(values)
+                .append(", position + 1, ").append(count).append(" - position);\n")
+                .append(values).append("[position] = value;\n")
+                .append(count).append("++;\n}\n");
+    }
+
+    private void renderResetMethod() {
+        out.append("\nprivate void reset() {\n");
+        for (final StepField field : nonFinalFields) {
+            if (!sparseIndexes.containsKey(field)) {
+                out.append(field.getName()).append(" = ").append(defaultValue(field.getType())).append(";\n");
+            }
+            if (lazyFields.contains(field)) {
+                out.append(field.getName()).append(LAZY_SUPPLIER_SUFFIX).append(" = null;\n");
+            }
+            if (collectionFields.containsKey(field)) {
+                out.append(field.getName()).append(SHARED_COLLECTION_SUFFIX).append(" = false;\n");
+            }
+        }
+        if (!sparseReferenceFields.isEmpty()) {
+            out.append("java.util.Arrays.fill(").append(sparsePresentName(SPARSE_REFERENCE)).append(", 0L);\n")
+                    .append("if (").append(sparseValuesName(SPARSE_REFERENCE)).append(" != null) {\n")
+                    .append("java.util.Arrays.fill(").append(sparseValuesName(SPARSE_REFERENCE)).append(", 0, ")
+                    .append(sparseCountName(SPARSE_REFERENCE)).append(", null);\n}\n")
+                    .append(sparseCountName(SPARSE_REFERENCE)).append(" = 0;\n");
+        }
+        if (!sparsePrimitiveFields.isEmpty()) {
+            out.append("java.util.Arrays.fill(").append(sparsePresentName(SPARSE_PRIMITIVE)).append(", 0L);\n")
+                    .append(sparseCountName(SPARSE_PRIMITIVE)).append(" = 0;\n");
+        }
+        for (final StepField field : finalFields) {
+            out.append(field.getName()).append(" = ").append(defaultValue(field.getType())).append(";\n");
+        }
+        out.append(IN_USE_FIELD_NAME).append(" = false;\n}\n");
+    }
+
+    private void renderBuilderField(final StepField field, final boolean isFinal) {
+        out.append("private ");
+        if (isFinal) {
+            out.append("final ");
+        }
+        out.append(field.getType()).append(' ').append(field.getName()).append(";\n");
+    }
+
+    private void renderBuilderSetter(final String returnType, final StepField field, final boolean nullCheck) {
+        final String fieldName = field.getName();
+        final String parameterName = parameterName(fieldName);
+        if (model.hasOption(StepBuilderOption.WITH_JAVADOC)) {
+            out.append("/**\n * Sets the {@code ").append(fieldName).append("} and returns a reference to {@code ")
+                    .append(returnType).append("}\n * @param ").append(parameterName).append(" the {@code ")
+                    .append(fieldName).append("} to set\n * @return a reference to this Builder\n */\n");
+        }
+        out.append("@java.lang.Override\npublic ");
+        renderSetterSignature(returnType, field);
+        out.append(" {\n");
+        if (nullCheck && !isPrimitive(stepType(field))) {
+            if (isReusable()) {
+                // the chain ends here, the builder of the thread would stay in use forever otherwise
+                out.append("if (").append(parameterName).append(" == null) {\nif (").append(IN_USE_FIELD_NAME)
+                        .append(") {\nreset();\n}\nthrow new java.lang.NullPointerException(\"").append(fieldName)
+                        .append("\");\n}\n");
+            } else {
+                // an intrinsic with a constant message, it costs a compare and allocates nothing unless it throws
+                out.append("java.util.Objects.requireNonNull(").append(parameterName).append(", \"")
+                        .append(fieldName).append("\");\n");
+            }
+        }
+        final int sparseIndex = sparseIndex(field);
+        if (lazyFields.contains(field)) {
+            out.append(fieldName).append(LAZY_SUPPLIER_SUFFIX).append(" = ").append(parameterName).append(";\n");
+        } else if (sparseIndex < 0) {
+            out.append(fieldName).append(" = ").append(parameterName).append(";\n");
+        } else {
+            out.append(sparsePut(field, parameterName)).append(";\n");
+        }
+        out.append("return this;\n}\n\n");
+    }
+
+    private void renderBuildMethod() {
+        final String targetName = model.getTargetName();
+        final String simpleName = simpleName(targetName);
+        if (model.hasOption(StepBuilderOption.WITH_JAVADOC)) {
+            out.append("/**\n * Returns a {@code ").append(simpleName).append("} built from the parameters previously set.\n");
+            if (!sparseFields.isEmpty()) {
+                out.append(" * The optional fields that were never set keep the initial values of their fields.\n");
+            }
+            out.append(" *\n * @return a {@code ").append(simpleName).append("} built with parameters of this {@code ")
+                    .append(simpleName).append(".Builder}\n */\n");
+        }
+        if (model.getConstruction() == StepBuilderModel.Construction.FIELD_ASSIGNMENT) {
+            out.append(sparseAssignmentsAnnotation());
+        }
+        out.append("public ").append(targetName).append(" build() {\n");
+        if (isReusable()) {
+            // cleared once the instance is created, or failed to, so it keeps no references and is free again
+            out.append("try {\n");
+        }
+        final String creation = "return " + (isInterning() ? "intern(" : "");
+        final String creationEnd = isInterning() ? ");\n" : ";\n";
+        switch (model.getConstruction()) {
+            case ALL_ARGS_CONSTRUCTOR:
+                out.append(creation).append("new ").append(targetName).append('(');
+                renderBuiltValues(model.getConstructorParameters(), "");
+                out.append(')').append(creationEnd);
+                break;
+            case FIELD_ASSIGNMENT:
+                out.append(targetName).append(" target = new ").append(targetName).append("();\n");
+                renderAssignments(model.getMandatoryFields(), "target.", "");
+                renderAssignments(denseOptionalFields, "target.", "");
+                renderSparseAssignments("target.", "");
+                out.append("return target;\n");
+                break;
+            default:
+                if (hasAllArgsConstructor()) {
+                    out.append(creation).append("new ").append(targetName).append('(');
+                    renderBuiltValues(allFields(), "");
+                    out.append(')').append(creationEnd);
+                } else {
+                    out.append(creation).append("new ").append(targetName).append("(this)").append(creationEnd);
+                }
+        }
+        if (isReusable()) {
+            out.append("} finally {\nif (").append(IN_USE_FIELD_NAME).append(") {\nreset();\n}\n}\n");
+        }
+        out.append("}\n");
+    }
+
+    private void renderSetterSignature(final String returnType, final StepField field) {
+        final String fieldName = field.getName();
+        out.append(returnType).append(' ').append(model.getSetterPrefix()).append(capitalize(fieldName))
+                .append('(').append(stepType(field)).append(' ').append(parameterName(fieldName)).append(')');
+    }
+
+    /**
+     * @return the parameter type of the step of the field, a supplier for lazy fields
+     */
+    private String stepType(final StepField field) {
+        return lazyFields.contains(field) ? supplierType(field) : field.getType();
+    }
+
+    private static String supplierType(final StepField field) {
+        return "java.util.function.Supplier<? extends " + boxedType(field.getType()) + ">";
+    }
+
+    /**
+     * @return the expression reading the field on the qualified instance, through its accessor if it is lazy
+     */
+    private String fieldValue(final StepField field, final String qualifier) {
+        return qualifier + (lazyFields.contains(field) ? accessorName(field) + "()" : field.getName());
+    }
+
+    private static String accessorName(final StepField field) {
+        return ("boolean".equals(field.getType()) ? "is" : "get") + capitalize(field.getName());
+    }
+
+    private void renderParameters(final List<StepField> fields) {
+        for (int i = 0; i < fields.size(); i++) {
+            final StepField field = fields.get(i);
+            if (i > 0) {
+                out.append(", ");
+            }
+            out.append(field.getType()).append(' ').append(field.getName());
+        }
+    }
+
+    private void renderArguments(final List<StepField> fields, final String qualifier) {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            out.append(qualifier).append(fields.get(i).getName());
+        }
+    }
+
+    private List<StepField> allFields() {
+        final List<StepField> fields = new ArrayList<StepField>(model.getMandatoryFields().size()
+                + model.getOptionalFields().size());
+        fields.addAll(model.getMandatoryFields());
+        fields.addAll(model.getOptionalFields());
+        return fields;
+    }
+
+    private String firstStepName() {
+        if (mandatoryNonFinalFields.isEmpty()) {
+            return buildStepName();
+        }
+        return isCompact() ? compactStepType(0) : stepName(0);
+    }
+
+    /**
+     * The codec reads the fields of the built class, so it needs to be embedded, and every field must have
+     * a type {@code DataOutput} can write: primitives, their wrappers and {@code String}.
+     */
+    private boolean hasCodec() {
+        return model.hasOption(StepBuilderOption.BINARY_CODEC) && codecRejection() == null;
+    }
+
+    /**
+     * @return why the binary codec can't be generated for the model, or null if it can
+     */
+    private String codecRejection() {
+        if (!model.isEmbedded()) {
+            return "writeTo() can only be generated into the built class";
+        }
+        if (!lazyFields.isEmpty()) {
+            return "writing field " + lazyFields.iterator().next().getName() + " would call its supplier";
+        }
+        for (final StepField field : allFields()) {
+            if (codecType(field.getType()) == null) {
+                return "field " + field.getName() + " has type " + field.getType()
+                        + ", which DataOutput can't write";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records already have equals and hashCode over their components.
+     */
+    private boolean hasEqualsAndHashCode() {
+        return (isInterning() || model.hasOption(StepBuilderOption.EQUALS_HASHCODE)) && model.isEmbedded()
+                && !model.isRecord();
+    }
+
+    private boolean hasToString() {
+        return model.hasOption(StepBuilderOption.EQUALS_HASHCODE) && model.isEmbedded() && !model.isRecord();
+    }
+
+    /**
+     * A canonical instance is shared by everyone who built equal values, so a class that can change after it is
+     * built isn't interned.
+     */
+    private boolean isInterning() {
+        return model.hasOption(StepBuilderOption.INTERNING) && model.isEmbedded() && !isMutable();
+    }
+
+    /**
+     * The hash code is kept once computed unless the class may change after it is built.
+     */
+    private boolean isHashCodeCached() {
+        return hasEqualsAndHashCode() && !isMutable();
+    }
+
+    /**
+     * @return whether a field has a setter, i.e. the class may change after it is built
+     */
+    private boolean isMutable() {
+        for (final StepField field : allFields()) {
+            if (field.getSetterName() != null && !field.isFinal()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lazy fields need the generated {@code X(Builder)} constructor, which hands the suppliers over. With the
+     * options that set them eagerly, the fields marked lazy are set eagerly too.
+     */
+    private boolean isLazySupported() {
+        return model.isEmbedded() && model.getConstruction() == StepBuilderModel.Construction.BUILDER_CONSTRUCTOR
+                && model.supportsLazyFields();
+    }
+
+    /**
+     * Above {@link #MAX_CONSTRUCTOR_SLOTS} the constructor taking the builder is generated instead.
+     */
+    private boolean hasAllArgsConstructor() {
+        return model.hasOption(StepBuilderOption.ALL_ARGS_CONSTRUCTOR) && constructorFits;
+    }
+
+    private String tooManyParameters() {
+        return "the " + constructorFields().size() + " fields take " + parameterSlots(constructorFields())
+                + " parameter slots, a constructor can take " + MAX_CONSTRUCTOR_SLOTS;
+    }
+
+    private static int parameterSlots(final List<StepField> fields) {
+        int slots = 0;
+        for (final StepField field : fields) {
+            slots += "long".equals(field.getType()) || "double".equals(field.getType()) ? 2 : 1;
+        }
+        return slots;
+    }
+
+    /**
+     * {@code toBuilder()} copies into a builder, so it takes no parameter per field.
+     */
+    private boolean hasToBuilder() {
+        return model.hasOption(StepBuilderOption.TO_BUILDER) && model.isEmbedded()
+                && model.getConstruction() != StepBuilderModel.Construction.FIELD_ASSIGNMENT;
+    }
+
+    /**
+     * The withers pass every field to a constructor, they are left out when it can't take them all.
+     */
+    private boolean hasWithers() {
+        return hasToBuilder() && constructorFits;
+    }
+
+    /**
+     * The bulk factories call a constructor taking all fields: an existing one, or the generated one, which is
+     * private and only accessible to an embedded builder.
+     */
+    private boolean canBulkBuild() {
+        return model.hasOption(StepBuilderOption.BULK_BUILD)
+                && (model.getConstruction() == StepBuilderModel.Construction.ALL_ARGS_CONSTRUCTOR
+                || model.getConstruction() == StepBuilderModel.Construction.BUILDER_CONSTRUCTOR && model.isEmbedded());
+    }
+
+    /**
+     * Where the constructor takes every field, {@code buildAll} takes a column per field and {@code n}, and the
+     * function of {@code buildAllParallel} captures every column, all within the parameter slots of a method.
+     */
+    private boolean hasBulkBuild() {
+        return canBulkBuild() && constructorFits;
+    }
+
+    private boolean isReusable() {
+        return model.hasOption(StepBuilderOption.REUSABLE_BUILDER);
+    }
+
+    private boolean isCompact() {
+        return model.hasOption(StepBuilderOption.COMPACT_STEPS) && !mandatoryNonFinalFields.isEmpty()
+                && mandatoryNonFinalFields.size() <= MAX_COMPACT_STEPS;
+    }
+
+    /**
+     * @return the steps interface parameterized for the step, nesting the types of all following steps
+     */
+    private String compactStepType(final int step) {
+        final StringBuilder type = new StringBuilder();
+        // the type arguments of each step are written around the ones of the next step, without building those first
+        for (int i = step; i < mandatoryNonFinalFields.size(); i++) {
+            type.append(compactStepsName()).append('<');
+            for (int j = 0; j < i; j++) {
+                type.append(LOCKED_STEP_TYPE).append(", ");
+            }
+        }
+        type.append(buildStepName());
+        for (int i = mandatoryNonFinalFields.size() - 1; i >= step; i--) {
+            for (int j = i + 1; j < mandatoryNonFinalFields.size(); j++) {
+                type.append(", ").append(LOCKED_STEP_TYPE);
+            }
+            type.append('>');
+        }
+        return type.toString();
+    }
+
+    private String compactStepsName() {
+        return model.getInterfacePrefix() + COMPACT_STEPS_INTERFACE_NAME;
+    }
+
+    private static String compactTypeParameter(final int step) {
+        return "S" + (step + 1);
+    }
+
+    private String nextStepName(final int step) {
+        return step + 1 < mandatoryNonFinalFields.size() ? stepName(step + 1) : buildStepName();
+    }
+
+    private String stepName(final int step) {
+        return model.getInterfacePrefix() + capitalize(mandatoryNonFinalFields.get(step).getName());
+    }
+
+    private String buildStepName() {
+        return model.getInterfacePrefix() + BUILD_STEP_INTERFACE_NAME;
+    }
+
+    private static String defaultValue(final String type) {
+        if ("boolean".equals(type)) {
+            return "false";
+        }
+        return isPrimitive(type) ? "0" : "null";
+    }
+
+    private static boolean isPrimitive(final String type) {
+        return "boolean".equals(type) || "byte".equals(type) || "short".equals(type) || "char".equals(type)
+                || "int".equals(type) || "long".equals(type) || "float".equals(type) || "double".equals(type);
+    }
+
+    private static String boxedType(final String type) {
+        if ("int".equals(type)) {
+            return "java.lang.Integer";
+        }
+        if ("char".equals(type)) {
+            return "java.lang.Character";
+        }
+        return isPrimitive(type) ? "java.lang." + capitalize(type) : type;
+    }
+
+    private static String parameterName(final String fieldName) {
+        return BUILDER_SETTER_DEFAULT_PARAMETER_NAME.equals(fieldName) ?
+                BUILDER_SETTER_ALTERNATIVE_PARAMETER_NAME : BUILDER_SETTER_DEFAULT_PARAMETER_NAME;
+    }
+
+    static String capitalize(final String str) {
+        return Character.toUpperCase(str.charAt(0)) + str.substring(1);
+    }
+
+    private static String simpleName(final String typeName) {
+        return typeName.substring(typeName.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * An optional {@code List}, {@code Set}, {@code Collection} or {@code Map} field that gets collection steps.
+     */
+    private static final class CollectionField {
+        private static final Set<String> SINGULARS_ENDING_IN_S = new HashSet<String>(Arrays.asList(
+                "alias", "atlas", "bias", "bonus", "bus", "campus", "canvas", "census", "focus", "gas", "lens", "news",
+                "series", "species", "status", "virus"));
+        private static final Set<String> SINGULARS_ENDING_IN_IE = new HashSet<String>(Arrays.asList(
+                "brownie", "calorie", "cookie", "genie", "goodie", "hoodie", "lie", "movie", "pie", "rookie", "selfie",
+                "smoothie", "tie", "zombie"));
+        private static final Map<String, String> IRREGULAR_PLURALS = new HashMap<String, String>();
+
+        static {
+            IRREGULAR_PLURALS.put("analyses", "analysis");
+            IRREGULAR_PLURALS.put("children", "child");
+            IRREGULAR_PLURALS.put("crises", "crisis");
+            IRREGULAR_PLURALS.put("criteria", "criterion");
+            IRREGULAR_PLURALS.put("indices", "index");
+            IRREGULAR_PLURALS.put("matrices", "matrix");
+            IRREGULAR_PLURALS.put("men", "man");
+            IRREGULAR_PLURALS.put("people", "person");
+            IRREGULAR_PLURALS.put("theses", "thesis");
+            IRREGULAR_PLURALS.put("vertices", "vertex");
+            IRREGULAR_PLURALS.put("women", "woman");
+        }
+
+        private final StepField field;
+        private final String kind;
+        private final List<String> typeArguments;
+
+        private CollectionField(final StepField field, final String kind, final List<String> typeArguments) {
+            this.field = field;
+            this.kind = kind;
+            this.typeArguments = typeArguments;
+        }
+
+        static CollectionField of(final StepField field) {
+            final String type = field.getType();
+            final int start = type.indexOf('<');
+            if (start < 0 || !type.endsWith(">") || type.indexOf('?') >= 0) {
+                return null; // raw types and wildcards can't be added to
+            }
+            final String kind = type.substring(0, start);
+            final List<String> typeArguments = splitTypeArguments(type.substring(start + 1, type.length() - 1));
+            if ("java.util.Map".equals(kind) ? typeArguments.size() != 2
+                    : !"java.util.List".equals(kind) && !"java.util.Set".equals(kind)
+                    && !"java.util.Collection".equals(kind) || typeArguments.size() != 1) {
+                return null;
+            }
+            return new CollectionField(field, kind, typeArguments);
+        }
+
+        private static List<String> splitTypeArguments(final String arguments) {
+            final List<String> split = new ArrayList<String>(2);
+            int depth = 0;
+            int start = 0;
+            for (int i = 0; i < arguments.length(); i++) {
+                final char c = arguments.charAt(i);
+                if (c == '<') {
+                    depth++;
+                } else if (c == '>') {
+                    depth--;
+                } else if (c == ',' && depth == 0) {
+                    split.add(arguments.substring(start, i).trim());
+                    start = i + 1;
+                }
+            }
+            split.add(arguments.substring(start).trim());
+            return split;
+        }
+
+        boolean isMap() {
+            return "java.util.Map".equals(kind);
+        }
+
+        boolean isList() {
+            return "java.util.List".equals(kind) || "java.util.Collection".equals(kind);
+        }
+
+        /**
+         * @return e.g. {@code addItem} for {@code items}, or {@code addToStatus} when the name isn't a known plural
+         */
+        String addName() {
+            final String singular = singular(field.getName());
+            return singular != null ? "add" + capitalize(singular) : "addTo" + capitalize(field.getName());
+        }
+
+        /**
+         * @return e.g. {@code putPrice} for {@code prices}, or {@code putInMetadata} when the name isn't a known plural
+         */
+        String putName() {
+            final String singular = singular(field.getName());
+            return singular != null ? "put" + capitalize(singular) : "putIn" + capitalize(field.getName());
+        }
+
+        String addAllName() {
+            return (isMap() ? "putAll" : "addAll") + capitalize(field.getName());
+        }
+
+        String addAllParameterType() {
+            return isMap() ? "java.util.Map<? extends " + typeArguments.get(0) + ", ? extends "
+                    + typeArguments.get(1) + ">" : "java.util.Collection<? extends " + typeArguments.get(0) + ">";
+        }
+
+        String implementationType() {
+            final String implementation = isMap() ? "java.util.LinkedHashMap"
+                    : isList() ? "java.util.ArrayList" : "java.util.LinkedHashSet";
+            final StringBuilder type = new StringBuilder(implementation).append('<');
+            for (int i = 0; i < typeArguments.size(); i++) {
+                if (i > 0) {
+                    type.append(", ");
+                }
+                type.append(typeArguments.get(i));
+            }
+            return type.append('>').toString();
+        }
+
+        String newCollection(final String source) {
+            return "new " + implementationType() + "(" + source + ")";
+        }
+
+        /**
+         * @param expectedSize the number of elements to size for, or null for the default size
+         */
+        String newEmptyCollection(final String expectedSize) {
+            if (expectedSize == null) {
+                return "new " + implementationType() + "()";
+            }
+            return "new " + implementationType() + "(" + (isList() ? expectedSize
+                    : "java.lang.Math.max((int) (" + expectedSize + " / .75f) + 1, 16)") + ")";
+        }
+
+        String emptyCollection() {
+            final String arguments = "<" + typeArguments.get(0) + (isMap() ? ", " + typeArguments.get(1) : "") + ">";
+            if (isMap()) {
+                return "java.util.Collections." + arguments + "emptyMap()";
+            }
+            return "java.util.Collections." + arguments + (isList() ? "emptyList()" : "emptySet()");
+        }
+
+        String unmodifiable(final String collection) {
+            final String method = isMap() ? "unmodifiableMap" : "java.util.Collection".equals(kind)
+                    ? "unmodifiableCollection" : isList() ? "unmodifiableList" : "unmodifiableSet";
+            return "java.util.Collections." + method + "(" + collection + ")";
+        }
+
+        /**
+         * Only the last word of a camel case name is made singular, e.g. {@code orderStatuses} becomes
+         * {@code orderStatus}.
+         *
+         * @return the singular of the name, or null if it isn't a plural the generator knows
+         */
+        static String singular(final String name) {
+            int start = name.length() - 1;
+            while (start > 0 && !Character.isUpperCase(name.charAt(start))) {
+                start--;
+            }
+            final String word = name.substring(start);
+            final String singular = singularWord(word.toLowerCase(Locale.ROOT));
+            if (singular == null) {
+                return null;
+            }
+            // all the singulars start with the letter of their plural
+            return name.substring(0, start) + word.charAt(0) + singular.substring(1);
+        }
+
+        private static String singularWord(final String word) {
+            final String irregular = IRREGULAR_PLURALS.get(word);
+            if (irregular != null) {
+                return irregular;
+            }
+            if (word.length() < 2 || !word.endsWith("s") || SINGULARS_ENDING_IN_S.contains(word)) {
+                return null;
+            }
+            if (word.endsWith("es") && SINGULARS_ENDING_IN_S.contains(word.substring(0, word.length() - 2))) {
+                return word.substring(0, word.length() - 2);
+            }
+            if (word.endsWith("ies") && word.length() > 3) {
+                final String stem = word.substring(0, word.length() - 3);
+                return SINGULARS_ENDING_IN_IE.contains(stem + "ie") ? stem + "ie" : stem + "y";
+            }
+            if (word.endsWith("sses") || word.endsWith("xes") || word.endsWith("ches") || word.endsWith("shes")
+                    || word.endsWith("zzes")) {
+                return word.substring(0, word.length() - 2);
+            }
+            // e.g. address, status or analysis, but also menus, which only gets a longer name
+            if (word.endsWith("ss") || word.endsWith("us") || word.endsWith("is")) {
+                return null;
+            }
+            return word.substring(0, word.length() - 1);
+        }
+    }
+}
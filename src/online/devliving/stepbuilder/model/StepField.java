@@ -0,0 +1,111 @@
+package online.devliving.stepbuilder.model;
+
+/**
+ * A field of the built class as seen by the {@link StepBuilderRenderer}, independent of how it was found
+ * (IDE PSI or javac elements).
+ */
+public final class StepField {
+    private final String name;
+    private final String type;
+    private final boolean isFinal;
+    private final String setterName; //optional
+    private final boolean lazy;
+
+    private StepField(final Builder builder) {
+        name = builder.name;
+        type = builder.type;
+        isFinal = builder.isFinal;
+        setterName = builder.setterName;
+        lazy = builder.lazy;
+    }
+
+    public static IName newBuilder() {
+        return new Builder();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the fully qualified type, as it can be used in source code
+     */
+    public String getType() {
+        return type;
+    }
+
+    public boolean isFinal() {
+        return isFinal;
+    }
+
+    /**
+     * @return the setter of the built class to assign the field with, or null to assign the field directly
+     */
+    public String getSetterName() {
+        return setterName;
+    }
+
+    /**
+     * @return whether the field is set through a supplier that the built class calls on first access
+     */
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    public interface IName {
+        IType withName(String name);
+    }
+
+    public interface IType {
+        IFinal withType(String type);
+    }
+
+    public interface IFinal {
+        IBuild withFinal(boolean isFinal);
+    }
+
+    public interface IBuild {
+        IBuild withSetterName(String setterName);
+        IBuild withLazy(boolean lazy);
+        StepField build();
+    }
+
+    public static final class Builder implements IName, IType, IFinal, IBuild {
+        private String name;
+        private String type;
+        private boolean isFinal;
+        private String setterName;
+        private boolean lazy;
+
+        private Builder() { }
+
+        public IType withName(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        public IFinal withType(final String type) {
+            this.type = type;
+            return this;
+        }
+
+        public IBuild withFinal(final boolean isFinal) {
+            this.isFinal = isFinal;
+            return this;
+        }
+
+        public IBuild withSetterName(final String setterName) {
+            this.setterName = setterName;
+            return this;
+        }
+
+        public IBuild withLazy(final boolean lazy) {
+            this.lazy = lazy;
+            return this;
+        }
+
+        public StepField build() {
+            return new StepField(this);
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package online.devliving.stepbuilder.generator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.codeInsight.daemon.impl.HighlightInfo;
+import com.intellij.codeInsight.generation.PsiFieldMember;
+import com.intellij.lang.annotation.HighlightSeverity;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.testFramework.LightProjectDescriptor;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+
+import online.devliving.stepbuilder.model.StepBuilderOption;
+
+/**
+ * Runs the whole generator on classes in a light fixture: the fields the collector finds, the model built from
+ * the PSI, the members a second generation replaces and keeps, in the class and in its Builder, and the time and
+ * memory of both phases. The IDE
+ * independent part is covered in detail by the tests of the {@code tests} module.
+ */
+public class StepBuilderGeneratorTest extends LightJavaCodeInsightFixtureTestCase {
+    private static final String BUILDER_CLASS_NAME = "Builder";
+    private static final String REUSABLE_BUILDER_FIELD_NAME = "REUSABLE_BUILDER";
+    private static final String REUSABLE_BUILDER_METHOD_NAME = "reusableBuilder";
+    private static final int SUPERCLASS_DEPTH = 8;
+    private static final int BUDGET_FIELD_COUNT = 500;
+
+    /**
+     * Far above the measured numbers, like the budgets of the renderer: they catch a quadratic pass over the
+     * members of the class, not a few percent.
+     */
+    private static final long COMPUTE_NANOS_PER_FIELD = 20000000L;
+    private static final long APPLY_NANOS_PER_FIELD = 20000000L;
+    private static final long BYTES_PER_FIELD = 1024 * 1024;
+
+    @NotNull
+    @Override
+    protected LightProjectDescriptor getProjectDescriptor() {
+        return JAVA_11;
+    }
+
+    public void testCollectsTheFieldsOfADeepSuperclassChainSuperclassFirst() {
+        final PsiClass clazz = configure(superclassChain(SUPERCLASS_DEPTH));
+        final List<String> names = new ArrayList<String>();
+        for (final PsiFieldMember member : StepBuilderCollector.collectFields(clazz)) {
+            names.add(member.getElement().getName());
+        }
+
+        final List<String> expected = new ArrayList<String>();
+        for (int i = 0; i <= SUPERCLASS_DEPTH; i++) {
+            expected.add("field" + i);
+        }
+        // static, constant, logger, initialized final and private superclass fields are left out
+        assertEquals(expected, names);
+    }
+
+    public void testDeepSuperclassChainCompilesWithEveryOption() {
+        final List<Set<StepBuilderOption>> optionSets = new ArrayList<Set<StepBuilderOption>>();
+        optionSets.add(EnumSet.noneOf(StepBuilderOption.class));
+        for (final StepBuilderOption option : StepBuilderOption.values()) {
+            optionSets.add(EnumSet.of(option));
+        }
+        optionSets.add(EnumSet.allOf(StepBuilderOption.class));
+
+        for (final Set<StepBuilderOption> options : optionSets) {
+            final PsiClass clazz = configure(superclassChain(SUPERCLASS_DEPTH));
+            generate(clazz, options, "field0", "field" + SUPERCLASS_DEPTH);
+            assertNotNull(options.toString(), clazz.findInnerClassByName(BUILDER_CLASS_NAME, false));
+            assertNoErrors(options.toString());
+        }
+    }
+
+    public void testSecondGenerationReplacesTheMembersOfTheFirst() {
+        final PsiClass clazz = configure("public class Server {\n"
+                + "    private String url;\n"
+                + "    private int port;\n"
+                + "}\n");
+        generate(clazz, EnumSet.of(StepBuilderOption.REUSABLE_BUILDER, StepBuilderOption.COPY_CONSTRUCTOR), "url");
+        assertNotNull(clazz.findFieldByName(REUSABLE_BUILDER_FIELD_NAME, false));
+
+        generate(clazz, EnumSet.of(StepBuilderOption.COPY_CONSTRUCTOR), "url");
+        assertEquals(1, innerClassCount(clazz, BUILDER_CLASS_NAME));
+        assertEquals(1, clazz.findMethodsByName("builder", false).length);
+        // the reusable builder of the first generation doesn't compile against the new Builder
+        assertNull(clazz.findFieldByName(REUSABLE_BUILDER_FIELD_NAME, false));
+        assertEquals(0, clazz.findMethodsByName(REUSABLE_BUILDER_METHOD_NAME, false).length);
+        assertNoErrors("regenerated");
+    }
+
+    public void testRegionMarkersSurroundTheClassAndBuilderMembers() {
+        final PsiClass clazz = configure("public class Server {\n"
+                + "    private String url;\n"
+                + "}\n");
+        generate(clazz, EnumSet.noneOf(StepBuilderOption.class), "url");
+        generate(clazz, EnumSet.noneOf(StepBuilderOption.class), "url");
+
+        final String text = myFixture.getFile().getText();
+        assertEquals(text, 2, count(text, StepBuilderMemberIndex.REGION_START));
+        assertEquals(text, 2, count(text, StepBuilderMemberIndex.REGION_END));
+        final StepBuilderMemberIndex builderIndex = new StepBuilderMemberIndex(
+                clazz.findInnerClassByName(BUILDER_CLASS_NAME, false));
+        assertNotNull(builderIndex.getRegionEnd());
+        assertFalse(builderIndex.getGeneratedMembers().isEmpty());
+    }
+
+    public void testSecondGenerationDropsTheBuilderMembersOfOptionsTurnedOff() {
+        final PsiClass clazz = configure("public class Server {\n"
+                + "    private String url;\n"
+                + "    private String description;\n"
+                + "    private int port;\n"
+                + "}\n");
+        generate(clazz, EnumSet.of(StepBuilderOption.REUSABLE_BUILDER, StepBuilderOption.LAZY_FIELDS), "url");
+        final PsiClass firstBuilder = clazz.findInnerClassByName(BUILDER_CLASS_NAME, false);
+        assertNotNull(firstBuilder.findFieldByName("inUse", false));
+        assertEquals(1, firstBuilder.findMethodsByName("reset", false).length);
+        assertNotNull(firstBuilder.findFieldByName("descriptionSupplier", false));
+
+        generate(clazz, EnumSet.noneOf(StepBuilderOption.class), "url");
+        final PsiClass builder = clazz.findInnerClassByName(BUILDER_CLASS_NAME, false);
+        assertNull(builder.findFieldByName("inUse", false));
+        assertEquals(0, builder.findMethodsByName("reset", false).length);
+        assertNull(builder.findFieldByName("descriptionSupplier", false));
+        assertNoErrors("options turned off");
+    }
+
+    public void testMembersAddedToTheBuilderAreKept() {
+        final PsiClass clazz = configure("public class Server {\n"
+                + "    private String url;\n"
+                + "    private int port;\n"
+                + "}\n");
+        generate(clazz, EnumSet.noneOf(StepBuilderOption.class), "url");
+        final PsiClass builder = clazz.findInnerClassByName(BUILDER_CLASS_NAME, false);
+        WriteCommandAction.runWriteCommandAction(getProject(), new Runnable() {
+            @Override
+            public void run() {
+                builder.add(JavaPsiFacade.getElementFactory(getProject()).createMethodFromText(
+                        "public int describePort() {\n    return port;\n}", builder));
+            }
+        });
+
+        generate(clazz, EnumSet.of(StepBuilderOption.WITH_JAVADOC), "url");
+        assertEquals(1, innerClassCount(clazz, BUILDER_CLASS_NAME));
+        final PsiClass regenerated = clazz.findInnerClassByName(BUILDER_CLASS_NAME, false);
+        assertEquals(1, regenerated.findMethodsByName("describePort", false).length);
+        assertEquals(1, regenerated.findMethodsByName("withUrl", false).length);
+        assertNoErrors("added to the builder");
+    }
+
+    public void testMemberOfTheUserIsKeptOverTheGeneratedOne() {
+        final PsiClass clazz = configure("public class Server {\n"
+                + "    private String url;\n"
+                + "    @Override\n"
+                + "    public String toString() {\n"
+                + "        return url;\n"
+                + "    }\n"
+                + "}\n");
+        final StepBuilderGenerator generator = generator(clazz, EnumSet.of(StepBuilderOption.EQUALS_HASHCODE),
+                Arrays.asList("url"), Collections.<String>emptyList());
+        final StepBuilderGenerator.ChangeSet changes = generator.computeChanges();
+        assertNotNull(changes);
+        assertTrue(changes.getWarnings().toString(), changes.getWarnings().toString().contains("toString()"));
+        apply(generator, changes);
+
+        final PsiMethod[] toStrings = clazz.findMethodsByName("toString", false);
+        assertEquals(1, toStrings.length);
+        assertTrue(toStrings[0].getText().contains("return url;"));
+        assertEquals(1, clazz.findMethodsByName("equals", false).length);
+        assertNoErrors("kept");
+    }
+
+    public void testFieldWithAGetterIsNotSuppliedLazily() {
+        final PsiClass clazz = configure("public class Server {\n"
+                + "    private String url;\n"
+                + "    private String description;\n"
+                + "    private String address;\n"
+                + "    public String getDescription() {\n"
+                + "        return description == null ? \"none\" : description;\n"
+                + "    }\n"
+                + "}\n");
+        final StepBuilderGenerator generator = generator(clazz, EnumSet.of(StepBuilderOption.LAZY_FIELDS),
+                Arrays.asList("url"), Arrays.asList("description", "address"));
+        apply(generator, generator.computeChanges());
+
+        assertNull(clazz.findFieldByName("descriptionSupplier", false));
+        assertNotNull(clazz.findFieldByName("addressSupplier", false));
+        assertTrue(clazz.findMethodsByName("getDescription", false)[0].getText().contains("\"none\""));
+        assertNoErrors("lazy");
+    }
+
+    public void testExistingConstructorIsCalledByTheBulkFactories() {
+        final PsiClass clazz = configure("public class Server {\n"
+                + "    private String url;\n"
+                + "    private int port;\n"
+                + "    public Server(int port, String url) {\n"
+                + "        this.url = url.trim();\n"
+                + "        this.port = port;\n"
+                + "    }\n"
+                + "}\n");
+        generate(clazz, EnumSet.of(StepBuilderOption.BULK_BUILD), "url");
+
+        // a generated private constructor of the same signature would have replaced it
+        final PsiMethod[] constructors = clazz.getConstructors();
+        assertEquals(1, constructors.length);
+        assertTrue(constructors[0].hasModifierProperty(PsiModifier.PUBLIC));
+        assertTrue(constructors[0].getText().contains("url.trim()"));
+        assertTrue(clazz.findMethodsByName("buildAll", false)[0].getText().contains("new Server(port[i], url[i])"));
+        assertNoErrors("existing constructor");
+    }
+
+    public void testComputeAndApplyStayWithinBudget() {
+        final StringBuilder text = new StringBuilder("public class Synthetic {\n");
+        for (int i = 0; i < BUDGET_FIELD_COUNT; i++) {
+            text.append("    private ").append(i % 2 == 0 ? "String" : "int").append(" field").append(i).append(";\n");
+        }
+        final PsiClass clazz = configure(text.append("}\n").toString());
+        final String[] mandatory = new String[BUDGET_FIELD_COUNT / 10];
+        for (int i = 0; i < mandatory.length; i++) {
+            mandatory[i] = "field" + i;
+        }
+        final StepBuilderGenerator generator = generator(clazz, EnumSet.allOf(StepBuilderOption.class),
+                Arrays.asList(mandatory), Collections.<String>emptyList());
+
+        final StepBuilderPhaseMeter computeMeter = StepBuilderPhaseMeter.start();
+        final StepBuilderGenerator.ChangeSet changes = generator.computeChanges();
+        final long computeNanos = computeMeter.elapsedNanos();
+        final long computeBytes = computeMeter.allocatedBytes();
+        final StepBuilderPhaseMeter applyMeter = StepBuilderPhaseMeter.start();
+        apply(generator, changes);
+        final long applyNanos = applyMeter.elapsedNanos();
+        final long applyBytes = applyMeter.allocatedBytes();
+
+        final String measured = "computed in " + computeNanos / 1000000L + "ms " + computeBytes / 1024L
+                + "KB, applied in " + applyNanos / 1000000L + "ms " + applyBytes / 1024L + "KB";
+        assertTrue(measured, computeNanos <= COMPUTE_NANOS_PER_FIELD * BUDGET_FIELD_COUNT);
+        assertTrue(measured, applyNanos <= APPLY_NANOS_PER_FIELD * BUDGET_FIELD_COUNT);
+        // -1 where the JVM doesn't count allocations
+        assertTrue(measured, computeBytes <= BYTES_PER_FIELD * BUDGET_FIELD_COUNT);
+        assertTrue(measured, applyBytes <= BYTES_PER_FIELD * BUDGET_FIELD_COUNT);
+    }
+
+    /**
+     * @return a class whose superclasses each add a field the builder sets and some it has to leave out
+     */
+    private static String superclassChain(final int depth) {
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            text.append("class Level").append(i).append(i > 0 ? " extends Level" + (i - 1) : "").append(" {\n")
+                    .append("    protected String field").append(i).append(";\n")
+                    .append("    private String hidden").append(i).append(";\n")
+                    .append("    static int counter").append(i).append(";\n")
+                    .append("}\n\n");
+        }
+        return text.append("public class Leaf extends Level").append(depth - 1).append(" {\n")
+                .append("    private static final java.util.logging.Logger LOG = null;\n")
+                .append("    private java.util.logging.Logger logger;\n")
+                .append("    private final String initialized = \"initialized\";\n")
+                .append("    private int field").append(depth).append(";\n")
+                .append("}\n").toString();
+    }
+
+    private PsiClass configure(final String text) {
+        myFixture.configureByText("Leaf.java", text);
+        final PsiClass[] classes = ((PsiJavaFile) myFixture.getFile()).getClasses();
+        return classes[classes.length - 1];
+    }
+
+    private void generate(final PsiClass clazz, final Set<StepBuilderOption> options, final String... mandatory) {
+        final List<String> mandatoryNames = Arrays.asList(mandatory);
+        final List<String> optionalNames = new ArrayList<String>();
+        for (final PsiFieldMember member : StepBuilderCollector.collectFields(clazz)) {
+            if (!mandatoryNames.contains(member.getElement().getName())) {
+                optionalNames.add(member.getElement().getName());
+            }
+        }
+        final StepBuilderGenerator generator = generator(clazz, options, mandatoryNames, optionalNames);
+        apply(generator, generator.computeChanges());
+    }
+
+    /**
+     * @return a generator for the fields of the class with the names, all optional ones marked lazy, which only
+     * matters with {@link StepBuilderOption#LAZY_FIELDS}
+     */
+    private StepBuilderGenerator generator(final PsiClass clazz, final Set<StepBuilderOption> options,
+                                           final List<String> mandatory, final List<String> optional) {
+        final List<PsiFieldMember> fields = StepBuilderCollector.collectFields(clazz);
+        final Set<PsiField> lazyFields = Collections.newSetFromMap(new IdentityHashMap<PsiField, Boolean>());
+        final List<PsiFieldMember> mandatoryFields = members(fields, mandatory);
+        final List<PsiFieldMember> optionalFields = members(fields, optional);
+        for (final PsiFieldMember member : optionalFields) {
+            lazyFields.add(member.getElement());
+        }
+        final StepBuilderConfig config = StepBuilderConfig.newBuilder()
+                .withOptions(options)
+                .withSetterPrefix("with")
+                .withInterfacePrefix("I")
+                .build();
+        return new StepBuilderGenerator(getProject(), clazz, config, mandatoryFields, optionalFields, lazyFields);
+    }
+
+    private static List<PsiFieldMember> members(final List<PsiFieldMember> fields, final List<String> names) {
+        final List<PsiFieldMember> members = new ArrayList<PsiFieldMember>(names.size());
+        for (final String name : names) {
+            for (final PsiFieldMember member : fields) {
+                if (member.getElement().getName().equals(name)) {
+                    members.add(member);
+                }
+            }
+        }
+        return members;
+    }
+
+    private void apply(final StepBuilderGenerator generator, final StepBuilderGenerator.ChangeSet changes) {
+        assertNotNull(changes);
+        WriteCommandAction.runWriteCommandAction(getProject(), new Runnable() {
+            @Override
+            public void run() {
+                generator.apply(changes);
+            }
+        });
+    }
+
+    private static int count(final String text, final String part) {
+        int count = 0;
+        for (int i = text.indexOf(part); i >= 0; i = text.indexOf(part, i + part.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    private static int innerClassCount(final PsiClass clazz, final String name) {
+        int count = 0;
+        for (final PsiClass innerClass : clazz.getInnerClasses()) {
+            if (name.equals(innerClass.getName())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void assertNoErrors(final String message) {
+        final List<HighlightInfo> errors = myFixture.doHighlighting(HighlightSeverity.ERROR);
+        assertTrue(message + ": " + errors, errors.isEmpty());
+    }
+}
@@ -0,0 +1,105 @@
+package online.devliving.stepbuilder.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * The classes the {@code benchmarks} module measures are rendered by the current renderer, so that the benchmarks
+ * measure what the plugin generates. They are compared like golden files, rewrite them with
+ * {@code -Dgolden.update=true} after a change of the output.
+ */
+@RunWith(Parameterized.class)
+public class BenchmarkSourcesTest {
+    private static final String PACKAGE_NAME = "online.devliving.stepbuilder.benchmark";
+    private static final String UPDATE_PROPERTY = "golden.update";
+    private static final String HEADER = "// rendered by BenchmarkSourcesTest of the tests module, don't edit\n";
+    private static final int SYNTHETIC_FIELD_COUNT = 32;
+    private static final int MANDATORY_FIELD_COUNT = StepBuilderRenderer.MAX_COMPACT_STEPS;
+    private static final int OPTIONAL_FIELD_COUNT = 200;
+    private static final String[] OPTIONAL_FIELD_TYPES = {"java.lang.String", "int", "long", "boolean"};
+
+    private final String className;
+    private final Fixtures.FixtureClass fixture;
+
+    public BenchmarkSourcesTest(final String className, final Fixtures.FixtureClass fixture) {
+        this.className = className;
+        this.fixture = fixture;
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> cases() {
+        final List<Object[]> cases = new ArrayList<Object[]>();
+        cases.add(benchmarkCase(Fixtures.server("Server", Fixtures.options())));
+        cases.add(benchmarkCase(Fixtures.server("ServerAllArgs", Fixtures.options()).withAllArgsConstructor()));
+        cases.add(benchmarkCase(Fixtures.server("ServerRecord", Fixtures.options()).asRecord()));
+        cases.add(benchmarkCase(Fixtures.server("ServerNullChecks", Fixtures.options(StepBuilderOption.NULL_CHECKS))));
+        cases.add(benchmarkCase(Fixtures.server("ServerBulk", Fixtures.options(StepBuilderOption.BULK_BUILD))));
+        cases.add(benchmarkCase(Fixtures.server("ServerInterning", Fixtures.options(StepBuilderOption.INTERNING))));
+        cases.add(benchmarkCase(Fixtures.server("ServerToBuilder", Fixtures.options(StepBuilderOption.TO_BUILDER))));
+        cases.add(benchmarkCase(Fixtures.synthetic("Synthetic", SYNTHETIC_FIELD_COUNT, Fixtures.options())
+                .withAllArgsConstructor()));
+        cases.add(benchmarkCase(Fixtures.synthetic("SyntheticRecord", SYNTHETIC_FIELD_COUNT, Fixtures.options())
+                .asRecord()));
+        cases.add(benchmarkCase(mandatoryInts("Mandatory", Fixtures.options())));
+        cases.add(benchmarkCase(mandatoryInts("MandatoryCompact", Fixtures.options(StepBuilderOption.COMPACT_STEPS))));
+        cases.add(benchmarkCase(optionalFields("Wide", Fixtures.options())));
+        cases.add(benchmarkCase(optionalFields("WideSparse", Fixtures.options(StepBuilderOption.SPARSE_BUILDER))));
+        return cases;
+    }
+
+    /**
+     * A class of mandatory {@code int} fields only, so that the steps are most of its builder.
+     */
+    private static Fixtures.FixtureClass mandatoryInts(final String className, final Set<StepBuilderOption> options) {
+        final Fixtures.FixtureClass fixture = Fixtures.synthetic(className, 0, options);
+        for (int i = 0; i < MANDATORY_FIELD_COUNT; i++) {
+            fixture.mandatory("field" + i, "int", false);
+        }
+        return fixture;
+    }
+
+    private static Object[] benchmarkCase(final Fixtures.FixtureClass fixture) {
+        return new Object[]{fixture.getClassName(), fixture.inPackage(PACKAGE_NAME)};
+    }
+
+    /**
+     * A class of optional fields only, few of which are set.
+     */
+    private static Fixtures.FixtureClass optionalFields(final String className, final Set<StepBuilderOption> options) {
+        final Fixtures.FixtureClass fixture = Fixtures.synthetic(className, 0, options);
+        for (int i = 0; i < OPTIONAL_FIELD_COUNT; i++) {
+            fixture.optional("field" + i, OPTIONAL_FIELD_TYPES[i % OPTIONAL_FIELD_TYPES.length]);
+        }
+        return fixture;
+    }
+
+    @Test
+    public void matchesBenchmarkSource() throws IOException {
+        final File source = new File(new File(System.getProperty("benchmark.dir", "../benchmarks/src/main/java"),
+                PACKAGE_NAME.replace('.', File.separatorChar)), className + ".java");
+        final String actual = HEADER + fixture.source();
+        if (Boolean.getBoolean(UPDATE_PROPERTY)) {
+            source.getParentFile().mkdirs();
+            Files.write(source.toPath(), actual.getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        if (!source.isFile()) {
+            fail(source + " doesn't exist, create it with -D" + UPDATE_PROPERTY + "=true");
+        }
+        assertEquals("differs from " + source + ", rewrite it with -D" + UPDATE_PROPERTY + "=true",
+                new String(Files.readAllBytes(source.toPath()), StandardCharsets.UTF_8), actual);
+    }
+}
@@ -0,0 +1,91 @@
+package online.devliving.stepbuilder.model;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.Test;
+
+import static online.devliving.stepbuilder.model.InMemoryCompiler.field;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Writes the README's {@code Server} with optional fields set to their default values, though their fields are
+ * initialized to other ones, and reads it back.
+ */
+public class BinaryCodecTest {
+    private static final String USAGE = "public class Usage {\n"
+            + "public static Server defaults() {\n"
+            + "return Server.builder(\"http\").withUrl(\"localhost\").withPort(8080)\n"
+            + ".withUptime(0).withSecure(false).withDescription(null).build();\n"
+            + "}\n"
+            + "public static Server roundTrip(Server server) throws java.io.IOException {\n"
+            + "java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();\n"
+            + "server.writeTo(new java.io.DataOutputStream(bytes));\n"
+            + "return Server.readFrom(new java.io.DataInputStream(new java.io.ByteArrayInputStream(bytes.toByteArray())));\n"
+            + "}\n"
+            + "}\n";
+
+    @Test
+    public void defaultValuesAreReadBack() throws Exception {
+        assertDefaultsReadBack(Fixtures.options(StepBuilderOption.BINARY_CODEC));
+    }
+
+    @Test
+    public void defaultValuesAreReadBackBySparseBuilder() throws Exception {
+        assertDefaultsReadBack(Fixtures.options(StepBuilderOption.BINARY_CODEC, StepBuilderOption.SPARSE_BUILDER));
+    }
+
+    @Test
+    public void codecIsLeftOutWithAWarningForATypeDataOutputCantWrite() {
+        final Fixtures.FixtureClass server = Fixtures.server("Server", Fixtures.options(StepBuilderOption.BINARY_CODEC))
+                .optional("tags", "java.util.List<java.lang.String>");
+        final StepBuilderRenderer renderer = new StepBuilderRenderer(server.model());
+        final String members = renderer.renderMembers();
+        assertFalse(members, members.contains("writeTo"));
+        assertEquals(Collections.singletonList("No binary codec generated: field tags has type "
+                + "java.util.List<java.lang.String>, which DataOutput can't write"), renderer.getWarnings());
+    }
+
+    @Test
+    public void codecIsLeftOutWithAWarningForLazyFields() {
+        final Fixtures.FixtureClass server = new Fixtures.FixtureClass("Server",
+                Fixtures.options(StepBuilderOption.BINARY_CODEC, StepBuilderOption.LAZY_FIELDS))
+                .mandatory("url", "java.lang.String", false)
+                .field(StepField.newBuilder().withName("description").withType("java.lang.String").withFinal(false)
+                        .withLazy(true).build(), false);
+        final StepBuilderRenderer renderer = new StepBuilderRenderer(server.model());
+        assertFalse(renderer.renderMembers().contains("writeTo"));
+        assertEquals(Collections.singletonList("No binary codec generated: writing field description would call "
+                + "its supplier"), renderer.getWarnings());
+    }
+
+    @Test
+    public void codecWithoutWarnings() {
+        final StepBuilderRenderer renderer = new StepBuilderRenderer(
+                Fixtures.server("Server", Fixtures.options(StepBuilderOption.BINARY_CODEC)).model());
+        assertTrue(renderer.renderMembers().contains("writeTo"));
+        assertTrue(renderer.getWarnings().toString(), renderer.getWarnings().isEmpty());
+    }
+
+    private static void assertDefaultsReadBack(final Set<StepBuilderOption> options) throws Exception {
+        final Fixtures.FixtureClass server = Fixtures.server("Server", options)
+                .initializer("uptime", "3600L")
+                .initializer("secure", "true")
+                .initializer("description", "\"none\"");
+        final InMemoryCompiler compiler = new InMemoryCompiler()
+                .source("Server", server.source())
+                .source("Usage", USAGE);
+        compiler.assertCompiles();
+
+        final Class<?> usage = compiler.classLoader().loadClass("Usage");
+        final Object written = usage.getMethod("defaults").invoke(null);
+        final Object read = usage.getMethod("roundTrip", written.getClass()).invoke(null, written);
+        assertEquals(0L, field(read, "uptime"));
+        assertEquals(false, field(read, "secure"));
+        assertNull(field(read, "description"));
+        assertEquals(8080, field(read, "port"));
+    }
+}
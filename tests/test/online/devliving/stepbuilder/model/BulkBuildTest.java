@@ -0,0 +1,91 @@
+package online.devliving.stepbuilder.model;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static online.devliving.stepbuilder.model.InMemoryCompiler.field;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * The bulk factories check every row like {@code build()} checks the builder, sequentially and in parallel.
+ */
+public class BulkBuildTest {
+    private static final String USAGE = "public class Usage {\n"
+            + "@SuppressWarnings(\"unchecked\")\n"
+            + "public static Catalog[] build(boolean parallel, int n, java.lang.String[] names,\n"
+            + "java.util.List<java.lang.String> items) {\n"
+            + "final java.util.List<java.lang.String>[] itemColumn = new java.util.List[]{items, items};\n"
+            + "final java.util.Set<java.lang.Integer>[] categoryColumn = new java.util.Set[2];\n"
+            + "final java.util.Map<java.lang.String, java.lang.Double>[] priceColumn = new java.util.Map[2];\n"
+            + "return parallel ? Catalog.buildAllParallel(n, names, itemColumn, categoryColumn, priceColumn)\n"
+            + ": Catalog.buildAll(n, names, itemColumn, categoryColumn, priceColumn);\n"
+            + "}\n"
+            + "}\n";
+
+    private static Method build;
+
+    @BeforeClass
+    public static void compile() throws Exception {
+        final Fixtures.FixtureClass catalog = Fixtures.catalog("Catalog", Fixtures.options(StepBuilderOption.BULK_BUILD,
+                StepBuilderOption.COLLECTION_STEPS, StepBuilderOption.NULL_CHECKS));
+        final ClassLoader classLoader = new InMemoryCompiler()
+                .source("Catalog", catalog.source())
+                .source("Usage", USAGE)
+                .assertCompiles();
+        build = classLoader.loadClass("Usage").getMethod("build", boolean.class, int.class, String[].class, List.class);
+    }
+
+    @Test
+    public void everyRowGetsItsOwnFrozenCollections() throws Exception {
+        for (final boolean parallel : new boolean[]{false, true}) {
+            final List<String> items = new ArrayList<String>(Collections.singletonList("item"));
+            final Object[] built = (Object[]) build.invoke(null, parallel, 2, new String[]{"first", "second"}, items);
+            items.add("added later");
+
+            final List<?> first = (List<?>) field(built[0], "items");
+            assertEquals(Collections.singletonList("item"), first);
+            assertNotSame(first, field(built[1], "items"));
+            assertEquals(Collections.emptySet(), field(built[0], "categories"));
+            try {
+                first.clear();
+                fail("the bulk factory kept a modifiable list");
+            } catch (UnsupportedOperationException expected) {
+                // frozen like the list the builder hands over
+            }
+        }
+    }
+
+    @Test
+    public void nullOfAMandatoryFieldIsRejected() throws Exception {
+        for (final boolean parallel : new boolean[]{false, true}) {
+            assertThrown(NullPointerException.class, parallel, 2, new String[]{"first", null});
+        }
+    }
+
+    @Test
+    public void columnOfAnotherLengthIsRejected() throws Exception {
+        for (final boolean parallel : new boolean[]{false, true}) {
+            assertThrown(IllegalArgumentException.class, parallel, 3, new String[]{"first", "second", "third"});
+        }
+    }
+
+    private static void assertThrown(final Class<? extends RuntimeException> type, final boolean parallel,
+                                     final int n, final String[] names) throws Exception {
+        try {
+            build.invoke(null, parallel, n, names, Arrays.asList("item"));
+            fail(type.getSimpleName() + " expected");
+        } catch (InvocationTargetException e) {
+            assertTrue(String.valueOf(e.getCause()), type.isInstance(e.getCause()));
+        }
+    }
+}
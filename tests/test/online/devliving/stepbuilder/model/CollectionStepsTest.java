@@ -0,0 +1,83 @@
+package online.devliving.stepbuilder.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import static online.devliving.stepbuilder.model.InMemoryCompiler.field;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The built instance shares the collection of the builder instead of getting a copy, so the builder has to copy it
+ * before changing it again.
+ */
+public class CollectionStepsTest {
+    private static final String USAGE = "public class Usage {\n"
+            + "public static Catalog[] buildTwice() {\n"
+            + "Catalog.IBuild builder = Catalog.builder().withName(\"name\").addItem(\"first\");\n"
+            + "Catalog first = builder.build();\n"
+            + "Catalog second = builder.addItem(\"second\").build();\n"
+            + "return new Catalog[]{first, second, builder.withItemsCapacity(10).build()};\n"
+            + "}\n"
+            + "}\n";
+
+    @Test
+    public void builtCollectionIsNotChangedByLaterSteps() throws Exception {
+        final Fixtures.FixtureClass catalog = Fixtures.catalog("Catalog",
+                Fixtures.options(StepBuilderOption.COLLECTION_STEPS, StepBuilderOption.PUBLIC_INTERFACES));
+        final InMemoryCompiler compiler = new InMemoryCompiler()
+                .source("Catalog", catalog.source())
+                .source("Usage", USAGE);
+        compiler.assertCompiles();
+
+        final Object[] built = (Object[]) compiler.classLoader().loadClass("Usage").getMethod("buildTwice").invoke(null);
+        assertEquals(Collections.singletonList("first"), field(built[0], "items"));
+        assertEquals(Arrays.asList("first", "second"), field(built[1], "items"));
+        assertEquals(Arrays.asList("first", "second"), field(built[2], "items"));
+    }
+
+    @Test
+    public void capacityStepIsLeftOutWhenASetterHasItsName() {
+        final Fixtures.FixtureClass catalog = Fixtures.catalog("Catalog",
+                Fixtures.options(StepBuilderOption.COLLECTION_STEPS))
+                .optional("itemsCapacity", "int");
+        final String source = catalog.source();
+        assertTrue(source, source.contains("withItemsCapacity(int val)"));
+        assertTrue(source, !source.contains("withItemsCapacity(int expectedSize)"));
+        assertTrue(source, source.contains("withPricesCapacity(int expectedSize)"));
+
+        final InMemoryCompiler compiler = new InMemoryCompiler().source("Catalog", source);
+        compiler.assertCompiles();
+    }
+
+    @Test
+    public void stepsOfNamesThatArentKnownPluralsAddToTheWholeName() {
+        final Fixtures.FixtureClass catalog = Fixtures.catalog("Catalog",
+                Fixtures.options(StepBuilderOption.COLLECTION_STEPS))
+                .optional("status", "java.util.List<java.lang.String>")
+                .optional("news", "java.util.List<java.lang.String>")
+                .optional("menus", "java.util.List<java.lang.String>")
+                .optional("metadata", "java.util.Map<java.lang.String, java.lang.String>")
+                .optional("addresses", "java.util.List<java.lang.String>")
+                .optional("orderStatuses", "java.util.List<java.lang.String>")
+                .optional("movies", "java.util.Set<java.lang.String>")
+                .optional("children", "java.util.List<java.lang.String>")
+                .optional("URLs", "java.util.List<java.lang.String>");
+        final String source = catalog.source();
+        assertTrue(source, source.contains("addToStatus(java.lang.String val)"));
+        assertTrue(source, source.contains("addToNews(java.lang.String val)"));
+        assertTrue(source, source.contains("addToMenus(java.lang.String val)"));
+        assertTrue(source, source.contains("putInMetadata(java.lang.String key, java.lang.String value)"));
+        assertTrue(source, source.contains("addAddress(java.lang.String val)"));
+        assertTrue(source, source.contains("addOrderStatus(java.lang.String val)"));
+        assertTrue(source, source.contains("addMovie(java.lang.String val)"));
+        assertTrue(source, source.contains("addChild(java.lang.String val)"));
+        assertTrue(source, source.contains("addURL(java.lang.String val)"));
+        assertTrue(source, !source.contains("addStatu(") && !source.contains("addNew(") && !source.contains("addMenu("));
+
+        final InMemoryCompiler compiler = new InMemoryCompiler().source("Catalog", source);
+        compiler.assertCompiles();
+    }
+}
@@ -0,0 +1,49 @@
+package online.devliving.stepbuilder.model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * What the compact steps guarantee: {@code build()} is only reachable through every mandatory setter in order. A
+ * setter called out of order compiles, but its result has no setter that leads to {@code build()}.
+ */
+public class CompactStepsTest {
+
+    @Test
+    public void buildIsReachableInOrder() {
+        assertTrue(compiles("Server.builder(\"http\").withUrl(\"localhost\").withPort(8080).withSecure(true).build()"));
+    }
+
+    @Test
+    public void buildIsNotReachableOutOfOrder() {
+        assertFalse(compiles("Server.builder(\"http\").withPort(8080).withUrl(\"localhost\").build()"));
+        assertFalse(compiles("Server.builder(\"http\").withUrl(\"localhost\").withUrl(\"localhost\").build()"));
+        assertFalse(compiles("Server.builder(\"http\").withUrl(\"localhost\").build()"));
+    }
+
+    @Test
+    public void setterOutOfOrderCompiles() {
+        // heap pollution: the Builder is typed as Void, assigning it to a Void throws a ClassCastException
+        assertTrue(compiles("Server.builder(\"http\").withPort(8080)"));
+    }
+
+    @Test
+    public void manyMandatoryFieldsGetAnInterfaceEach() {
+        final Fixtures.FixtureClass fixture = Fixtures.synthetic("Synthetic", 3 * (StepBuilderRenderer.MAX_COMPACT_STEPS + 1),
+                Fixtures.options(StepBuilderOption.COMPACT_STEPS));
+        final String source = fixture.source();
+        assertFalse(source, source.contains("interface " + StepBuilderRenderer.COMPACT_STEPS_INTERFACE_NAME + "<"));
+        final InMemoryCompiler compiler = new InMemoryCompiler().source("Synthetic", source);
+        compiler.assertCompiles();
+    }
+
+    private static boolean compiles(final String expression) {
+        final Fixtures.FixtureClass server = Fixtures.server("Server", Fixtures.options(StepBuilderOption.COMPACT_STEPS));
+        return new InMemoryCompiler()
+                .source("Server", server.source())
+                .source("Usage", "class Usage {\nObject value = " + expression + ";\n}\n")
+                .compile();
+    }
+}
@@ -0,0 +1,272 @@
+package online.devliving.stepbuilder.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The classes the renderer tests generate builders for, and their source with the generated members added, like
+ * the IDE action adds them.
+ */
+final class Fixtures {
+    private static final String[] SYNTHETIC_TYPES = {
+            "java.lang.String", "int", "long", "java.lang.Double", "boolean", "java.util.List<java.lang.String>"
+    };
+
+    private Fixtures() {
+    }
+
+    /**
+     * The {@code Server} of the README, with a final field so that {@code builder(...)} takes a parameter.
+     */
+    static FixtureClass server(final String className, final Set<StepBuilderOption> options) {
+        return new FixtureClass(className, options)
+                .mandatory("protocol", "java.lang.String", true)
+                .mandatory("url", "java.lang.String", false)
+                .mandatory("port", "int", false)
+                .optional("ipAddress", "java.lang.String")
+                .optional("description", "java.lang.String")
+                .optional("uptime", "long")
+                .optional("weight", "double")
+                .optional("secure", "boolean");
+    }
+
+    /**
+     * A record, built through its canonical constructor.
+     */
+    static FixtureClass point(final String className, final Set<StepBuilderOption> options) {
+        return new FixtureClass(className, options)
+                .mandatory("x", "int", false)
+                .mandatory("y", "int", false)
+                .optional("label", "java.lang.String")
+                .asRecord();
+    }
+
+    /**
+     * Optional collections, for the collection steps.
+     */
+    static FixtureClass catalog(final String className, final Set<StepBuilderOption> options) {
+        return new FixtureClass(className, options)
+                .mandatory("name", "java.lang.String", false)
+                .optional("items", "java.util.List<java.lang.String>")
+                .optional("categories", "java.util.Set<java.lang.Integer>")
+                .optional("prices", "java.util.Map<java.lang.String, java.lang.Double>");
+    }
+
+    /**
+     * A class of {@code fieldCount} fields cycling through the usual types, the first third of them mandatory.
+     */
+    static FixtureClass synthetic(final String className, final int fieldCount, final Set<StepBuilderOption> options) {
+        final FixtureClass fixture = new FixtureClass(className, options);
+        for (int i = 0; i < fieldCount; i++) {
+            final String type = SYNTHETIC_TYPES[i % SYNTHETIC_TYPES.length];
+            if (i < fieldCount / 3) {
+                fixture.mandatory("field" + i, type, false);
+            } else {
+                fixture.optional("field" + i, type);
+            }
+        }
+        return fixture;
+    }
+
+    static Set<StepBuilderOption> options(final StepBuilderOption... options) {
+        final EnumSet<StepBuilderOption> set = EnumSet.noneOf(StepBuilderOption.class);
+        set.addAll(Arrays.asList(options));
+        return set;
+    }
+
+    /**
+     * @return e.g. {@code finalSetters} for {@code FINAL_SETTERS}, the name of its property without the prefix
+     */
+    static String optionName(final StepBuilderOption option) {
+        final String property = option.getProperty();
+        return property.substring(property.indexOf('.') + 1);
+    }
+
+    /**
+     * Indents rendered code by its brace depth, so that the golden files are readable.
+     */
+    static String indent(final String code) {
+        final StringBuilder indented = new StringBuilder(code.length() * 5 / 4);
+        int depth = 0;
+        for (final String line : code.split("\n", -1)) {
+            if (line.startsWith("}")) {
+                depth--;
+            }
+            if (line.length() > 0) {
+                for (int i = 0; i < depth; i++) {
+                    indented.append("    ");
+                }
+            }
+            indented.append(line).append('\n');
+            if (line.endsWith("{")) {
+                depth++;
+            }
+        }
+        return indented.substring(0, indented.length() - 1);
+    }
+
+    static final class FixtureClass {
+        private final String className;
+        private final Set<StepBuilderOption> options;
+        private final List<StepField> mandatoryFields = new ArrayList<StepField>();
+        private final List<StepField> optionalFields = new ArrayList<StepField>();
+        private final StringBuilder members = new StringBuilder();
+        private final Map<String, String> initializers = new HashMap<String, String>();
+        private String packageName;
+        private StepBuilderModel.Construction construction = StepBuilderModel.Construction.BUILDER_CONSTRUCTOR;
+        private boolean record;
+        private boolean standalone;
+
+        FixtureClass(final String className, final Set<StepBuilderOption> options) {
+            this.className = className;
+            this.options = options;
+        }
+
+        String getClassName() {
+            return className;
+        }
+
+        boolean isStandalone() {
+            return standalone;
+        }
+
+        FixtureClass mandatory(final String name, final String type, final boolean isFinal) {
+            mandatoryFields.add(StepField.newBuilder().withName(name).withType(type).withFinal(isFinal).build());
+            return this;
+        }
+
+        FixtureClass optional(final String name, final String type) {
+            optionalFields.add(StepField.newBuilder().withName(name).withType(type).withFinal(false).build());
+            return this;
+        }
+
+        FixtureClass field(final StepField field, final boolean mandatory) {
+            (mandatory ? mandatoryFields : optionalFields).add(field);
+            return this;
+        }
+
+        /**
+         * Declares the field with an initializer, which a sparse builder leaves in place when it isn't set.
+         */
+        FixtureClass initializer(final String name, final String initializer) {
+            initializers.put(name, initializer);
+            return this;
+        }
+
+        FixtureClass member(final String member) {
+            members.append(member).append('\n');
+            return this;
+        }
+
+        /**
+         * Adds a constructor taking all fields, mandatory ones first, which the builder then calls.
+         */
+        FixtureClass withAllArgsConstructor() {
+            construction = StepBuilderModel.Construction.ALL_ARGS_CONSTRUCTOR;
+            final StringBuilder parameters = new StringBuilder();
+            final StringBuilder assignments = new StringBuilder();
+            for (final StepField field : allFields()) {
+                parameters.append(parameters.length() > 0 ? ", " : "").append(field.getType()).append(' ')
+                        .append(field.getName());
+                assignments.append("this.").append(field.getName()).append(" = ").append(field.getName())
+                        .append(";\n");
+            }
+            return member("public " + className + "(" + parameters + ") {\n" + assignments + "}");
+        }
+
+        FixtureClass asRecord() {
+            construction = StepBuilderModel.Construction.ALL_ARGS_CONSTRUCTOR;
+            record = true;
+            return this;
+        }
+
+        FixtureClass inPackage(final String packageName) {
+            this.packageName = packageName;
+            return this;
+        }
+
+        private List<StepField> allFields() {
+            final List<StepField> fields = new ArrayList<StepField>(mandatoryFields);
+            fields.addAll(optionalFields);
+            return fields;
+        }
+
+        /**
+         * Turns the fixture into a class whose builder is generated into a class of its own, like the processor
+         * does: it is built through its all-args constructor if it has one, else through its package-private fields.
+         */
+        FixtureClass standalone() {
+            standalone = true;
+            if (construction == StepBuilderModel.Construction.BUILDER_CONSTRUCTOR) {
+                construction = StepBuilderModel.Construction.FIELD_ASSIGNMENT;
+            }
+            return this;
+        }
+
+        private String declarations() {
+            final StringBuilder declarations = new StringBuilder();
+            for (final StepField field : allFields()) {
+                declarations.append(standalone ? "" : "private ").append(field.isFinal() ? "final " : "")
+                        .append(field.getType()).append(' ').append(field.getName());
+                final String initializer = initializers.get(field.getName());
+                declarations.append(initializer != null ? " = " + initializer : "").append(";\n");
+            }
+            return declarations.append(members).toString();
+        }
+
+        StepBuilderModel model() {
+            return StepBuilderModel.newBuilder()
+                    .withTargetName(className)
+                    .withMandatoryFields(mandatoryFields)
+                    .withOptionalFields(optionalFields)
+                    .withOptions(options)
+                    .withSetterPrefix("with")
+                    .withInterfacePrefix("I")
+                    .withConstruction(construction, allFields())
+                    .withEmbedded(!standalone)
+                    .withRecord(record)
+                    .build();
+        }
+
+        /**
+         * @return the class with the generated members added after its own ones
+         */
+        String source() {
+            if (standalone) {
+                return new StepBuilderRenderer(model()).renderSourceFile(packageName, standaloneClassName());
+            }
+            final String members = new StepBuilderRenderer(model()).renderMembers();
+            if (record) {
+                final StringBuilder components = new StringBuilder();
+                for (final StepField field : allFields()) {
+                    components.append(components.length() > 0 ? ", " : "").append(field.getType()).append(' ')
+                            .append(field.getName());
+                }
+                return packageDeclaration()
+                        + indent("public record " + className + "(" + components + ") {\n\n" + members + "}\n");
+            }
+            return packageDeclaration()
+                    + indent("public class " + className + " {\n" + declarations() + "\n" + members + "}\n");
+        }
+
+        private String packageDeclaration() {
+            return packageName != null ? "package " + packageName + ";\n\n" : "";
+        }
+
+        /**
+         * @return the fixture class itself, for a standalone builder
+         */
+        String targetSource() {
+            return packageDeclaration() + indent("public class " + className + " {\n" + declarations() + "}\n");
+        }
+
+        String standaloneClassName() {
+            return className + "StepBuilder";
+        }
+    }
+}
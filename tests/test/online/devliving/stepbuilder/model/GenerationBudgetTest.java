@@ -0,0 +1,136 @@
+package online.devliving.stepbuilder.model;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Generates builders for synthetic classes of 10, 100 and 500 fields, with no option, every option on its own and
+ * all options, and fails when a phase takes more time or allocates more memory than its budget, with the measured
+ * numbers in the message.
+ * <p>
+ * Building the model is budgeted per field. Rendering is budgeted per character of output instead, since some
+ * options render quadratic code themselves: every wither passes all fields and every compact step lists the
+ * remaining ones. The budgets are far above the measured numbers, they catch an accidentally quadratic pass
+ * rather than a few percent, which this kind of test can't tell from noise anyway.
+ */
+@RunWith(Parameterized.class)
+public class GenerationBudgetTest {
+    private static final int[] FIELD_COUNTS = {10, 100, 500};
+    private static final int RUNS = 5;
+
+    /**
+     * Enough for a slow CI machine, the model takes less than 1µs and 100 bytes per field, the renderer less than
+     * 20ns and 16 bytes per character once warmed up, up to 80 bytes with the nested types of the compact steps.
+     */
+    private static final long MODEL_NANOS_PER_FIELD = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long MODEL_BYTES_PER_FIELD = 1024;
+    private static final long RENDER_NANOS_PER_CHAR = 1000;
+    private static final long RENDER_BYTES_PER_CHAR = 128;
+
+    private final String optionsName;
+    private final Set<StepBuilderOption> options;
+    private final int fieldCount;
+
+    public GenerationBudgetTest(final String optionsName, final Set<StepBuilderOption> options, final int fieldCount) {
+        this.optionsName = optionsName;
+        this.options = options;
+        this.fieldCount = fieldCount;
+    }
+
+    @Parameterized.Parameters(name = "{0} {2}")
+    public static Collection<Object[]> cases() {
+        final List<Object[]> cases = new ArrayList<Object[]>();
+        for (final int fieldCount : FIELD_COUNTS) {
+            cases.add(new Object[]{"none", Fixtures.options(), fieldCount});
+            for (final StepBuilderOption option : StepBuilderOption.values()) {
+                cases.add(new Object[]{Fixtures.optionName(option), Fixtures.options(option), fieldCount});
+            }
+            cases.add(new Object[]{"all", EnumSet.allOf(StepBuilderOption.class), fieldCount});
+        }
+        return cases;
+    }
+
+    @Test
+    public void staysWithinBudget() {
+        final Fixtures.FixtureClass fixture = Fixtures.synthetic("Synthetic", fieldCount, options);
+        final Measurement model = new Measurement();
+        final Measurement render = new Measurement();
+        int length = 0;
+        for (int run = 0; run < RUNS; run++) {
+            model.start();
+            final StepBuilderModel builderModel = fixture.model();
+            model.stop();
+
+            render.start();
+            length = new StepBuilderRenderer(builderModel).renderMembers().length();
+            render.stop();
+        }
+
+        final String name = optionsName + " with " + fieldCount + " fields: ";
+        model.assertWithin(name + "model", MODEL_NANOS_PER_FIELD * fieldCount, MODEL_BYTES_PER_FIELD * fieldCount);
+        render.assertWithin(name + "render of " + length + " chars", RENDER_NANOS_PER_CHAR * length,
+                RENDER_BYTES_PER_CHAR * length);
+    }
+
+    /**
+     * The fastest of the runs, the first ones include class loading and the interpreter.
+     */
+    static final class Measurement {
+        private static final com.sun.management.ThreadMXBean THREADS = threads();
+
+        private long startNanos;
+        private long startBytes;
+        private long bestNanos = Long.MAX_VALUE;
+        private long bestBytes = Long.MAX_VALUE;
+
+        private static com.sun.management.ThreadMXBean threads() {
+            final java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            return threads instanceof com.sun.management.ThreadMXBean ? (com.sun.management.ThreadMXBean) threads : null;
+        }
+
+        void start() {
+            startBytes = allocatedBytes();
+            startNanos = System.nanoTime();
+        }
+
+        void stop() {
+            bestNanos = Math.min(bestNanos, System.nanoTime() - startNanos);
+            bestBytes = Math.min(bestBytes, allocatedBytes() - startBytes);
+        }
+
+        long getNanos() {
+            return bestNanos;
+        }
+
+        long getBytes() {
+            return bestBytes;
+        }
+
+        void assertWithin(final String phase, final long nanos, final long bytes) {
+            assertTrue(phase + " took " + this + ", more than " + nanos / 1000 + "µs", bestNanos <= nanos);
+            if (THREADS != null) {
+                assertTrue(phase + " took " + this + ", more than " + bytes / 1024 + "KB", bestBytes <= bytes);
+            }
+        }
+
+        private static long allocatedBytes() {
+            return THREADS != null ? THREADS.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0;
+        }
+
+        @Override
+        public String toString() {
+            return bestNanos / 1000 + "µs " + bestBytes / 1024 + "KB";
+        }
+    }
+}
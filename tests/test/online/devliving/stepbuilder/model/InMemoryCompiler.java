@@ -0,0 +1,210 @@
+package online.devliving.stepbuilder.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.annotation.processing.Processor;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compiles generated sources in memory with the javac of the running JDK, and loads the resulting classes.
+ */
+public final class InMemoryCompiler {
+    private final Map<String, String> sources = new HashMap<String, String>();
+    private final List<Processor> processors = new ArrayList<Processor>();
+    private final Map<String, ByteArrayOutputStream> classFiles = new HashMap<String, ByteArrayOutputStream>();
+    private final Map<String, String> generatedSources = new HashMap<String, String>();
+    private final List<String> errors = new ArrayList<String>();
+    private final List<String> warnings = new ArrayList<String>();
+
+    /**
+     * @param className the qualified name of the top level class declared by the source
+     */
+    public InMemoryCompiler source(final String className, final String source) {
+        sources.put(className, source);
+        return this;
+    }
+
+    public InMemoryCompiler processor(final Processor processor) {
+        processors.add(processor);
+        return this;
+    }
+
+    /**
+     * @return whether the sources compiled without errors, see {@link #getErrors()} otherwise
+     */
+    public boolean compile() {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+        final StandardJavaFileManager standardFileManager = compiler.getStandardFileManager(diagnostics, null, null);
+        final List<JavaFileObject> units = new ArrayList<JavaFileObject>(sources.size());
+        for (final Map.Entry<String, String> source : sources.entrySet()) {
+            units.add(new SourceFile(source.getKey(), source.getValue()));
+        }
+
+        final List<String> options = new ArrayList<String>(Arrays.asList("-classpath",
+                System.getProperty("java.class.path")));
+        if (processors.isEmpty()) {
+            options.add("-proc:none");
+        }
+        final JavaCompiler.CompilationTask task = compiler.getTask(null, new MemoryFileManager(standardFileManager),
+                diagnostics, options, null, units);
+        if (!processors.isEmpty()) {
+            task.setProcessors(processors);
+        }
+        final boolean success = task.call();
+        for (final Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            final JavaFileObject file = diagnostic.getSource();
+            final String message = (file != null ? file.getName() + ":" + diagnostic.getLineNumber() + ": " : "")
+                    + diagnostic.getMessage(Locale.ROOT);
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(message);
+            } else if (diagnostic.getKind() == Diagnostic.Kind.WARNING) {
+                warnings.add(message);
+            }
+        }
+        return success;
+    }
+
+    /**
+     * Compiles the sources and fails the test with the errors unless they compiled.
+     *
+     * @return the class loader of the compiled classes
+     */
+    public ClassLoader assertCompiles() {
+        final boolean compiled = compile();
+        assertTrue(errors.toString(), compiled);
+        return classLoader();
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public List<String> getWarnings() {
+        return warnings;
+    }
+
+    /**
+     * @return the source a processor generated for the class, or null
+     */
+    public String getGeneratedSource(final String className) {
+        return generatedSources.get(className);
+    }
+
+    public ClassLoader classLoader() {
+        return new ClassLoader(InMemoryCompiler.class.getClassLoader()) {
+            @Override
+            protected Class<?> findClass(final String name) throws ClassNotFoundException {
+                final ByteArrayOutputStream classFile = classFiles.get(name);
+                if (classFile == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                final byte[] bytes = classFile.toByteArray();
+                return defineClass(name, bytes, 0, bytes.length);
+            }
+        };
+    }
+
+    /**
+     * @return the value of a field of an instance of a compiled class, whatever its access
+     */
+    public static Object field(final Object instance, final String name) throws ReflectiveOperationException {
+        final Field field = instance.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(instance);
+    }
+
+    private static URI uri(final String className, final JavaFileObject.Kind kind) {
+        return URI.create("memory:///" + className.replace('.', '/') + kind.extension);
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        SourceFile(final String className, final String source) {
+            super(uri(className, Kind.SOURCE), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+
+    /**
+     * A source written by a processor, kept once it is closed.
+     */
+    private final class GeneratedSourceFile extends SimpleJavaFileObject {
+        private final String className;
+        private final StringWriter content = new StringWriter();
+
+        GeneratedSourceFile(final String className) {
+            super(uri(className, Kind.SOURCE), Kind.SOURCE);
+            this.className = className;
+        }
+
+        @Override
+        public Writer openWriter() {
+            return new FilterWriter(content) {
+                @Override
+                public void close() throws IOException {
+                    super.close();
+                    generatedSources.put(className, content.toString());
+                }
+            };
+        }
+
+        @Override
+        public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+            return content.toString();
+        }
+    }
+
+    private final class MemoryFileManager extends ForwardingJavaFileManager<JavaFileManager> {
+        MemoryFileManager(final JavaFileManager fileManager) {
+            super(fileManager);
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(final Location location, final String className,
+                                                   final JavaFileObject.Kind kind, final FileObject sibling) {
+            if (kind == JavaFileObject.Kind.SOURCE) {
+                return new GeneratedSourceFile(className);
+            }
+            return new SimpleJavaFileObject(uri(className, kind), kind) {
+                @Override
+                public OutputStream openOutputStream() {
+                    final ByteArrayOutputStream classFile = new ByteArrayOutputStream();
+                    classFiles.put(className.replace(File.separatorChar, '.').replace('/', '.'), classFile);
+                    return classFile;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package online.devliving.stepbuilder.model;
+
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Interning shares one instance between everyone who built equal values, which a class with setters can't allow.
+ */
+public class InterningTest {
+    private static final String USAGE = "public class Usage {\n"
+            + "public static Resp create(java.lang.String result, java.lang.String o) {\n"
+            + "return Resp.builder().withCode(200).withResult(result).withO(o).build();\n"
+            + "}\n"
+            + "}\n";
+
+    @Test
+    public void immutableClassIsInterned() {
+        final String source = Fixtures.server("Server", Fixtures.options(StepBuilderOption.INTERNING)).source();
+        assertTrue(source, source.contains("return intern(new Server("));
+    }
+
+    @Test
+    public void classWithSetterIsNotInterned() {
+        final Fixtures.FixtureClass server = new Fixtures.FixtureClass("Server",
+                Fixtures.options(StepBuilderOption.INTERNING, StepBuilderOption.TO_BUILDER))
+                .mandatory("url", "java.lang.String", false)
+                .field(StepField.newBuilder().withName("port").withType("int").withFinal(false)
+                        .withSetterName("setPort").build(), false)
+                .member("public void setPort(int port) {\nthis.port = port;\n}");
+        final String source = server.source();
+        assertFalse(source, source.contains("intern("));
+        assertFalse(source, source.contains(StepBuilderRenderer.INTERN_TABLE_FIELD_NAME));
+        assertFalse(source, source.contains(StepBuilderRenderer.CACHED_HASH_CODE_FIELD_NAME));
+
+        final InMemoryCompiler compiler = new InMemoryCompiler().source("Server", source);
+        compiler.assertCompiles();
+    }
+
+    @Test
+    public void fieldsNamedLikeTheLocalsOfEqualsAndHashCodeAreCompared() throws Exception {
+        final Fixtures.FixtureClass resp = new Fixtures.FixtureClass("Resp",
+                Fixtures.options(StepBuilderOption.INTERNING))
+                .mandatory("code", "int", false)
+                .optional("result", "java.lang.String")
+                .optional("o", "java.lang.String");
+        final InMemoryCompiler compiler = new InMemoryCompiler()
+                .source("Resp", resp.source())
+                .source("Usage", USAGE);
+        compiler.assertCompiles();
+
+        final Method create = compiler.classLoader().loadClass("Usage").getMethod("create", String.class, String.class);
+        final Object first = create.invoke(null, "ok", "a");
+        assertSame(first, create.invoke(null, "ok", "a"));
+        assertNotSame(first, create.invoke(null, "failed", "a"));
+        assertNotSame(first, create.invoke(null, "ok", "b"));
+    }
+}
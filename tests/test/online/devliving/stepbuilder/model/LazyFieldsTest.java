@@ -0,0 +1,71 @@
+package online.devliving.stepbuilder.model;
+
+import java.util.Set;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A lazy field keeps its supplier until it is first read, which a setter assigning the field would bypass and the
+ * options setting every field at once would call right away.
+ */
+public class LazyFieldsTest {
+    private static final String USAGE = "public class Usage {\n"
+            + "public static java.lang.String create() {\n"
+            + "return Server.builder().withUrl(\"url\").withSupplier(() -> \"supplied\").build().getSupplier();\n"
+            + "}\n"
+            + "}\n";
+
+    @Test
+    public void fieldWithSetterIsSetEagerly() {
+        final Fixtures.FixtureClass server = new Fixtures.FixtureClass("Server",
+                Fixtures.options(StepBuilderOption.LAZY_FIELDS))
+                .mandatory("url", "java.lang.String", false)
+                .field(lazy("description", null), false)
+                .field(lazy("ipAddress", "setIpAddress"), false)
+                .member("public void setIpAddress(java.lang.String ipAddress) {\nthis.ipAddress = ipAddress;\n}");
+        final String source = server.source();
+        assertTrue(source, source.contains("descriptionSupplier"));
+        assertFalse(source, source.contains("ipAddressSupplier"));
+
+        final InMemoryCompiler compiler = new InMemoryCompiler().source("Server", source);
+        compiler.assertCompiles();
+    }
+
+    @Test
+    public void fieldNamedLikeTheLocalOfTheAccessorIsSupplied() throws Exception {
+        final Fixtures.FixtureClass server = new Fixtures.FixtureClass("Server",
+                Fixtures.options(StepBuilderOption.LAZY_FIELDS))
+                .mandatory("url", "java.lang.String", false)
+                .field(lazy("supplier", null), false);
+        final InMemoryCompiler compiler = new InMemoryCompiler()
+                .source("Server", server.source())
+                .source("Usage", USAGE);
+        compiler.assertCompiles();
+        assertEquals("supplied", compiler.classLoader().loadClass("Usage").getMethod("create").invoke(null));
+    }
+
+    @Test
+    public void optionsSettingEveryFieldAtOnceKeepFieldsEager() {
+        for (final StepBuilderOption option : new StepBuilderOption[]{StepBuilderOption.TO_BUILDER,
+                StepBuilderOption.INTERNING, StepBuilderOption.ALL_ARGS_CONSTRUCTOR}) {
+            final Set<StepBuilderOption> options = Fixtures.options(StepBuilderOption.LAZY_FIELDS, option);
+            assertFalse(option.name(), StepBuilderModel.supportsLazyFields(options, false));
+            final String source = new Fixtures.FixtureClass("Server", options)
+                    .mandatory("url", "java.lang.String", false)
+                    .field(lazy("description", null), false)
+                    .source();
+            assertFalse(source, source.contains("descriptionSupplier"));
+        }
+        assertTrue(StepBuilderModel.supportsLazyFields(Fixtures.options(StepBuilderOption.LAZY_FIELDS), false));
+        assertFalse(StepBuilderModel.supportsLazyFields(Fixtures.options(StepBuilderOption.LAZY_FIELDS), true));
+    }
+
+    private static StepField lazy(final String name, final String setterName) {
+        return StepField.newBuilder().withName(name).withType("java.lang.String").withFinal(false)
+                .withSetterName(setterName).withLazy(true).build();
+    }
+}
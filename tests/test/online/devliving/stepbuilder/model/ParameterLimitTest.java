@@ -0,0 +1,67 @@
+package online.devliving.stepbuilder.model;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The members taking one parameter per field are left out when the fields don't fit in the parameters of a method,
+ * the builder still compiles and the warnings say what is missing.
+ */
+public class ParameterLimitTest {
+    private static final int FIELD_COUNT = 300;
+
+    @Test
+    public void allArgsConstructorFallsBackToTheBuilder() {
+        final Fixtures.FixtureClass fixture = Fixtures.synthetic("Synthetic", FIELD_COUNT,
+                Fixtures.options(StepBuilderOption.ALL_ARGS_CONSTRUCTOR));
+        final String source = fixture.source();
+        assertTrue(source, source.contains("private Synthetic(Builder builder)"));
+        new InMemoryCompiler().source("Synthetic", source).assertCompiles();
+
+        final List<String> warnings = new StepBuilderRenderer(fixture.model()).getWarnings();
+        assertEquals(warnings.toString(), 1, warnings.size());
+        assertTrue(warnings.get(0), warnings.get(0).startsWith("No all-args constructor generated: the 300 fields"));
+    }
+
+    @Test
+    public void withersAreLeftOutButToBuilderIsKept() {
+        final Fixtures.FixtureClass fixture = Fixtures.synthetic("Synthetic", FIELD_COUNT,
+                Fixtures.options(StepBuilderOption.TO_BUILDER));
+        final String source = fixture.source();
+        assertTrue(source, source.contains(" toBuilder() {"));
+        assertFalse(source, source.contains("public Synthetic withField0("));
+        new InMemoryCompiler().source("Synthetic", source).assertCompiles();
+
+        final List<String> warnings = new StepBuilderRenderer(fixture.model()).getWarnings();
+        assertEquals(warnings.toString(), 1, warnings.size());
+        assertTrue(warnings.get(0), warnings.get(0).startsWith("No withers generated: the 300 fields"));
+    }
+
+    @Test
+    public void bulkFactoriesAreLeftOut() {
+        final Fixtures.FixtureClass fixture = Fixtures.synthetic("Synthetic", FIELD_COUNT,
+                Fixtures.options(StepBuilderOption.BULK_BUILD));
+        final String source = fixture.source();
+        assertFalse(source, source.contains(" buildAll("));
+        assertFalse(source, source.contains(" buildAllParallel("));
+        new InMemoryCompiler().source("Synthetic", source).assertCompiles();
+
+        final List<String> warnings = new StepBuilderRenderer(fixture.model()).getWarnings();
+        assertEquals(warnings.toString(), 1, warnings.size());
+        assertTrue(warnings.get(0), warnings.get(0).startsWith("No bulk factories generated: the 300 fields"));
+    }
+
+    @Test
+    public void allArgsConstructorIsKeptBelowTheLimit() {
+        final Fixtures.FixtureClass fixture = Fixtures.synthetic("Synthetic", 100,
+                Fixtures.options(StepBuilderOption.ALL_ARGS_CONSTRUCTOR));
+        final String source = fixture.source();
+        assertFalse(source, source.contains("private Synthetic(Builder builder)"));
+        assertTrue(new StepBuilderRenderer(fixture.model()).getWarnings().isEmpty());
+    }
+}
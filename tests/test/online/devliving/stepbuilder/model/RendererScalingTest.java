@@ -0,0 +1,93 @@
+package online.devliving.stepbuilder.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Generates builders for synthetic classes of 10, 100, 1000 and 3000 fields and checks that the cost per character
+ * of output stays about the same as the classes grow, i.e. that no pass over the fields does a linear lookup per
+ * field. The allocated bytes are checked tightly, they hardly vary between runs, the time loosely.
+ * <p>
+ * Every option is covered: the withers of {@code toBuilder} render quadratic code by design, each passes all fields to
+ * the constructor, but the cost per character of it stays the same. Compact steps are quadratic too, but only up to
+ * {@link StepBuilderRenderer#MAX_COMPACT_STEPS} mandatory fields. The members taking a parameter per field are left
+ * out above {@link StepBuilderRenderer#MAX_CONSTRUCTOR_SLOTS}, so the first class without them is the baseline of the
+ * larger ones: other members cost another amount per character.
+ */
+@RunWith(Parameterized.class)
+public class RendererScalingTest {
+    private static final int[] FIELD_COUNTS = {10, 100, 1000, 3000};
+    private static final int RUNS = 5;
+    /**
+     * The growth allowed per character between 100 and 3000 fields: 30 times the fields with a quadratic pass
+     * would cost 30 times as much per character.
+     */
+    private static final double MAX_BYTES_GROWTH = 1.5;
+    private static final double MAX_TIME_GROWTH = 4;
+    /**
+     * Below 100 fields fixed costs dominate, the classes of 10 fields only show that small classes work.
+     */
+    private static final int BASELINE_FIELD_COUNT = 100;
+
+    private final String optionsName;
+    private final Set<StepBuilderOption> options;
+
+    public RendererScalingTest(final String optionsName, final Set<StepBuilderOption> options) {
+        this.optionsName = optionsName;
+        this.options = options;
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> cases() {
+        final List<Object[]> cases = new ArrayList<Object[]>();
+        cases.add(new Object[]{"none", Fixtures.options()});
+        for (final StepBuilderOption option : StepBuilderOption.values()) {
+            cases.add(new Object[]{Fixtures.optionName(option), Fixtures.options(option)});
+        }
+        cases.add(new Object[]{"all", EnumSet.allOf(StepBuilderOption.class)});
+        return cases;
+    }
+
+    @Test
+    public void scalesLinearly() {
+        double baselineNanos = 0;
+        double baselineBytes = 0;
+        int baselineFieldCount = 0;
+        List<String> baselineWarnings = null;
+        for (final int fieldCount : FIELD_COUNTS) {
+            final StepBuilderModel model = Fixtures.synthetic("Synthetic", fieldCount, options).model();
+            final List<String> warnings = new StepBuilderRenderer(model).getWarnings();
+            final GenerationBudgetTest.Measurement render = new GenerationBudgetTest.Measurement();
+            int length = 0;
+            for (int run = 0; run < RUNS; run++) {
+                render.start();
+                length = new StepBuilderRenderer(model).renderMembers().length();
+                render.stop();
+            }
+            final double nanos = (double) render.getNanos() / length;
+            final double bytes = (double) render.getBytes() / length;
+
+            if (fieldCount == BASELINE_FIELD_COUNT
+                    || fieldCount > BASELINE_FIELD_COUNT && warnings.size() != baselineWarnings.size()) {
+                baselineNanos = nanos;
+                baselineBytes = bytes;
+                baselineFieldCount = fieldCount;
+                baselineWarnings = warnings;
+            } else if (fieldCount > BASELINE_FIELD_COUNT) {
+                assertTrue(String.format("%s: %d fields allocate %.1fB per char, %.1fB with %d", optionsName, fieldCount,
+                        bytes, baselineBytes, baselineFieldCount), bytes <= baselineBytes * MAX_BYTES_GROWTH);
+                assertTrue(String.format("%s: %d fields take %.1fns per char, %.1fns with %d", optionsName, fieldCount,
+                        nanos, baselineNanos, baselineFieldCount), nanos <= baselineNanos * MAX_TIME_GROWTH);
+            }
+        }
+    }
+}
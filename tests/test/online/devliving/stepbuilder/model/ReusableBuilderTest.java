@@ -0,0 +1,104 @@
+package online.devliving.stepbuilder.model;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Runs the reusable builder of the README's {@code Server}, compiled with the null checks, which also check the
+ * final {@code protocol} passed to {@code builder()}.
+ */
+public class ReusableBuilderTest {
+    private final Class<?> server = compile();
+
+    @Test
+    public void builderIsReusedAfterBuild() throws Exception {
+        final Object builder = reusableBuilder();
+        build(builder);
+        assertSame(builder, reusableBuilder());
+    }
+
+    @Test
+    public void nestedChainGetsItsOwnBuilder() throws Exception {
+        assertNotSame(reusableBuilder(), reusableBuilder());
+    }
+
+    @Test
+    public void abandonedChainIsReplaced() throws Exception {
+        final Object abandoned = reusableBuilder();
+        invoke(abandoned, "withUrl", String.class, "localhost");
+
+        final Object replacement = reusableBuilder();
+        assertNotSame(abandoned, replacement);
+        build(replacement);
+        assertSame(replacement, reusableBuilder());
+    }
+
+    @Test
+    public void builderInUseIsNotHandedOutAfterANestedChain() throws Exception {
+        final Object outer = reusableBuilder();
+        final Object nested = reusableBuilder();
+        build(nested);
+        build(outer);
+        assertSame(nested, reusableBuilder());
+    }
+
+    @Test
+    public void rejectedNullReleasesTheBuilder() throws Exception {
+        final Object builder = reusableBuilder();
+        try {
+            invoke(builder, "withUrl", String.class, null);
+            fail("null accepted");
+        } catch (InvocationTargetException e) {
+            assertTrue(e.getCause() instanceof NullPointerException);
+        }
+        assertSame(builder, reusableBuilder());
+    }
+
+    @Test
+    public void nullParametersAreRejectedBeforeABuilderIsTaken() throws Exception {
+        for (final String factory : new String[]{"builder", "reusableBuilder"}) {
+            try {
+                server.getMethod(factory, String.class).invoke(null, (Object) null);
+                fail(factory + " accepted null");
+            } catch (InvocationTargetException e) {
+                assertTrue(e.getCause() instanceof NullPointerException);
+            }
+        }
+        final Object builder = reusableBuilder();
+        build(builder);
+        assertSame(builder, reusableBuilder());
+    }
+
+    private Object reusableBuilder() throws Exception {
+        return server.getMethod("reusableBuilder", String.class).invoke(null, "http");
+    }
+
+    private static void build(final Object builder) throws Exception {
+        final Object port = invoke(builder, "withUrl", String.class, "localhost");
+        invoke(invoke(port, "withPort", int.class, 8080), "build", null, null);
+    }
+
+    private static Object invoke(final Object builder, final String name, final Class<?> type, final Object value)
+            throws Exception {
+        final Method method = type != null ? builder.getClass().getMethod(name, type) : builder.getClass().getMethod(name);
+        return type != null ? method.invoke(builder, value) : method.invoke(builder);
+    }
+
+    private static Class<?> compile() {
+        final Fixtures.FixtureClass fixture = Fixtures.server("Server",
+                Fixtures.options(StepBuilderOption.REUSABLE_BUILDER, StepBuilderOption.NULL_CHECKS));
+        final ClassLoader classLoader = new InMemoryCompiler().source("Server", fixture.source()).assertCompiles();
+        try {
+            return classLoader.loadClass("Server");
+        } catch (ClassNotFoundException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
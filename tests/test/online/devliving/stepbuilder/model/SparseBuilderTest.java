@@ -0,0 +1,68 @@
+package online.devliving.stepbuilder.model;
+
+import org.junit.Test;
+
+import static online.devliving.stepbuilder.model.InMemoryCompiler.field;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * A sparse builder stores the optional fields that were set only, the primitives encoded in a {@code long[]}. Sets
+ * them out of order, twice, and beyond the first word of the presence bitset, and leaves some unset.
+ */
+public class SparseBuilderTest {
+    private static final int EXTRA_FIELD_COUNT = 70;
+    private static final String USAGE = "public class Usage {\n"
+            + "public static Sparse create() {\n"
+            + "return Sparse.builder().withName(\"name\")\n"
+            + ".withExtra69(69).withD(-2.5).withF(1.5f).withB((byte) -3).withS((short) -4).withC('x')\n"
+            + ".withI(-5).withL(java.lang.Long.MIN_VALUE).withFlag(true).withExtra0(1).withExtra69(70)\n"
+            + ".withLabel(\"label\").withLabel(null).build();\n"
+            + "}\n"
+            + "}\n";
+
+    @Test
+    public void setValuesAreBuiltAndUnsetFieldsKeepTheirInitializers() throws Exception {
+        final Fixtures.FixtureClass sparse = new Fixtures.FixtureClass("Sparse",
+                Fixtures.options(StepBuilderOption.SPARSE_BUILDER))
+                .mandatory("name", "java.lang.String", false)
+                .optional("b", "byte")
+                .optional("s", "short")
+                .optional("c", "char")
+                .optional("i", "int")
+                .optional("l", "long")
+                .optional("f", "float")
+                .optional("d", "double")
+                .optional("flag", "boolean")
+                .optional("label", "java.lang.String")
+                .optional("text", "java.lang.String")
+                .optional("count", "int")
+                .initializer("label", "\"initial\"")
+                .initializer("text", "\"initial\"")
+                .initializer("count", "7");
+        for (int i = 0; i < EXTRA_FIELD_COUNT; i++) {
+            sparse.optional("extra" + i, "int");
+        }
+        final InMemoryCompiler compiler = new InMemoryCompiler()
+                .source("Sparse", sparse.source())
+                .source("Usage", USAGE);
+        compiler.assertCompiles();
+
+        final Object built = compiler.classLoader().loadClass("Usage").getMethod("create").invoke(null);
+        assertEquals("name", field(built, "name"));
+        assertEquals((byte) -3, field(built, "b"));
+        assertEquals((short) -4, field(built, "s"));
+        assertEquals('x', field(built, "c"));
+        assertEquals(-5, field(built, "i"));
+        assertEquals(Long.MIN_VALUE, field(built, "l"));
+        assertEquals(1.5f, field(built, "f"));
+        assertEquals(-2.5, field(built, "d"));
+        assertEquals(true, field(built, "flag"));
+        assertEquals(1, field(built, "extra0"));
+        assertEquals(0, field(built, "extra1"));
+        assertEquals(70, field(built, "extra69"));
+        // a null that was set is kept, only fields never set keep their initializers
+        assertEquals(null, field(built, "label"));
+        assertEquals("initial", field(built, "text"));
+        assertEquals(7, field(built, "count"));
+    }
+}
@@ -0,0 +1,64 @@
+package online.devliving.stepbuilder.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.lang.model.SourceVersion;
+
+import org.junit.Test;
+
+/**
+ * Every pair of options has to generate code that compiles. The golden files pin down the output of each option
+ * on its own, this covers how the options combine.
+ */
+public class StepBuilderRendererCompileTest {
+
+    @Test
+    public void everyPairOfOptionsCompiles() {
+        final InMemoryCompiler compiler = new InMemoryCompiler();
+        final boolean records = SourceVersion.latest().ordinal() >= 16;
+        for (final Set<StepBuilderOption> options : optionPairs()) {
+            final String suffix = suffix(options);
+            for (final Fixtures.FixtureClass fixture : fixtures(suffix, options, records)) {
+                compiler.source(fixture.getClassName(), fixture.source());
+            }
+        }
+        compiler.assertCompiles();
+    }
+
+    private static List<Fixtures.FixtureClass> fixtures(final String suffix, final Set<StepBuilderOption> options,
+                                                        final boolean records) {
+        final List<Fixtures.FixtureClass> fixtures = new ArrayList<Fixtures.FixtureClass>();
+        fixtures.add(Fixtures.server("Server" + suffix, options));
+        fixtures.add(Fixtures.server("ServerAllArgs" + suffix, options).withAllArgsConstructor());
+        fixtures.add(Fixtures.catalog("Catalog" + suffix, options));
+        if (records) {
+            fixtures.add(Fixtures.point("Point" + suffix, options));
+        }
+        return fixtures;
+    }
+
+    /**
+     * @return no option, every option on its own and every pair of options
+     */
+    private static List<Set<StepBuilderOption>> optionPairs() {
+        final StepBuilderOption[] values = StepBuilderOption.values();
+        final List<Set<StepBuilderOption>> pairs = new ArrayList<Set<StepBuilderOption>>();
+        pairs.add(Fixtures.options());
+        for (int i = 0; i < values.length; i++) {
+            for (int j = i; j < values.length; j++) {
+                pairs.add(Fixtures.options(values[i], values[j]));
+            }
+        }
+        return pairs;
+    }
+
+    private static String suffix(final Set<StepBuilderOption> options) {
+        final StringBuilder suffix = new StringBuilder();
+        for (final StepBuilderOption option : options) {
+            suffix.append('_').append(Fixtures.optionName(option));
+        }
+        return suffix.toString();
+    }
+}
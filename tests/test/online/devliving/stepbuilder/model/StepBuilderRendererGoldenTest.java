@@ -0,0 +1,96 @@
+package online.devliving.stepbuilder.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+
+import javax.lang.model.SourceVersion;
+
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Renders the fixtures with every option on its own and with all options, and compares the result with the golden
+ * files in {@code testData/golden}, which are compiled as well. Run with {@code -Dgolden.update=true} to rewrite them
+ * after an intended change of the output, and review their diff.
+ */
+@RunWith(Parameterized.class)
+public class StepBuilderRendererGoldenTest {
+    private static final String UPDATE_PROPERTY = "golden.update";
+
+    private final String goldenName;
+    private final Fixtures.FixtureClass fixture;
+
+    public StepBuilderRendererGoldenTest(final String goldenName, final Fixtures.FixtureClass fixture) {
+        this.goldenName = goldenName;
+        this.fixture = fixture;
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> cases() {
+        final List<Object[]> cases = new ArrayList<Object[]>();
+        cases.add(goldenCase("Server", Fixtures.server("Server", Fixtures.options())));
+        for (final StepBuilderOption option : StepBuilderOption.values()) {
+            cases.add(goldenCase("Server_" + Fixtures.optionName(option),
+                    Fixtures.server("Server", Fixtures.options(option))));
+        }
+        cases.add(goldenCase("Server_all",
+                Fixtures.server("Server", EnumSet.allOf(StepBuilderOption.class))));
+        cases.add(goldenCase("Server_allArgsConstructorExisting",
+                Fixtures.server("Server", Fixtures.options()).withAllArgsConstructor()));
+        cases.add(goldenCase("Catalog_collectionSteps",
+                Fixtures.catalog("Catalog", Fixtures.options(StepBuilderOption.COLLECTION_STEPS))));
+        cases.add(goldenCase("Point", Fixtures.point("Point", Fixtures.options())));
+        cases.add(goldenCase("Point_toBuilder",
+                Fixtures.point("Point", Fixtures.options(StepBuilderOption.TO_BUILDER))));
+        cases.add(goldenCase("ServerStepBuilder",
+                Fixtures.server("Server", Fixtures.options()).withAllArgsConstructor().standalone()));
+        cases.add(goldenCase("CatalogStepBuilder", Fixtures.catalog("Catalog", Fixtures.options()).standalone()));
+        return cases;
+    }
+
+    private static Object[] goldenCase(final String goldenName, final Fixtures.FixtureClass fixture) {
+        return new Object[]{goldenName, fixture};
+    }
+
+    @Test
+    public void matchesGoldenFile() throws IOException {
+        final File golden = new File(System.getProperty("golden.dir", "testData/golden"), goldenName + ".java");
+        final String actual = fixture.source();
+        if (Boolean.getBoolean(UPDATE_PROPERTY)) {
+            golden.getParentFile().mkdirs();
+            Files.write(golden.toPath(), actual.getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        if (!golden.isFile()) {
+            fail(golden + " doesn't exist, create it with -D" + UPDATE_PROPERTY + "=true");
+        }
+        assertEquals("differs from " + golden + ", rewrite it with -D" + UPDATE_PROPERTY + "=true if intended",
+                new String(Files.readAllBytes(golden.toPath()), StandardCharsets.UTF_8), actual);
+    }
+
+    @Test
+    public void compiles() {
+        // records need a JDK 16 javac
+        Assume.assumeTrue(!goldenName.startsWith("Point") || SourceVersion.latest().ordinal() >= 16);
+
+        final InMemoryCompiler compiler = new InMemoryCompiler();
+        if (fixture.isStandalone()) {
+            compiler.source(fixture.getClassName(), fixture.targetSource())
+                    .source(fixture.standaloneClassName(), fixture.source());
+        } else {
+            compiler.source(fixture.getClassName(), fixture.source());
+        }
+        compiler.assertCompiles();
+    }
+}
@@ -0,0 +1,83 @@
+package online.devliving.stepbuilder.model;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import static online.devliving.stepbuilder.model.InMemoryCompiler.field;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * The withers of {@code toBuilder}: they leave the setters of the class alone, and freeze the collections that
+ * have collection steps and reject the nulls of mandatory fields like the builder does.
+ */
+public class WitherTest {
+
+    @Test
+    public void setterOfTheSameNameIsKept() {
+        final Fixtures.FixtureClass server = new Fixtures.FixtureClass("Server",
+                Fixtures.options(StepBuilderOption.TO_BUILDER))
+                .field(StepField.newBuilder().withName("url").withType("java.lang.String").withFinal(false)
+                        .withSetterName("withUrl").build(), true)
+                .optional("port", "int")
+                .member("public void withUrl(java.lang.String url) {\nthis.url = url;\n}");
+        final String source = server.source();
+        assertFalse(source, source.contains("public Server withUrl("));
+        assertTrue(source, source.contains("public Server withPort("));
+        assertCompiles(server);
+    }
+
+    @Test
+    public void collectionIsFrozen() throws Exception {
+        final Fixtures.FixtureClass catalog = Fixtures.catalog("Catalog",
+                Fixtures.options(StepBuilderOption.TO_BUILDER, StepBuilderOption.COLLECTION_STEPS));
+        final Class<?> type = assertCompiles(catalog).loadClass("Catalog");
+        final Object builder = type.getMethod("builder").invoke(null);
+        final Object build = builder.getClass().getMethod("withName", String.class).invoke(builder, "name");
+        final Object original = build.getClass().getMethod("build").invoke(build);
+
+        final List<String> items = new ArrayList<String>();
+        items.add("item");
+        final Object copy = type.getMethod("withItems", List.class).invoke(original, items);
+        items.add("added later");
+
+        final List<?> copied = (List<?>) field(copy, "items");
+        assertEquals(1, copied.size());
+        try {
+            copied.clear();
+            fail("the wither kept a modifiable list");
+        } catch (UnsupportedOperationException expected) {
+            // frozen like the list the builder hands over
+        }
+    }
+
+    @Test
+    public void mandatoryFieldIsNullChecked() throws Exception {
+        final Fixtures.FixtureClass server = new Fixtures.FixtureClass("Server",
+                Fixtures.options(StepBuilderOption.TO_BUILDER, StepBuilderOption.NULL_CHECKS))
+                .mandatory("url", "java.lang.String", false)
+                .optional("description", "java.lang.String");
+        final Class<?> type = assertCompiles(server).loadClass("Server");
+        final Object builder = type.getMethod("builder").invoke(null);
+        final Object build = builder.getClass().getMethod("withUrl", String.class).invoke(builder, "url");
+        final Object original = build.getClass().getMethod("build").invoke(build);
+
+        final Object copy = type.getMethod("withDescription", String.class).invoke(original, (Object) null);
+        assertEquals(null, field(copy, "description"));
+        try {
+            type.getMethod("withUrl", String.class).invoke(original, (Object) null);
+            fail("the wither accepted a null for a mandatory field");
+        } catch (InvocationTargetException expected) {
+            assertTrue(String.valueOf(expected.getCause()), expected.getCause() instanceof NullPointerException);
+        }
+    }
+
+    private static ClassLoader assertCompiles(final Fixtures.FixtureClass fixture) {
+        return new InMemoryCompiler().source(fixture.getClassName(), fixture.source()).assertCompiles();
+    }
+}
@@ -0,0 +1,115 @@
+package online.devliving.stepbuilder.processor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.jar.JarFile;
+
+import javax.tools.ToolProvider;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs javac on annotated sources with nothing but the packaged processor jar, the way a user's build does. Needs
+ * the jar of the processor module, which {@code mvn verify} builds before running it.
+ */
+public class ProcessorJarIT {
+    private static final String SERVER = "package p;\n"
+            + "@online.devliving.stepbuilder.annotation.StepBuilder(mandatory = {\"url\"})\n"
+            + "public class Server {\n"
+            + "    String url;\n"
+            + "    int port;\n"
+            + "}\n";
+    private static final String USAGE = "package p;\n"
+            + "public class Usage {\n"
+            + "    public static Server create() {\n"
+            + "        return ServerStepBuilder.builder().withUrl(\"localhost\").withPort(8080).build();\n"
+            + "    }\n"
+            + "}\n";
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void processorNamedOnTheCommandLineRuns() throws IOException {
+        assertGenerated("-processor", StepBuilderProcessor.class.getName());
+    }
+
+    @Test
+    public void processorIsFoundThroughItsServiceFile() throws IOException {
+        assertGenerated();
+    }
+
+    @Test
+    public void processorIsRegisteredAsIsolating() throws IOException {
+        final JarFile jar = new JarFile(processorJar());
+        try {
+            assertEquals(StepBuilderProcessor.class.getName() + ",isolating",
+                    read(jar, "META-INF/gradle/incremental.annotation.processors"));
+            assertEquals(StepBuilderProcessor.class.getName(),
+                    read(jar, "META-INF/services/javax.annotation.processing.Processor"));
+        } finally {
+            jar.close();
+        }
+    }
+
+    private void assertGenerated(final String... processorOptions) throws IOException {
+        final File sources = folder.newFolder("src");
+        final File generated = folder.newFolder("generated");
+        final File classes = folder.newFolder("classes");
+        final File server = write(sources, "Server", SERVER);
+        final File usage = write(sources, "Usage", USAGE);
+
+        final String jar = processorJar().getPath();
+        final List<String> arguments = new ArrayList<String>(Arrays.asList("-classpath", jar, "-processorpath", jar,
+                "-s", generated.getPath(), "-d", classes.getPath()));
+        arguments.addAll(Arrays.asList(processorOptions));
+        arguments.add(server.getPath());
+        arguments.add(usage.getPath());
+        final ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        final int status = ToolProvider.getSystemJavaCompiler().run(null, null, errors,
+                arguments.toArray(new String[arguments.size()]));
+
+        assertEquals(new String(errors.toByteArray(), StandardCharsets.UTF_8), 0, status);
+        assertTrue(new File(generated, "p/ServerStepBuilder.java").isFile());
+        assertTrue(new File(classes, "p/ServerStepBuilder.class").isFile());
+    }
+
+    private static File processorJar() {
+        final File jar = new File(System.getProperty("processor.jar"));
+        assertTrue(jar + " is missing, build it with mvn verify", jar.isFile());
+        return jar;
+    }
+
+    private static File write(final File directory, final String className, final String source) throws IOException {
+        final File file = new File(directory, "p/" + className + ".java");
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static String read(final JarFile jar, final String name) throws IOException {
+        final InputStream in = jar.getInputStream(jar.getEntry(name));
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[1024];
+            for (int read; (read = in.read(buffer)) != -1; ) {
+                bytes.write(buffer, 0, read);
+            }
+            return new String(bytes.toByteArray(), StandardCharsets.UTF_8).trim();
+        } finally {
+            in.close();
+        }
+    }
+}
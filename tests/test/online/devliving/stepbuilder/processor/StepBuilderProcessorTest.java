@@ -0,0 +1,271 @@
+package online.devliving.stepbuilder.processor;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+
+import org.junit.Test;
+
+import online.devliving.stepbuilder.model.InMemoryCompiler;
+
+import static online.devliving.stepbuilder.model.InMemoryCompiler.field;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs the processor in javac on classes whose fields the IDE action handles, but a plain reading of the elements
+ * doesn't.
+ */
+public class StepBuilderProcessorTest {
+    private static final String NOT_NULL = "package p;\n"
+            + "@java.lang.annotation.Target(java.lang.annotation.ElementType.TYPE_USE)\n"
+            + "public @interface NotNull {\n"
+            + "}\n";
+    private static final String ITEM = "package p;\n"
+            + "@online.devliving.stepbuilder.annotation.StepBuilder(mandatory = {\"name\"})\n"
+            + "public class Item {\n"
+            + "    @NotNull String name;\n"
+            + "    java.util.@NotNull List<@NotNull String> tags;\n"
+            + "    @NotNull String @NotNull [] aliases;\n"
+            + "    final int limit = 10;\n"
+            + "    final java.util.List<String> items = new java.util.ArrayList<String>();\n"
+            + "    int count;\n"
+            + "}\n";
+    private static final String USAGE = "package p;\n"
+            + "public class Usage {\n"
+            + "    public static Item create() {\n"
+            + "        return ItemStepBuilder.builder().withName(\"name\")\n"
+            + "                .withTags(java.util.Collections.singletonList(\"tag\")).withCount(1).build();\n"
+            + "    }\n"
+            + "}\n";
+
+    @Test
+    public void typeAnnotationsAreLeftOutOfTheGeneratedTypes() {
+        final InMemoryCompiler compiler = compile();
+        final String generated = compiler.getGeneratedSource("p.ItemStepBuilder");
+        assertFalse(generated, generated.contains("@p.NotNull"));
+        assertTrue(generated, generated.contains("withTags(java.util.List<java.lang.String> "));
+        assertTrue(generated, generated.contains("withAliases(java.lang.String[] "));
+    }
+
+    @Test
+    public void finalFieldsWithInitializersAreSkipped() throws Exception {
+        final InMemoryCompiler compiler = compile();
+        final String generated = compiler.getGeneratedSource("p.ItemStepBuilder");
+        assertFalse(generated, generated.contains("withLimit"));
+        assertFalse(generated, generated.contains("withItems"));
+
+        final Object item = compiler.classLoader().loadClass("p.Usage").getMethod("create").invoke(null);
+        assertEquals("name", field(item, "name"));
+        assertEquals(Collections.singletonList("tag"), field(item, "tags"));
+        assertEquals(Collections.emptyList(), field(item, "items"));
+        assertEquals(1, field(item, "count"));
+    }
+
+    @Test
+    public void constructorIsMatchedByParameterNames() throws Exception {
+        // the types are those of the fields in declaration order, but the first parameter goes to the second field
+        final Object swapped = buildPair("    public Pair() {\n"
+                + "    }\n"
+                + "    public Pair(String b, String a) {\n"
+                + "        this.first = a;\n"
+                + "        this.second = b;\n"
+                + "    }\n");
+        assertEquals("1", field(swapped, "first"));
+        assertEquals("2", field(swapped, "second"));
+    }
+
+    @Test
+    public void constructorArgumentsFollowTheParameterOrder() throws Exception {
+        final Object pair = buildPair("    public Pair(String second, String first) {\n"
+                + "        this.first = first;\n"
+                + "        this.second = second;\n"
+                + "    }\n");
+        assertEquals("1", field(pair, "first"));
+        assertEquals("2", field(pair, "second"));
+    }
+
+    private static Object buildPair(final String constructors) throws Exception {
+        final InMemoryCompiler compiler = new InMemoryCompiler()
+                .source("p.Pair", "package p;\n"
+                        + "@online.devliving.stepbuilder.annotation.StepBuilder(mandatory = {\"first\", \"second\"})\n"
+                        + "public class Pair {\n"
+                        + "    String first;\n"
+                        + "    String second;\n"
+                        + constructors
+                        + "}\n")
+                .source("p.PairUsage", "package p;\n"
+                        + "public class PairUsage {\n"
+                        + "    public static Pair create() {\n"
+                        + "        return PairStepBuilder.builder().withFirst(\"1\").withSecond(\"2\").build();\n"
+                        + "    }\n"
+                        + "}\n")
+                .processor(new StepBuilderProcessor());
+        compiler.assertCompiles();
+        return compiler.classLoader().loadClass("p.PairUsage").getMethod("create").invoke(null);
+    }
+
+    @Test
+    public void codecOptionIsReportedAsLeftOut() {
+        final InMemoryCompiler compiler = new InMemoryCompiler()
+                .source("p.Point", "package p;\n"
+                        + "@online.devliving.stepbuilder.annotation.StepBuilder(mandatory = {\"x\"},\n"
+                        + "        options = online.devliving.stepbuilder.model.StepBuilderOption.BINARY_CODEC)\n"
+                        + "public class Point {\n"
+                        + "    int x;\n"
+                        + "}\n")
+                .processor(new StepBuilderProcessor());
+        compiler.assertCompiles();
+        assertEquals(compiler.getWarnings().toString(), 1, compiler.getWarnings().size());
+        assertTrue(compiler.getWarnings().toString(), compiler.getWarnings().get(0).endsWith(
+                "No binary codec generated: writeTo() can only be generated into the built class"));
+    }
+
+    @Test
+    public void embeddedOnlyOptionsAreReportedAsLeftOut() {
+        final InMemoryCompiler compiler = new InMemoryCompiler()
+                .source("p.Point", "package p;\n"
+                        + "import online.devliving.stepbuilder.model.StepBuilderOption;\n"
+                        + "@online.devliving.stepbuilder.annotation.StepBuilder(mandatory = {\"x\"}, options = {\n"
+                        + "        StepBuilderOption.EQUALS_HASHCODE, StepBuilderOption.INTERNING,\n"
+                        + "        StepBuilderOption.TO_BUILDER, StepBuilderOption.COPY_CONSTRUCTOR,\n"
+                        + "        StepBuilderOption.LAZY_FIELDS})\n"
+                        + "public class Point {\n"
+                        + "    int x;\n"
+                        + "}\n")
+                .processor(new StepBuilderProcessor());
+        compiler.assertCompiles();
+        final List<String> warnings = compiler.getWarnings();
+        assertEquals(warnings.toString(), 5, warnings.size());
+        for (final String option : new String[]{"EQUALS_HASHCODE", "INTERNING", "TO_BUILDER", "COPY_CONSTRUCTOR",
+                "LAZY_FIELDS"}) {
+            assertTrue(warnings.toString(), warnings.toString().contains(
+                    option + " can only be generated into the built class"));
+        }
+    }
+
+    /**
+     * Gradle only reprocesses the classes that changed when every generated file names the one annotated class it
+     * was generated from.
+     */
+    @Test
+    public void eachGeneratedFileOriginatesFromItsAnnotatedClassOnly() {
+        final Map<String, List<Element>> origins = new HashMap<String, List<Element>>();
+        final InMemoryCompiler compiler = new InMemoryCompiler()
+                .source("p.Base", "package p;\n"
+                        + "public class Base {\n"
+                        + "    protected String id;\n"
+                        + "}\n")
+                .source("p.Server", "package p;\n"
+                        + "@online.devliving.stepbuilder.annotation.StepBuilder(mandatory = {\"url\"})\n"
+                        + "public class Server extends Base {\n"
+                        + "    String url;\n"
+                        + "    int port;\n"
+                        + "}\n")
+                .source("p.Client", "package p;\n"
+                        + "@online.devliving.stepbuilder.annotation.StepBuilder(mandatory = {\"server\"})\n"
+                        + "public class Client {\n"
+                        + "    Server server;\n"
+                        + "}\n")
+                .processor(new OriginRecordingProcessor(new StepBuilderProcessor(), origins));
+        compiler.assertCompiles();
+
+        assertEquals(2, origins.size());
+        assertOrigin(origins, "p.ServerStepBuilder", "p.Server");
+        assertOrigin(origins, "p.ClientStepBuilder", "p.Client");
+    }
+
+    private static void assertOrigin(final Map<String, List<Element>> origins, final String generated,
+                                     final String annotated) {
+        final List<Element> elements = origins.get(generated);
+        assertEquals(generated + " " + elements, 1, elements.size());
+        assertEquals(annotated, ((TypeElement) elements.get(0)).getQualifiedName().toString());
+    }
+
+    private static InMemoryCompiler compile() {
+        final InMemoryCompiler compiler = new InMemoryCompiler()
+                .source("p.NotNull", NOT_NULL)
+                .source("p.Item", ITEM)
+                .source("p.Usage", USAGE)
+                .processor(new StepBuilderProcessor());
+        compiler.assertCompiles();
+        return compiler;
+    }
+
+    /**
+     * Runs a processor with a {@link Filer} that records the originating elements of every source it creates.
+     */
+    private static final class OriginRecordingProcessor extends AbstractProcessor {
+        private final AbstractProcessor processor;
+        private final Map<String, List<Element>> origins;
+
+        OriginRecordingProcessor(final AbstractProcessor processor, final Map<String, List<Element>> origins) {
+            this.processor = processor;
+            this.origins = origins;
+        }
+
+        @Override
+        public synchronized void init(final ProcessingEnvironment processingEnv) {
+            super.init(processingEnv);
+            final Filer filer = proxy(Filer.class, processingEnv.getFiler(), new InvocationHandler() {
+                @Override
+                public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+                    if (method.getName().equals("createSourceFile")) {
+                        origins.put(args[0].toString(), Arrays.asList((Element[]) args[1]));
+                    }
+                    return invokeOn(processingEnv.getFiler(), method, args);
+                }
+            });
+            processor.init(proxy(ProcessingEnvironment.class, processingEnv, new InvocationHandler() {
+                @Override
+                public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+                    return method.getName().equals("getFiler") ? filer : invokeOn(processingEnv, method, args);
+                }
+            }));
+        }
+
+        @Override
+        public Set<String> getSupportedAnnotationTypes() {
+            return processor.getSupportedAnnotationTypes();
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return processor.getSupportedSourceVersion();
+        }
+
+        @Override
+        public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+            return processor.process(annotations, roundEnv);
+        }
+
+        private static <T> T proxy(final Class<T> type, final T delegate, final InvocationHandler handler) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+        }
+
+        private static Object invokeOn(final Object delegate, final Method method, final Object[] args)
+                throws Throwable {
+            try {
+                return method.invoke(delegate, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+public final class CatalogStepBuilder {
+
+    private CatalogStepBuilder() {
+    }
+
+    public static IName builder() {
+        return new Builder();
+    }
+
+    public interface IBuild {
+        IBuild withItems(java.util.List<java.lang.String> val);
+        IBuild withCategories(java.util.Set<java.lang.Integer> val);
+        IBuild withPrices(java.util.Map<java.lang.String, java.lang.Double> val);
+        Catalog build();
+    }
+
+    public interface IName {
+        IBuild withName(java.lang.String val);
+    }
+
+    public static final class Builder implements IName, IBuild {
+        private java.util.List<java.lang.String> items;
+        private java.util.Set<java.lang.Integer> categories;
+        private java.util.Map<java.lang.String, java.lang.Double> prices;
+        private java.lang.String name;
+
+        private Builder() {
+        }
+
+        @java.lang.Override
+        public IBuild withName(java.lang.String val) {
+            name = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withItems(java.util.List<java.lang.String> val) {
+            items = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withCategories(java.util.Set<java.lang.Integer> val) {
+            categories = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withPrices(java.util.Map<java.lang.String, java.lang.Double> val) {
+            prices = val;
+            return this;
+        }
+
+        public Catalog build() {
+            Catalog target = new Catalog();
+            target.name = name;
+            target.items = items;
+            target.categories = categories;
+            target.prices = prices;
+            return target;
+        }
+    }
+}
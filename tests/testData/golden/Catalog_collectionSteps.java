@@ -0,0 +1,211 @@
+public class Catalog {
+    private java.lang.String name;
+    private java.util.List<java.lang.String> items;
+    private java.util.Set<java.lang.Integer> categories;
+    private java.util.Map<java.lang.String, java.lang.Double> prices;
+
+    private Catalog(Builder builder) {
+        name = builder.name;
+        items = builder.freezeItems();
+        categories = builder.freezeCategories();
+        prices = builder.freezePrices();
+    }
+
+    public static IName builder() {
+        return new Builder();
+    }
+
+    interface IBuild {
+        IBuild withItems(java.util.List<java.lang.String> val);
+        IBuild addItem(java.lang.String val);
+        IBuild addAllItems(java.util.Collection<? extends java.lang.String> val);
+        IBuild withItemsCapacity(int expectedSize);
+        IBuild withCategories(java.util.Set<java.lang.Integer> val);
+        IBuild addCategory(java.lang.Integer val);
+        IBuild addAllCategories(java.util.Collection<? extends java.lang.Integer> val);
+        IBuild withCategoriesCapacity(int expectedSize);
+        IBuild withPrices(java.util.Map<java.lang.String, java.lang.Double> val);
+        IBuild putPrice(java.lang.String key, java.lang.Double value);
+        IBuild putAllPrices(java.util.Map<? extends java.lang.String, ? extends java.lang.Double> val);
+        IBuild withPricesCapacity(int expectedSize);
+        Catalog build();
+    }
+
+    interface IName {
+        IBuild withName(java.lang.String val);
+    }
+
+    public static final class Builder implements IName, IBuild {
+        private java.util.ArrayList<java.lang.String> items;
+        private boolean itemsShared;
+        private java.util.LinkedHashSet<java.lang.Integer> categories;
+        private boolean categoriesShared;
+        private java.util.LinkedHashMap<java.lang.String, java.lang.Double> prices;
+        private boolean pricesShared;
+        private java.lang.String name;
+
+        private Builder() {
+        }
+
+        @java.lang.Override
+        public IBuild withName(java.lang.String val) {
+            name = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withItems(java.util.List<java.lang.String> val) {
+            items = val == null ? null : new java.util.ArrayList<java.lang.String>(val);
+            itemsShared = false;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild addItem(java.lang.String val) {
+            if (items == null) {
+                items = new java.util.ArrayList<java.lang.String>();
+            } else if (itemsShared) {
+                items = new java.util.ArrayList<java.lang.String>(items);
+                itemsShared = false;
+            }
+            items.add(val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild addAllItems(java.util.Collection<? extends java.lang.String> val) {
+            if (items == null) {
+                items = new java.util.ArrayList<java.lang.String>(val.size());
+            } else if (itemsShared) {
+                items = new java.util.ArrayList<java.lang.String>(items);
+                itemsShared = false;
+            }
+            items.addAll(val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withItemsCapacity(int expectedSize) {
+            if (items == null) {
+                items = new java.util.ArrayList<java.lang.String>(expectedSize);
+            } else if (itemsShared) {
+                items = new java.util.ArrayList<java.lang.String>(items);
+                itemsShared = false;
+            }
+            items.ensureCapacity(expectedSize);
+            return this;
+        }
+
+        private java.util.List<java.lang.String> freezeItems() {
+            if (items == null) {
+                return java.util.Collections.<java.lang.String>emptyList();
+            }
+            itemsShared = true;
+            return java.util.Collections.unmodifiableList(items);
+        }
+
+        @java.lang.Override
+        public IBuild withCategories(java.util.Set<java.lang.Integer> val) {
+            categories = val == null ? null : new java.util.LinkedHashSet<java.lang.Integer>(val);
+            categoriesShared = false;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild addCategory(java.lang.Integer val) {
+            if (categories == null) {
+                categories = new java.util.LinkedHashSet<java.lang.Integer>();
+            } else if (categoriesShared) {
+                categories = new java.util.LinkedHashSet<java.lang.Integer>(categories);
+                categoriesShared = false;
+            }
+            categories.add(val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild addAllCategories(java.util.Collection<? extends java.lang.Integer> val) {
+            if (categories == null) {
+                categories = new java.util.LinkedHashSet<java.lang.Integer>(java.lang.Math.max((int) (val.size() / .75f) + 1, 16));
+            } else if (categoriesShared) {
+                categories = new java.util.LinkedHashSet<java.lang.Integer>(categories);
+                categoriesShared = false;
+            }
+            categories.addAll(val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withCategoriesCapacity(int expectedSize) {
+            if (categories == null) {
+                categories = new java.util.LinkedHashSet<java.lang.Integer>(java.lang.Math.max((int) (expectedSize / .75f) + 1, 16));
+            } else if (categoriesShared) {
+                categories = new java.util.LinkedHashSet<java.lang.Integer>(categories);
+                categoriesShared = false;
+            }
+            return this;
+        }
+
+        private java.util.Set<java.lang.Integer> freezeCategories() {
+            if (categories == null) {
+                return java.util.Collections.<java.lang.Integer>emptySet();
+            }
+            categoriesShared = true;
+            return java.util.Collections.unmodifiableSet(categories);
+        }
+
+        @java.lang.Override
+        public IBuild withPrices(java.util.Map<java.lang.String, java.lang.Double> val) {
+            prices = val == null ? null : new java.util.LinkedHashMap<java.lang.String, java.lang.Double>(val);
+            pricesShared = false;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild putPrice(java.lang.String key, java.lang.Double value) {
+            if (prices == null) {
+                prices = new java.util.LinkedHashMap<java.lang.String, java.lang.Double>();
+            } else if (pricesShared) {
+                prices = new java.util.LinkedHashMap<java.lang.String, java.lang.Double>(prices);
+                pricesShared = false;
+            }
+            prices.put(key, value);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild putAllPrices(java.util.Map<? extends java.lang.String, ? extends java.lang.Double> val) {
+            if (prices == null) {
+                prices = new java.util.LinkedHashMap<java.lang.String, java.lang.Double>(java.lang.Math.max((int) (val.size() / .75f) + 1, 16));
+            } else if (pricesShared) {
+                prices = new java.util.LinkedHashMap<java.lang.String, java.lang.Double>(prices);
+                pricesShared = false;
+            }
+            prices.putAll(val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withPricesCapacity(int expectedSize) {
+            if (prices == null) {
+                prices = new java.util.LinkedHashMap<java.lang.String, java.lang.Double>(java.lang.Math.max((int) (expectedSize / .75f) + 1, 16));
+            } else if (pricesShared) {
+                prices = new java.util.LinkedHashMap<java.lang.String, java.lang.Double>(prices);
+                pricesShared = false;
+            }
+            return this;
+        }
+
+        private java.util.Map<java.lang.String, java.lang.Double> freezePrices() {
+            if (prices == null) {
+                return java.util.Collections.<java.lang.String, java.lang.Double>emptyMap();
+            }
+            pricesShared = true;
+            return java.util.Collections.unmodifiableMap(prices);
+        }
+
+        public Catalog build() {
+            return new Catalog(this);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+public record Point(int x, int y, java.lang.String label) {
+
+    public static IX builder() {
+        return new Builder();
+    }
+
+    public IBuild toBuilder() {
+        Builder builder = new Builder();
+        builder.label = this.label;
+        builder.y = this.y;
+        builder.x = this.x;
+        return builder;
+    }
+
+    public Point withX(int val) {
+        return new Point(val, this.y, this.label);
+    }
+
+    public Point withY(int val) {
+        return new Point(this.x, val, this.label);
+    }
+
+    public Point withLabel(java.lang.String val) {
+        return new Point(this.x, this.y, val);
+    }
+
+    interface IBuild {
+        IBuild withLabel(java.lang.String val);
+        Point build();
+    }
+
+    interface IY {
+        IBuild withY(int val);
+    }
+
+    interface IX {
+        IY withX(int val);
+    }
+
+    public static final class Builder implements IY, IX, IBuild {
+        private java.lang.String label;
+        private int y;
+        private int x;
+
+        private Builder() {
+        }
+
+        @java.lang.Override
+        public IBuild withY(int val) {
+            y = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IY withX(int val) {
+            x = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withLabel(java.lang.String val) {
+            label = val;
+            return this;
+        }
+
+        public Point build() {
+            return new Point(x, y, label);
+        }
+    }
+}
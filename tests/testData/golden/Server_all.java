@@ -0,0 +1,521 @@
+public class Server {
+    private final java.lang.String protocol;
+    private java.lang.String url;
+    private int port;
+    private java.lang.String ipAddress;
+    private java.lang.String description;
+    private long uptime;
+    private double weight;
+    private boolean secure;
+
+    private Server(java.lang.String protocol, java.lang.String url, int port, java.lang.String ipAddress, java.lang.String description, long uptime, double weight, boolean secure) {
+        this.protocol = protocol;
+        this.url = url;
+        this.port = port;
+        this.ipAddress = ipAddress;
+        this.description = description;
+        this.uptime = uptime;
+        this.weight = weight;
+        this.secure = secure;
+        cachedHashCode = computeHashCode();
+    }
+
+    @java.lang.SuppressWarnings({"unchecked", "rawtypes"})
+    public static ISteps<ISteps<java.lang.Void, ISteps<java.lang.Void, java.lang.Void, IBuild>, java.lang.Void>, java.lang.Void, java.lang.Void> builder() {
+        return (ISteps) new Builder();
+    }
+
+    private static final java.lang.ThreadLocal<Builder> REUSABLE_BUILDER = new java.lang.ThreadLocal<Builder>();
+
+    /**
+     * Same as {@code builder()}, but reuses a builder of the current thread instead of allocating one.
+     * <p>
+     * Reuse is safe as long as the chain is completed with {@code build()} on the thread that started it
+     * and none of its steps is kept after that: {@code build()} clears the builder for the next chain.
+     * A chain started while another one is in progress on the same thread, or after one was abandoned,
+     * gets a new builder, which is reused from then on.
+     */
+    @java.lang.SuppressWarnings({"unchecked", "rawtypes"})
+    public static ISteps<ISteps<java.lang.Void, ISteps<java.lang.Void, java.lang.Void, IBuild>, java.lang.Void>, java.lang.Void, java.lang.Void> reusableBuilder() {
+        Builder builder = REUSABLE_BUILDER.get();
+        if (builder == null || builder.inUse) {
+            builder = new Builder();
+            REUSABLE_BUILDER.set(builder);
+        }
+        builder.inUse = true;
+        return (ISteps) builder;
+    }
+
+    public static IBuild newBuilder(Server copy) {
+        Builder builder = new Builder();
+        builder.ipAddress = copy.ipAddress;
+        builder.description = copy.description;
+        builder.uptime = copy.uptime;
+        builder.weight = copy.weight;
+        builder.secure = copy.secure;
+        builder.port = copy.port;
+        builder.url = copy.url;
+        builder.protocol = copy.protocol;
+        return builder;
+    }
+
+    /**
+     * Returns a builder initialized with the fields of this instance, to change several of them.
+     */
+    public IBuild toBuilder() {
+        Builder builder = new Builder();
+        builder.ipAddress = this.ipAddress;
+        builder.description = this.description;
+        builder.uptime = this.uptime;
+        builder.weight = this.weight;
+        builder.secure = this.secure;
+        builder.port = this.port;
+        builder.url = this.url;
+        builder.protocol = this.protocol;
+        return builder;
+    }
+
+    /**
+     * Returns a copy of this {@code Server} with the given {@code protocol}.
+     */
+    public Server withProtocol(java.lang.String val) {
+        java.util.Objects.requireNonNull(val, "protocol");
+        return intern(new Server(val, this.url, this.port, this.ipAddress, this.description, this.uptime, this.weight, this.secure));
+    }
+
+    /**
+     * Returns a copy of this {@code Server} with the given {@code url}.
+     */
+    public Server withUrl(java.lang.String val) {
+        java.util.Objects.requireNonNull(val, "url");
+        return intern(new Server(this.protocol, val, this.port, this.ipAddress, this.description, this.uptime, this.weight, this.secure));
+    }
+
+    /**
+     * Returns a copy of this {@code Server} with the given {@code port}.
+     */
+    public Server withPort(int val) {
+        return intern(new Server(this.protocol, this.url, val, this.ipAddress, this.description, this.uptime, this.weight, this.secure));
+    }
+
+    /**
+     * Returns a copy of this {@code Server} with the given {@code ipAddress}.
+     */
+    public Server withIpAddress(java.lang.String val) {
+        return intern(new Server(this.protocol, this.url, this.port, val, this.description, this.uptime, this.weight, this.secure));
+    }
+
+    /**
+     * Returns a copy of this {@code Server} with the given {@code description}.
+     */
+    public Server withDescription(java.lang.String val) {
+        return intern(new Server(this.protocol, this.url, this.port, this.ipAddress, val, this.uptime, this.weight, this.secure));
+    }
+
+    /**
+     * Returns a copy of this {@code Server} with the given {@code uptime}.
+     */
+    public Server withUptime(long val) {
+        return intern(new Server(this.protocol, this.url, this.port, this.ipAddress, this.description, val, this.weight, this.secure));
+    }
+
+    /**
+     * Returns a copy of this {@code Server} with the given {@code weight}.
+     */
+    public Server withWeight(double val) {
+        return intern(new Server(this.protocol, this.url, this.port, this.ipAddress, this.description, this.uptime, val, this.secure));
+    }
+
+    /**
+     * Returns a copy of this {@code Server} with the given {@code secure}.
+     */
+    public Server withSecure(boolean val) {
+        return intern(new Server(this.protocol, this.url, this.port, this.ipAddress, this.description, this.uptime, this.weight, val));
+    }
+
+    /**
+     * Builds {@code n} instances from one column per field, the instance at index {@code i} from row
+     * {@code i} of every column. Every column has {@code n} rows.
+     */
+    public static Server[] buildAll(int n, java.lang.String[] protocol, java.lang.String[] url, int[] port, java.lang.String[] ipAddress, java.lang.String[] description, long[] uptime, double[] weight, boolean[] secure) {
+        if (protocol.length != n) {
+            throw new java.lang.IllegalArgumentException("protocol has " + protocol.length + " rows instead of " + n);
+        }
+        if (url.length != n) {
+            throw new java.lang.IllegalArgumentException("url has " + url.length + " rows instead of " + n);
+        }
+        if (port.length != n) {
+            throw new java.lang.IllegalArgumentException("port has " + port.length + " rows instead of " + n);
+        }
+        if (ipAddress.length != n) {
+            throw new java.lang.IllegalArgumentException("ipAddress has " + ipAddress.length + " rows instead of " + n);
+        }
+        if (description.length != n) {
+            throw new java.lang.IllegalArgumentException("description has " + description.length + " rows instead of " + n);
+        }
+        if (uptime.length != n) {
+            throw new java.lang.IllegalArgumentException("uptime has " + uptime.length + " rows instead of " + n);
+        }
+        if (weight.length != n) {
+            throw new java.lang.IllegalArgumentException("weight has " + weight.length + " rows instead of " + n);
+        }
+        if (secure.length != n) {
+            throw new java.lang.IllegalArgumentException("secure has " + secure.length + " rows instead of " + n);
+        }
+        final Server[] result = new Server[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = intern(new Server(java.util.Objects.requireNonNull(protocol[i], "protocol"), java.util.Objects.requireNonNull(url[i], "url"), port[i], ipAddress[i], description[i], uptime[i], weight[i], secure[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Same as {@code buildAll}, but builds the instances in parallel in the common fork-join pool.
+     */
+    public static Server[] buildAllParallel(int n, final java.lang.String[] protocol, final java.lang.String[] url, final int[] port, final java.lang.String[] ipAddress, final java.lang.String[] description, final long[] uptime, final double[] weight, final boolean[] secure) {
+        if (protocol.length != n) {
+            throw new java.lang.IllegalArgumentException("protocol has " + protocol.length + " rows instead of " + n);
+        }
+        if (url.length != n) {
+            throw new java.lang.IllegalArgumentException("url has " + url.length + " rows instead of " + n);
+        }
+        if (port.length != n) {
+            throw new java.lang.IllegalArgumentException("port has " + port.length + " rows instead of " + n);
+        }
+        if (ipAddress.length != n) {
+            throw new java.lang.IllegalArgumentException("ipAddress has " + ipAddress.length + " rows instead of " + n);
+        }
+        if (description.length != n) {
+            throw new java.lang.IllegalArgumentException("description has " + description.length + " rows instead of " + n);
+        }
+        if (uptime.length != n) {
+            throw new java.lang.IllegalArgumentException("uptime has " + uptime.length + " rows instead of " + n);
+        }
+        if (weight.length != n) {
+            throw new java.lang.IllegalArgumentException("weight has " + weight.length + " rows instead of " + n);
+        }
+        if (secure.length != n) {
+            throw new java.lang.IllegalArgumentException("secure has " + secure.length + " rows instead of " + n);
+        }
+        final Server[] result = new Server[n];
+        java.util.Arrays.parallelSetAll(result, new java.util.function.IntFunction<Server>() {
+            @java.lang.Override
+            public Server apply(int i) {
+                return intern(new Server(java.util.Objects.requireNonNull(protocol[i], "protocol"), java.util.Objects.requireNonNull(url[i], "url"), port[i], ipAddress[i], description[i], uptime[i], weight[i], secure[i]));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Writes this {@code Server} in a compact binary format, read back by {@code readFrom}: a presence bitmap for the
+     * nullable and optional fields, then the values of the present ones. Strings are written with
+     * {@code writeUTF} and can't be longer than 65535 bytes encoded.
+     */
+    public void writeTo(java.io.DataOutput out) throws java.io.IOException {
+        out.writeByte((this.protocol != null ? 1 : 0)
+        | (this.url != null ? 2 : 0)
+        | (this.ipAddress != null ? 4 : 0)
+        | (this.description != null ? 8 : 0)
+        | (this.uptime != 0 ? 16 : 0)
+        | (java.lang.Double.doubleToRawLongBits(this.weight) != 0L ? 32 : 0)
+        | (this.secure ? 64 : 0));
+        if (this.protocol != null) {
+            out.writeUTF(this.protocol);
+        }
+        if (this.url != null) {
+            out.writeUTF(this.url);
+        }
+        out.writeInt(this.port);
+        if (this.ipAddress != null) {
+            out.writeUTF(this.ipAddress);
+        }
+        if (this.description != null) {
+            out.writeUTF(this.description);
+        }
+        if (this.uptime != 0) {
+            out.writeLong(this.uptime);
+        }
+        if (java.lang.Double.doubleToRawLongBits(this.weight) != 0L) {
+            out.writeDouble(this.weight);
+        }
+        if (this.secure) {
+            out.writeBoolean(this.secure);
+        }
+    }
+
+    /**
+     * Reads a {@code Server} written by {@code writeTo}.
+     */
+    public static Server readFrom(java.io.DataInput in) throws java.io.IOException {
+        final int presence0 = in.readUnsignedByte();
+        final java.lang.String protocol = (presence0 & 1) != 0 ? in.readUTF() : null;
+        final java.lang.String url = (presence0 & 2) != 0 ? in.readUTF() : null;
+        final int port = in.readInt();
+        final IBuild builder = builder()
+        .withProtocol(protocol)
+        .withUrl(url)
+        .withPort(port);
+        if ((presence0 & 4) != 0) {
+            builder.withIpAddress(in.readUTF());
+        }
+        if ((presence0 & 8) != 0) {
+            builder.withDescription(in.readUTF());
+        }
+        if ((presence0 & 16) != 0) {
+            builder.withUptime(in.readLong());
+        }
+        if ((presence0 & 32) != 0) {
+            builder.withWeight(in.readDouble());
+        }
+        if ((presence0 & 64) != 0) {
+            builder.withSecure(in.readBoolean());
+        }
+        return builder.build();
+    }
+
+    private transient int cachedHashCode;
+
+    @java.lang.Override
+    public boolean equals(java.lang.Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final Server that = (Server) o;
+        if (hashCode() != that.hashCode()) {
+            return false;
+        }
+        return (this.protocol == null ? that.protocol == null : this.protocol.equals(that.protocol))
+        && (this.url == null ? that.url == null : this.url.equals(that.url))
+        && this.port == that.port
+        && (this.ipAddress == null ? that.ipAddress == null : this.ipAddress.equals(that.ipAddress))
+        && (this.description == null ? that.description == null : this.description.equals(that.description))
+        && this.uptime == that.uptime
+        && java.lang.Double.compare(this.weight, that.weight) == 0
+        && this.secure == that.secure;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+        int h = cachedHashCode;
+        if (h == 0) {
+            h = computeHashCode();
+            cachedHashCode = h;
+        }
+        return h;
+    }
+
+    private int computeHashCode() {
+        int result = 1;
+        result = 31 * result + (this.protocol != null ? this.protocol.hashCode() : 0);
+        result = 31 * result + (this.url != null ? this.url.hashCode() : 0);
+        result = 31 * result + this.port;
+        result = 31 * result + (this.ipAddress != null ? this.ipAddress.hashCode() : 0);
+        result = 31 * result + (this.description != null ? this.description.hashCode() : 0);
+        result = 31 * result + (int) (this.uptime ^ (this.uptime >>> 32));
+        result = 31 * result + (int) (java.lang.Double.doubleToLongBits(this.weight) ^ (java.lang.Double.doubleToLongBits(this.weight) >>> 32));
+        result = 31 * result + (this.secure ? 1231 : 1237);
+        return result;
+    }
+
+    @java.lang.Override
+    public java.lang.String toString() {
+        return new java.lang.StringBuilder(141)
+        .append("Server{protocol=").append(protocol)
+        .append(", url=").append(url)
+        .append(", port=").append(port)
+        .append(", ipAddress=").append(ipAddress)
+        .append(", description=").append(description)
+        .append(", uptime=").append(uptime)
+        .append(", weight=").append(weight)
+        .append(", secure=").append(secure)
+        .append('}')
+        .toString();
+    }
+
+    private static final int INTERN_TABLE_LIMIT = 10000;
+    private static final java.util.Map<Server, java.lang.ref.WeakReference<Server>> INTERN_TABLE = new java.util.WeakHashMap<Server, java.lang.ref.WeakReference<Server>>();
+
+    /**
+     * Returns the canonical instance equal to the given one, which becomes canonical if there is none.
+     */
+    private static Server intern(Server instance) {
+        synchronized (INTERN_TABLE) {
+            final java.lang.ref.WeakReference<Server> reference = INTERN_TABLE.get(instance);
+            final Server canonical = reference != null ? reference.get() : null;
+            if (canonical != null) {
+                return canonical;
+            }
+            if (INTERN_TABLE.size() < INTERN_TABLE_LIMIT) {
+                INTERN_TABLE.put(instance, new java.lang.ref.WeakReference<Server>(instance));
+            }
+            return instance;
+        }
+    }
+
+    public interface IBuild {
+        IBuild withIpAddress(java.lang.String val);
+        IBuild withDescription(java.lang.String val);
+        IBuild withUptime(long val);
+        IBuild withWeight(double val);
+        IBuild withSecure(boolean val);
+        Server build();
+    }
+
+    /**
+     * The mandatory steps of the builder, only the setter of the current step returns the next one.
+     */
+    public interface ISteps<S1, S2, S3> {
+        S1 withProtocol(java.lang.String val);
+        S2 withUrl(java.lang.String val);
+        S3 withPort(int val);
+    }
+
+    /**
+     * {@code Server} builder static inner class.
+     */
+    public static final class Builder implements ISteps<Builder, Builder, Builder>, IBuild {
+        private java.lang.String ipAddress;
+        private java.lang.String description;
+        private long uptime;
+        private double weight;
+        private boolean secure;
+        private int port;
+        private java.lang.String url;
+        private java.lang.String protocol;
+        private boolean inUse;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the {@code port} and returns a reference to {@code Builder}
+         * @param val the {@code port} to set
+         * @return a reference to this Builder
+         */
+        @java.lang.Override
+        public Builder withPort(int val) {
+            port = val;
+            return this;
+        }
+
+        /**
+         * Sets the {@code url} and returns a reference to {@code Builder}
+         * @param val the {@code url} to set
+         * @return a reference to this Builder
+         */
+        @java.lang.Override
+        public Builder withUrl(java.lang.String val) {
+            if (val == null) {
+                if (inUse) {
+                    reset();
+                }
+                throw new java.lang.NullPointerException("url");
+            }
+            url = val;
+            return this;
+        }
+
+        /**
+         * Sets the {@code protocol} and returns a reference to {@code Builder}
+         * @param val the {@code protocol} to set
+         * @return a reference to this Builder
+         */
+        @java.lang.Override
+        public Builder withProtocol(java.lang.String val) {
+            if (val == null) {
+                if (inUse) {
+                    reset();
+                }
+                throw new java.lang.NullPointerException("protocol");
+            }
+            protocol = val;
+            return this;
+        }
+
+        /**
+         * Sets the {@code ipAddress} and returns a reference to {@code IBuild}
+         * @param val the {@code ipAddress} to set
+         * @return a reference to this Builder
+         */
+        @java.lang.Override
+        public IBuild withIpAddress(java.lang.String val) {
+            ipAddress = val;
+            return this;
+        }
+
+        /**
+         * Sets the {@code description} and returns a reference to {@code IBuild}
+         * @param val the {@code description} to set
+         * @return a reference to this Builder
+         */
+        @java.lang.Override
+        public IBuild withDescription(java.lang.String val) {
+            description = val;
+            return this;
+        }
+
+        /**
+         * Sets the {@code uptime} and returns a reference to {@code IBuild}
+         * @param val the {@code uptime} to set
+         * @return a reference to this Builder
+         */
+        @java.lang.Override
+        public IBuild withUptime(long val) {
+            uptime = val;
+            return this;
+        }
+
+        /**
+         * Sets the {@code weight} and returns a reference to {@code IBuild}
+         * @param val the {@code weight} to set
+         * @return a reference to this Builder
+         */
+        @java.lang.Override
+        public IBuild withWeight(double val) {
+            weight = val;
+            return this;
+        }
+
+        /**
+         * Sets the {@code secure} and returns a reference to {@code IBuild}
+         * @param val the {@code secure} to set
+         * @return a reference to this Builder
+         */
+        @java.lang.Override
+        public IBuild withSecure(boolean val) {
+            secure = val;
+            return this;
+        }
+
+        /**
+         * Returns a {@code Server} built from the parameters previously set.
+         *
+         * @return a {@code Server} built with parameters of this {@code Server.Builder}
+         */
+        public Server build() {
+            try {
+                return intern(new Server(protocol, url, port, ipAddress, description, uptime, weight, secure));
+            } finally {
+                if (inUse) {
+                    reset();
+                }
+            }
+        }
+
+        private void reset() {
+            ipAddress = null;
+            description = null;
+            uptime = 0;
+            weight = 0;
+            secure = false;
+            port = 0;
+            url = null;
+            protocol = null;
+            inUse = false;
+        }
+    }
+}
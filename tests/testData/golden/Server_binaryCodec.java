@@ -0,0 +1,169 @@
+public class Server {
+    private final java.lang.String protocol;
+    private java.lang.String url;
+    private int port;
+    private java.lang.String ipAddress;
+    private java.lang.String description;
+    private long uptime;
+    private double weight;
+    private boolean secure;
+
+    private Server(Builder builder) {
+        protocol = builder.protocol;
+        url = builder.url;
+        port = builder.port;
+        ipAddress = builder.ipAddress;
+        description = builder.description;
+        uptime = builder.uptime;
+        weight = builder.weight;
+        secure = builder.secure;
+    }
+
+    public static IUrl builder(java.lang.String protocol) {
+        return new Builder(protocol);
+    }
+
+    /**
+     * Writes this {@code Server} in a compact binary format, read back by {@code readFrom}: a presence bitmap for the
+     * nullable and optional fields, then the values of the present ones. Strings are written with
+     * {@code writeUTF} and can't be longer than 65535 bytes encoded.
+     */
+    public void writeTo(java.io.DataOutput out) throws java.io.IOException {
+        out.writeByte((this.protocol != null ? 1 : 0)
+        | (this.url != null ? 2 : 0)
+        | (this.ipAddress != null ? 4 : 0)
+        | (this.description != null ? 8 : 0)
+        | (this.uptime != 0 ? 16 : 0)
+        | (java.lang.Double.doubleToRawLongBits(this.weight) != 0L ? 32 : 0)
+        | (this.secure ? 64 : 0));
+        if (this.protocol != null) {
+            out.writeUTF(this.protocol);
+        }
+        if (this.url != null) {
+            out.writeUTF(this.url);
+        }
+        out.writeInt(this.port);
+        if (this.ipAddress != null) {
+            out.writeUTF(this.ipAddress);
+        }
+        if (this.description != null) {
+            out.writeUTF(this.description);
+        }
+        if (this.uptime != 0) {
+            out.writeLong(this.uptime);
+        }
+        if (java.lang.Double.doubleToRawLongBits(this.weight) != 0L) {
+            out.writeDouble(this.weight);
+        }
+        if (this.secure) {
+            out.writeBoolean(this.secure);
+        }
+    }
+
+    /**
+     * Reads a {@code Server} written by {@code writeTo}.
+     */
+    public static Server readFrom(java.io.DataInput in) throws java.io.IOException {
+        final int presence0 = in.readUnsignedByte();
+        final java.lang.String protocol = (presence0 & 1) != 0 ? in.readUTF() : null;
+        final java.lang.String url = (presence0 & 2) != 0 ? in.readUTF() : null;
+        final int port = in.readInt();
+        final IBuild builder = builder(protocol)
+        .withUrl(url)
+        .withPort(port);
+        if ((presence0 & 4) != 0) {
+            builder.withIpAddress(in.readUTF());
+        }
+        if ((presence0 & 8) != 0) {
+            builder.withDescription(in.readUTF());
+        }
+        if ((presence0 & 16) != 0) {
+            builder.withUptime(in.readLong());
+        }
+        if ((presence0 & 32) != 0) {
+            builder.withWeight(in.readDouble());
+        }
+        if ((presence0 & 64) != 0) {
+            builder.withSecure(in.readBoolean());
+        }
+        return builder.build();
+    }
+
+    interface IBuild {
+        IBuild withIpAddress(java.lang.String val);
+        IBuild withDescription(java.lang.String val);
+        IBuild withUptime(long val);
+        IBuild withWeight(double val);
+        IBuild withSecure(boolean val);
+        Server build();
+    }
+
+    interface IPort {
+        IBuild withPort(int val);
+    }
+
+    interface IUrl {
+        IPort withUrl(java.lang.String val);
+    }
+
+    public static final class Builder implements IPort, IUrl, IBuild {
+        private java.lang.String ipAddress;
+        private java.lang.String description;
+        private long uptime;
+        private double weight;
+        private boolean secure;
+        private int port;
+        private java.lang.String url;
+        private final java.lang.String protocol;
+
+        private Builder(java.lang.String protocol) {
+            this.protocol = protocol;
+        }
+
+        @java.lang.Override
+        public IBuild withPort(int val) {
+            port = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IPort withUrl(java.lang.String val) {
+            url = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withIpAddress(java.lang.String val) {
+            ipAddress = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withDescription(java.lang.String val) {
+            description = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withUptime(long val) {
+            uptime = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withWeight(double val) {
+            weight = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withSecure(boolean val) {
+            secure = val;
+            return this;
+        }
+
+        public Server build() {
+            return new Server(this);
+        }
+    }
+}
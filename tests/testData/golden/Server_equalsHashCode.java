@@ -0,0 +1,166 @@
+public class Server {
+    private final java.lang.String protocol;
+    private java.lang.String url;
+    private int port;
+    private java.lang.String ipAddress;
+    private java.lang.String description;
+    private long uptime;
+    private double weight;
+    private boolean secure;
+
+    private Server(Builder builder) {
+        protocol = builder.protocol;
+        url = builder.url;
+        port = builder.port;
+        ipAddress = builder.ipAddress;
+        description = builder.description;
+        uptime = builder.uptime;
+        weight = builder.weight;
+        secure = builder.secure;
+        cachedHashCode = computeHashCode();
+    }
+
+    public static IUrl builder(java.lang.String protocol) {
+        return new Builder(protocol);
+    }
+
+    private transient int cachedHashCode;
+
+    @java.lang.Override
+    public boolean equals(java.lang.Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final Server that = (Server) o;
+        if (hashCode() != that.hashCode()) {
+            return false;
+        }
+        return (this.protocol == null ? that.protocol == null : this.protocol.equals(that.protocol))
+        && (this.url == null ? that.url == null : this.url.equals(that.url))
+        && this.port == that.port
+        && (this.ipAddress == null ? that.ipAddress == null : this.ipAddress.equals(that.ipAddress))
+        && (this.description == null ? that.description == null : this.description.equals(that.description))
+        && this.uptime == that.uptime
+        && java.lang.Double.compare(this.weight, that.weight) == 0
+        && this.secure == that.secure;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+        int h = cachedHashCode;
+        if (h == 0) {
+            h = computeHashCode();
+            cachedHashCode = h;
+        }
+        return h;
+    }
+
+    private int computeHashCode() {
+        int result = 1;
+        result = 31 * result + (this.protocol != null ? this.protocol.hashCode() : 0);
+        result = 31 * result + (this.url != null ? this.url.hashCode() : 0);
+        result = 31 * result + this.port;
+        result = 31 * result + (this.ipAddress != null ? this.ipAddress.hashCode() : 0);
+        result = 31 * result + (this.description != null ? this.description.hashCode() : 0);
+        result = 31 * result + (int) (this.uptime ^ (this.uptime >>> 32));
+        result = 31 * result + (int) (java.lang.Double.doubleToLongBits(this.weight) ^ (java.lang.Double.doubleToLongBits(this.weight) >>> 32));
+        result = 31 * result + (this.secure ? 1231 : 1237);
+        return result;
+    }
+
+    @java.lang.Override
+    public java.lang.String toString() {
+        return new java.lang.StringBuilder(141)
+        .append("Server{protocol=").append(protocol)
+        .append(", url=").append(url)
+        .append(", port=").append(port)
+        .append(", ipAddress=").append(ipAddress)
+        .append(", description=").append(description)
+        .append(", uptime=").append(uptime)
+        .append(", weight=").append(weight)
+        .append(", secure=").append(secure)
+        .append('}')
+        .toString();
+    }
+
+    interface IBuild {
+        IBuild withIpAddress(java.lang.String val);
+        IBuild withDescription(java.lang.String val);
+        IBuild withUptime(long val);
+        IBuild withWeight(double val);
+        IBuild withSecure(boolean val);
+        Server build();
+    }
+
+    interface IPort {
+        IBuild withPort(int val);
+    }
+
+    interface IUrl {
+        IPort withUrl(java.lang.String val);
+    }
+
+    public static final class Builder implements IPort, IUrl, IBuild {
+        private java.lang.String ipAddress;
+        private java.lang.String description;
+        private long uptime;
+        private double weight;
+        private boolean secure;
+        private int port;
+        private java.lang.String url;
+        private final java.lang.String protocol;
+
+        private Builder(java.lang.String protocol) {
+            this.protocol = protocol;
+        }
+
+        @java.lang.Override
+        public IBuild withPort(int val) {
+            port = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IPort withUrl(java.lang.String val) {
+            url = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withIpAddress(java.lang.String val) {
+            ipAddress = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withDescription(java.lang.String val) {
+            description = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withUptime(long val) {
+            uptime = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withWeight(double val) {
+            weight = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withSecure(boolean val) {
+            secure = val;
+            return this;
+        }
+
+        public Server build() {
+            return new Server(this);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+public class Server {
+    private final java.lang.String protocol;
+    private java.lang.String url;
+    private int port;
+    private java.lang.String ipAddress;
+    private java.lang.String description;
+    private long uptime;
+    private double weight;
+    private boolean secure;
+
+    private Server(Builder builder) {
+        protocol = builder.protocol;
+        url = builder.url;
+        port = builder.port;
+        ipAddress = builder.ipAddress;
+        description = builder.description;
+        uptime = builder.uptime;
+        weight = builder.weight;
+        secure = builder.secure;
+    }
+
+    public static IUrl builder(java.lang.String protocol) {
+        return new Builder(protocol);
+    }
+
+    private static final java.lang.ThreadLocal<Builder> REUSABLE_BUILDER = new java.lang.ThreadLocal<Builder>();
+
+    /**
+     * Same as {@code builder()}, but reuses a builder of the current thread instead of allocating one.
+     * <p>
+     * Reuse is safe as long as the chain is completed with {@code build()} on the thread that started it
+     * and none of its steps is kept after that: {@code build()} clears the builder for the next chain.
+     * A chain started while another one is in progress on the same thread, or after one was abandoned,
+     * gets a new builder, which is reused from then on.
+     */
+    public static IUrl reusableBuilder(java.lang.String protocol) {
+        Builder builder = REUSABLE_BUILDER.get();
+        if (builder == null || builder.inUse) {
+            builder = new Builder(protocol);
+            REUSABLE_BUILDER.set(builder);
+        } else {
+            builder.protocol = protocol;
+        }
+        builder.inUse = true;
+        return builder;
+    }
+
+    interface IBuild {
+        IBuild withIpAddress(java.lang.String val);
+        IBuild withDescription(java.lang.String val);
+        IBuild withUptime(long val);
+        IBuild withWeight(double val);
+        IBuild withSecure(boolean val);
+        Server build();
+    }
+
+    interface IPort {
+        IBuild withPort(int val);
+    }
+
+    interface IUrl {
+        IPort withUrl(java.lang.String val);
+    }
+
+    public static final class Builder implements IPort, IUrl, IBuild {
+        private java.lang.String ipAddress;
+        private java.lang.String description;
+        private long uptime;
+        private double weight;
+        private boolean secure;
+        private int port;
+        private java.lang.String url;
+        private java.lang.String protocol;
+        private boolean inUse;
+
+        private Builder(java.lang.String protocol) {
+            this.protocol = protocol;
+        }
+
+        @java.lang.Override
+        public IBuild withPort(int val) {
+            port = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IPort withUrl(java.lang.String val) {
+            url = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withIpAddress(java.lang.String val) {
+            ipAddress = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withDescription(java.lang.String val) {
+            description = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withUptime(long val) {
+            uptime = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withWeight(double val) {
+            weight = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withSecure(boolean val) {
+            secure = val;
+            return this;
+        }
+
+        public Server build() {
+            try {
+                return new Server(this);
+            } finally {
+                if (inUse) {
+                    reset();
+                }
+            }
+        }
+
+        private void reset() {
+            ipAddress = null;
+            description = null;
+            uptime = 0;
+            weight = 0;
+            secure = false;
+            port = 0;
+            url = null;
+            protocol = null;
+            inUse = false;
+        }
+    }
+}
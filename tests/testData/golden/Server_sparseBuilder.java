@@ -0,0 +1,176 @@
+public class Server {
+    private final java.lang.String protocol;
+    private java.lang.String url;
+    private int port;
+    private java.lang.String ipAddress;
+    private java.lang.String description;
+    private long uptime;
+    private double weight;
+    private boolean secure;
+
+    private Server(Builder builder) {
+        protocol = builder.protocol;
+        url = builder.url;
+        port = builder.port;
+        {
+            int position = 0;
+            for (int word = 0; word < builder.sparseReferencesPresent.length; word++) {
+                for (long bits = builder.sparseReferencesPresent[word]; bits != 0; bits &= bits - 1) {
+                    final java.lang.Object value = builder.sparseReferences[position++];
+                    switch (word << 6 | java.lang.Long.numberOfTrailingZeros(bits)) {
+                        case 0:
+                        this.ipAddress = (java.lang.String) value;
+                        break;
+                        case 1:
+                        this.description = (java.lang.String) value;
+                        break;
+                    }
+                }
+            }
+        }
+        {
+            int position = 0;
+            for (int word = 0; word < builder.sparsePrimitivesPresent.length; word++) {
+                for (long bits = builder.sparsePrimitivesPresent[word]; bits != 0; bits &= bits - 1) {
+                    final long value = builder.sparsePrimitives[position++];
+                    switch (word << 6 | java.lang.Long.numberOfTrailingZeros(bits)) {
+                        case 0:
+                        this.uptime = value;
+                        break;
+                        case 1:
+                        this.weight = java.lang.Double.longBitsToDouble(value);
+                        break;
+                        case 2:
+                        this.secure = value != 0;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    public static IUrl builder(java.lang.String protocol) {
+        return new Builder(protocol);
+    }
+
+    interface IBuild {
+        IBuild withIpAddress(java.lang.String val);
+        IBuild withDescription(java.lang.String val);
+        IBuild withUptime(long val);
+        IBuild withWeight(double val);
+        IBuild withSecure(boolean val);
+        Server build();
+    }
+
+    interface IPort {
+        IBuild withPort(int val);
+    }
+
+    interface IUrl {
+        IPort withUrl(java.lang.String val);
+    }
+
+    public static final class Builder implements IPort, IUrl, IBuild {
+        private int port;
+        private java.lang.String url;
+        private final long[] sparseReferencesPresent = new long[1];
+        private java.lang.Object[] sparseReferences;
+        private int sparseReferenceCount;
+        private final long[] sparsePrimitivesPresent = new long[1];
+        private long[] sparsePrimitives;
+        private int sparsePrimitiveCount;
+        private final java.lang.String protocol;
+
+        private Builder(java.lang.String protocol) {
+            this.protocol = protocol;
+        }
+
+        @java.lang.Override
+        public IBuild withPort(int val) {
+            port = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IPort withUrl(java.lang.String val) {
+            url = val;
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withIpAddress(java.lang.String val) {
+            putReference(0, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withDescription(java.lang.String val) {
+            putReference(1, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withUptime(long val) {
+            putPrimitive(0, val);
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withWeight(double val) {
+            putPrimitive(1, java.lang.Double.doubleToRawLongBits(val));
+            return this;
+        }
+
+        @java.lang.Override
+        public IBuild withSecure(boolean val) {
+            putPrimitive(2, val ? 1L : 0L);
+            return this;
+        }
+
+        public Server build() {
+            return new Server(this);
+        }
+
+        private void putReference(int index, java.lang.Object value) {
+            final int position = rank(sparseReferencesPresent, index);
+            if ((sparseReferencesPresent[index >>> 6] & (1L << index)) != 0) {
+                sparseReferences[position] = value;
+                return;
+            }
+            sparseReferencesPresent[index >>> 6] |= 1L << index;
+            if (sparseReferences == null) {
+                sparseReferences = new java.lang.Object[4];
+            } else if (sparseReferenceCount == sparseReferences.length) {
+                sparseReferences = java.util.Arrays.copyOf(sparseReferences, sparseReferenceCount * 2);
+            }
+            java.lang.System.arraycopy(sparseReferences, position, sparseReferences, position + 1, sparseReferenceCount - position);
+            sparseReferences[position] = value;
+            sparseReferenceCount++;
+        }
+
+        private void putPrimitive(int index, long value) {
+            final int position = rank(sparsePrimitivesPresent, index);
+            if ((sparsePrimitivesPresent[index >>> 6] & (1L << index)) != 0) {
+                sparsePrimitives[position] = value;
+                return;
+            }
+            sparsePrimitivesPresent[index >>> 6] |= 1L << index;
+            if (sparsePrimitives == null) {
+                sparsePrimitives = new long[4];
+            } else if (sparsePrimitiveCount == sparsePrimitives.length) {
+                sparsePrimitives = java.util.Arrays.copyOf(sparsePrimitives, sparsePrimitiveCount * 2);
+            }
+            java.lang.System.arraycopy(sparsePrimitives, position, sparsePrimitives, position + 1, sparsePrimitiveCount - position);
+            sparsePrimitives[position] = value;
+            sparsePrimitiveCount++;
+        }
+
+        private static int rank(long[] present, int index) {
+            int rank = java.lang.Long.bitCount(present[index >>> 6] & ((1L << index) - 1));
+            for (int word = 0; word < index >>> 6; word++) {
+                rank += java.lang.Long.bitCount(present[word]);
+            }
+            return rank;
+        }
+    }
+}
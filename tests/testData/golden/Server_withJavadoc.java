@@ -0,0 +1,146 @@
+public class Server {
+    private final java.lang.String protocol;
+    private java.lang.String url;
+    private int port;
+    private java.lang.String ipAddress;
+    private java.lang.String description;
+    private long uptime;
+    private double weight;
+    private boolean secure;
+
+    private Server(Builder builder) {
+        protocol = builder.protocol;
+        url = builder.url;
+        port = builder.port;
+        ipAddress = builder.ipAddress;
+        description = builder.description;
+        uptime = builder.uptime;
+        weight = builder.weight;
+        secure = builder.secure;
+    }
+
+    public static IUrl builder(java.lang.String protocol) {
+        return new Builder(protocol);
+    }
+
+    interface IBuild {
+        IBuild withIpAddress(java.lang.String val);
+        IBuild withDescription(java.lang.String val);
+        IBuild withUptime(long val);
+        IBuild withWeight(double val);
+        IBuild withSecure(boolean val);
+        Server build();
+    }
+
+    interface IPort {
+        IBuild withPort(int val);
+    }
+
+    interface IUrl {
+        IPort withUrl(java.lang.String val);
+    }
+
+    /**
+     * {@code Server} builder static inner class.
+     */
+    public static final class Builder implements IPort, IUrl, IBuild {
+        private java.lang.String ipAddress;
+        private java.lang.String description;
+        private long uptime;
+        private double weight;
+        private boolean secure;
+        private int port;
+        private java.lang.String url;
+        private final java.lang.String protocol;
+
+        private Builder(java.lang.String protocol) {
+            this.protocol = protocol;
+        }
+
+        /**
+         * Sets the {@code port} and returns a reference to {@code IBuild}
+         * @param val the {@code port} to set
+         * @return a reference to this Builder
+         */
+        @java.lang.Override
+        public IBuild withPort(int val) {
+            port = val;
+            return this;
+        }
+
+        /**
+         * Sets the {@code url} and returns a reference to {@code IPort}
+         * @param val the {@code url} to set
+         * @return a reference to this Builder
+         */
+        @java.lang.Override
+        public IPort withUrl(java.lang.String val) {
+            url = val;
+            return this;
+        }
+
+        /**
+         * Sets the {@code ipAddress} and returns a reference to {@code IBuild}
+         * @param val the {@code ipAddress} to set
+         * @return a reference to this Builder
+         */
+        @java.lang.Override
+        public IBuild withIpAddress(java.lang.String val) {
+            ipAddress = val;
+            return this;
+        }
+
+        /**
+         * Sets the {@code description} and returns a reference to {@code IBuild}
+         * @param val the {@code description} to set
+         * @return a reference to this Builder
+         */
+        @java.lang.Override
+        public IBuild withDescription(java.lang.String val) {
+            description = val;
+            return this;
+        }
+
+        /**
+         * Sets the {@code uptime} and returns a reference to {@code IBuild}
+         * @param val the {@code uptime} to set
+         * @return a reference to this Builder
+         */
+        @java.lang.Override
+        public IBuild withUptime(long val) {
+            uptime = val;
+            return this;
+        }
+
+        /**
+         * Sets the {@code weight} and returns a reference to {@code IBuild}
+         * @param val the {@code weight} to set
+         * @return a reference to this Builder
+         */
+        @java.lang.Override
+        public IBuild withWeight(double val) {
+            weight = val;
+            return this;
+        }
+
+        /**
+         * Sets the {@code secure} and returns a reference to {@code IBuild}
+         * @param val the {@code secure} to set
+         * @return a reference to this Builder
+         */
+        @java.lang.Override
+        public IBuild withSecure(boolean val) {
+            secure = val;
+            return this;
+        }
+
+        /**
+         * Returns a {@code Server} built from the parameters previously set.
+         *
+         * @return a {@code Server} built with parameters of this {@code Server.Builder}
+         */
+        public Server build() {
+            return new Server(this);
+        }
+    }
+}